@@ -16,8 +16,11 @@ import com.cp.common.lang.Auditable;
 import com.cp.common.lang.ObjectUtil;
 import com.cp.common.util.cache.CacheException;
 import com.cp.common.util.cache.Cacheable;
+import com.cp.common.util.cache.EvictionCause;
 import java.util.Calendar;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCache {
 
@@ -41,6 +44,36 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
     return compareValue;
   }
 
+  /**
+   * Determines whether a Cacheable object is mapped to the specified key in this cache
+   * with a constant time lookup.
+   * @param key the String value used to determine whether it maps to a Cacheable object
+   * in the cache.
+   * @return a boolean value indicating if the key is mapped to a Cacheable object in the
+   * cache.
+   */
+  public boolean containsKey(final String key) {
+    return ObjectUtil.isNotNull(getCacheable(key));
+  }
+
+  /**
+   * Removes the Cacheable object mapped to the specified key from this cache and notifies the
+   * EvictionListeners, as when the Cacheable object was invalidated by another node.
+   * @param key the String key of the Cacheable object to remove.
+   * @param cause the EvictionCause indicating why the Cacheable object is removed.
+   * @return a boolean value indicating whether a Cacheable object was removed.
+   */
+  synchronized final boolean evictKey(final String key, final EvictionCause cause) {
+    final CPAbstractCacheable cacheObject = getCacheable(key);
+
+    if (ObjectUtil.isNotNull(cacheObject) && removeCacheable(cacheObject)) {
+      fireEvictionEvent(cacheObject, cause);
+      return true;
+    }
+
+    return false;
+  }
+
   /**
    * Returns the Cacheable object stored in this cache referenced by the specified
    * key.  NOTE: this method should not be exposed as part of the public API since
@@ -58,17 +91,64 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
    */
   public abstract String getDescription();
 
+  /**
+   * Returns the current total weight of the Cacheable objects in this cache by summing the
+   * weight of each Cacheable object.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public long getWeight() {
+    long weight = 0l;
+
+    for (Iterator it = iterateKeys(); it.hasNext(); ) {
+      final CPAbstractCacheable cacheObject = getCacheable(it.next().toString());
+      if (ObjectUtil.isNotNull(cacheObject)) {
+        weight += cacheObject.getWeight();
+      }
+    }
+
+    return weight;
+  }
+
   /**
    * Forces an refresh on the Cacheable objects in this cache on the next read
    * operations.
    */
   public synchronized final void invalidateCache() {
     log.debug("Invalidating Cache");
-    for (Iterator it = iterateCacheables(); it.hasNext(); ) {
-      ((CPAbstractCacheable) it.next()).setValid(false);
+    // NOTE iterateCacheables returns defensive copies, so the stored Cacheable objects are looked up by key.
+    for (Iterator it = iterateKeys(); it.hasNext(); ) {
+      final CPAbstractCacheable cacheObject = getCacheable(it.next().toString());
+      if (ObjectUtil.isNotNull(cacheObject)) {
+        cacheObject.setValid(false);
+      }
+    }
+  }
+
+  /**
+   * Invalidates the Cacheable objects mapped to the specified keys, holding the monitor of
+   * this cache once for the entire batch.
+   * @param keys the List of String keys to invalidate.
+   */
+  protected synchronized void invalidateCacheables(final List<String> keys) {
+    for (final String key : keys) {
+      final CPAbstractCacheable cacheObject = getCacheable(key);
+      if (ObjectUtil.isNotNull(cacheObject)) {
+        cacheObject.setValid(false);
+      }
     }
   }
 
+  /**
+   * Reads the Cacheable objects mapped to the specified keys, holding the monitor of this
+   * cache once for the entire batch.
+   * @param keys the List of String keys to read.
+   * @return a Map of the keys to the Cacheable objects read from this cache.
+   * @throws CacheException if a Cacheable object could not be read.
+   */
+  protected synchronized Map<String, Cacheable> readCacheables(final List<String> keys) throws CacheException {
+    return super.readCacheables(keys);
+  }
+
   /**
    * Reads the Cacheable object mapped to the specified key in this cache.
    * @param key the key used as a lookup value for the Cacheable object stored in
@@ -77,6 +157,22 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
    * or null if the key is not mapped to any Cacheable object in this cache.
    */
   public final Cacheable readCacheable(final String key) throws com.cp.common.util.cache.CacheException {
+    final Cacheable cacheObject = lookupCacheable(key);
+
+    // Make defensive copy and return Cacheable object.
+    return (ObjectUtil.isNotNull(cacheObject) ? new com.codeprimate.util.cache.CacheableAdapter(cacheObject) : null);
+  }
+
+  /**
+   * Reads the Cacheable object mapped to the specified key in this cache, recording the read
+   * with the cache algorithm, and returns the Cacheable object stored in this cache without
+   * making a defensive copy.  A read that hits this cache does not allocate.
+   * @param key the key used as a lookup value for the Cacheable object stored in
+   * this cache.
+   * @return the Cacheable object associated with the specified key in this cache
+   * or null if the key is not mapped to a valid, unexpired Cacheable object.
+   */
+  protected final Cacheable lookupCacheable(final String key) throws com.cp.common.util.cache.CacheException {
     if (log.isDebugEnabled()) {
       log.debug("key (" + key + ")");
     }
@@ -99,7 +195,9 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
       // method potentially causing incorrect behavior by the caller.  This could also
       // lead to security related problems.
       if (cacheObject.hasExpired()) {
-        log.warn("The Cacheable object (" + cacheObject + ") has expired!");
+        if (log.isDebugEnabled()) {
+          log.debug("The Cacheable object (" + cacheObject + ") has expired!");
+        }
         return null;
       }
 
@@ -107,6 +205,19 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
         log.warn("The Cacheable object is NOT valid!");
         fireCacheEvent(cacheObject);
         cacheObject = getCacheable(key);
+
+        // NOTE an invalid Cacheable object that was not refreshed by a listener is a miss, allowing
+        // a read-through cache to reload it.
+        if (ObjectUtil.isNull(cacheObject)) {
+          return null;
+        }
+
+        if (!cacheObject.isValid() && ObjectUtil.isNotNull(getCacheLoader())) {
+          if (removeCacheable(cacheObject)) {
+            fireEvictionEvent(cacheObject, EvictionCause.INVALIDATED);
+          }
+          return null;
+        }
       }
     }
     else {
@@ -116,8 +227,22 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
     return _readCacheable(cacheObject);
   }
 
+  /**
+   * Records the read of the specified Cacheable object with the cache algorithm.
+   * Implementations must not allocate.
+   * @param cacheable the Cacheable object stored in this cache that was read.
+   * @return the Cacheable object stored in this cache.
+   */
   protected abstract Cacheable _readCacheable(Cacheable cacheable);
 
+  /**
+   * Removes the specified Cacheable object from this cache, provided it is still mapped to it's
+   * key.
+   * @param cacheObject the Cacheable object to remove.
+   * @return a boolean value indicating whether the Cacheable object was removed.
+   */
+  abstract boolean removeCacheable(CPAbstractCacheable cacheObject);
+
   /**
    * Checks for concurrent modification of the cached object.
    * @param cacheObject the cached object for which concurrent modification is checked.
@@ -173,14 +298,28 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
     }
 
     _writeCacheable(cacheObject);
+    schedulePurge();
   }
 
   protected abstract void _writeCacheable(Cacheable cacheObject) throws CacheException;
 
+  /**
+   * Stores the specified Cacheable objects in this cache, holding the monitor of this cache
+   * once for the entire batch.
+   * @param cacheObjects the List of Cacheable objects to store in this cache.
+   * @throws CacheException if a Cacheable object could not be stored in this cache.
+   */
+  protected synchronized void writeCacheables(final List<Cacheable> cacheObjects) throws CacheException {
+    super.writeCacheables(cacheObjects);
+  }
+
   protected abstract class CPAbstractCacheable extends com.cp.common.util.cache.AbstractCacheable {
 
     // Records whether this Cacheable object is valid or not.
-    private boolean valid = true;
+    private volatile boolean valid = true;
+
+    // The weight of this Cacheable object, recorded when it is written to the cache.
+    private long weight;
 
     public CPAbstractCacheable(final String key, final Object data) {
       super(key, data);
@@ -192,6 +331,16 @@ public abstract class AbstractCache extends com.cp.common.util.cache.AbstractCac
 
     protected CPAbstractCacheable(final Cacheable cacheObject) {
       super(cacheObject);
+      weight = weigh(cacheObject.getKey(), cacheObject.getData());
+    }
+
+    /**
+     * Returns the weight of this Cacheable object as computed by the Weigher of the cache when
+     * this Cacheable object was written to the cache.
+     * @return a long value specifying the weight of this Cacheable object.
+     */
+    public long getWeight() {
+      return weight;
     }
 
     /**
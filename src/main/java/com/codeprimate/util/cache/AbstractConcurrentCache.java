@@ -0,0 +1,655 @@
+/*
+ * AbstractConcurrentCache.java (c) 17 October 2026
+ *
+ * This class is the concurrent caching engine shared by the Cache implementations whose
+ * eviction policy is applied in constant time when a Cacheable object is written to the
+ * cache, rather than by sorting the contents of the cache during a purge.  Cacheable objects
+ * are evicted whenever either the number of Cacheable objects exceeds the maximum size or
+ * their total weight, as recorded when each was written, exceeds the maximum weight.
+ *
+ * Lookups are served by a ConcurrentHashMap and never block.  Reads are recorded in a
+ * small, lossy ring buffer and replayed against the eviction policy in batches while the
+ * eviction lock is held, which occurs on writes or when the buffer fills.  Under heavy
+ * contention some reads may not be recorded, which only affects the precision of the
+ * eviction policy, never the correctness of the cache contents.
+ *
+ * Cacheable objects having an expiration date are tracked in a TimerWheel, so that the
+ * purge operation, run every second by the shared CacheScheduler, only visits the Cacheable
+ * objects that are due to expire rather than scanning the entire cache.
+ *
+ * Implementing classes provide the eviction policy by implementing the following methods
+ *
+ * <code>
+ *    onAdd
+ *    onAccess
+ *    onRemove
+ *    selectVictim
+ * </code>
+ *
+ * all of which are called with the eviction lock held.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.cache.AbstractCache
+ * @see com.codeprimate.util.cache.ConcurrentLRUCache
+ * @see com.cp.common.util.cache.TimerWheel
+ * @see java.util.concurrent.ConcurrentHashMap
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.cache.AbstractCacheable;
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.Cacheable;
+import com.cp.common.util.cache.EvictionCause;
+import com.cp.common.util.cache.TimerWheel;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.log4j.Logger;
+
+public abstract class AbstractConcurrentCache extends com.codeprimate.util.cache.AbstractCache {
+
+  private static final Logger logger = Logger.getLogger(AbstractConcurrentCache.class);
+
+  private static final int EXPIRATION_PURGE_INTERVAL = 1000; // 1 second
+
+  private final ConcurrentMap<String, ConcurrentCacheable> cache;
+
+  private final ReadBuffer readBuffer = new ReadBuffer();
+
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  // The total weight of the Cacheable objects in this cache; written with the eviction lock held.
+  private volatile long weight = 0l;
+
+  // Tracks the expiration dates of the Cacheable objects; guarded by the eviction lock.
+  private final TimerWheel<ConcurrentCacheable> timerWheel =
+    new TimerWheel<ConcurrentCacheable>(System.currentTimeMillis());
+
+  private final TimerWheel.ExpirationHandler<ConcurrentCacheable> expirationHandler =
+    new TimerWheel.ExpirationHandler<ConcurrentCacheable>() {
+      public void expired(final ConcurrentCacheable cacheObject) {
+        cacheObject.timer = null;
+
+        // NOTE the expiration date of the Cacheable object may have been changed since it was scheduled.
+        if (cacheObject.hasExpired()) {
+          if (logger.isDebugEnabled()) {
+            logger.debug("The Cacheable object (" + cacheObject + ") has expired!");
+          }
+          evictCacheable(cacheObject, EvictionCause.EXPIRED);
+        }
+        else {
+          scheduleExpiration(cacheObject);
+        }
+      }
+    };
+
+  /**
+   * Creates an instance of the AbstractConcurrentCache class initializing the underlying
+   * concurrent Map used to store the Cacheable objects.
+   */
+  public AbstractConcurrentCache() {
+    cache = new ConcurrentHashMap<String, ConcurrentCacheable>(getMaxSize());
+    setPurgeInterval(EXPIRATION_PURGE_INTERVAL);
+  }
+
+  /**
+   * Drains the read buffer and evicts Cacheable objects, as determined by the eviction
+   * policy, until the size and the weight of this cache are within the maximum size and
+   * maximum weight.  The caller must hold the eviction lock.
+   */
+  private void evict() {
+    drainReadBuffer();
+
+    while (getSize() > getMaxSize() || isOverweight(weight)) {
+      final ConcurrentCacheable victim = selectVictim();
+
+      if (ObjectUtil.isNull(victim)) {
+        break;
+      }
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("evicting Cacheable object with key (" + victim.getKey() + ")");
+      }
+
+      evictCacheable(victim, (getSize() > getMaxSize() ? EvictionCause.SIZE : EvictionCause.WEIGHT));
+    }
+  }
+
+  /**
+   * Replays the reads recorded in the read buffer against the eviction policy.  The caller
+   * must hold the eviction lock.
+   */
+  private void drainReadBuffer() {
+    for (ConcurrentCacheable cacheObject = readBuffer.poll(); ObjectUtil.isNotNull(cacheObject);
+         cacheObject = readBuffer.poll()) {
+      // NOTE the Cacheable object may have been removed after the read was recorded.
+      if (cacheObject.isLinked()) {
+        onAccess(cacheObject);
+      }
+    }
+  }
+
+  /**
+   * Returns the Cacheable object stored in this cache referenced by the specified key.
+   * @param key a String value referring to the Cacheable object in this cache.
+   * @return the Cacheable object stored in this cache and referrenced by the specified
+   * key (lookup value).
+   */
+  final CPAbstractCacheable getCacheable(final String key) {
+    return (ObjectUtil.isNotNull(key) ? cache.get(key) : null);
+  }
+
+  /**
+   * Creates a concrete instance of the Cacheable interface initialized with the
+   * specified key, data value and expiration date.
+   * @param key the key used as a lookup value to the Cacheable object in this cache.
+   * @param data the data to be stored in the cache wrapped with the Cacheable object.
+   * @param expirationDate a Calendar object specifying the date at which the data
+   * in the Cacheable object is no longer valid.
+   * @return a Cacheable object with the specified key, containing the data.
+   */
+  protected final Cacheable getCacheableInstance(final String key, final Object data, final Calendar expirationDate) {
+    return new ConcurrentCacheable(key, data, expirationDate);
+  }
+
+  /**
+   * Returns the current number of Cacheable objects in this cache.
+   * @return an integer value of the number of Cacheable objects stored in this
+   * cache.
+   */
+  public int getSize() {
+    return cache.size();
+  }
+
+  /**
+   * Returns the current total weight of the Cacheable objects in this cache, which is tracked
+   * as Cacheable objects are added and removed.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Returns an Iterator to traverse the Cacheable objects in this cache.  The Iterator
+   * is weakly consistent and never throws a ConcurrentModificationException.
+   * @return a java.util.Iterator object to iterate the Cacheable objects in this
+   * cache.
+   */
+  public Iterator iterateCacheables() {
+    final Iterator<ConcurrentCacheable> it = cache.values().iterator();
+    return new Iterator() {
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      public Object next() {
+        return new com.codeprimate.util.cache.CacheableAdapter(it.next());
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException("Not Implemented!");
+      }
+    };
+  }
+
+  /**
+   * Returns an Iterator to traverse the keys mapped to Cacheable objects in this cache.  The
+   * Iterator is weakly consistent and never throws a ConcurrentModificationException.
+   * @return a java.util.Iterator object to iterate the keys of this cache.
+   */
+  public Iterator iterateKeys() {
+    return Collections.unmodifiableCollection(cache.keySet()).iterator();
+  }
+
+  /**
+   * Called by the eviction policy when the specified Cacheable object has been read.
+   * @param cacheObject the Cacheable object that was read.
+   */
+  protected abstract void onAccess(ConcurrentCacheable cacheObject);
+
+  /**
+   * Called by the eviction policy when the specified Cacheable object has been added
+   * to this cache.
+   * @param cacheObject the Cacheable object that was added.
+   */
+  protected abstract void onAdd(ConcurrentCacheable cacheObject);
+
+  /**
+   * Called by the eviction policy when the specified Cacheable object has been removed
+   * from this cache, either by eviction, expiration or replacement.
+   * @param cacheObject the Cacheable object that was removed.
+   */
+  protected abstract void onRemove(ConcurrentCacheable cacheObject);
+
+  /**
+   * Removes the Cacheable objects whose expiration date has passed by advancing the
+   * TimerWheel, and evicts Cacheable objects exceeding the maximum size, which may have
+   * been reduced since the last write.
+   */
+  protected final void purgeCache() {
+    evictionLock.lock();
+
+    try {
+      timerWheel.advance(System.currentTimeMillis(), expirationHandler);
+      evict();
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Removes the specified Cacheable object from this cache, provided it is still mapped to
+   * its key, and notifies the EvictionListeners.  The caller must hold the eviction lock.
+   * @param cacheObject the Cacheable object to evict.
+   * @param cause the EvictionCause indicating why the Cacheable object is evicted.
+   */
+  private void evictCacheable(final ConcurrentCacheable cacheObject, final EvictionCause cause) {
+    if (cache.remove(cacheObject.getKey(), cacheObject)) {
+      retire(cacheObject);
+      fireEvictionEvent(cacheObject, cause);
+    }
+  }
+
+  /**
+   * Removes the specified Cacheable object from this cache, provided it is still mapped to
+   * its key.
+   * @param cacheObject the Cacheable object to remove.
+   * @return a boolean value indicating whether the Cacheable object was removed.
+   */
+  final boolean removeCacheable(final CPAbstractCacheable cacheObject) {
+    evictionLock.lock();
+
+    try {
+      if (cache.remove(cacheObject.getKey(), cacheObject)) {
+        retire((ConcurrentCacheable) cacheObject);
+        return true;
+      }
+
+      return false;
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Cancels the expiration of and unlinks the specified Cacheable object that is no longer
+   * mapped in this cache.  The caller must hold the eviction lock.
+   * @param cacheObject the Cacheable object that was removed or replaced.
+   */
+  private void retire(final ConcurrentCacheable cacheObject) {
+    timerWheel.cancel(cacheObject.timer);
+    cacheObject.timer = null;
+    weight -= cacheObject.getWeight();
+    onRemove(cacheObject);
+  }
+
+  /**
+   * Schedules the expiration of the specified Cacheable object in the TimerWheel if it has
+   * an expiration date.  The caller must hold the eviction lock.
+   * @param cacheObject the Cacheable object to schedule.
+   */
+  private void scheduleExpiration(final ConcurrentCacheable cacheObject) {
+    final long expirationTime = cacheObject.getExpirationTime();
+
+    if (expirationTime != AbstractCacheable.NO_EXPIRATION) {
+      cacheObject.timer = timerWheel.schedule(cacheObject, expirationTime);
+    }
+  }
+
+  /**
+   * Determines the next Cacheable object to evict from this cache according to the
+   * eviction policy.
+   * @return the Cacheable object to evict, or null if there are no Cacheable objects
+   * eligible for eviction.
+   */
+  protected abstract ConcurrentCacheable selectVictim();
+
+  /**
+   * Reads the Cacheable objects mapped to the specified keys without blocking; unlike the
+   * non-concurrent caches, the batch does not hold the monitor of this cache.
+   * @param keys the List of String keys to read.
+   * @return a Map of the keys to the Cacheable objects read from this cache.
+   * @throws CacheException if a Cacheable object could not be read.
+   */
+  protected Map<String, Cacheable> readCacheables(final List<String> keys) throws CacheException {
+    return lookupCacheables(keys);
+  }
+
+  /**
+   * Reads the Cacheable object from this cache, recording the access time and the read
+   * for replay against the eviction policy.
+   * @param cacheable the Cacheable item to read from this cache.
+   * @return the Cacheable object read from this cache.
+   */
+  protected final Cacheable _readCacheable(final Cacheable cacheable) {
+    final ConcurrentCacheable cacheObject = (ConcurrentCacheable) cacheable;
+
+    cacheObject.setLastAccessTime(System.nanoTime());
+
+    if (readBuffer.offer(cacheObject) && evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      }
+      finally {
+        evictionLock.unlock();
+      }
+    }
+
+    return cacheObject;
+  }
+
+  /**
+   * Returns a String representation of this cache.
+   * @return a String representation of this cache.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{description = ");
+    buffer.append(getDescription());
+    buffer.append(", maxSize = ").append(getMaxSize());
+    buffer.append(", size = ").append(getSize());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * Writes the Cacheable object into this cache, replacing any existing Cacheable object
+   * mapped to the same key, and evicts Cacheable objects as determined by the eviction
+   * policy so that this cache never grows beyond it's maximum size.
+   * @param cacheObject the Cacheable object being written to this cache.
+   * @throws CacheException if the Cacheable object could not be written to this cache.
+   */
+  protected final void _writeCacheable(final Cacheable cacheObject) throws CacheException {
+    // Make defensive copy of Cacheable object (for security reasons).
+    final ConcurrentCacheable newCacheObject = new ConcurrentCacheable(cacheObject);
+
+    evictionLock.lock();
+
+    try {
+      // Replay reads preceding this write so the access order reflects the order of operations.
+      drainReadBuffer();
+
+      final ConcurrentCacheable existingCacheObject = cache.put(newCacheObject.getKey(), newCacheObject);
+
+      if (ObjectUtil.isNotNull(existingCacheObject)) {
+        retire(existingCacheObject);
+      }
+
+      weight += newCacheObject.getWeight();
+      onAdd(newCacheObject);
+      scheduleExpiration(newCacheObject);
+      evict();
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Writes the Cacheable objects into this cache holding the eviction lock once for the entire
+   * batch, so that the writes of the batch are neither interleaved with nor contend with
+   * concurrent writes for the eviction lock.
+   * @param cacheObjects the List of Cacheable objects being written to this cache.
+   * @throws CacheException if a Cacheable object could not be written to this cache.
+   */
+  protected void writeCacheables(final List<Cacheable> cacheObjects) throws CacheException {
+    evictionLock.lock();
+
+    try {
+      // NOTE the eviction lock is reentrant, so each write reacquires it without contention.
+      for (final Cacheable cacheObject : cacheObjects) {
+        writeCacheable(cacheObject);
+      }
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * The ConcurrentCacheable class is the Cacheable object stored in concurrent caches and
+   * doubles as the node in the access-ordered queues maintained by the eviction policy.
+   * The queue links are only accessed with the eviction lock held.
+   */
+  protected final class ConcurrentCacheable extends CPAbstractCacheable {
+
+    private volatile long lastAccessTime = System.nanoTime();
+
+    // The expiration of this Cacheable object scheduled in the TimerWheel, if any.
+    private TimerWheel.Timer<ConcurrentCacheable> timer;
+
+    private ConcurrentCacheable previous;
+    private ConcurrentCacheable next;
+
+    // Identifies the queue maintained by the eviction policy in which this Cacheable object is linked.
+    private int queue = AccessOrderQueue.UNLINKED;
+
+    private ConcurrentCacheable(final String key, final Object data, final Calendar expirationDate) {
+      super(key, data, expirationDate);
+    }
+
+    private ConcurrentCacheable(final Cacheable cacheObject) {
+      super(cacheObject);
+    }
+
+    /**
+     * Returns the value of System.nanoTime when this Cacheable object was last read, or
+     * written if it has not been read since.
+     * @return a long value recording the time this Cacheable object was last accessed.
+     */
+    public long getLastAccessTime() {
+      return lastAccessTime;
+    }
+
+    /**
+     * Sets the value of System.nanoTime when this Cacheable object was last accessed.
+     * @param lastAccessTime a long value recording the time this Cacheable object was
+     * last accessed.
+     */
+    void setLastAccessTime(final long lastAccessTime) {
+      this.lastAccessTime = lastAccessTime;
+    }
+
+    /**
+     * Returns the queue in which this Cacheable object is linked.
+     * @return an integer value identifying the queue in which this Cacheable object is
+     * linked, or AccessOrderQueue.UNLINKED.
+     */
+    int getQueue() {
+      return queue;
+    }
+
+    /**
+     * Determines whether this Cacheable object is linked in one of the queues maintained
+     * by the eviction policy.
+     * @return a boolean value indicating whether this Cacheable object is linked.
+     */
+    boolean isLinked() {
+      return (queue != AccessOrderQueue.UNLINKED);
+    }
+  }
+
+  /**
+   * The AccessOrderQueue class is a doubly-linked list of ConcurrentCacheable objects
+   * ordered from least to most recently accessed, supporting constant time insertion,
+   * removal and reordering.  An AccessOrderQueue is only accessed with the eviction lock
+   * held.
+   */
+  protected static final class AccessOrderQueue {
+
+    static final int UNLINKED = -1;
+
+    private final int id;
+
+    private int size;
+
+    private ConcurrentCacheable head;
+    private ConcurrentCacheable tail;
+
+    /**
+     * Creates an instance of the AccessOrderQueue class with the specified identifier.
+     * @param id an integer value uniquely identifying this queue within the eviction policy.
+     */
+    public AccessOrderQueue(final int id) {
+      this.id = id;
+    }
+
+    /**
+     * Determines whether the specified Cacheable object is linked in this queue.
+     * @param cacheObject the Cacheable object in question.
+     * @return a boolean value indicating whether the Cacheable object is linked in this queue.
+     */
+    public boolean contains(final ConcurrentCacheable cacheObject) {
+      return (cacheObject.queue == id);
+    }
+
+    /**
+     * Returns the least recently accessed Cacheable object in this queue.
+     * @return the Cacheable object at the head of this queue, or null if this queue is empty.
+     */
+    public ConcurrentCacheable peekFirst() {
+      return head;
+    }
+
+    /**
+     * Returns the number of Cacheable objects linked in this queue.
+     * @return an integer value of the number of Cacheable objects in this queue.
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Links the specified Cacheable object at the tail (most recently accessed end) of this queue.
+     * @param cacheObject the Cacheable object to link.
+     */
+    public void addLast(final ConcurrentCacheable cacheObject) {
+      cacheObject.previous = tail;
+      cacheObject.next = null;
+      cacheObject.queue = id;
+
+      if (ObjectUtil.isNull(tail)) {
+        head = cacheObject;
+      }
+      else {
+        tail.next = cacheObject;
+      }
+
+      tail = cacheObject;
+      size++;
+    }
+
+    /**
+     * Moves the specified Cacheable object linked in this queue to the tail of this queue.
+     * @param cacheObject the Cacheable object to move.
+     */
+    public void moveToLast(final ConcurrentCacheable cacheObject) {
+      if (cacheObject != tail) {
+        remove(cacheObject);
+        addLast(cacheObject);
+      }
+    }
+
+    /**
+     * Unlinks the specified Cacheable object from this queue.
+     * @param cacheObject the Cacheable object to unlink.
+     */
+    public void remove(final ConcurrentCacheable cacheObject) {
+      final ConcurrentCacheable previous = cacheObject.previous;
+      final ConcurrentCacheable next = cacheObject.next;
+
+      if (ObjectUtil.isNull(previous)) {
+        head = next;
+      }
+      else {
+        previous.next = next;
+      }
+
+      if (ObjectUtil.isNull(next)) {
+        tail = previous;
+      }
+      else {
+        next.previous = previous;
+      }
+
+      cacheObject.previous = null;
+      cacheObject.next = null;
+      cacheObject.queue = UNLINKED;
+      size--;
+    }
+  }
+
+  /**
+   * The ReadBuffer class is a bounded, lossy, multiple-producer single-consumer ring buffer
+   * recording reads on Cacheable objects.  Offers are dropped when the buffer is full and
+   * polling is only performed with the eviction lock held.
+   */
+  private static final class ReadBuffer {
+
+    private static final int BUFFER_SIZE = 128; // must be a power of 2
+    private static final int BUFFER_MASK = (BUFFER_SIZE - 1);
+    private static final int DRAIN_THRESHOLD = (BUFFER_SIZE / 4);
+
+    private final AtomicLong writeCount = new AtomicLong();
+
+    private final AtomicReferenceArray<ConcurrentCacheable> buffer =
+      new AtomicReferenceArray<ConcurrentCacheable>(BUFFER_SIZE);
+
+    private volatile long readCount;
+
+    /**
+     * Records a read on the specified Cacheable object.
+     * @param cacheObject the Cacheable object that was read.
+     * @return a boolean value indicating whether the buffer should be drained.
+     */
+    boolean offer(final ConcurrentCacheable cacheObject) {
+      final long head = readCount;
+      final long tail = writeCount.get();
+      final long size = (tail - head);
+
+      if (size < BUFFER_SIZE && writeCount.compareAndSet(tail, tail + 1)) {
+        buffer.lazySet((int) (tail & BUFFER_MASK), cacheObject);
+      }
+
+      return (size >= DRAIN_THRESHOLD);
+    }
+
+    /**
+     * Removes and returns the next recorded read, if any.
+     * @return the next Cacheable object read, or null if the buffer is empty or the next
+     * recorded read has not yet been published by it's producer.
+     */
+    ConcurrentCacheable poll() {
+      final long head = readCount;
+
+      if (head == writeCount.get()) {
+        return null;
+      }
+
+      final int index = (int) (head & BUFFER_MASK);
+      final ConcurrentCacheable cacheObject = buffer.get(index);
+
+      if (ObjectUtil.isNotNull(cacheObject)) {
+        buffer.lazySet(index, null);
+        readCount = (head + 1);
+      }
+
+      return cacheObject;
+    }
+  }
+
+}
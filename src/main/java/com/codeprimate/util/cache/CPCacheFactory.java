@@ -24,7 +24,32 @@ public class CPCacheFactory extends AbstractCacheFactory {
    * Provider for the specified cache type.
    */
   public Cache getCacheInstance(final com.cp.common.util.cache.CacheType cacheType) {
-    return (cacheType.equals(CacheType.LFU) ? getLFUCacheInstance() : getLRUCacheInstance());
+    if (CacheType.CLRU.equals(cacheType)) {
+      return getConcurrentLRUCacheInstance();
+    }
+
+    if (CacheType.OFF_HEAP.equals(cacheType)) {
+      return getOffHeapCacheInstance();
+    }
+
+    if (CacheType.TIERED.equals(cacheType)) {
+      return getTieredCacheInstance();
+    }
+
+    if (CacheType.W_TINYLFU.equals(cacheType)) {
+      return getTinyLFUCacheInstance();
+    }
+
+    return (CacheType.LFU.equals(cacheType) ? getLFUCacheInstance() : getLRUCacheInstance());
+  }
+
+  /**
+   * Returns a Cache implementation implementing the Least Recently Used algorithm that is safe
+   * for concurrent access and evicts in constant time when written.
+   * @return a concurrent LRU Cache implementation.
+   */
+  public com.cp.common.util.cache.Cache getConcurrentLRUCacheInstance() {
+    return new ConcurrentLRUCache();
   }
 
   /**
@@ -43,4 +68,30 @@ public class CPCacheFactory extends AbstractCacheFactory {
     return new LRUCache();
   }
 
+  /**
+   * Returns a Cache implementation storing serialized data outside of the Java heap.
+   * @return an OffHeapCache with the default capacity.
+   */
+  public com.cp.common.util.cache.Cache getOffHeapCacheInstance() {
+    return new OffHeapCache();
+  }
+
+  /**
+   * Returns a Cache implementation with an on-heap tier backed by an off-heap tier, to which
+   * Cacheable objects are demoted when evicted from the on-heap tier.
+   * @return a TieredCache of an LRUCache in front of an OffHeapCache.
+   */
+  public com.cp.common.util.cache.Cache getTieredCacheInstance() {
+    return new TieredCache();
+  }
+
+  /**
+   * Returns a Cache implementation implementing the Window TinyLFU algorithm, which admits
+   * Cacheable objects based on their estimated access frequency.
+   * @return a W-TinyLFU Cache implementation.
+   */
+  public com.cp.common.util.cache.Cache getTinyLFUCacheInstance() {
+    return new TinyLFUCache();
+  }
+
 }
@@ -0,0 +1,75 @@
+/*
+ * ConcurrentLRUCache.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.cache.AbstractConcurrentCache
+ * @see com.codeprimate.util.cache.LRUCache
+ */
+
+package com.codeprimate.util.cache;
+
+public class ConcurrentLRUCache extends AbstractConcurrentCache {
+
+  private static final String DESCRIPTION = "Concurrent Least Recently Used (CLRU) Cache";
+
+  private static final int ACCESS_ORDER_QUEUE_ID = 0;
+
+  // Cacheable objects ordered from least to most recently used; guarded by the eviction lock.
+  private final AccessOrderQueue accessOrderQueue = new AccessOrderQueue(ACCESS_ORDER_QUEUE_ID);
+
+  /**
+   * Creates an instance of the ConcurrentLRUCache to cache objects using the Least
+   * Recently Used algorithm, evicting the least recently used Cacheable object when a
+   * write exceeds the maximum size of this cache.
+   */
+  public ConcurrentLRUCache() {
+  }
+
+  /**
+   * Returns a String description of this Cache.
+   * @return a String description of this Cache.
+   */
+  public final String getDescription() {
+    return DESCRIPTION;
+  }
+
+  /**
+   * Moves the Cacheable object that was read to the most recently used end of the queue.
+   * @param cacheObject the Cacheable object that was read.
+   */
+  protected final void onAccess(final ConcurrentCacheable cacheObject) {
+    if (accessOrderQueue.contains(cacheObject)) {
+      accessOrderQueue.moveToLast(cacheObject);
+    }
+  }
+
+  /**
+   * Links the Cacheable object that was written at the most recently used end of the queue.
+   * @param cacheObject the Cacheable object that was added.
+   */
+  protected final void onAdd(final ConcurrentCacheable cacheObject) {
+    accessOrderQueue.addLast(cacheObject);
+  }
+
+  /**
+   * Unlinks the Cacheable object that was removed from the queue.
+   * @param cacheObject the Cacheable object that was removed.
+   */
+  protected final void onRemove(final ConcurrentCacheable cacheObject) {
+    if (accessOrderQueue.contains(cacheObject)) {
+      accessOrderQueue.remove(cacheObject);
+    }
+  }
+
+  /**
+   * Returns the least recently used Cacheable object.
+   * @return the Cacheable object at the least recently used end of the queue.
+   */
+  protected final ConcurrentCacheable selectVictim() {
+    return accessOrderQueue.peekFirst();
+  }
+
+}
@@ -0,0 +1,404 @@
+/*
+ * DatagramInvalidationTransport.java (c) 17 October 2026
+ *
+ * The DatagramInvalidationTransport class carries invalidations between nodes as UDP datagrams
+ * sent to each of the configured peer addresses.  A daemon Thread receives the datagrams sent by
+ * the peers, and another sends the datagrams of the published invalidations in order, so that
+ * publishing never blocks the caller, such as the CacheScheduler thread, on the network.  Each datagram carries the keys of as many invalidations as fit in a single packet,
+ * so a batch of invalidations costs one datagram per peer in the common case.
+ *
+ * Delivery is best effort; a lost datagram leaves the peer serving it's cached data until it
+ * expires or is evicted, so caches relying on this transport should also set expiration dates.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.AbstractInvalidationTransport
+ * @see com.codeprimate.util.cache.NearCache
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.util.cache.AbstractInvalidationTransport;
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.InvalidationEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Logger;
+
+public class DatagramInvalidationTransport extends AbstractInvalidationTransport {
+
+  private static final Logger logger = Logger.getLogger(DatagramInvalidationTransport.class);
+
+  private static final int MAGIC_NUMBER = 0x43504957; // "CPIW"
+  private static final int MAX_PACKET_SIZE = 8192; // bytes
+  private static final int RECEIVE_BUFFER_SIZE = 65535; // bytes
+
+  private static final long CLOSE_TIMEOUT = 1000l; // milliseconds
+
+  private static final String THREAD_NAME = "cp-common-invalidation-receiver";
+  private static final String SENDER_THREAD_NAME = "cp-common-invalidation-sender";
+
+  private volatile boolean closed = false;
+
+  private final DatagramSocket socket;
+
+  private final ExecutorService sender = Executors.newSingleThreadExecutor(new ThreadFactory() {
+    public Thread newThread(final Runnable runnable) {
+      final Thread thread = new Thread(runnable, SENDER_THREAD_NAME);
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+
+  // Identifies the datagrams sent by this transport.
+  private final long nodeIdHigh;
+  private final long nodeIdLow;
+
+  private final Set<InetSocketAddress> peerAddresses = new CopyOnWriteArraySet<InetSocketAddress>();
+
+  /**
+   * Creates an instance of the DatagramInvalidationTransport class bound to the specified local
+   * address, initially without any peers.
+   * @param bindAddress the InetSocketAddress on which to receive the invalidations of the peers;
+   * a port of 0 binds an ephemeral port.
+   * @throws CacheException if the socket could not be bound.
+   */
+  public DatagramInvalidationTransport(final InetSocketAddress bindAddress) throws CacheException {
+    this(bindAddress, Collections.<InetSocketAddress>emptySet());
+  }
+
+  /**
+   * Creates an instance of the DatagramInvalidationTransport class bound to the specified local
+   * address, sending invalidations to the specified peers.
+   * @param bindAddress the InetSocketAddress on which to receive the invalidations of the peers;
+   * a port of 0 binds an ephemeral port.
+   * @param peerAddresses the Collection of InetSocketAddresses of the peers.
+   * @throws CacheException if the socket could not be bound.
+   * @throws NullPointerException if the bind address or the Collection of peers is null.
+   */
+  public DatagramInvalidationTransport(final InetSocketAddress bindAddress, final Collection<InetSocketAddress> peerAddresses)
+      throws CacheException {
+    Assert.notNull(bindAddress, "The address to bind cannot be null!");
+    Assert.notNull(peerAddresses, "The Collection of peer addresses cannot be null!");
+
+    try {
+      socket = new DatagramSocket(bindAddress);
+    }
+    catch (SocketException e) {
+      sender.shutdown();
+      logger.warn("Failed to bind the invalidation socket to (" + bindAddress + ")!", e);
+      throw new CacheException("Failed to bind the invalidation socket to (" + bindAddress + ")!", e);
+    }
+
+    final UUID nodeId = UUID.randomUUID();
+
+    nodeIdHigh = nodeId.getMostSignificantBits();
+    nodeIdLow = nodeId.getLeastSignificantBits();
+
+    for (final InetSocketAddress peerAddress : peerAddresses) {
+      addPeer(peerAddress);
+    }
+
+    final Thread receiver = new Thread(new Receiver(), THREAD_NAME);
+    receiver.setDaemon(true);
+    receiver.start();
+  }
+
+  /**
+   * Adds a peer to which invalidations are sent.
+   * @param peerAddress the InetSocketAddress of the peer.
+   * @throws NullPointerException if the peer address is null.
+   */
+  public void addPeer(final InetSocketAddress peerAddress) {
+    Assert.notNull(peerAddress, "The peer address cannot be null!");
+    peerAddresses.add(peerAddress);
+  }
+
+  /**
+   * Closes the socket of this transport, which stops the receiving Thread, after waiting up to a
+   * second for the invalidations already published to be sent.
+   */
+  public void close() {
+    closed = true;
+    sender.shutdown();
+
+    try {
+      sender.awaitTermination(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    socket.close();
+  }
+
+  /**
+   * Returns the local address on which this transport receives invalidations.
+   * @return the InetSocketAddress bound by this transport.
+   */
+  public InetSocketAddress getLocalAddress() {
+    return (InetSocketAddress) socket.getLocalSocketAddress();
+  }
+
+  /**
+   * Returns the peers to which invalidations are sent.
+   * @return an unmodifiable Set of the InetSocketAddresses of the peers.
+   */
+  public Set<InetSocketAddress> getPeers() {
+    return Collections.unmodifiableSet(peerAddresses);
+  }
+
+  /**
+   * Sends the invalidation of the specified keys of the named cache to the peers.  The invalidation
+   * is encoded by the calling Thread and sent by the sending Thread of this transport, which logs
+   * the failure to send it to a peer.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @param keys the Collection of String keys that were invalidated.
+   * @throws CacheException if the invalidation could not be encoded or this transport is closed.
+   */
+  public void publish(final String cacheName, final Collection<String> keys) throws CacheException {
+    Assert.notNull(keys, "The Collection of invalidated keys cannot be null!");
+    send(encode(cacheName, keys, false));
+  }
+
+  /**
+   * Sends the invalidation of all keys of the named cache to the peers.  The invalidation is sent
+   * by the sending Thread of this transport.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @throws CacheException if the invalidation could not be encoded or this transport is closed.
+   */
+  public void publishAll(final String cacheName) throws CacheException {
+    send(encode(cacheName, Collections.<String>emptySet(), true));
+  }
+
+  /**
+   * Removes a peer to which invalidations are sent.
+   * @param peerAddress the InetSocketAddress of the peer.
+   */
+  public void removePeer(final InetSocketAddress peerAddress) {
+    peerAddresses.remove(peerAddress);
+  }
+
+  /**
+   * Encodes the invalidation into as few datagram payloads as possible.  Each payload consists of
+   * the magic number, the node id, the cache name, the time of publication, the all keys flag,
+   * the number of keys and the keys themselves.  All payloads of an invalidation carry the same
+   * time of publication.
+   */
+  private List<byte[]> encode(final String cacheName, final Collection<String> keys, final boolean allKeys)
+      throws CacheException {
+    Assert.notNull(cacheName, "The name of the cache cannot be null!");
+
+    final List<byte[]> payloads = new ArrayList<byte[]>();
+    final long timestamp = System.currentTimeMillis();
+
+    try {
+      final DataOutputStream header = new DataOutputStream(new ByteArrayOutputStream());
+
+      writeHeader(header, cacheName, timestamp, allKeys, 0);
+
+      final int headerSize = header.size();
+
+      final List<String> batch = new ArrayList<String>();
+      int batchSize = headerSize;
+
+      for (final String key : keys) {
+        final int keySize = getEncodedSize(key);
+
+        if (headerSize + keySize > MAX_PACKET_SIZE) {
+          logger.warn("The key (" + key + ") is too large to send in a datagram!");
+          throw new CacheException("The key (" + key + ") is too large to send in a datagram!");
+        }
+
+        if (!batch.isEmpty() && batchSize + keySize > MAX_PACKET_SIZE) {
+          payloads.add(encodePayload(cacheName, timestamp, batch, allKeys));
+          batch.clear();
+          batchSize = headerSize;
+        }
+
+        batch.add(key);
+        batchSize += keySize;
+      }
+
+      if (!batch.isEmpty() || payloads.isEmpty()) {
+        payloads.add(encodePayload(cacheName, timestamp, batch, allKeys));
+      }
+
+      return payloads;
+    }
+    catch (IOException e) {
+      logger.warn("Failed to encode the invalidation of cache (" + cacheName + ")!", e);
+      throw new CacheException("Failed to encode the invalidation of cache (" + cacheName + ")!", e);
+    }
+  }
+
+  private byte[] encodePayload(final String cacheName, final long timestamp, final List<String> keys, final boolean allKeys)
+      throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(MAX_PACKET_SIZE);
+    final DataOutputStream out = new DataOutputStream(bytes);
+
+    writeHeader(out, cacheName, timestamp, allKeys, keys.size());
+
+    for (final String key : keys) {
+      out.writeUTF(key);
+    }
+
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  private static int getEncodedSize(final String key) throws IOException {
+    final DataOutputStream out = new DataOutputStream(new ByteArrayOutputStream());
+    out.writeUTF(key);
+    return out.size();
+  }
+
+  /**
+   * Decodes the specified datagram payload and notifies the InvalidationListeners, ignoring
+   * datagrams that were not sent by a peer transport or that were sent by this transport.
+   */
+  private void receive(final byte[] payload, final int length) {
+    try {
+      final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+
+      if (in.readInt() != MAGIC_NUMBER) {
+        logger.warn("Ignoring a datagram that is not an invalidation!");
+        return;
+      }
+
+      final long senderIdHigh = in.readLong();
+      final long senderIdLow = in.readLong();
+
+      if (senderIdHigh == nodeIdHigh && senderIdLow == nodeIdLow) {
+        return;
+      }
+
+      final String cacheName = in.readUTF();
+      final long timestamp = in.readLong();
+      final boolean allKeys = in.readBoolean();
+      final int numberOfKeys = in.readInt();
+      final List<String> keys = new ArrayList<String>();
+
+      for (int index = 0; index < numberOfKeys; index++) {
+        keys.add(in.readUTF());
+      }
+
+      fireInvalidationEvent(new InvalidationEvent(this, cacheName, keys, allKeys, timestamp));
+    }
+    catch (IOException e) {
+      logger.warn("Ignoring a malformed invalidation datagram!", e);
+    }
+  }
+
+  private void send(final List<byte[]> payloads) throws CacheException {
+    try {
+      sender.execute(new Runnable() {
+        public void run() {
+          sendNow(payloads);
+        }
+      });
+    }
+    catch (RejectedExecutionException e) {
+      logger.warn("Failed to send the invalidation; the transport (" + this + ") is closed!", e);
+      throw new CacheException("Failed to send the invalidation; the transport (" + this + ") is closed!", e);
+    }
+  }
+
+  /**
+   * Sends the datagram payloads to each peer on the sending Thread, skipping the remaining payloads
+   * for a peer to which a payload could not be sent.
+   */
+  private void sendNow(final List<byte[]> payloads) {
+    for (final InetSocketAddress peerAddress : peerAddresses) {
+      try {
+        for (final byte[] payload : payloads) {
+          socket.send(new DatagramPacket(payload, payload.length, peerAddress));
+        }
+      }
+      catch (IOException e) {
+        logger.warn("Failed to send the invalidation to peer (" + peerAddress + ")!", e);
+      }
+    }
+  }
+
+  private void writeHeader(final DataOutputStream out,
+                           final String cacheName,
+                           final long timestamp,
+                           final boolean allKeys,
+                           final int numberOfKeys)
+      throws IOException {
+    out.writeInt(MAGIC_NUMBER);
+    out.writeLong(nodeIdHigh);
+    out.writeLong(nodeIdLow);
+    out.writeUTF(cacheName);
+    out.writeLong(timestamp);
+    out.writeBoolean(allKeys);
+    out.writeInt(numberOfKeys);
+  }
+
+  /**
+   * Returns a String representation of this transport.
+   * @return a String representation of this transport.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{localAddress = ");
+    buffer.append(getLocalAddress());
+    buffer.append(", peers = ").append(getPeers());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * The Receiver class receives the datagrams sent by the peers until the socket is closed.
+   */
+  private final class Receiver implements Runnable {
+
+    public void run() {
+      final byte[] buffer = new byte[RECEIVE_BUFFER_SIZE];
+
+      while (!closed) {
+        final DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+
+        try {
+          socket.receive(packet);
+          receive(packet.getData(), packet.getLength());
+        }
+        catch (IOException e) {
+          if (!closed) {
+            logger.warn("Failed to receive an invalidation datagram!", e);
+          }
+        }
+        catch (RuntimeException e) {
+          logger.warn("Failed to process an invalidation datagram!", e);
+        }
+      }
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("stopped receiving invalidations on (" + socket.getLocalSocketAddress() + ")");
+      }
+    }
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * FrequencySketch.java (c) 17 October 2026
+ *
+ * This class is a compact, probabilistic estimator of the access frequency of keys based on
+ * a Count-Min Sketch using four 4-bit counters per key, sixteen of which are packed into each
+ * long value of the table.  The estimated frequency of a key is the minimum of it's counters.
+ *
+ * In order to favor recent popularity over historic popularity, all counters are halved
+ * (aged) once the number of recorded increments reaches a sample size proportional to the
+ * maximum size of the cache.
+ *
+ * A FrequencySketch is not thread-safe and must be guarded by the caller.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.cache.TinyLFUCache
+ */
+
+package com.codeprimate.util.cache;
+
+final class FrequencySketch {
+
+  private static final int MAX_COUNT = 15;
+  private static final int SAMPLE_SIZE_FACTOR = 10;
+
+  private static final long ONE_MASK = 0x1111111111111111L;
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+
+  private int sampleSize;
+  private int size;
+  private int tableMask;
+
+  private long[] table = new long[0];
+
+  /**
+   * Creates an instance of the FrequencySketch class sized for the specified maximum number
+   * of keys.
+   * @param maximumSize an integer value indicating the maximum number of keys in the cache.
+   */
+  FrequencySketch(final int maximumSize) {
+    ensureCapacity(maximumSize);
+  }
+
+  /**
+   * Grows the table of counters, discarding all recorded frequencies, if the table is too small
+   * for the specified maximum number of keys.
+   * @param maximumSize an integer value indicating the maximum number of keys in the cache.
+   */
+  void ensureCapacity(final int maximumSize) {
+    final int tableSize = ceilingPowerOfTwo(Math.max(maximumSize, 1));
+
+    if (table.length < tableSize) {
+      table = new long[tableSize];
+      tableMask = (tableSize - 1);
+      sampleSize = (int) Math.min((long) SAMPLE_SIZE_FACTOR * Math.max(maximumSize, 1), Integer.MAX_VALUE);
+      size = 0;
+    }
+  }
+
+  /**
+   * Returns the smallest power of two greater than or equal to the specified value.
+   * @param value the integer value to round up.
+   * @return the smallest power of two greater than or equal to value.
+   */
+  private static int ceilingPowerOfTwo(final int value) {
+    return (value <= 1 ? 1 : Math.min(Integer.highestOneBit(value - 1) << 1, 1 << 30));
+  }
+
+  /**
+   * Returns the estimated number of times the specified key has been recorded, up to a maximum
+   * of fifteen.
+   * @param key the key whose frequency is estimated.
+   * @return an integer value estimating the frequency of the key.
+   */
+  int frequency(final Object key) {
+    final int hash = spread(key.hashCode());
+    final int start = ((hash & 3) << 2);
+
+    int frequency = MAX_COUNT;
+
+    for (int depth = 0; depth < SEEDS.length; depth++) {
+      final int index = indexOf(hash, depth);
+      final int count = (int) ((table[index] >>> ((start + depth) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+
+    return frequency;
+  }
+
+  /**
+   * Increments the estimated frequency of the specified key, aging all counters once the sample
+   * size has been reached.
+   * @param key the key whose frequency is incremented.
+   */
+  void increment(final Object key) {
+    final int hash = spread(key.hashCode());
+    final int start = ((hash & 3) << 2);
+
+    boolean added = false;
+
+    for (int depth = 0; depth < SEEDS.length; depth++) {
+      added |= incrementAt(indexOf(hash, depth), start + depth);
+    }
+
+    if (added && ++size >= sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Increments the specified 4-bit counter in the table unless it has reached it's maximum.
+   * @param index the index of the long value in the table containing the counter.
+   * @param counter the position of the counter within the long value.
+   * @return a boolean value indicating whether the counter was incremented.
+   */
+  private boolean incrementAt(final int index, final int counter) {
+    final int offset = (counter << 2);
+    final long mask = (0xfL << offset);
+
+    if ((table[index] & mask) != mask) {
+      table[index] += (1L << offset);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the index in the table for the specified hash at the given depth.
+   * @param hash the spread hash code of the key.
+   * @param depth the depth (hash function) used to compute the index.
+   * @return the index in the table.
+   */
+  private int indexOf(final int hash, final int depth) {
+    long value = ((hash + SEEDS[depth]) * SEEDS[depth]);
+    value += (value >>> 32);
+    return ((int) value & tableMask);
+  }
+
+  /**
+   * Halves every counter in the table, adjusting the size for the truncation of odd counters.
+   */
+  private void reset() {
+    int oddCount = 0;
+
+    for (int index = 0; index < table.length; index++) {
+      oddCount += Long.bitCount(table[index] & ONE_MASK);
+      table[index] = ((table[index] >>> 1) & RESET_MASK);
+    }
+
+    size = ((size >>> 1) - (oddCount >>> 2));
+  }
+
+  /**
+   * Applies a supplemental hash function to defend against poor quality hash codes.
+   * @param hashCode the hash code of the key.
+   * @return the spread hash value.
+   */
+  private static int spread(final int hashCode) {
+    int hash = (hashCode * 0x9e3779b9);
+    hash ^= (hash >>> 16);
+    hash *= 0x85ebca6b;
+    return (hash ^ (hash >>> 13));
+  }
+
+}
@@ -9,19 +9,20 @@
 
 package com.codeprimate.util.cache;
 
-import com.cp.common.lang.NumberUtil;
+import com.cp.common.lang.ObjectUtil;
 import com.cp.common.util.cache.CacheException;
 import com.cp.common.util.cache.Cacheable;
+import com.cp.common.util.cache.EvictionCause;
 import com.codeprimate.util.cache.*;
 import com.codeprimate.util.cache.CacheableAdapter;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.log4j.Logger;
 
 public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
@@ -33,6 +34,16 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
   // The cache implementation is a Map implementation.
   private final Map cache;
 
+  // The Cacheable objects of this cache are linked in lists of equal frequency, in the order in which they reached
+  // that frequency, and the lists are linked in the order of increasing frequency, so that the victim of an eviction
+  // is found immediately and a read only relinks the Cacheable object read.  Emptied lists are kept for reuse, so
+  // that reads do not allocate.
+  private Frequency lowestFrequency;
+  private Frequency unusedFrequencies;
+
+  // The total weight of the Cacheable objects in this cache, updated as Cacheable objects are written and removed.
+  private long weight = 0l;
+
   /**
    * Creates an instance of the LFUCache object to cache objects using the
    * Least Freguently Used algorithm.
@@ -48,7 +59,7 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
    * @return the Cacheable object stored in this cache and referrenced by the
    * specified key (lookup value).
    */
-  final CPAbstractCacheable getCacheable(final String key) {
+  final synchronized CPAbstractCacheable getCacheable(final String key) {
     return (CPAbstractCacheable) cache.get(key);
   }
 
@@ -78,17 +89,27 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
    * @return an integer value of the number of Cacheable objects stored in this
    * cache.
    */
-  public int getSize() {
+  public synchronized int getSize() {
     return cache.size();
   }
 
   /**
-   * Returns an Iterator to traverse the Cacheable objects in this cache.
+   * Returns the current total weight of the Cacheable objects in this cache, which is tracked
+   * as Cacheable objects are written and removed.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Returns an Iterator to traverse a snapshot of the Cacheable objects in this cache, taken
+   * while holding the monitor of this cache.
    * @return a java.util.Iterator object to iterate the Cacheable objects in this
    * cache.
    */
-  public Iterator iterateCacheables() {
-    final Iterator it = cache.values().iterator();
+  public synchronized Iterator iterateCacheables() {
+    final Iterator it = new ArrayList<Object>((Collection<?>) cache.values()).iterator();
     return new Iterator() {
       public boolean hasNext() {
         return it.hasNext();
@@ -104,31 +125,100 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
     };
   }
 
+  /**
+   * Returns an Iterator to traverse a snapshot of the keys mapped to Cacheable objects in this
+   * cache, taken while holding the monitor of this cache.
+   * @return a java.util.Iterator object to iterate the keys of this cache.
+   */
+  public synchronized Iterator iterateKeys() {
+    return Collections.unmodifiableList(new ArrayList<Object>((Set<?>) cache.keySet())).iterator();
+  }
+
+  /**
+   * Appends the specified Cacheable object to the list of Cacheable objects with the given frequency.
+   * @param frequency the list of Cacheable objects with the frequency of the Cacheable object.
+   * @param cacheObject the Cacheable object to link.
+   */
+  private void link(final Frequency frequency, final LFUCacheable cacheObject) {
+    cacheObject.frequencyList = frequency;
+    cacheObject.previous = frequency.last;
+    cacheObject.next = null;
+
+    if (ObjectUtil.isNull(frequency.last)) {
+      frequency.first = cacheObject;
+    }
+    else {
+      frequency.last.next = cacheObject;
+    }
+
+    frequency.last = cacheObject;
+  }
+
+  /**
+   * Links a list of Cacheable objects with the specified frequency between the given lists, reusing an
+   * emptied list if there is one.
+   * @param count the frequency of the Cacheable objects of the list.
+   * @param lower the list of Cacheable objects with the next lower frequency, or null if there is none.
+   * @param higher the list of Cacheable objects with the next higher frequency, or null if there is none.
+   * @return the linked, empty list of Cacheable objects with the frequency.
+   */
+  private Frequency linkFrequency(final int count, final Frequency lower, final Frequency higher) {
+    Frequency frequency = unusedFrequencies;
+
+    if (ObjectUtil.isNull(frequency)) {
+      frequency = new Frequency();
+    }
+    else {
+      unusedFrequencies = frequency.higher;
+    }
+
+    frequency.count = count;
+    frequency.lower = lower;
+    frequency.higher = higher;
+
+    if (ObjectUtil.isNull(lower)) {
+      lowestFrequency = frequency;
+    }
+    else {
+      lower.higher = frequency;
+    }
+
+    if (ObjectUtil.isNotNull(higher)) {
+      higher.lower = frequency;
+    }
+
+    return frequency;
+  }
+
   /**
    * Cleans the cache using Least Frequently Used algorithm to remove Cacheable
    * objects based on their expiration date/time and access frequency.
    */
-  protected final void purgeCache() {
-    for (Iterator it = iterateCacheables(); it.hasNext(); ) {
-      final Cacheable cacheObject = (com.cp.common.util.cache.Cacheable) it.next();
+  protected synchronized final void purgeCache() {
+    // NOTE the stored Cacheable objects are iterated directly, removing expired Cacheable objects through the Iterator.
+    for (Iterator it = cache.values().iterator(); it.hasNext(); ) {
+      final Cacheable cacheObject = (Cacheable) it.next();
       if (cacheObject.hasExpired()) {
         if (logger.isDebugEnabled()) {
           logger.debug("The Cacheable object (" + cacheObject + ") has expired!");
         }
-        cache.remove(cacheObject.getKey());
+        it.remove();
+        unlink((LFUCacheable) cacheObject);
+        weight -= ((CPAbstractCacheable) cacheObject).getWeight();
+        fireEvictionEvent(cacheObject, EvictionCause.EXPIRED);
       }
     }
 
-    if (getSize() > getMaxSize()) {
-      final List cacheList = new ArrayList(cache.values());
-
-      // Least Frequently Used (LFU) Cacheable objects will be at the front of the List
-      // after the LFUComparator sorts the List.
-      Collections.sort(cacheList, LFUComparator.INSTANCE);
-
-      for (int index = 0, len = (getSize() - getMaxSize()); index < len; index++) {
-        cache.remove(((com.cp.common.util.cache.Cacheable) cacheList.get(index)).getKey());
-      }
+    // Remove the Least Frequently Used (LFU) Cacheable objects, starting with the first of the lowest frequency, until
+    // both the number and the total weight of the remaining Cacheable objects are within the maximum size and maximum
+    // weight of this cache.
+    while (ObjectUtil.isNotNull(lowestFrequency) && (getSize() > getMaxSize() || isOverweight(weight))) {
+      final LFUCacheable cacheObject = lowestFrequency.first;
+      final EvictionCause cause = (getSize() > getMaxSize() ? EvictionCause.SIZE : EvictionCause.WEIGHT);
+      cache.remove(cacheObject.getKey());
+      unlink(cacheObject);
+      weight -= cacheObject.getWeight();
+      fireEvictionEvent(cacheObject, cause);
     }
   }
 
@@ -138,15 +228,73 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
    * @param cacheable the Cacheable item to read from this cache.
    * @return the Cacheable object read from this cache.
    */
-  protected final com.cp.common.util.cache.Cacheable _readCacheable(final Cacheable cacheable) {
+  protected synchronized final com.cp.common.util.cache.Cacheable _readCacheable(final Cacheable cacheable) {
     final LFUCacheable cacheObject = (LFUCacheable) cacheable;
 
     // Increment the hit count for the cacheObject.  This line of code is important
     // since it is the foundation to the LFU algorithm.
     cacheObject.setFrequency(cacheObject.getFrequency() + 1);
 
-    // Make defensive copy and return Cacheable object.
-    return new com.codeprimate.util.cache.CacheableAdapter(cacheObject);
+    // Move the Cacheable object to the list of it's new frequency, unless it was removed from this cache meanwhile.
+    if (cache.get(cacheObject.getKey()) == cacheObject) {
+      final Frequency frequency = cacheObject.frequencyList;
+      final Frequency higher = frequency.higher;
+
+      if (ObjectUtil.isNotNull(higher) && higher.count == cacheObject.getFrequency()) {
+        unlink(cacheObject);
+        link(higher, cacheObject);
+      }
+      else if (frequency.first == cacheObject && frequency.last == cacheObject) {
+        frequency.count = cacheObject.getFrequency();
+      }
+      else {
+        unlink(cacheObject);
+        link(linkFrequency(cacheObject.getFrequency(), frequency, higher), cacheObject);
+      }
+    }
+
+    return cacheObject;
+  }
+
+  /**
+   * Removes the specified Cacheable object from this cache, provided it is still mapped to it's
+   * key.
+   * @param cacheObject the Cacheable object to remove.
+   * @return a boolean value indicating whether the Cacheable object was removed.
+   */
+  synchronized final boolean removeCacheable(final CPAbstractCacheable cacheObject) {
+    // NOTE the Cacheable object is compared by identity, since an equal Cacheable object may have been written since.
+    if (cache.get(cacheObject.getKey()) == cacheObject) {
+      cache.remove(cacheObject.getKey());
+      unlink((LFUCacheable) cacheObject);
+      weight -= cacheObject.getWeight();
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Selects the least frequently used Cacheable object in this cache, other than the specified
+   * Cacheable object just written, which is only selected when it is the only Cacheable object
+   * in this cache.  The victim is the first Cacheable object of the lowest frequency, or the one
+   * following it if that is the Cacheable object just written.
+   * @param writtenCacheObject the Cacheable object just written to this cache.
+   * @return the Cacheable object to evict, or null if this cache is empty.
+   */
+  private CPAbstractCacheable selectVictim(final CPAbstractCacheable writtenCacheObject) {
+    if (ObjectUtil.isNull(lowestFrequency)) {
+      return null;
+    }
+
+    LFUCacheable victim = lowestFrequency.first;
+
+    if (victim == writtenCacheObject) {
+      victim = (ObjectUtil.isNotNull(victim.next) ? victim.next
+        : (ObjectUtil.isNotNull(lowestFrequency.higher) ? lowestFrequency.higher.first : null));
+    }
+
+    return (ObjectUtil.isNotNull(victim) ? victim : writtenCacheObject);
   }
 
   /**
@@ -169,7 +317,8 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
    * @throws com.cp.common.util.cache.CacheException if the Cacheable object could not be written to
    * this cache, or validation of the Cacheable item failed.
    */
-  protected final void _writeCacheable(final Cacheable cacheObject) throws com.cp.common.util.cache.CacheException {
+  @SuppressWarnings("unchecked")
+  protected synchronized final void _writeCacheable(final Cacheable cacheObject) throws com.cp.common.util.cache.CacheException {
     // Make defensive copy of Cacheable object (for security reasons).
     final LFUCacheable newCacheObject = new LFUCacheable(cacheObject);
 
@@ -183,13 +332,121 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
     }
 
     // Write to cache...
-    cache.put(newCacheObject.getKey(), newCacheObject);
+    final LFUCacheable existingCacheObject = (LFUCacheable) cache.put(newCacheObject.getKey(), newCacheObject);
+
+    if (ObjectUtil.isNotNull(existingCacheObject)) {
+      // NOTE the new Cacheable object takes the frequency of the existing Cacheable object, so it is linked in the
+      // same list before the existing Cacheable object is unlinked, which may empty the list.
+      link(existingCacheObject.frequencyList, newCacheObject);
+      unlink(existingCacheObject);
+      weight -= existingCacheObject.getWeight();
+    }
+    else if (ObjectUtil.isNotNull(lowestFrequency) && lowestFrequency.count == newCacheObject.getFrequency()) {
+      link(lowestFrequency, newCacheObject);
+    }
+    else {
+      link(linkFrequency(newCacheObject.getFrequency(), null, lowestFrequency), newCacheObject);
+    }
+
+    weight += newCacheObject.getWeight();
+    evictOverweight(newCacheObject);
+  }
+
+  /**
+   * Evicts Cacheable objects, as determined by the LFU algorithm, until the total weight of this
+   * cache is within the maximum weight.  The maximum size of this cache is enforced by the purge
+   * operation, but the maximum weight is enforced on every write, since a single write may add
+   * an arbitrarily large weight.  The caller must hold the monitor of this cache.
+   * @param writtenCacheObject the Cacheable object just written to this cache, which is evicted last.
+   */
+  private void evictOverweight(final CPAbstractCacheable writtenCacheObject) {
+    while (isOverweight(weight)) {
+      final CPAbstractCacheable victim = selectVictim(writtenCacheObject);
+
+      if (ObjectUtil.isNull(victim)) {
+        break;
+      }
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("evicting Cacheable object with key (" + victim.getKey() + ")");
+      }
+
+      cache.remove(victim.getKey());
+      unlink((LFUCacheable) victim);
+      weight -= victim.getWeight();
+      fireEvictionEvent(victim, EvictionCause.WEIGHT);
+    }
+  }
+
+  /**
+   * Unlinks the specified Cacheable object from the list of it's frequency, keeping the list for reuse if it
+   * is emptied.
+   * @param cacheObject the Cacheable object to unlink.
+   */
+  private void unlink(final LFUCacheable cacheObject) {
+    final Frequency frequency = cacheObject.frequencyList;
+
+    if (ObjectUtil.isNull(cacheObject.previous)) {
+      frequency.first = cacheObject.next;
+    }
+    else {
+      cacheObject.previous.next = cacheObject.next;
+    }
+
+    if (ObjectUtil.isNull(cacheObject.next)) {
+      frequency.last = cacheObject.previous;
+    }
+    else {
+      cacheObject.next.previous = cacheObject.previous;
+    }
+
+    cacheObject.frequencyList = null;
+    cacheObject.previous = null;
+    cacheObject.next = null;
+
+    if (ObjectUtil.isNull(frequency.first)) {
+      if (ObjectUtil.isNull(frequency.lower)) {
+        lowestFrequency = frequency.higher;
+      }
+      else {
+        frequency.lower.higher = frequency.higher;
+      }
+
+      if (ObjectUtil.isNotNull(frequency.higher)) {
+        frequency.higher.lower = frequency.lower;
+      }
+
+      frequency.lower = null;
+      frequency.higher = unusedFrequencies;
+      unusedFrequencies = frequency;
+    }
+  }
+
+  /**
+   * The Frequency class is the list of the Cacheable objects of this cache read equally often; guarded by the
+   * monitor of the cache.
+   */
+  private static final class Frequency {
+
+    private int count;
+
+    private Frequency lower;
+    private Frequency higher;
+
+    private LFUCacheable first;
+    private LFUCacheable last;
   }
 
   private final class LFUCacheable extends CPAbstractCacheable {
 
     private int frequency = 0;
 
+    // The list of the frequency of this Cacheable object and it's neighbours in that list; guarded by the monitor of
+    // the cache.
+    private Frequency frequencyList;
+    private LFUCacheable previous;
+    private LFUCacheable next;
+
     private LFUCacheable(final String key, final Object data) {
       super(key, data);
     }
@@ -217,36 +474,8 @@ public class LFUCache extends com.codeprimate.util.cache.AbstractCache {
      * Cache.
      */
     public void setFrequency(final int frequency) {
-      if (logger.isDebugEnabled()) {
-        logger.debug("frequency (" + frequency + ")");
-      }
       this.frequency = frequency;
     }
   }
 
-  private static final class LFUComparator implements Comparator {
-
-    static final LFUComparator INSTANCE = new LFUComparator();
-
-    public int compare(final Object o1,
-                       final Object o2 ) {
-      final LFUCacheable co1 = (LFUCacheable) o1;
-      final LFUCacheable co2 = (LFUCacheable) o2;
-
-      // Base order on frequency.
-      final int frequencyDiff = (co1.getFrequency() - co2.getFrequency());
-      if (logger.isDebugEnabled()) {
-        logger.debug("frequencyDiff (" + frequencyDiff + ")");
-      }
-
-      if (!NumberUtil.isZero(frequencyDiff)) {
-        return frequencyDiff;
-      }
-
-      // If the frequencies of two Cacheable objects are equal, base the order on the
-      // expiration date.
-      return compareCalendar(co1.getExpirationDate(), co2.getExpirationDate());
-    }
-  }
-
 }
@@ -9,19 +9,20 @@
 
 package com.codeprimate.util.cache;
 
-import com.cp.common.lang.NumberUtil;
+import com.cp.common.lang.ObjectUtil;
 import com.cp.common.util.cache.CacheException;
 import com.cp.common.util.cache.Cacheable;
+import com.cp.common.util.cache.EvictionCause;
 import com.codeprimate.util.cache.*;
 import com.codeprimate.util.cache.CacheableAdapter;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.log4j.Logger;
 
 public class LRUCache extends com.codeprimate.util.cache.AbstractCache {
@@ -32,6 +33,15 @@ public class LRUCache extends com.codeprimate.util.cache.AbstractCache {
 
   private final Map cache;
 
+  // The Cacheable objects of this cache are linked in the order of their last access, from the least recently used
+  // (the eldest) to the most recently used (the youngest), so that the victim of an eviction is found immediately and
+  // a read only relinks the Cacheable object read, without allocating.
+  private LRUCacheable eldest;
+  private LRUCacheable youngest;
+
+  // The total weight of the Cacheable objects in this cache, updated as Cacheable objects are written and removed.
+  private long weight = 0l;
+
   /**
    * Creates an instance of the LRUCache to cache objects using the
    * Least Recently Used algorithm.
@@ -47,7 +57,7 @@ public class LRUCache extends com.codeprimate.util.cache.AbstractCache {
    * @return the Cacheable object stored in this cache and referrenced by the
    * specified key (lookup value).
    */
-  final CPAbstractCacheable getCacheable(final String key) {
+  final synchronized CPAbstractCacheable getCacheable(final String key) {
     return (CPAbstractCacheable) cache.get(key);
   }
 
@@ -77,17 +87,27 @@ public class LRUCache extends com.codeprimate.util.cache.AbstractCache {
    * @return an integer value of the number of Cacheable objects stored in this
    * cache.
    */
-  public int getSize() {
+  public synchronized int getSize() {
     return cache.size();
   }
 
   /**
-   * Returns an Iterator to traverse the Cacheable objects in this cache.
+   * Returns the current total weight of the Cacheable objects in this cache, which is tracked
+   * as Cacheable objects are written and removed.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Returns an Iterator to traverse a snapshot of the Cacheable objects in this cache, taken
+   * while holding the monitor of this cache.
    * @return a java.util.Iterator object to iterate the Cacheable objects in this
    * cache.
    */
-  public Iterator iterateCacheables() {
-    final Iterator it = cache.values().iterator();
+  public synchronized Iterator iterateCacheables() {
+    final Iterator it = new ArrayList<Object>((Collection<?>) cache.values()).iterator();
     return new Iterator() {
       public boolean hasNext() {
         return it.hasNext();
@@ -103,31 +123,61 @@ public class LRUCache extends com.codeprimate.util.cache.AbstractCache {
     };
   }
 
+  /**
+   * Returns an Iterator to traverse a snapshot of the keys mapped to Cacheable objects in this
+   * cache, taken while holding the monitor of this cache.
+   * @return a java.util.Iterator object to iterate the keys of this cache.
+   */
+  public synchronized Iterator iterateKeys() {
+    return Collections.unmodifiableList(new ArrayList<Object>((Set<?>) cache.keySet())).iterator();
+  }
+
+  /**
+   * Links the specified Cacheable object as the most recently used Cacheable object of this cache.
+   * @param cacheObject the Cacheable object to link.
+   */
+  private void link(final LRUCacheable cacheObject) {
+    cacheObject.older = youngest;
+    cacheObject.younger = null;
+
+    if (ObjectUtil.isNull(youngest)) {
+      eldest = cacheObject;
+    }
+    else {
+      youngest.younger = cacheObject;
+    }
+
+    youngest = cacheObject;
+  }
+
   /**
    * Cleans the cache using Least Recently Used algorithm to remove Cacheable
-   * objects based on their expiration date/time and timeStamp.
+   * objects based on their expiration date/time and the order of their last access.
    */
-  protected final void purgeCache() {
-    for (Iterator it = iterateCacheables(); it.hasNext(); ) {
+  protected synchronized final void purgeCache() {
+    // NOTE the stored Cacheable objects are iterated directly, removing expired Cacheable objects through the Iterator.
+    for (Iterator it = cache.values().iterator(); it.hasNext(); ) {
       final Cacheable cacheObject = (Cacheable) it.next();
       if (cacheObject.hasExpired()) {
         if (logger.isDebugEnabled()) {
           logger.debug("The Cacheable object (" + cacheObject + ") has expired!");
         }
-        cache.remove(cacheObject.getKey());
+        it.remove();
+        unlink((LRUCacheable) cacheObject);
+        weight -= ((CPAbstractCacheable) cacheObject).getWeight();
+        fireEvictionEvent(cacheObject, EvictionCause.EXPIRED);
       }
     }
 
-    if (getSize() > getMaxSize()) {
-      final List cacheList = new ArrayList(cache.values());
-
-      // Least Frequently Used (LFU) Cacheable objects will be at the front of the List
-      // after the LFUComparator sorts the List.
-      Collections.sort(cacheList, LRUComparator.INSTANCE);
-
-      for (int index = 0, len = (getSize() - getMaxSize()); index < len; index++) {
-        cache.remove(((Cacheable) cacheList.get(index)).getKey());
-      }
+    // Remove the Least Recently Used (LRU) Cacheable objects, starting with the eldest, until both the number and
+    // the total weight of the remaining Cacheable objects are within the maximum size and maximum weight of this cache.
+    while (ObjectUtil.isNotNull(eldest) && (getSize() > getMaxSize() || isOverweight(weight))) {
+      final LRUCacheable cacheObject = eldest;
+      final EvictionCause cause = (getSize() > getMaxSize() ? EvictionCause.SIZE : EvictionCause.WEIGHT);
+      cache.remove(cacheObject.getKey());
+      unlink(cacheObject);
+      weight -= cacheObject.getWeight();
+      fireEvictionEvent(cacheObject, cause);
     }
   }
 
@@ -140,11 +190,43 @@ public class LRUCache extends com.codeprimate.util.cache.AbstractCache {
   protected synchronized final Cacheable _readCacheable(final Cacheable cacheable) {
     final LRUCacheable cacheObject = (LRUCacheable) cacheable;
 
-    // Set the timeStamp on the Cacheable object to now.
-    cacheObject.setTimeStamp(Calendar.getInstance());
+    // Relink the Cacheable object as the most recently used, unless it was removed from this cache meanwhile.
+    if (cache.get(cacheObject.getKey()) == cacheObject && cacheObject != youngest) {
+      unlink(cacheObject);
+      link(cacheObject);
+    }
+
+    return cacheObject;
+  }
+
+  /**
+   * Removes the specified Cacheable object from this cache, provided it is still mapped to it's
+   * key.
+   * @param cacheObject the Cacheable object to remove.
+   * @return a boolean value indicating whether the Cacheable object was removed.
+   */
+  synchronized final boolean removeCacheable(final CPAbstractCacheable cacheObject) {
+    // NOTE the Cacheable object is compared by identity, since an equal Cacheable object may have been written since.
+    if (cache.get(cacheObject.getKey()) == cacheObject) {
+      cache.remove(cacheObject.getKey());
+      unlink((LRUCacheable) cacheObject);
+      weight -= cacheObject.getWeight();
+      return true;
+    }
+
+    return false;
+  }
 
-    // Make defensive copy and return Cacheable object.
-    return new com.codeprimate.util.cache.CacheableAdapter(cacheObject);
+  /**
+   * Selects the least recently used Cacheable object in this cache, other than the specified
+   * Cacheable object just written, which is only selected when it is the only Cacheable object
+   * in this cache.  The Cacheable object just written is the youngest, so the victim is the eldest
+   * unless it is the only one.
+   * @param writtenCacheObject the Cacheable object just written to this cache.
+   * @return the Cacheable object to evict, or null if this cache is empty.
+   */
+  private CPAbstractCacheable selectVictim(final CPAbstractCacheable writtenCacheObject) {
+    return (eldest == writtenCacheObject && ObjectUtil.isNotNull(eldest.younger) ? eldest.younger : eldest);
   }
 
   /**
@@ -167,74 +249,88 @@ public class LRUCache extends com.codeprimate.util.cache.AbstractCache {
    * @throws CacheException if the Cacheable object could not be written to
    * this cache, or validation of the Cacheable item failed.
    */
-  protected final void _writeCacheable(Cacheable cacheObject) throws com.cp.common.util.cache.CacheException {
+  @SuppressWarnings("unchecked")
+  protected synchronized final void _writeCacheable(Cacheable cacheObject) throws com.cp.common.util.cache.CacheException {
     // Make defensive copy of Cacheable object (for security reasons).
-    cache.put(cacheObject.getKey(), new LRUCacheable(cacheObject));
-  }
-
-  private final class LRUCacheable extends CPAbstractCacheable {
+    final LRUCacheable newCacheObject = new LRUCacheable(cacheObject);
+    final LRUCacheable existingCacheObject = (LRUCacheable) cache.put(newCacheObject.getKey(), newCacheObject);
 
-    private Calendar timeStamp = Calendar.getInstance();
-
-    private LRUCacheable(final String key, final Object data) {
-      super(key, data);
+    if (ObjectUtil.isNotNull(existingCacheObject)) {
+      unlink(existingCacheObject);
+      weight -= existingCacheObject.getWeight();
     }
 
-    private LRUCacheable(final String key, final Object data, final Calendar expirationDate) {
-      super(key, data, expirationDate);
-    }
+    link(newCacheObject);
+    weight += newCacheObject.getWeight();
+    evictOverweight(newCacheObject);
+  }
 
-    private LRUCacheable(final Cacheable cacheObject) {
-      super(cacheObject);
-    }
+  /**
+   * Evicts Cacheable objects, as determined by the LRU algorithm, until the total weight of this
+   * cache is within the maximum weight.  The maximum size of this cache is enforced by the purge
+   * operation, but the maximum weight is enforced on every write, since a single write may add
+   * an arbitrarily large weight.  The caller must hold the monitor of this cache.
+   * @param writtenCacheObject the Cacheable object just written to this cache, which is evicted last.
+   */
+  private void evictOverweight(final CPAbstractCacheable writtenCacheObject) {
+    while (isOverweight(weight)) {
+      final CPAbstractCacheable victim = selectVictim(writtenCacheObject);
 
-    /**
-     * Returns the date/time when this Cacheable object was last accessed.
-     * @return a Calendar object signifying when this Cacheable object was last
-     * read.
-     */
-    public Calendar getTimeStamp() {
-      return timeStamp;
-    }
+      if (ObjectUtil.isNull(victim)) {
+        break;
+      }
 
-    /**
-     * Sets the data/time when this Cacheable object was last accessed.
-     * @param timeStamp a Calendar object specifying when this Cacheable object
-     * was last accessed.
-     */
-    public void setTimeStamp(final Calendar timeStamp) {
       if (logger.isDebugEnabled()) {
-        logger.debug("timeStamp (" + timeStamp + ")");
+        logger.debug("evicting Cacheable object with key (" + victim.getKey() + ")");
       }
-      this.timeStamp = timeStamp;
+
+      cache.remove(victim.getKey());
+      unlink((LRUCacheable) victim);
+      weight -= victim.getWeight();
+      fireEvictionEvent(victim, EvictionCause.WEIGHT);
     }
   }
 
-  private static final class LRUComparator implements Comparator {
+  /**
+   * Unlinks the specified Cacheable object from the order of last access of this cache.
+   * @param cacheObject the Cacheable object to unlink.
+   */
+  private void unlink(final LRUCacheable cacheObject) {
+    if (ObjectUtil.isNull(cacheObject.older)) {
+      eldest = cacheObject.younger;
+    }
+    else {
+      cacheObject.older.younger = cacheObject.younger;
+    }
 
-    static final LRUComparator INSTANCE = new LRUComparator();
+    if (ObjectUtil.isNull(cacheObject.younger)) {
+      youngest = cacheObject.older;
+    }
+    else {
+      cacheObject.younger.older = cacheObject.older;
+    }
 
-    public int compare(final Object o1,
-                       final Object o2 ) {
-      final LRUCacheable c1 = (LRUCacheable) o1;
-      final LRUCacheable c2 = (LRUCacheable) o2;
+    cacheObject.older = null;
+    cacheObject.younger = null;
+  }
 
-      // Base order on timeStamp
-      final Calendar timeStamp1 = c1.getTimeStamp();
-      final Calendar timeStamp2 = c2.getTimeStamp();
+  private final class LRUCacheable extends CPAbstractCacheable {
 
-      int timeStampDiff = compareCalendar(timeStamp1, timeStamp2);
-      if (logger.isDebugEnabled()) {
-        logger.debug("timeStampDiff (" + timeStampDiff + ")");
-      }
+    // The Cacheable objects of this cache accessed last before and after this Cacheable object; guarded by the
+    // monitor of the cache.
+    private LRUCacheable older;
+    private LRUCacheable younger;
 
-      if (!NumberUtil.isZero(timeStampDiff)) {
-        return timeStampDiff;
-      }
+    private LRUCacheable(final String key, final Object data) {
+      super(key, data);
+    }
+
+    private LRUCacheable(final String key, final Object data, final Calendar expirationDate) {
+      super(key, data, expirationDate);
+    }
 
-      // If the timeStamp of two Cacheable objects are equal, base the order on the
-      // expiration date.
-      return compareCalendar(c1.getExpirationDate(), c2.getExpirationDate());
+    private LRUCacheable(final Cacheable cacheObject) {
+      super(cacheObject);
     }
   }
 
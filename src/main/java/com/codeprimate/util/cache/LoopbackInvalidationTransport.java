@@ -0,0 +1,120 @@
+/*
+ * LoopbackInvalidationTransport.java (c) 17 October 2026
+ *
+ * The LoopbackInvalidationTransport class carries invalidations between the transports joined to
+ * the same named channel within a single JVM.  Invalidations are delivered synchronously on the
+ * publishing Thread to every other transport of the channel.  The LoopbackInvalidationTransport
+ * is meant for testing and for applications running several logical nodes in one process.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.AbstractInvalidationTransport
+ * @see com.codeprimate.util.cache.NearCache
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.util.cache.AbstractInvalidationTransport;
+import com.cp.common.util.cache.InvalidationEvent;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+public class LoopbackInvalidationTransport extends AbstractInvalidationTransport {
+
+  private static final ConcurrentMap<String, Set<LoopbackInvalidationTransport>> channels =
+    new ConcurrentHashMap<String, Set<LoopbackInvalidationTransport>>();
+
+  private final String channelName;
+
+  /**
+   * Creates an instance of the LoopbackInvalidationTransport class joined to the specified channel.
+   * @param channelName the String name of the channel shared by the transports exchanging
+   * invalidations.
+   * @throws IllegalArgumentException if the channel name is blank.
+   */
+  public LoopbackInvalidationTransport(final String channelName) {
+    Assert.notBlank(channelName, "The name of the channel must be specified!");
+    this.channelName = channelName;
+    getChannel(channelName).add(this);
+  }
+
+  /**
+   * Returns the transports joined to the specified channel, creating the channel if necessary.
+   * @param channelName the String name of the channel.
+   * @return the Set of LoopbackInvalidationTransports joined to the channel.
+   */
+  private static Set<LoopbackInvalidationTransport> getChannel(final String channelName) {
+    Set<LoopbackInvalidationTransport> channel = channels.get(channelName);
+
+    if (channel == null) {
+      final Set<LoopbackInvalidationTransport> newChannel = new CopyOnWriteArraySet<LoopbackInvalidationTransport>();
+      channel = channels.putIfAbsent(channelName, newChannel);
+      channel = (channel == null ? newChannel : channel);
+    }
+
+    return channel;
+  }
+
+  /**
+   * Returns the name of the channel joined by this transport.
+   * @return the String name of the channel.
+   */
+  public String getChannelName() {
+    return channelName;
+  }
+
+  /**
+   * Leaves the channel, such that this transport no longer sends or receives invalidations.
+   */
+  public void close() {
+    getChannel(channelName).remove(this);
+  }
+
+  /**
+   * Delivers the invalidation of the specified keys of the named cache to the other transports
+   * joined to the channel.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @param keys the Collection of String keys that were invalidated.
+   */
+  public void publish(final String cacheName, final Collection<String> keys) {
+    deliver(cacheName, keys, false);
+  }
+
+  /**
+   * Delivers the invalidation of all keys of the named cache to the other transports joined
+   * to the channel.
+   * @param cacheName the String name identifying the cache across nodes.
+   */
+  public void publishAll(final String cacheName) {
+    deliver(cacheName, Collections.<String>emptySet(), true);
+  }
+
+  private void deliver(final String cacheName, final Collection<String> keys, final boolean allKeys) {
+    final long timestamp = System.currentTimeMillis();
+
+    for (final LoopbackInvalidationTransport transport : getChannel(channelName)) {
+      if (transport != this) {
+        transport.fireInvalidationEvent(new InvalidationEvent(transport, cacheName, keys, allKeys, timestamp));
+      }
+    }
+  }
+
+  /**
+   * Returns a String representation of this transport.
+   * @return a String representation of this transport.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{channelName = ");
+    buffer.append(getChannelName());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+}
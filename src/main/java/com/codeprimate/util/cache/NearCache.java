@@ -0,0 +1,415 @@
+/*
+ * NearCache.java (c) 17 October 2026
+ *
+ * The NearCache class keeps the local caches of several nodes (JVMs) consistent with each other.
+ * Reads and writes are served by a local cache, such as the LRUCache.  Writes and invalidations
+ * are published to the other nodes through an InvalidationTransport, and the invalidations
+ * published by the other nodes remove the affected Cacheable objects from the local cache, so
+ * that the next read misses and is reloaded from the data source.
+ *
+ * Invalidations are batched to keep network chatter low; the keys written or invalidated during
+ * a batch interval are published together on the shared CacheScheduler thread.  Consequently, a
+ * peer may serve stale data for up to the batch interval plus the delivery time of the transport.
+ * Every delivered invalidation is applied, even one that was published before a later write of the
+ * same key on this node, since the clocks of the nodes cannot be compared; such a late invalidation
+ * only costs a reload.  The transport should not block the scheduler thread while sending, so the
+ * DatagramInvalidationTransport hands the sends off to it's own Thread.
+ *
+ * NearCaches on different nodes are matched by name, so several NearCaches may share one
+ * InvalidationTransport.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.cache.DatagramInvalidationTransport
+ * @see com.codeprimate.util.cache.LoopbackInvalidationTransport
+ * @see com.cp.common.util.cache.InvalidationTransport
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.util.cache.AbstractCacheable;
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.CacheScheduler;
+import com.cp.common.util.cache.Cacheable;
+import com.cp.common.util.cache.EvictionCause;
+import com.cp.common.util.cache.InvalidationEvent;
+import com.cp.common.util.cache.InvalidationListener;
+import com.cp.common.util.cache.InvalidationTransport;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import org.apache.log4j.Logger;
+
+public class NearCache extends com.cp.common.util.cache.AbstractCache {
+
+  private static final Logger logger = Logger.getLogger(NearCache.class);
+
+  private static final int DEFAULT_BATCH_INTERVAL = 100; // milliseconds
+  private static final int DEFAULT_MAX_BATCH_SIZE = 512; // keys
+
+  private volatile boolean allKeysPending = false;
+  private volatile boolean terminated = false;
+
+  private final com.codeprimate.util.cache.AbstractCache localCache;
+
+  private final InvalidationListener invalidationListener = new RemoteInvalidationListener();
+
+  private final InvalidationTransport transport;
+
+  private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  private final ScheduledFuture<?> flushFuture;
+
+  private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+  private final String name;
+
+  /**
+   * Creates an instance of the NearCache class with the specified name, local cache and
+   * InvalidationTransport, publishing invalidations every 100 milliseconds.
+   * @param name the String name identifying this cache across nodes.
+   * @param localCache the cache holding the Cacheable objects on this node.
+   * @param transport the InvalidationTransport carrying invalidations between nodes.
+   * @throws NullPointerException if the local cache or the InvalidationTransport is null.
+   */
+  public NearCache(final String name,
+                   final com.codeprimate.util.cache.AbstractCache localCache,
+                   final InvalidationTransport transport) {
+    this(name, localCache, transport, DEFAULT_BATCH_INTERVAL);
+  }
+
+  /**
+   * Creates an instance of the NearCache class with the specified name, local cache and
+   * InvalidationTransport, publishing invalidations at the given interval.  The NearCache takes
+   * ownership of the local cache, which should not be used directly afterwards, but not of the
+   * InvalidationTransport, which may be shared by several NearCaches.
+   * @param name the String name identifying this cache across nodes.
+   * @param localCache the cache holding the Cacheable objects on this node.
+   * @param transport the InvalidationTransport carrying invalidations between nodes.
+   * @param batchInterval the number of milliseconds between the publications of invalidations.
+   * @throws IllegalArgumentException if the name is blank or the batch interval is not positive.
+   * @throws NullPointerException if the local cache or the InvalidationTransport is null.
+   */
+  public NearCache(final String name,
+                   final com.codeprimate.util.cache.AbstractCache localCache,
+                   final InvalidationTransport transport,
+                   final long batchInterval) {
+    Assert.notBlank(name, "The name of the cache must be specified!");
+    Assert.notNull(localCache, "The local cache cannot be null!");
+    Assert.notNull(transport, "The InvalidationTransport cannot be null!");
+    this.name = name;
+    this.localCache = localCache;
+    this.transport = transport;
+    this.transport.addInvalidationListener(invalidationListener);
+    this.flushFuture = CacheScheduler.scheduleWithFixedDelay(new FlushTask(this), batchInterval);
+  }
+
+  /**
+   * Determines whether a Cacheable object is mapped to the specified key in the local cache.
+   * @param key the String value used to determine whether it maps to a Cacheable object
+   * in the cache.
+   * @return a boolean value indicating if the key is mapped to a Cacheable object in the
+   * cache.
+   */
+  public boolean containsKey(final String key) {
+    return localCache.containsKey(key);
+  }
+
+  /**
+   * Publishes the keys written or invalidated since the last publication to the other nodes,
+   * in batches of at most the maximum batch size.  This method is called every batch interval
+   * and may be called to publish the pending invalidations immediately.
+   */
+  public void flush() {
+    try {
+      if (allKeysPending) {
+        allKeysPending = false;
+        pendingKeys.clear();
+        transport.publishAll(name);
+        return;
+      }
+
+      final List<String> batch = new ArrayList<String>();
+
+      for (Iterator<String> it = pendingKeys.iterator(); it.hasNext(); ) {
+        batch.add(it.next());
+        it.remove();
+
+        if (batch.size() >= getMaxBatchSize()) {
+          transport.publish(name, batch);
+          batch.clear();
+        }
+      }
+
+      if (!batch.isEmpty()) {
+        transport.publish(name, batch);
+      }
+    }
+    catch (CacheException e) {
+      logger.warn("Failed to publish the invalidations of cache (" + name + ")!", e);
+    }
+  }
+
+  /**
+   * Creates a concrete instance of the Cacheable interface initialized with the
+   * specified key, data value and expiration date.
+   * @param key the key used as a lookup value to the Cacheable object in this cache.
+   * @param data the data to be stored in the cache wrapped with the Cacheable object.
+   * @param expirationDate a Calendar object specifying the date at which the data
+   * in the Cacheable object is no longer valid.
+   * @return a Cacheable object with the specified key, containing the data.
+   */
+  protected Cacheable getCacheableInstance(final String key, final Object data, final Calendar expirationDate) {
+    return new NearCacheable(key, data, expirationDate);
+  }
+
+  /**
+   * Returns a String description of this Cache.
+   * @return a String description of this Cache.
+   */
+  public String getDescription() {
+    return ("Near Cache of " + localCache.getDescription());
+  }
+
+  /**
+   * Returns the cache holding the Cacheable objects on this node.
+   * @return the local cache.
+   */
+  public com.codeprimate.util.cache.AbstractCache getLocalCache() {
+    return localCache;
+  }
+
+  /**
+   * Returns the maximum number of keys published in a single invalidation.
+   * @return an integer value of the maximum number of keys per invalidation.
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Returns the name identifying this cache across nodes.
+   * @return the String name of this cache.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the current number of Cacheable objects in the local cache.
+   * @return an integer value of the number of Cacheable objects stored in this cache.
+   */
+  public int getSize() {
+    return localCache.getSize();
+  }
+
+  /**
+   * Returns the InvalidationTransport carrying invalidations between nodes.
+   * @return the InvalidationTransport of this cache.
+   */
+  public InvalidationTransport getTransport() {
+    return transport;
+  }
+
+  /**
+   * Returns the current total weight of the Cacheable objects in the local cache.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public long getWeight() {
+    return localCache.getWeight();
+  }
+
+  /**
+   * Forces a refresh of the Cacheable objects in the local cache on their next read and
+   * invalidates all keys of this cache on the other nodes.
+   */
+  public void invalidateCache() {
+    localCache.invalidateCache();
+
+    if (!terminated) {
+      allKeysPending = true;
+    }
+  }
+
+  /**
+   * Invalidates the Cacheable objects mapped to the specified keys in the local cache and on
+   * the other nodes.
+   * @param keys the List of String keys to invalidate.
+   */
+  protected void invalidateCacheables(final List<String> keys) {
+    localCache.invalidateCacheables(keys);
+    pendingKeys.addAll(keys);
+  }
+
+  /**
+   * Returns an Iterator to traverse the Cacheable objects in the local cache.
+   * @return a java.util.Iterator object to iterate the Cacheable objects in this cache.
+   */
+  public Iterator iterateCacheables() {
+    return localCache.iterateCacheables();
+  }
+
+  /**
+   * Returns an Iterator to traverse the keys mapped to Cacheable objects in the local cache.
+   * @return a java.util.Iterator object to iterate the keys of this cache.
+   */
+  public Iterator iterateKeys() {
+    return localCache.iterateKeys();
+  }
+
+  /**
+   * Reads the Cacheable object mapped to the specified key from the local cache without making
+   * a defensive copy.
+   * @param key the key used as a lookup value for the Cacheable object stored in this cache.
+   * @return the Cacheable object associated with the specified key, or null if the key is not
+   * mapped to a valid, unexpired Cacheable object.
+   * @throws CacheException if the Cacheable object could not be read.
+   */
+  protected Cacheable lookupCacheable(final String key) throws CacheException {
+    return localCache.lookupCacheable(key);
+  }
+
+  /**
+   * The purge operation of this cache does nothing since the local cache is purged by it's own
+   * purge operation.
+   */
+  protected void purgeCache() {
+  }
+
+  /**
+   * Reads the Cacheable object mapped to the specified key from the local cache.
+   * @param key the key used as a lookup value for the Cacheable object stored in this cache.
+   * @return a Cacheable object associated with the specified key from this cache or null if
+   * the key is not mapped to any Cacheable object in this cache.
+   * @throws CacheException if the Cacheable object could not be read.
+   */
+  public Cacheable readCacheable(final String key) throws CacheException {
+    return localCache.readCacheable(key);
+  }
+
+  /**
+   * Sets the maximum number of keys published in a single invalidation.
+   * @param maxBatchSize an integer value of the maximum number of keys per invalidation.
+   * @throws IllegalArgumentException if the maximum batch size is not positive.
+   */
+  public void setMaxBatchSize(final int maxBatchSize) {
+    Assert.greaterThan(maxBatchSize, 0, "The max batch size (" + maxBatchSize + ") must be positive!");
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Called to release any resources held by this cache.  Publishes the pending invalidations,
+   * stops listening for invalidations and terminates the local cache.  The InvalidationTransport
+   * is not closed, since it may be shared with other NearCaches.
+   */
+  public void terminate() {
+    flushFuture.cancel(false);
+    flush();
+    terminated = true;
+    transport.removeInvalidationListener(invalidationListener);
+    super.terminate();
+    localCache.terminate();
+  }
+
+  /**
+   * Returns a String representation of this cache.
+   * @return a String representation of this cache.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{name = ");
+    buffer.append(getName());
+    buffer.append(", localCache = ").append(localCache);
+    buffer.append(", transport = ").append(transport);
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * Stores the specified Cacheable object in the local cache and invalidates it's key on the
+   * other nodes.
+   * @param cacheObject the Cacheable object to store in this cache.
+   * @throws CacheException if the Cacheable object could not be stored in this cache.
+   */
+  public void writeCacheable(final Cacheable cacheObject) throws CacheException {
+    localCache.writeCacheable(cacheObject);
+    pendingKeys.add(cacheObject.getKey());
+  }
+
+  /**
+   * The FlushTask class publishes the pending invalidations of a weakly referenced NearCache every
+   * batch interval, so that a NearCache which was never terminated can be garbage collected.
+   */
+  private static final class FlushTask extends CacheScheduler.WeakReferenceTask<NearCache> {
+
+    private final String name;
+
+    FlushTask(final NearCache cache) {
+      super(cache);
+      this.name = cache.getName();
+    }
+
+    protected void run(final NearCache cache) {
+      cache.flush();
+    }
+
+    public String toString() {
+      return "FlushTask(" + name + ")";
+    }
+  }
+
+  /**
+   * The NearCacheable class is the Cacheable object created by the writeObject methods of this
+   * cache, which the local cache copies when it is written.
+   */
+  private static final class NearCacheable extends AbstractCacheable {
+
+    NearCacheable(final String key, final Object data, final Calendar expirationDate) {
+      super(key, data, expirationDate);
+    }
+  }
+
+  /**
+   * The RemoteInvalidationListener class removes the Cacheable objects invalidated by the other
+   * nodes from the local cache.
+   */
+  private final class RemoteInvalidationListener implements InvalidationListener {
+
+    public void keysInvalidated(final InvalidationEvent evt) {
+      if (!name.equals(evt.getCacheName())) {
+        return;
+      }
+
+      final List<String> keys = new ArrayList<String>();
+
+      if (evt.isAllKeys()) {
+        // NOTE the keys are copied under the monitor of the local cache, which guards it's keys against
+        // concurrent modification by the Threads using the cache, since this is the receiving Thread of the
+        // transport.
+        synchronized (localCache) {
+          for (Iterator it = localCache.iterateKeys(); it.hasNext(); ) {
+            keys.add(it.next().toString());
+          }
+        }
+      }
+      else {
+        keys.addAll(evt.getKeys());
+      }
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("removing keys (" + keys + ") of cache (" + name + ") invalidated by another node");
+      }
+
+      for (final String key : keys) {
+        localCache.evictKey(key, EvictionCause.INVALIDATED);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,634 @@
+/*
+ * OffHeapCache.java (c) 17 October 2026
+ *
+ * The OffHeapCache class stores the data of Cacheable objects in serialized form outside of the
+ * Java heap, in direct ByteBuffers, so that large cached objects do not add to the garbage
+ * collector's workload.  Only the keys and a small index entry per Cacheable object remain on
+ * the heap.
+ *
+ * The off-heap memory is divided into fixed size blocks, allocated lazily in segments of up to
+ * 1 GB, and each Cacheable object occupies as many blocks as needed to hold it's serialized
+ * data.  Since all blocks have the same size, freed blocks are reused without fragmentation.
+ * When the blocks are exhausted, or the maximum size or maximum weight of the cache is
+ * exceeded, the least recently used Cacheable objects are evicted.
+ *
+ * Data is serialized by the configured Serializer, which by default uses Java Object
+ * Serialization.  Each read deserializes a copy of the data, therefore the OffHeapCache is best
+ * suited to large values read less frequently than they would be from an on-heap cache, such
+ * as the second tier of a TieredCache.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.cache.TieredCache
+ * @see com.cp.common.util.cache.AbstractCache
+ * @see com.cp.common.util.cache.Serializer
+ * @see java.nio.ByteBuffer#allocateDirect(int)
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.cache.AbstractCacheable;
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.Cacheable;
+import com.cp.common.util.cache.EvictionCause;
+import com.cp.common.util.cache.JavaSerializer;
+import com.cp.common.util.cache.Serializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.apache.log4j.Logger;
+
+public class OffHeapCache extends com.cp.common.util.cache.AbstractCache {
+
+  private static final Logger logger = Logger.getLogger(OffHeapCache.class);
+
+  private static final String DESCRIPTION = "Off-Heap Cache";
+
+  private static final int DEFAULT_BLOCK_SIZE = 4096; // 4 KB
+  private static final int MAX_SEGMENT_SIZE = (1 << 30); // 1 GB
+
+  private static final long DEFAULT_CAPACITY = (64l << 20); // 64 MB
+  private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+  private final int blockCount;
+  private final int blocksPerSegment;
+  private final int blockSize;
+
+  // The following fields are guarded by the monitor of this cache.
+  private int freeBlockCount;
+  private int unusedBlockIndex;
+
+  private long weight;
+
+  private final int[] freeBlocks;
+
+  private final ByteBuffer[] segments;
+
+  // Index of the Cacheable objects in access order, such that the least recently used is first.
+  private final LinkedHashMap<String, OffHeapEntry> entries;
+
+  private volatile Serializer serializer = JavaSerializer.INSTANCE;
+
+  /**
+   * Creates an instance of the OffHeapCache class with the default capacity of 64 MB of
+   * off-heap memory.
+   */
+  public OffHeapCache() {
+    this(DEFAULT_CAPACITY, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates an instance of the OffHeapCache class with the specified capacity of off-heap
+   * memory divided into blocks of the given size.  The memory is allocated as it is needed.
+   * @param capacity a long value specifying the maximum number of bytes of off-heap memory.
+   * @param blockSize an integer value specifying the number of bytes in each block of memory.
+   * @throws IllegalArgumentException if the capacity or block size is not positive, or the
+   * capacity is less than the block size.
+   */
+  public OffHeapCache(final long capacity, final int blockSize) {
+    Assert.greaterThan(blockSize, 0, "The block size (" + blockSize + ") must be a positive number of bytes!");
+    Assert.greaterThanEqual(capacity, (long) blockSize, "The capacity (" + capacity
+      + ") must be at least the block size (" + blockSize + ")!");
+    Assert.lessThanEqual(capacity / blockSize, (long) Integer.MAX_VALUE, "The capacity (" + capacity
+      + ") requires too many blocks of size (" + blockSize + ")!");
+
+    this.blockSize = blockSize;
+    this.blockCount = (int) (capacity / blockSize);
+    this.blocksPerSegment = Math.max(1, Math.min(blockCount, MAX_SEGMENT_SIZE / blockSize));
+    this.freeBlocks = new int[blockCount];
+    this.segments = new ByteBuffer[(blockCount + blocksPerSegment - 1) / blocksPerSegment];
+    this.entries = new LinkedHashMap<String, OffHeapEntry>(16, 0.75f, true);
+  }
+
+  /**
+   * Allocates the specified number of blocks, reusing freed blocks before blocks that have
+   * never been used.  The caller must hold the monitor of this cache and ensure enough blocks
+   * are available.
+   * @param count the number of blocks to allocate.
+   * @return an int array containing the indexes of the allocated blocks.
+   */
+  private int[] allocateBlocks(final int count) {
+    final int[] blocks = new int[count];
+
+    for (int index = 0; index < count; index++) {
+      blocks[index] = (freeBlockCount > 0 ? freeBlocks[--freeBlockCount] : unusedBlockIndex++);
+    }
+
+    return blocks;
+  }
+
+  /**
+   * Returns the number of blocks that can be allocated without evicting Cacheable objects.
+   * The caller must hold the monitor of this cache.
+   * @return an integer value of the number of available blocks.
+   */
+  private int getAvailableBlockCount() {
+    return (freeBlockCount + (blockCount - unusedBlockIndex));
+  }
+
+  /**
+   * Determines whether a Cacheable object is mapped to the specified key in this cache.
+   * @param key the String value used to determine whether it maps to a Cacheable object
+   * in the cache.
+   * @return a boolean value indicating if the key is mapped to a Cacheable object in the
+   * cache.
+   */
+  public synchronized boolean containsKey(final String key) {
+    return entries.containsKey(key);
+  }
+
+  /**
+   * Evicts the least recently used Cacheable objects until the specified number of blocks
+   * is available and the size and weight of this cache are within the maximum size and
+   * maximum weight.  The caller must hold the monitor of this cache.
+   * @param requiredBlockCount the number of blocks that must be available.
+   */
+  private void evict(final int requiredBlockCount) {
+    for (Iterator<OffHeapEntry> it = entries.values().iterator(); it.hasNext(); ) {
+      final boolean blocksExhausted = (getAvailableBlockCount() < requiredBlockCount);
+      final boolean oversized = (entries.size() > getMaxSize());
+
+      if (!(blocksExhausted || oversized || isOverweight(weight))) {
+        break;
+      }
+
+      final OffHeapEntry entry = it.next();
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("evicting Cacheable object with key (" + entry.key + ")");
+      }
+
+      it.remove();
+      evictEntry(entry, (blocksExhausted || oversized ? EvictionCause.SIZE : EvictionCause.WEIGHT));
+    }
+  }
+
+  /**
+   * Records the eviction of the specified entry, which has been removed from the index, and
+   * notifies the EvictionListeners, then releases it's blocks.  The caller must hold the monitor of this cache.
+   * @param entry the OffHeapEntry that was removed from the index.
+   * @param cause the EvictionCause indicating why the entry was removed.
+   */
+  private void evictEntry(final OffHeapEntry entry, final EvictionCause cause) {
+    // NOTE the entry is only deserialized when there are listeners and before it's blocks can be reused.
+    if (hasEvictionListeners()) {
+      fireEvictionEvent(toCacheable(entry), cause);
+    }
+    else {
+      getStatsCounter().recordEviction(cause);
+    }
+
+    release(entry);
+  }
+
+  /**
+   * Returns the number of bytes of off-heap memory this cache is able to use.
+   * @return a long value of the capacity of this cache in bytes.
+   */
+  public long getCapacity() {
+    return ((long) blockCount * blockSize);
+  }
+
+  /**
+   * Creates a concrete instance of the Cacheable interface initialized with the
+   * specified key, data value and expiration date.
+   * @param key the key used as a lookup value to the Cacheable object in this cache.
+   * @param data the data to be stored in the cache wrapped with the Cacheable object.
+   * @param expirationDate a Calendar object specifying the date at which the data
+   * in the Cacheable object is no longer valid.
+   * @return a Cacheable object with the specified key, containing the data.
+   */
+  protected Cacheable getCacheableInstance(final String key, final Object data, final Calendar expirationDate) {
+    return new OffHeapCacheable(key, data, expirationDate);
+  }
+
+  /**
+   * Returns a String description of this Cache.
+   * @return a String description of this Cache.
+   */
+  public String getDescription() {
+    return DESCRIPTION;
+  }
+
+  /**
+   * Returns the segment of off-heap memory containing the specified block, allocating the
+   * segment on first use.  The caller must hold the monitor of this cache.
+   * @param block the index of the block.
+   * @return the direct ByteBuffer of the segment containing the block.
+   */
+  private ByteBuffer getSegment(final int block) {
+    final int segmentIndex = (block / blocksPerSegment);
+
+    if (ObjectUtil.isNull(segments[segmentIndex])) {
+      final int segmentBlockCount = Math.min(blocksPerSegment, blockCount - (segmentIndex * blocksPerSegment));
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("allocating segment (" + segmentIndex + ") of (" + segmentBlockCount + ") blocks");
+      }
+
+      segments[segmentIndex] = ByteBuffer.allocateDirect(segmentBlockCount * blockSize);
+    }
+
+    return segments[segmentIndex];
+  }
+
+  /**
+   * Returns the Serializer converting the data of the Cacheable objects to and from bytes.
+   * @return the Serializer used by this cache.
+   */
+  public Serializer getSerializer() {
+    return serializer;
+  }
+
+  /**
+   * Returns the current number of Cacheable objects in this cache.
+   * @return an integer value of the number of Cacheable objects stored in this cache.
+   */
+  public synchronized int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the number of bytes of off-heap memory currently holding Cacheable objects.
+   * @return a long value of the number of bytes in the blocks allocated to Cacheable objects.
+   */
+  public synchronized long getUsedCapacity() {
+    return ((long) (unusedBlockIndex - freeBlockCount) * blockSize);
+  }
+
+  /**
+   * Returns the current total weight of the Cacheable objects in this cache.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Removes all Cacheable objects from this cache, since the serialized form of a Cacheable
+   * object cannot be marked invalid and refreshed in place.
+   */
+  public void invalidateCache() {
+    invalidateCacheables(new ArrayList<String>(snapshotKeys()));
+  }
+
+  /**
+   * Removes the Cacheable objects mapped to the specified keys from this cache, notifying the
+   * EvictionListeners that the Cacheable objects were invalidated.
+   * @param keys the List of String keys to invalidate.
+   */
+  protected synchronized void invalidateCacheables(final List<String> keys) {
+    for (final String key : keys) {
+      final OffHeapEntry entry = entries.remove(key);
+
+      if (ObjectUtil.isNotNull(entry)) {
+        evictEntry(entry, EvictionCause.INVALIDATED);
+      }
+    }
+  }
+
+  /**
+   * Returns an Iterator to traverse a snapshot of the Cacheable objects in this cache.  Each
+   * Cacheable object is deserialized, therefore iterating a large cache is expensive.
+   * @return a java.util.Iterator object to iterate the Cacheable objects in this cache.
+   */
+  public Iterator iterateCacheables() {
+    final List<Cacheable> cacheObjects = new ArrayList<Cacheable>();
+
+    synchronized (this) {
+      for (final OffHeapEntry entry : entries.values()) {
+        cacheObjects.add(toCacheable(entry));
+      }
+    }
+
+    return cacheObjects.iterator();
+  }
+
+  /**
+   * Returns an Iterator to traverse a snapshot of the keys mapped to Cacheable objects in this
+   * cache without deserializing the Cacheable objects.
+   * @return a java.util.Iterator object to iterate the keys of this cache.
+   */
+  public Iterator iterateKeys() {
+    return snapshotKeys().iterator();
+  }
+
+  /**
+   * Removes the Cacheable objects that have expired and evicts the least recently used
+   * Cacheable objects exceeding the maximum size or maximum weight, which may have been reduced
+   * since the last write.
+   */
+  protected synchronized void purgeCache() {
+    final long now = System.currentTimeMillis();
+
+    for (Iterator<OffHeapEntry> it = entries.values().iterator(); it.hasNext(); ) {
+      final OffHeapEntry entry = it.next();
+
+      if (entry.hasExpired(now)) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("The Cacheable object with key (" + entry.key + ") has expired!");
+        }
+        it.remove();
+        evictEntry(entry, EvictionCause.EXPIRED);
+      }
+    }
+
+    evict(0);
+  }
+
+  /**
+   * Reads the Cacheable object mapped to the specified key in this cache, deserializing a
+   * copy of it's data.
+   * @param key the key used as a lookup value for the Cacheable object stored in this cache.
+   * @return a Cacheable object associated with the specified key from this cache or null if
+   * the key is not mapped to an unexpired Cacheable object in this cache.
+   * @throws CacheException if the data of the Cacheable object could not be deserialized.
+   */
+  public Cacheable readCacheable(final String key) throws CacheException {
+    final byte[] bytes;
+    final long expirationTime;
+
+    synchronized (this) {
+      final OffHeapEntry entry = entries.get(key);
+
+      if (ObjectUtil.isNull(entry) || entry.hasExpired(System.currentTimeMillis())) {
+        return null;
+      }
+
+      bytes = readBytes(entry);
+      expirationTime = entry.expirationTime;
+    }
+
+    return new OffHeapCacheable(key, getSerializer().deserialize(bytes), toCalendar(expirationTime));
+  }
+
+  /**
+   * Copies the serialized data of the specified entry out of the off-heap memory.  The caller
+   * must hold the monitor of this cache.
+   * @param entry the OffHeapEntry whose data is read.
+   * @return a byte array containing the serialized data.
+   */
+  private byte[] readBytes(final OffHeapEntry entry) {
+    final byte[] bytes = new byte[entry.length];
+
+    for (int index = 0, offset = 0; offset < bytes.length; index++, offset += blockSize) {
+      final int block = entry.blocks[index];
+      final ByteBuffer segment = getSegment(block);
+
+      segment.position((block % blocksPerSegment) * blockSize);
+      segment.get(bytes, offset, Math.min(blockSize, bytes.length - offset));
+    }
+
+    return bytes;
+  }
+
+  /**
+   * Returns the blocks of the specified entry to the free list and deducts it's weight.  The
+   * caller must hold the monitor of this cache.
+   * @param entry the OffHeapEntry that was removed from the index.
+   */
+  private void release(final OffHeapEntry entry) {
+    for (final int block : entry.blocks) {
+      freeBlocks[freeBlockCount++] = block;
+    }
+
+    weight -= entry.weight;
+  }
+
+  /**
+   * Removes the Cacheable object mapped to the specified key from this cache without notifying
+   * the EvictionListeners, returning a copy of the Cacheable object.
+   * @param key the key of the Cacheable object to remove.
+   * @return the Cacheable object that was removed, or null if the key was not mapped to an
+   * unexpired Cacheable object.
+   * @throws CacheException if the data of the Cacheable object could not be deserialized.
+   */
+  public Cacheable remove(final String key) throws CacheException {
+    final byte[] bytes;
+    final long expirationTime;
+
+    synchronized (this) {
+      final OffHeapEntry entry = entries.remove(key);
+
+      if (ObjectUtil.isNull(entry)) {
+        return null;
+      }
+
+      release(entry);
+
+      if (entry.hasExpired(System.currentTimeMillis())) {
+        return null;
+      }
+
+      bytes = readBytes(entry);
+      expirationTime = entry.expirationTime;
+    }
+
+    return new OffHeapCacheable(key, getSerializer().deserialize(bytes), toCalendar(expirationTime));
+  }
+
+  /**
+   * Sets the Serializer converting the data of the Cacheable objects to and from bytes.  The
+   * Serializer should be set before any Cacheable objects are written to this cache.
+   * @param serializer the Serializer used by this cache.
+   * @throws NullPointerException if the Serializer is null.
+   */
+  public void setSerializer(final Serializer serializer) {
+    Assert.notNull(serializer, "The Serializer cannot be null!");
+    this.serializer = serializer;
+  }
+
+  /**
+   * Returns a snapshot of the keys in this cache.
+   * @return a List of the String keys in this cache.
+   */
+  private synchronized List<String> snapshotKeys() {
+    return new ArrayList<String>(entries.keySet());
+  }
+
+  /**
+   * Called to release any resources held by this cache.  Removes all Cacheable objects, then
+   * drops the references to the direct ByteBuffers and clears the free list, so the off-heap
+   * memory is released once the ByteBuffers are garbage collected.  Memory is allocated again
+   * if Cacheable objects are written to this cache afterwards.
+   */
+  public void terminate() {
+    super.terminate();
+
+    synchronized (this) {
+      entries.clear();
+      Arrays.fill(segments, null);
+      freeBlockCount = 0;
+      unusedBlockIndex = 0;
+      weight = 0l;
+    }
+  }
+
+  /**
+   * Converts the specified expiration time into a Calendar.
+   * @param expirationTime a long value specifying the expiration time in milliseconds.
+   * @return a Calendar of the expiration date, or null if the Cacheable object does not expire.
+   */
+  private static Calendar toCalendar(final long expirationTime) {
+    if (expirationTime == NO_EXPIRATION) {
+      return null;
+    }
+
+    final Calendar expirationDate = Calendar.getInstance();
+    expirationDate.setTimeInMillis(expirationTime);
+    return expirationDate;
+  }
+
+  /**
+   * Deserializes the specified entry for an EvictionEvent.  The caller must hold the monitor of
+   * this cache.
+   * @param entry the OffHeapEntry to deserialize.
+   * @return a Cacheable object copy of the entry, or a Cacheable object containing the
+   * serialized data if the data could not be deserialized.
+   */
+  private Cacheable toCacheable(final OffHeapEntry entry) {
+    final byte[] bytes = readBytes(entry);
+
+    try {
+      return new OffHeapCacheable(entry.key, getSerializer().deserialize(bytes), toCalendar(entry.expirationTime));
+    }
+    catch (CacheException e) {
+      logger.warn("Failed to deserialize the Cacheable object with key (" + entry.key + ")!", e);
+      return new OffHeapCacheable(entry.key, bytes, toCalendar(entry.expirationTime));
+    }
+  }
+
+  /**
+   * Returns a String representation of this cache.
+   * @return a String representation of this cache.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{description = ");
+    buffer.append(getDescription());
+    buffer.append(", blockSize = ").append(blockSize);
+    buffer.append(", capacity = ").append(getCapacity());
+    buffer.append(", maxSize = ").append(getMaxSize());
+    buffer.append(", size = ").append(getSize());
+    buffer.append(", usedCapacity = ").append(getUsedCapacity());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * Serializes the data of the specified Cacheable object into off-heap memory, replacing any
+   * Cacheable object mapped to the same key, and evicts the least recently used Cacheable
+   * objects as needed to make room.
+   * @param cacheObject the Cacheable object to store in this cache.
+   * @throws CacheException if the Cacheable object is null or invalid, it's data could not be
+   * serialized, or it's serialized data exceeds the capacity of this cache.
+   */
+  public void writeCacheable(final Cacheable cacheObject) throws CacheException {
+    if (ObjectUtil.isNull(cacheObject)) {
+      logger.warn("Cannot store a null Cacheable object in the cache!");
+      throw new CacheException("Cannot store a null Cacheable object in the cache!");
+    }
+
+    if (!cacheObject.isValid()) {
+      logger.warn("Cannot store an invalid Cacheable object in the cache!");
+      throw new CacheException("Cannot store an invalid Cacheable object in the cache!");
+    }
+
+    final String key = cacheObject.getKey();
+    final Object data = cacheObject.getData();
+    final byte[] bytes = getSerializer().serialize(data);
+    final int requiredBlockCount = ((bytes.length + blockSize - 1) / blockSize);
+
+    if (requiredBlockCount > blockCount) {
+      logger.warn("The Cacheable object with key (" + key + ") of (" + bytes.length
+        + ") bytes exceeds the capacity (" + getCapacity() + ") of this cache!");
+      throw new CacheException("The Cacheable object with key (" + key + ") of (" + bytes.length
+        + ") bytes exceeds the capacity (" + getCapacity() + ") of this cache!");
+    }
+
+    final Calendar expirationDate = cacheObject.getExpirationDate();
+
+    final OffHeapEntry entry = new OffHeapEntry(key, bytes.length, weigh(key, data),
+      (ObjectUtil.isNotNull(expirationDate) ? expirationDate.getTimeInMillis() : NO_EXPIRATION));
+
+    synchronized (this) {
+      final OffHeapEntry existingEntry = entries.remove(key);
+
+      if (ObjectUtil.isNotNull(existingEntry)) {
+        release(existingEntry);
+      }
+
+      evict(requiredBlockCount);
+
+      entry.blocks = allocateBlocks(requiredBlockCount);
+      writeBytes(entry, bytes);
+      entries.put(key, entry);
+      weight += entry.weight;
+
+      evict(0);
+    }
+
+    schedulePurge();
+  }
+
+  /**
+   * Copies the serialized data into the blocks allocated to the specified entry.  The caller
+   * must hold the monitor of this cache.
+   * @param entry the OffHeapEntry whose data is written.
+   * @param bytes the byte array containing the serialized data.
+   */
+  private void writeBytes(final OffHeapEntry entry, final byte[] bytes) {
+    for (int index = 0, offset = 0; offset < bytes.length; index++, offset += blockSize) {
+      final int block = entry.blocks[index];
+      final ByteBuffer segment = getSegment(block);
+
+      segment.position((block % blocksPerSegment) * blockSize);
+      segment.put(bytes, offset, Math.min(blockSize, bytes.length - offset));
+    }
+  }
+
+  /**
+   * The OffHeapEntry class is the on-heap index entry locating the serialized data of a
+   * Cacheable object in off-heap memory.
+   */
+  private static final class OffHeapEntry {
+
+    private int[] blocks;
+
+    private final int length;
+
+    private final long expirationTime;
+    private final long weight;
+
+    private final String key;
+
+    OffHeapEntry(final String key, final int length, final long weight, final long expirationTime) {
+      this.key = key;
+      this.length = length;
+      this.weight = weight;
+      this.expirationTime = expirationTime;
+    }
+
+    boolean hasExpired(final long now) {
+      return (now > expirationTime);
+    }
+  }
+
+  /**
+   * The OffHeapCacheable class is the on-heap copy of a Cacheable object read from this cache.
+   */
+  private static final class OffHeapCacheable extends AbstractCacheable {
+
+    OffHeapCacheable(final String key, final Object data, final Calendar expirationDate) {
+      super(key, data, expirationDate);
+    }
+  }
+
+}
@@ -0,0 +1,320 @@
+/*
+ * TieredCache.java (c) 17 October 2026
+ *
+ * The TieredCache class combines an on-heap cache, such as the LRUCache or LFUCache, with an
+ * OffHeapCache as a second tier.  Writes go to the on-heap tier.  Cacheable objects evicted from
+ * the on-heap tier for size or weight are demoted to the off-heap tier, and Cacheable objects
+ * read from the off-heap tier are promoted back to the on-heap tier.  The tiers are exclusive,
+ * in that a key is held by at most one tier, so Cacheable objects that expire or are
+ * invalidated in the on-heap tier are also discarded from the off-heap tier.
+ *
+ * Evictions from the on-heap tier are queued by it's EvictionListener and applied to the
+ * off-heap tier while holding the tier lock, on the next write, promotion or purge of this cache,
+ * rather than from within the eviction, which runs while the on-heap tier holds it's own lock.
+ * A demotion is skipped if the on-heap tier holds a more recent Cacheable object for the key.
+ *
+ * Each tier is purged by it's own purge operation and keeps it's own maximum size and maximum
+ * weight, which are configured on the tiers directly.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.cache.AbstractCache
+ * @see com.codeprimate.util.cache.OffHeapCache
+ * @see com.cp.common.util.cache.EvictionListener
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.Cacheable;
+import com.cp.common.util.cache.EvictionEvent;
+import com.cp.common.util.cache.EvictionListener;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.log4j.Logger;
+
+public class TieredCache extends com.cp.common.util.cache.AbstractCache {
+
+  private static final Logger logger = Logger.getLogger(TieredCache.class);
+
+  private static final String DESCRIPTION = "Tiered On-Heap and Off-Heap Cache";
+
+  private final com.codeprimate.util.cache.AbstractCache heapCache;
+
+  private final OffHeapCache offHeapCache;
+
+  // The evictions from the on-heap tier not yet applied to the off-heap tier.
+  private final Queue<EvictionEvent> evictions = new ConcurrentLinkedQueue<EvictionEvent>();
+
+  // Guards writes, promotions and demotions, such that neither overwrites a more recent write.
+  private final Object tierLock = new Object();
+
+  /**
+   * Creates an instance of the TieredCache class with an LRUCache in front of an OffHeapCache
+   * of the default capacity.
+   */
+  public TieredCache() {
+    this(new LRUCache(), new OffHeapCache());
+  }
+
+  /**
+   * Creates an instance of the TieredCache class with the specified on-heap and off-heap tiers.
+   * The TieredCache takes ownership of the tiers, which should not be used directly afterwards.
+   * @param heapCache the on-heap cache of the first tier.
+   * @param offHeapCache the OffHeapCache of the second tier.
+   * @throws NullPointerException if either tier is null.
+   */
+  public TieredCache(final com.codeprimate.util.cache.AbstractCache heapCache, final OffHeapCache offHeapCache) {
+    Assert.notNull(heapCache, "The on-heap cache cannot be null!");
+    Assert.notNull(offHeapCache, "The off-heap cache cannot be null!");
+    this.heapCache = heapCache;
+    this.offHeapCache = offHeapCache;
+    this.heapCache.addEvictionListener(new DemotionListener());
+  }
+
+  /**
+   * Determines whether a Cacheable object is mapped to the specified key in either tier.
+   * @param key the String value used to determine whether it maps to a Cacheable object
+   * in the cache.
+   * @return a boolean value indicating if the key is mapped to a Cacheable object in the
+   * cache.
+   */
+  public boolean containsKey(final String key) {
+    return (heapCache.containsKey(key) || offHeapCache.containsKey(key));
+  }
+
+  /**
+   * Creates a concrete instance of the Cacheable interface initialized with the
+   * specified key, data value and expiration date.
+   * @param key the key used as a lookup value to the Cacheable object in this cache.
+   * @param data the data to be stored in the cache wrapped with the Cacheable object.
+   * @param expirationDate a Calendar object specifying the date at which the data
+   * in the Cacheable object is no longer valid.
+   * @return a Cacheable object with the specified key, containing the data.
+   */
+  protected Cacheable getCacheableInstance(final String key, final Object data, final Calendar expirationDate) {
+    return offHeapCache.getCacheableInstance(key, data, expirationDate);
+  }
+
+  /**
+   * Returns a String description of this Cache.
+   * @return a String description of this Cache.
+   */
+  public String getDescription() {
+    return DESCRIPTION;
+  }
+
+  /**
+   * Returns the on-heap cache of the first tier.
+   * @return the on-heap cache of the first tier.
+   */
+  public com.codeprimate.util.cache.AbstractCache getHeapCache() {
+    return heapCache;
+  }
+
+  /**
+   * Returns the OffHeapCache of the second tier.
+   * @return the OffHeapCache of the second tier.
+   */
+  public OffHeapCache getOffHeapCache() {
+    return offHeapCache;
+  }
+
+  /**
+   * Returns the current number of Cacheable objects in both tiers.
+   * @return an integer value of the number of Cacheable objects stored in this cache.
+   */
+  public int getSize() {
+    return (heapCache.getSize() + offHeapCache.getSize());
+  }
+
+  /**
+   * Returns the current total weight of the Cacheable objects in both tiers.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public long getWeight() {
+    return (heapCache.getWeight() + offHeapCache.getWeight());
+  }
+
+  /**
+   * Forces a refresh of the Cacheable objects in the on-heap tier on their next read and
+   * discards the Cacheable objects in the off-heap tier.
+   */
+  public void invalidateCache() {
+    heapCache.invalidateCache();
+    offHeapCache.invalidateCache();
+  }
+
+  /**
+   * Invalidates the Cacheable objects mapped to the specified keys in both tiers.
+   * @param keys the List of String keys to invalidate.
+   */
+  protected void invalidateCacheables(final List<String> keys) {
+    heapCache.invalidateCacheables(keys);
+    offHeapCache.invalidateCacheables(keys);
+  }
+
+  /**
+   * Returns an Iterator to traverse the Cacheable objects in the on-heap tier followed by the
+   * Cacheable objects in the off-heap tier.
+   * @return a java.util.Iterator object to iterate the Cacheable objects in this cache.
+   */
+  public Iterator iterateCacheables() {
+    final Iterator heapIterator = heapCache.iterateCacheables();
+    final Iterator offHeapIterator = offHeapCache.iterateCacheables();
+
+    return new Iterator() {
+      public boolean hasNext() {
+        return (heapIterator.hasNext() || offHeapIterator.hasNext());
+      }
+
+      public Object next() {
+        return (heapIterator.hasNext() ? heapIterator.next() : offHeapIterator.next());
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException("Not Implemented!");
+      }
+    };
+  }
+
+  /**
+   * Applies the queued evictions from the on-heap tier to the off-heap tier, demoting the
+   * Cacheable objects evicted for size or weight and discarding the Cacheable objects that
+   * expired or were invalidated.  The caller must hold the tier lock.
+   */
+  private void processEvictions() {
+    for (EvictionEvent evt = evictions.poll(); ObjectUtil.isNotNull(evt); evt = evictions.poll()) {
+      final Cacheable cacheObject = evt.getCacheable();
+
+      try {
+        // NOTE a Cacheable object written to the on-heap tier after the eviction is more recent than the evicted one.
+        if (heapCache.containsKey(cacheObject.getKey())) {
+          continue;
+        }
+
+        if (evt.getCause().isCapacity() && cacheObject.isValid()) {
+          if (logger.isDebugEnabled()) {
+            logger.debug("demoting Cacheable object with key (" + cacheObject.getKey() + ") to the off-heap tier");
+          }
+
+          offHeapCache.writeCacheable(cacheObject);
+        }
+        else {
+          offHeapCache.remove(cacheObject.getKey());
+        }
+      }
+      catch (CacheException e) {
+        logger.warn("Failed to demote the Cacheable object with key (" + cacheObject.getKey() + ")!", e);
+      }
+    }
+  }
+
+  /**
+   * Applies the evictions from the on-heap tier not yet applied to the off-heap tier.  Each tier
+   * is purged by it's own purge operation.
+   */
+  protected void purgeCache() {
+    synchronized (tierLock) {
+      processEvictions();
+    }
+  }
+
+  /**
+   * Reads the Cacheable object mapped to the specified key from the on-heap tier, or from the
+   * off-heap tier, in which case the Cacheable object is promoted to the on-heap tier.
+   * @param key the key used as a lookup value for the Cacheable object stored in this cache.
+   * @return a Cacheable object associated with the specified key from this cache or null if
+   * the key is not mapped to any Cacheable object in this cache.
+   * @throws CacheException if the Cacheable object could not be read or promoted.
+   */
+  public Cacheable readCacheable(final String key) throws CacheException {
+    final Cacheable cacheObject = heapCache.readCacheable(key);
+
+    if (ObjectUtil.isNotNull(cacheObject) || (evictions.isEmpty() && !offHeapCache.containsKey(key))) {
+      return cacheObject;
+    }
+
+    synchronized (tierLock) {
+      // NOTE the Cacheable object may be a queued demotion.
+      processEvictions();
+
+      // NOTE the key may have been written or promoted while waiting on the lock.
+      if (heapCache.containsKey(key)) {
+        return heapCache.readCacheable(key);
+      }
+
+      final Cacheable offHeapCacheObject = offHeapCache.remove(key);
+
+      if (ObjectUtil.isNotNull(offHeapCacheObject)) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("promoting Cacheable object with key (" + key + ") to the on-heap tier");
+        }
+
+        heapCache.writeCacheable(offHeapCacheObject);
+        processEvictions();
+      }
+
+      return offHeapCacheObject;
+    }
+  }
+
+  /**
+   * Called to release any resources held by this cache and both tiers.
+   */
+  public void terminate() {
+    super.terminate();
+    heapCache.terminate();
+    offHeapCache.terminate();
+    evictions.clear();
+  }
+
+  /**
+   * Returns a String representation of this cache.
+   * @return a String representation of this cache.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{description = ");
+    buffer.append(getDescription());
+    buffer.append(", heapCache = ").append(heapCache);
+    buffer.append(", offHeapCache = ").append(offHeapCache);
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * Stores the specified Cacheable object in the on-heap tier, discarding any Cacheable object
+   * mapped to the same key in the off-heap tier.
+   * @param cacheObject the Cacheable object to store in this cache.
+   * @throws CacheException if the Cacheable object could not be stored in this cache.
+   */
+  public void writeCacheable(final Cacheable cacheObject) throws CacheException {
+    synchronized (tierLock) {
+      heapCache.writeCacheable(cacheObject);
+      offHeapCache.remove(cacheObject.getKey());
+      processEvictions();
+    }
+
+    schedulePurge();
+  }
+
+  /**
+   * The DemotionListener class queues the evictions from the on-heap tier, which are applied to
+   * the off-heap tier by processEvictions.  Taking the tier lock from within the eviction could
+   * deadlock with a write holding the tier lock while waiting on the lock of the on-heap tier.
+   */
+  private final class DemotionListener implements EvictionListener {
+
+    public void cacheableEvicted(final EvictionEvent evt) {
+      evictions.offer(evt);
+    }
+  }
+
+}
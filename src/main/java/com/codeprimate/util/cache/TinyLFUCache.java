@@ -0,0 +1,188 @@
+/*
+ * TinyLFUCache.java (c) 17 October 2026
+ *
+ * The TinyLFUCache class implements the Window TinyLFU (W-TinyLFU) caching algorithm.  New
+ * Cacheable objects enter a small admission window ordered by recency.  When the window
+ * overflows, it's least recently used Cacheable object becomes a candidate for the main
+ * cache and competes for admission with the main cache's eviction victim; the Cacheable
+ * object with the higher estimated access frequency, as recorded by a FrequencySketch, is
+ * retained.  The main cache is a segmented LRU consisting of a probation queue and a
+ * protected queue to which Cacheable objects are promoted when read while on probation.
+ *
+ * As a result, Cacheable objects that are read only once ("one-hit wonders") do not displace
+ * frequently read Cacheable objects, and the periodic aging of the FrequencySketch allows
+ * formerly popular Cacheable objects to eventually be evicted.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.cache.AbstractConcurrentCache
+ * @see com.codeprimate.util.cache.FrequencySketch
+ * @see com.codeprimate.util.cache.LFUCache
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.lang.ObjectUtil;
+import org.apache.log4j.Logger;
+
+public class TinyLFUCache extends AbstractConcurrentCache {
+
+  private static final Logger logger = Logger.getLogger(TinyLFUCache.class);
+
+  private static final String DESCRIPTION = "Window Tiny Least Frequently Used (W-TinyLFU) Cache";
+
+  private static final double PROTECTED_PERCENTAGE = 0.80d;
+  private static final double WINDOW_PERCENTAGE = 0.01d;
+
+  private static final int WINDOW_QUEUE_ID = 0;
+  private static final int PROBATION_QUEUE_ID = 1;
+  private static final int PROTECTED_QUEUE_ID = 2;
+
+  // The following queues and the frequency sketch are guarded by the eviction lock.
+  private final AccessOrderQueue windowQueue = new AccessOrderQueue(WINDOW_QUEUE_ID);
+  private final AccessOrderQueue probationQueue = new AccessOrderQueue(PROBATION_QUEUE_ID);
+  private final AccessOrderQueue protectedQueue = new AccessOrderQueue(PROTECTED_QUEUE_ID);
+
+  private final FrequencySketch frequencySketch;
+
+  /**
+   * Creates an instance of the TinyLFUCache to cache objects using the Window TinyLFU
+   * algorithm.
+   */
+  public TinyLFUCache() {
+    frequencySketch = new FrequencySketch(getMaxSize());
+  }
+
+  /**
+   * Returns a String description of this Cache.
+   * @return a String description of this Cache.
+   */
+  public final String getDescription() {
+    return DESCRIPTION;
+  }
+
+  /**
+   * Returns the maximum number of Cacheable objects in the protected segment of the main cache.
+   * @return an integer value of the maximum size of the protected queue.
+   */
+  private int getMaxProtectedSize() {
+    return (int) ((getMaxSize() - getMaxWindowSize()) * PROTECTED_PERCENTAGE);
+  }
+
+  /**
+   * Returns the maximum number of Cacheable objects in the admission window.
+   * @return an integer value of the maximum size of the window queue.
+   */
+  private int getMaxWindowSize() {
+    return Math.max(1, (int) (getMaxSize() * WINDOW_PERCENTAGE));
+  }
+
+  /**
+   * Records the read in the frequency sketch and reorders the Cacheable object within it's
+   * segment, promoting it from probation to the protected segment of the main cache.
+   * @param cacheObject the Cacheable object that was read.
+   */
+  protected final void onAccess(final ConcurrentCacheable cacheObject) {
+    frequencySketch.increment(cacheObject.getKey());
+
+    if (windowQueue.contains(cacheObject)) {
+      windowQueue.moveToLast(cacheObject);
+    }
+    else if (probationQueue.contains(cacheObject)) {
+      probationQueue.remove(cacheObject);
+      protectedQueue.addLast(cacheObject);
+
+      // Demote the least recently used protected Cacheable objects back to probation.
+      while (protectedQueue.size() > getMaxProtectedSize()) {
+        final ConcurrentCacheable demotedCacheObject = protectedQueue.peekFirst();
+        protectedQueue.remove(demotedCacheObject);
+        probationQueue.addLast(demotedCacheObject);
+      }
+    }
+    else if (protectedQueue.contains(cacheObject)) {
+      protectedQueue.moveToLast(cacheObject);
+    }
+  }
+
+  /**
+   * Records the write in the frequency sketch and links the Cacheable object in the admission
+   * window.  While this cache has not reached it's maximum size, the overflow of the admission
+   * window is admitted to the main cache without competing for admission.
+   * @param cacheObject the Cacheable object that was added.
+   */
+  protected final void onAdd(final ConcurrentCacheable cacheObject) {
+    frequencySketch.ensureCapacity(getMaxSize());
+    frequencySketch.increment(cacheObject.getKey());
+    windowQueue.addLast(cacheObject);
+
+    if (getSize() <= getMaxSize()) {
+      while (windowQueue.size() > getMaxWindowSize()) {
+        final ConcurrentCacheable admittedCacheObject = windowQueue.peekFirst();
+        windowQueue.remove(admittedCacheObject);
+        probationQueue.addLast(admittedCacheObject);
+      }
+    }
+  }
+
+  /**
+   * Unlinks the Cacheable object that was removed from it's segment.
+   * @param cacheObject the Cacheable object that was removed.
+   */
+  protected final void onRemove(final ConcurrentCacheable cacheObject) {
+    if (windowQueue.contains(cacheObject)) {
+      windowQueue.remove(cacheObject);
+    }
+    else if (probationQueue.contains(cacheObject)) {
+      probationQueue.remove(cacheObject);
+    }
+    else if (protectedQueue.contains(cacheObject)) {
+      protectedQueue.remove(cacheObject);
+    }
+  }
+
+  /**
+   * Moves the overflow of the admission window into probation as a candidate and returns
+   * either the candidate or the main cache's victim, whichever has the lower estimated
+   * access frequency.
+   * @return the Cacheable object to evict.
+   */
+  protected final ConcurrentCacheable selectVictim() {
+    final ConcurrentCacheable victim = peekMainVictim();
+
+    if (windowQueue.size() > getMaxWindowSize() || ObjectUtil.isNull(victim)) {
+      final ConcurrentCacheable candidate = windowQueue.peekFirst();
+
+      if (ObjectUtil.isNull(victim)) {
+        return candidate;
+      }
+
+      windowQueue.remove(candidate);
+      probationQueue.addLast(candidate);
+
+      final boolean admit = (frequencySketch.frequency(candidate.getKey())
+        > frequencySketch.frequency(victim.getKey()));
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("candidate (" + candidate.getKey() + ") is " + (admit ? "" : "NOT ")
+          + "admitted over victim (" + victim.getKey() + ")");
+      }
+
+      return (admit ? victim : candidate);
+    }
+
+    return victim;
+  }
+
+  /**
+   * Returns the least recently used Cacheable object in the main cache, preferring those on
+   * probation.
+   * @return the main cache's eviction victim, or null if the main cache is empty.
+   */
+  private ConcurrentCacheable peekMainVictim() {
+    final ConcurrentCacheable victim = probationQueue.peekFirst();
+    return (ObjectUtil.isNotNull(victim) ? victim : protectedQueue.peekFirst());
+  }
+
+}
@@ -4,7 +4,7 @@
  * Copyright (c) 2003, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2006.8.14
+ * @version 2026.10.17
  */
 
 package com.codeprimate.util.record;
@@ -20,6 +20,26 @@ public class CPRecordFactory extends AbstractRecordFactory {
 
   private static final Logger logger = Logger.getLogger(CPRecordFactory.class);
 
+  /**
+   * Returns a Code Primate instance of the RecordTable interface storing values by column.
+   * @return a ColumnarRecordTable implementation of the RecordTable interface.
+   */
+  public RecordTable getColumnarRecordTableInstance() {
+    return new ColumnarRecordTable();
+  }
+
+  /**
+   * Returns a Code Primate instance of the RecordTable interface storing values by column,
+   * initialized to the specified structure, columns.
+   * @param columns the array of columns constituting the structure of the
+   * RecordTable instance.
+   * @return a ColumnarRecordTable implementation of the RecordTable interface initialized
+   * with the specified Column structure.
+   */
+  public RecordTable getColumnarRecordTableInstance(final Column[] columns) {
+    return new ColumnarRecordTable(columns);
+  }
+
   /**
    * Returns a Code Primate instance of the Record interface.
    * @return a Record interface implementation.
@@ -0,0 +1,1631 @@
+/*
+ * ColumnarRecordTable.java (c) 17 October 2026
+ *
+ * The ColumnarRecordTable class is an implementation of the RecordTable interface that stores the values
+ * of the record table by column rather than by row.  Each Column stores it's values in a single array,
+ * indexed by the storage slot of the row; Columns of type Byte, Short, Integer, Long, Float and Double store
+ * their values in an array of the corresponding primitive type with a bitmap marking the null values, and
+ * all other Columns store their values in an Object array.  The order of the rows is kept separately as an
+ * array of storage slots, so inserting, removing and sorting rows moves slot numbers rather than values.
+ *
+ * The rows of the record table are not stored as Record objects.  The Records returned by the record table
+ * are lightweight views of a storage slot whose fields are the names of the Columns, as with the Records
+ * created by the AbstractRecordFactory.  A row view continues to refer to the same row as rows are inserted,
+ * removed or sorted, and setting a value on the row view sets the value in the record table.  The row view
+ * of a row removed from the record table holds a read-only copy of the row's values.  Any other view of the
+ * removed row is stale; it is not a row of the record table, and reading or setting it's values throws an
+ * IllegalStateException, even once the storage slot holds another row.
+ *
+ * The values of a unique Column, and of any Column whose rows are looked up by value, are indexed by a
+ * ColumnIndex of the storage slots of the rows, which is maintained as rows are added, changed and removed.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.record.DefaultRecordTable
+ * @see com.cp.common.util.record.AbstractRecordFactory
+ * @see com.cp.common.util.record.AbstractRecordTable
+ * @see com.cp.common.util.record.ColumnIndex
+ * @see com.cp.common.util.record.RecordTable
+ */
+
+package com.codeprimate.util.record;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.Mutable;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.lang.support.MutableVisitor;
+import com.cp.common.util.ArrayUtil;
+import com.cp.common.util.Visitor;
+import com.cp.common.util.record.AbstractRecord;
+import com.cp.common.util.record.AbstractRecordTable;
+import com.cp.common.util.record.Column;
+import com.cp.common.util.record.ColumnImpl;
+import com.cp.common.util.record.ColumnIndex;
+import com.cp.common.util.record.IncompatibleRecordException;
+import com.cp.common.util.record.NonUniqueColumnValueException;
+import com.cp.common.util.record.Record;
+import com.cp.common.util.record.RecordTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.apache.log4j.Logger;
+
+public class ColumnarRecordTable extends AbstractRecordTable {
+
+  private static final Logger logger = Logger.getLogger(ColumnarRecordTable.class);
+
+  // The number of rows for which storage is initially allocated.
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  // The storage slots no longer used by a row, which are reused before new storage slots are allocated.
+  private final BitSet freeSlots = new BitSet();
+
+  // An ordered collection of the Columns in the record table; each Column is a TableColumn holding the values.
+  private final List<Column> columnList;
+
+  // The number of storage slots allocated in each ColumnVector.
+  private int capacity;
+
+  // The number of structural modifications of the rows, used to detect concurrent modification by Iterators.
+  private int modCount;
+
+  private int rowCount;
+
+  // The number of storage slots used by rows, or freed, so far.
+  private int slotCount;
+
+  // The generation of each storage slot, incremented as the slot is freed, identifying the stale views of removed rows.
+  private int[] slotGenerations = new int[0];
+
+  // The handle of each storage slot in the ColumnIndexes, which are compared by identity.
+  private Integer[] slotHandles = new Integer[0];
+
+  // The storage slot of each row, in row order.
+  private int[] rowSlots;
+
+  /**
+   * Default constructor used to create an uninitialized instance of the ColumnarRecordTable class.
+   */
+  public ColumnarRecordTable() {
+    this(null);
+  }
+
+  /**
+   * Creates an instance of the ColumnarRecordTable class initialized with the specified Columns defining it's
+   * structure.
+   * @param columns an array of Columns defining the structure of the new record table.
+   */
+  public ColumnarRecordTable(final Column[] columns) {
+    this(columns, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates an instance of the ColumnarRecordTable class initialized with the specified Columns defining it's
+   * structure, allocating storage for the specified number of rows.
+   * @param columns an array of Columns defining the structure of the new record table.
+   * @param initialCapacity the number of rows for which storage is initially allocated.
+   * @throws java.lang.IllegalArgumentException if the initial capacity is negative.
+   */
+  public ColumnarRecordTable(final Column[] columns, final int initialCapacity) {
+    if (initialCapacity < 0) {
+      logger.warn("The initial capacity (" + initialCapacity + ") cannot be negative!");
+      throw new IllegalArgumentException("The initial capacity (" + initialCapacity + ") cannot be negative!");
+    }
+
+    capacity = initialCapacity;
+    rowSlots = new int[initialCapacity];
+    columnList = new ArrayList<Column>(ArrayUtil.length(columns));
+
+    if (ArrayUtil.isNotEmpty(columns)) {
+      for (final Column column : columns) {
+        columnList.add(new TableColumn(column));
+      }
+    }
+  }
+
+  /**
+   * Returns a storage slot for a new row, reusing a free storage slot or allocating storage for more rows
+   * in every Column if there is no free storage slot.
+   * @return the storage slot for the new row.
+   */
+  private int allocateSlot() {
+    final int freeSlot = freeSlots.nextSetBit(0);
+
+    if (freeSlot >= 0) {
+      freeSlots.clear(freeSlot);
+      return freeSlot;
+    }
+
+    if (slotCount == capacity) {
+      capacity = Math.max(DEFAULT_INITIAL_CAPACITY, capacity + (capacity >> 1));
+
+      for (final Column column : columnList) {
+        ((TableColumn) column).getVector().resize(capacity);
+      }
+    }
+
+    return slotCount++;
+  }
+
+  /**
+   * Returns the number of columns in this record table, specified as a integer value.
+   * @return the number of columns in this record table.
+   */
+  public int columnCount() {
+    return columnList.size();
+  }
+
+  /**
+   * Returns an Iterator over the columns in this record table.
+   * @return an Iterator to traverse the columns in this record table.
+   */
+  public Iterator<Column> columnIterator() {
+    return new Iterator<Column>() {
+      private final Iterator<Column> columnIterator = columnList.iterator();
+
+      public boolean hasNext() {
+        return columnIterator.hasNext();
+      }
+
+      public Column next() {
+        return columnIterator.next();
+      }
+
+      public void remove() {
+        validateMutable();
+        columnIterator.remove();
+      }
+    };
+  }
+
+  /**
+   * Determines whether this record table contains the specified Column, or a Column of the same name.
+   * @param column the Column object being tested as a column of this record table.
+   * @return a boolean value indication whether the specified Column is a column of this record table.
+   */
+  public boolean contains(final Column column) {
+    return (getColumnIndex(column) > -1);
+  }
+
+  /**
+   * Determines whether this record table contains the specified Record object, either as a view of one of
+   * it's rows or as a Record equal to one of it's rows.
+   * @param record a Record to test for containment by this record table.
+   * @return a boolean value indicating whether the Record object is contained, or is a row, of this
+   * record table.
+   */
+  public boolean contains(final Record record) {
+    if (isRowView(record)) {
+      return true;
+    }
+    else if (isStaleRowView(record)) {
+      return false;
+    }
+
+    final TableColumn column = getIndexedColumn();
+
+    if (ObjectUtil.isNotNull(column) && ObjectUtil.isNotNull(record)) {
+      // NOTE the Record is keyed either by the Column, as in a RecordAdapter, or by the name of the Column.
+      final Object key = (record.containsKey(column) ? column : column.getName());
+
+      if (record.containsKey(key)) {
+        for (final Integer slot : column.getValueIndex().get(record.get(key))) {
+          if (new RowView(slot).equals(record)) {
+            return true;
+          }
+        }
+      }
+
+      return false;
+    }
+
+    return super.contains(record);
+  }
+
+  /**
+   * This method performs a shallow-copy of this record table and creates a new record table instance
+   * based on the contents of this record table.
+   * @return a copy of this record table.
+   * @see com.cp.common.lang.Copyable#copy
+   */
+  public Object copy() {
+    final RecordTable recordTableCopy = new ColumnarRecordTable(columnList.toArray(new Column[columnList.size()]),
+      rowCount);
+    recordTableCopy.addAll(this);
+    return recordTableCopy;
+  }
+
+  /**
+   * Frees the storage slot of a removed row, releasing the references to it's values.
+   * @param slot the storage slot of the removed row.
+   */
+  private void freeSlot(final int slot) {
+    for (final Column column : columnList) {
+      ((TableColumn) column).removeValue(slot);
+    }
+
+    incrementSlotGeneration(slot);
+    freeSlots.set(slot);
+  }
+
+  /**
+   * Returns the value of the specified cell in the record table, read directly from the storage of the Column.
+   * @param rowIndex the index of the row.
+   * @param columnIndex the index of the column
+   * @return the value of the cell in this record table at (rowIndex, columnIndex).
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getCellValue(final int rowIndex, final int columnIndex) {
+    validateRowIndex(rowIndex);
+    validateColumnIndex(columnIndex);
+    return (T) getVector(columnIndex).get(rowSlots[rowIndex]);
+  }
+
+  /**
+   * Returns the index of the Column in this record table having the same name as the specified Column.
+   * @param column the Column object in this record table to return an index for.
+   * @return the index of the Column object in this record table or a -1 if the column
+   * does not exist in the record table.
+   */
+  public int getColumnIndex(final Column column) {
+    return (ObjectUtil.isNull(column) ? -1 : getColumnIndex(column.getName()));
+  }
+
+  /**
+   * Returns the index of the Column in this record table having the specified name.
+   * @param columnName the name of the Column.
+   * @return the index of the Column in this record table or a -1 if no Column has the name.
+   */
+  private int getColumnIndex(final String columnName) {
+    for (int columnIndex = 0, columnCount = columnList.size(); columnIndex < columnCount; columnIndex++) {
+      if (columnList.get(columnIndex).getName().equals(columnName)) {
+        return columnIndex;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns a column of this record table having an index of it's values, preferring a unique column,
+   * or null if no column is unique or indexed.
+   * @return a TableColumn with an index of it's values, or null if no column is unique or indexed.
+   */
+  private TableColumn getIndexedColumn() {
+    TableColumn indexedColumn = null;
+
+    for (final Column column : columnList) {
+      final TableColumn tableColumn = (TableColumn) column;
+
+      if (tableColumn.isUnique()) {
+        return tableColumn;
+      }
+      else if (ObjectUtil.isNull(indexedColumn) && tableColumn.isIndexed()) {
+        indexedColumn = tableColumn;
+      }
+    }
+
+    return indexedColumn;
+  }
+
+  /**
+   * Returns the list of columns making up the structure of this record table.
+   * @return an unmodifiable List of the columns making up the structure of this record table.
+   */
+  public List<Column> getColumns() {
+    return Collections.unmodifiableList(columnList);
+  }
+
+  /**
+   * Returns a view of the row in this record table at index as a Record object.
+   * @param rowIndex the index of the row in this record table to get a Record object for.
+   * @return a Record object for the row at index in this record table.
+   */
+  public Record getRow(final int rowIndex) {
+    validateRowIndex(rowIndex);
+    return new RowView(rowSlots[rowIndex]);
+  }
+
+  /**
+   * Returns the row index of the Record object in this record table.
+   * @param row the Record object for which the row index is being returned.
+   * @return an integer index of the row for the specified Record object or a -1
+   * if the row is not contained in the record table.
+   */
+  public int getRowIndex(final Record row) {
+    if (isRowView(row)) {
+      final int slot = ((RowView) row).slot;
+
+      for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+        if (rowSlots[rowIndex] == slot) {
+          return rowIndex;
+        }
+      }
+    }
+    else if (isStaleRowView(row)) {
+      return -1;
+    }
+
+    return super.getRowIndex(row);
+  }
+
+  /**
+   * Returns the rows in this record table having the specified value for the Column, looked up in the index
+   * of the Column's values, which is built on first use and maintained as rows are added, changed and removed.
+   * @param column the Column of this record table whose value is matched.
+   * @param value the value of the Column in the rows being returned.
+   * @return a List of views of the rows having the value for the Column, or an empty List if no row has
+   * the value.
+   */
+  public List<Record> getRows(final Column column, final Object value) {
+    return getRowViews(getTableColumn(column).getValueIndex().get(value));
+  }
+
+  /**
+   * Returns the rows in this record table having a non-null value for the Column within the specified range,
+   * ordered by the value of the Column, looked up in the sorted index of the Column's values.
+   * @param column the Column of this record table whose value is compared with the range.
+   * @param fromValue the lower bound of the range, or null if the range has no lower bound.
+   * @param fromInclusive a boolean value indicating whether the lower bound is included in the range.
+   * @param toValue the upper bound of the range, or null if the range has no upper bound.
+   * @param toInclusive a boolean value indicating whether the upper bound is included in the range.
+   * @return a List of views of the rows having a value for the Column within the range.
+   */
+  public List<Record> getRows(final Column column, final Object fromValue, final boolean fromInclusive,
+                              final Object toValue, final boolean toInclusive) {
+    return getRowViews(getTableColumn(column).getValueIndex().getRange(fromValue, fromInclusive, toValue,
+      toInclusive));
+  }
+
+  /**
+   * Returns views of the rows stored in the specified storage slots.
+   * @param slots the List of storage slots of the rows.
+   * @return a List of views of the rows.
+   */
+  private List<Record> getRowViews(final List<Integer> slots) {
+    final List<Record> rows = new ArrayList<Record>(slots.size());
+
+    for (final Integer slot : slots) {
+      rows.add(new RowView(slot));
+    }
+
+    return rows;
+  }
+
+  /**
+   * Gets the values of the specified Record in the order of the columns of this record table, matching the
+   * fields of the Record to the columns by name.
+   * @param record the Record object whose values are returned.
+   * @return an array of the Record's values, one for each column of this record table.
+   * @throws com.cp.common.util.record.IncompatibleRecordException if the Record is null or it's fields do not
+   * match the columns of this record table.
+   */
+  private Object[] getRowValues(final Record record) {
+    if (ObjectUtil.isNull(record)) {
+      logger.warn("The record argument cannot be null!");
+      throw new IncompatibleRecordException("The record argument cannot be null!");
+    }
+
+    if (record.size() != columnCount()) {
+      logger.warn("The number of record fields does not match the number of columns in the record table!");
+      throw new IncompatibleRecordException("The number of record fields does not match the number of columns in the record table!");
+    }
+
+    final Object[] values = new Object[columnCount()];
+    final boolean[] found = new boolean[values.length];
+
+    for (final Object entry : record.entrySet()) {
+      final Map.Entry<?, ?> recordEntry = (Map.Entry<?, ?>) entry;
+      final Object field = recordEntry.getKey();
+      final int columnIndex = getColumnIndex(field instanceof Column ? ((Column) field).getName() : String.valueOf(field));
+
+      if (columnIndex < 0) {
+        logger.warn("The record field (" + field + ") is not a column in the record table!");
+        throw new IncompatibleRecordException("The record field (" + field + ") is not a column in the record table!");
+      }
+
+      values[columnIndex] = recordEntry.getValue();
+      found[columnIndex] = true;
+    }
+
+    for (int columnIndex = 0; columnIndex < found.length; columnIndex++) {
+      if (!found[columnIndex]) {
+        logger.warn("The record argument does not contain field (" + getColumn(columnIndex) + ")!");
+        throw new IncompatibleRecordException("The record argument does not contain field ("
+          + getColumn(columnIndex) + ")!");
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * Returns the generation of the specified storage slot, which is incremented each time the slot is freed.
+   * @param slot the storage slot.
+   * @return the integer generation of the storage slot.
+   */
+  private int getSlotGeneration(final int slot) {
+    return (slot < slotGenerations.length ? slotGenerations[slot] : 0);
+  }
+
+  /**
+   * Returns the handle of the specified storage slot in the ColumnIndexes.
+   * @param slot the storage slot.
+   * @return the Integer handle of the storage slot.
+   */
+  private Integer getSlotHandle(final int slot) {
+    if (slot >= slotHandles.length) {
+      slotHandles = Arrays.copyOf(slotHandles, Math.max(capacity, slot + 1));
+    }
+
+    if (ObjectUtil.isNull(slotHandles[slot])) {
+      slotHandles[slot] = slot;
+    }
+
+    return slotHandles[slot];
+  }
+
+  /**
+   * Returns the TableColumn of this record table having the same name as the specified Column.
+   * @param column the Column of this record table.
+   * @return the TableColumn of this record table having the name of the Column.
+   * @throws java.lang.IndexOutOfBoundsException if the Column is not a column of this record table.
+   */
+  private TableColumn getTableColumn(final Column column) {
+    final int columnIndex = getColumnIndex(column);
+    validateColumnIndex(columnIndex);
+    return (TableColumn) columnList.get(columnIndex);
+  }
+
+  /**
+   * Returns the storage of the values of the Column at the specified index.
+   * @param columnIndex the index of the Column.
+   * @return the ColumnVector storing the values of the Column.
+   */
+  private ColumnVector getVector(final int columnIndex) {
+    return ((TableColumn) columnList.get(columnIndex)).getVector();
+  }
+
+  /**
+   * Increments the generation of the specified storage slot as it is freed, making the views of the row stored
+   * in the slot stale.
+   * @param slot the storage slot being freed.
+   */
+  private void incrementSlotGeneration(final int slot) {
+    if (slot >= slotGenerations.length) {
+      slotGenerations = Arrays.copyOf(slotGenerations, Math.max(capacity, slot + 1));
+    }
+
+    slotGenerations[slot]++;
+  }
+
+  /**
+   * Inserts the specified Column at the specified column index into this record table, setting the value of
+   * the Column in all rows to the Column's default value, or to null if the Column has no default value.
+   * @param column the Column to insert into the record table.
+   * @param columnIndex the column position in the record table in which to insert the Column.
+   * @throws java.lang.IndexOutOfBoundsException if the columnIndex is less than 0 or greater than
+   * the number of columns in this record table.
+   * @return a boolean value indicating whether the column was inserted successfully.
+   */
+  public boolean insertColumn(final Column column, final int columnIndex) {
+    validateMutable();
+
+    if (columnIndex < 0 || columnIndex > columnCount()) {
+      logger.warn(columnIndex + " is not a valid column index!  The column index must be between 0 and "
+        + columnCount() + " inclusive!");
+      throw new IndexOutOfBoundsException(columnIndex + " is not a valid column index!  The column index must be between 0 and "
+        + columnCount() + " inclusive!");
+    }
+
+    final TableColumn tableColumn = new TableColumn(column);
+    final Object defaultValue = getColumnValue(tableColumn, null);
+
+    // NOTE a null value must be set as well, marking the storage slot as null in the bitmap of a PrimitiveVector.
+    for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+      tableColumn.getVector().set(rowSlots[rowIndex], defaultValue);
+    }
+
+    columnList.add(columnIndex, tableColumn);
+
+    return true;
+  }
+
+  /**
+   * Inserts the values of the specified Record object as a row at the specified row index into this record
+   * table.  The fields of the Record are matched to the columns of this record table by name.
+   * @param record the Record object to insert into this record table.
+   * @param rowIndex the index of the row in which to insert the Record.
+   * @throws java.lang.IndexOutOfBoundsException if the rowIndex is less than 0 or greater than
+   * the number of rows in this record table.
+   * @return a boolean value indicating whether the row was inserted successfully.
+   */
+  public boolean insertRow(final Record record, final int rowIndex) {
+    validateMutable();
+
+    if (rowIndex < 0 || rowIndex > rowCount()) {
+      logger.warn(rowIndex + " is not a valid row index!  The row index must be between 0 and "
+        + rowCount() + " inclusive!");
+      throw new IndexOutOfBoundsException(rowIndex + " is not a valid row index!  The row index must be between 0 and "
+        + rowCount() + " inclusive!");
+    }
+
+    final Object[] values = getRowValues(record);
+
+    for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+      final Column column = columnList.get(columnIndex);
+      values[columnIndex] = getColumnValue(column, values[columnIndex]);
+      validateColumnValue(column, values[columnIndex]);
+    }
+
+    final int slot = allocateSlot();
+
+    for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+      ((TableColumn) columnList.get(columnIndex)).addValue(slot, values[columnIndex]);
+    }
+
+    if (rowCount == rowSlots.length) {
+      rowSlots = Arrays.copyOf(rowSlots, Math.max(DEFAULT_INITIAL_CAPACITY, rowCount + (rowCount >> 1)));
+    }
+
+    System.arraycopy(rowSlots, rowIndex, rowSlots, rowIndex + 1, rowCount - rowIndex);
+    rowSlots[rowIndex] = slot;
+    rowCount++;
+    modCount++;
+
+    return true;
+  }
+
+  /**
+   * Determines whether the specified Object is a view of a row in this record table.
+   * @param obj the Object being tested.
+   * @return a boolean value indicating whether the Object is a view of a row in this record table.
+   */
+  private boolean isRowView(final Object obj) {
+    if (obj instanceof RowView) {
+      final RowView row = (RowView) obj;
+      return (row.getRecordTable() == this && !row.isDetached() && !row.isStale());
+    }
+
+    return false;
+  }
+
+  /**
+   * Determines whether the specified Object is a stale view of a row removed from this record table.
+   * @param obj the Object being tested.
+   * @return a boolean value indicating whether the Object is a stale view of a row of this record table.
+   */
+  private boolean isStaleRowView(final Object obj) {
+    return (obj instanceof RowView && ((RowView) obj).getRecordTable() == this && ((RowView) obj).isStale());
+  }
+
+  /**
+   * Removes all rows from this record table, releasing the storage of all Columns.
+   * @return a boolean value indicating whether the operation altered the record table.
+   */
+  public boolean removeAll() {
+    validateMutable();
+
+    for (final Column column : columnList) {
+      ((TableColumn) column).resetVector();
+    }
+
+    for (int slot = 0; slot < slotCount; slot++) {
+      if (!freeSlots.get(slot)) {
+        incrementSlotGeneration(slot);
+      }
+    }
+
+    capacity = DEFAULT_INITIAL_CAPACITY;
+    rowSlots = new int[DEFAULT_INITIAL_CAPACITY];
+    freeSlots.clear();
+    rowCount = 0;
+    slotCount = 0;
+    modCount++;
+
+    return true;
+  }
+
+  /**
+   * Removes the row at the specified row index from this record table.
+   * @param rowIndex an index in this record table of the row to remove.
+   * @return a read-only Record object holding the values of the row removed from this record table.
+   */
+  public Record removeRow(final int rowIndex) {
+    validateRowIndex(rowIndex);
+
+    final RowView row = new RowView(rowSlots[rowIndex]);
+
+    removeRowAt(rowIndex, row);
+
+    return row;
+  }
+
+  /**
+   * Removes the row at the specified row index, detaching the specified view of the row from this record table.
+   * @param rowIndex the index of the row to remove.
+   * @param row the view of the row being removed.
+   */
+  private void removeRowAt(final int rowIndex, final RowView row) {
+    validateMutable();
+    row.detach();
+    freeSlot(rowSlots[rowIndex]);
+    System.arraycopy(rowSlots, rowIndex + 1, rowSlots, rowIndex, rowCount - rowIndex - 1);
+    rowCount--;
+    modCount++;
+  }
+
+  /**
+   * Returns the number of rows (Records) in this record table.
+   * @return a integer value of the number of rows contained in this record table.
+   */
+  public int rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns a row Iterator to traverse views of the rows in this record table.
+   * @return an Iterator over the rows in this record table.
+   */
+  public Iterator<Record> rowIterator() {
+    return new Iterator<Record>() {
+      private int expectedModCount = modCount;
+      private int rowIndex = 0;
+      private RowView currentRow = null;
+
+      public boolean hasNext() {
+        return (rowIndex < rowCount);
+      }
+
+      public Record next() {
+        if (expectedModCount != modCount) {
+          logger.warn("The record table has been modified outside this Iterator!");
+          throw new ConcurrentModificationException("The record table has been modified outside this Iterator!");
+        }
+
+        if (rowIndex >= rowCount) {
+          logger.warn("No more rows!");
+          throw new NoSuchElementException("No more rows!");
+        }
+
+        currentRow = new RowView(rowSlots[rowIndex++]);
+
+        return currentRow;
+      }
+
+      public void remove() {
+        if (ObjectUtil.isNull(currentRow)) {
+          logger.warn("The next method has not yet been called, or the remove method has already been called!");
+          throw new IllegalStateException("The next method has not yet been called, or the remove method has already been called!");
+        }
+
+        removeRowAt(--rowIndex, currentRow);
+        expectedModCount = modCount;
+        currentRow = null;
+      }
+    };
+  }
+
+  /**
+   * Implementation of the Sortable.set(:Object, I) method.  This method guarantees that a malicious caller
+   * cannot add new rows to this record table that violate the constraints of the record table; the Record
+   * must be a view of a row of this record table.
+   * @param record the view of a row of this record table being set in a new location according to the sort.
+   * @param rowIndex the row index to set the row at in this record table.
+   * @throws java.lang.IllegalArgumentException if the Record is not a view of a row of this record table.
+   */
+  public void set(final Record record, final int rowIndex) throws Exception {
+    validateRowIndex(rowIndex);
+
+    if (!isRowView(record)) {
+      logger.warn("The record (" + record + ") is NOT a row of this record table!");
+      throw new IllegalArgumentException("The record (" + record + ") is NOT a row of this record table!");
+    }
+
+    rowSlots[rowIndex] = ((RowView) record).slot;
+  }
+
+  /**
+   * Implementation of the BulkSortable.setAll(:Object[]) method.  This method verifies all the Records are
+   * views of distinct rows of this record table before reordering the rows in a single pass, so that either
+   * all or none of the Records are set.
+   * @param records the array of views of the rows of this record table in the order in which they are set.
+   * @throws java.lang.IllegalArgumentException if the number of Records does not match the number of rows
+   * in this record table, or if a Record is not a view of a distinct row of this record table.
+   */
+  public void setAll(final Object[] records) throws Exception {
+    validateRowCount(records);
+
+    final BitSet slots = new BitSet(slotCount);
+
+    for (final Object record : records) {
+      if (!isRowView(record) || slots.get(((RowView) record).slot)) {
+        logger.warn("The record (" + record + ") is NOT a distinct row of this record table!");
+        throw new IllegalArgumentException("The record (" + record + ") is NOT a distinct row of this record table!");
+      }
+
+      slots.set(((RowView) record).slot);
+    }
+
+    for (int rowIndex = 0; rowIndex < records.length; rowIndex++) {
+      rowSlots[rowIndex] = ((RowView) records[rowIndex]).slot;
+    }
+  }
+
+  /**
+   * Sets the specified cell at (rowIndex, columnIndex) in this record table with the specified Object value,
+   * written directly to the storage of the Column.
+   * @param rowIndex the index of the row.
+   * @param columnIndex the index of the column.
+   * @param value the Object value to set on the cell in this record table at the specied rowIndex and
+   * columnIndex.
+   * @throws java.lang.IndexOutOfBoundsException if the rowIndex or columnIndex is less than 0 or
+   * greater than the number of rows or columns respectively.
+   */
+  public void setCellValue(final int rowIndex, final int columnIndex, final Object value) {
+    validateRowIndex(rowIndex);
+    validateColumnIndex(columnIndex);
+    setSlotValue(rowSlots[rowIndex], columnIndex, value);
+  }
+
+  /**
+   * Sets the value of the Column at the specified index in the row stored in the specified storage slot.
+   * @param slot the storage slot of the row.
+   * @param columnIndex the index of the Column.
+   * @param value the value of the Column in the row.
+   * @return the previous value of the Column in the row.
+   */
+  private Object setSlotValue(final int slot, final int columnIndex, Object value) {
+    validateMutable();
+
+    final TableColumn column = (TableColumn) columnList.get(columnIndex);
+    final Object previousValue = column.getVector().get(slot);
+
+    value = getColumnValue(column, value);
+
+    // a row may be set to it's current value without violating the unique constraint of the column
+    if (!ObjectUtil.equals(previousValue, value)) {
+      validateColumnValue(column, value);
+    }
+
+    column.setValue(slot, value);
+
+    return previousValue;
+  }
+
+  /**
+   * Returns a Spliterator over views of the rows in this record table, splitting the rows evenly by row index.
+   * The Spliterator binds to the rows of this record table when first used and is fail-fast thereafter.
+   * @return a Spliterator over the rows in this record table.
+   */
+  public Spliterator<Record> spliterator() {
+    return new RowSpliterator(0, -1, 0);
+  }
+
+  /**
+   * Verifies that the Column being added to this record table is valid.
+   * @param column the Column object being validated before adding to this record table.
+   * @throws java.lang.NullPointerException if the column is null.
+   * @throws java.lang.IllegalArgumentException if the column already exists in this record table.
+   * @throws java.lang.IllegalStateException if the column is not nullable, the record table is
+   * not empty, and the the column is either unique or the default column value is null.
+   */
+  private void validateColumn(final Column column) {
+    if (ObjectUtil.isNull(column)) {
+      logger.warn("Cannot add a null column to this record table!");
+      throw new NullPointerException("Cannot add a null column to this record table!");
+    }
+
+    if (getColumnIndex(column) > -1) {
+      logger.warn("The column (" + column + ") already exists in this record table!");
+      throw new IllegalArgumentException("The column (" + column + ") already exists in this record table!");
+    }
+
+    if (!column.isNullable() && !isEmpty()) {
+      if (column.isUnique() || ObjectUtil.isNull(column.getDefaultValue())) {
+        logger.warn("Cannot add a column (" + column + ") with a non-null constraint to a record table with rows!");
+        throw new IllegalStateException("Cannot add a column (" + column + ") with a non-null constraint to a record table with rows!");
+      }
+    }
+  }
+
+  /**
+   * Determines whether the specified value, if not null, is unique amongst the values of the unique Column in
+   * the rows of this record table, using the index of the Column's values.
+   * @param column the Column in this record table enforcing values to be unique.
+   * @param value the value being validated for uniqueness amongst the values of the Column.
+   * @throws com.cp.common.util.record.NonUniqueColumnValueException if the value is not unique amongst the
+   * values of the unique Column.
+   */
+  protected void validateColumnValueUniqueness(final Column column, final Object value) {
+    if (column.isUnique() && ObjectUtil.isNotNull(value)) {
+      if (getTableColumn(column).getValueIndex().contains(value)) {
+        logger.warn("(" + value + ") is not a unique value for column (" + column + ")!");
+        throw new NonUniqueColumnValueException("(" + value + ") is not a unique value for column (" + column + ")!");
+      }
+    }
+  }
+
+  /**
+   * The ColumnVector class stores the values of a Column, indexed by the storage slot of the row.
+   */
+  private static abstract class ColumnVector {
+
+    /**
+     * Creates the ColumnVector storing values of the specified type, using an array of a primitive type for
+     * numeric types.
+     * @param type the Class type of the values of the Column.
+     * @param capacity the number of storage slots to allocate.
+     * @return a ColumnVector storing values of the specified type.
+     */
+    static ColumnVector newInstance(final Class<?> type, final int capacity) {
+      final ColumnVector vector;
+
+      if (Integer.class.equals(type)) {
+        vector = new IntVector();
+      }
+      else if (Long.class.equals(type)) {
+        vector = new LongVector();
+      }
+      else if (Double.class.equals(type)) {
+        vector = new DoubleVector();
+      }
+      else if (Float.class.equals(type)) {
+        vector = new FloatVector();
+      }
+      else if (Short.class.equals(type)) {
+        vector = new ShortVector();
+      }
+      else if (Byte.class.equals(type)) {
+        vector = new ByteVector();
+      }
+      else {
+        vector = new ObjectVector();
+      }
+
+      vector.resize(capacity);
+
+      return vector;
+    }
+
+    abstract Object get(int slot);
+
+    abstract void resize(int capacity);
+
+    abstract void set(int slot, Object value);
+  }
+
+  /**
+   * The ObjectVector class stores the values of a Column in an Object array.
+   */
+  private static final class ObjectVector extends ColumnVector {
+
+    private Object[] values = new Object[0];
+
+    Object get(final int slot) {
+      return values[slot];
+    }
+
+    void resize(final int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    void set(final int slot, final Object value) {
+      values[slot] = value;
+    }
+  }
+
+  /**
+   * The PrimitiveVector class stores the values of a Column of a numeric type in an array of the primitive
+   * type, with a bitmap marking the storage slots holding a null value.
+   */
+  private static abstract class PrimitiveVector extends ColumnVector {
+
+    private final BitSet nulls = new BitSet();
+
+    final Object get(final int slot) {
+      return (nulls.get(slot) ? null : getValue(slot));
+    }
+
+    abstract Object getValue(int slot);
+
+    final void set(final int slot, final Object value) {
+      if (ObjectUtil.isNull(value)) {
+        nulls.set(slot);
+      }
+      else {
+        nulls.clear(slot);
+        setValue(slot, (Number) value);
+      }
+    }
+
+    abstract void setValue(int slot, Number value);
+  }
+
+  private static final class ByteVector extends PrimitiveVector {
+
+    private byte[] values = new byte[0];
+
+    Object getValue(final int slot) {
+      return Byte.valueOf(values[slot]);
+    }
+
+    void resize(final int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    void setValue(final int slot, final Number value) {
+      values[slot] = value.byteValue();
+    }
+  }
+
+  private static final class DoubleVector extends PrimitiveVector {
+
+    private double[] values = new double[0];
+
+    Object getValue(final int slot) {
+      return Double.valueOf(values[slot]);
+    }
+
+    void resize(final int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    void setValue(final int slot, final Number value) {
+      values[slot] = value.doubleValue();
+    }
+  }
+
+  private static final class FloatVector extends PrimitiveVector {
+
+    private float[] values = new float[0];
+
+    Object getValue(final int slot) {
+      return Float.valueOf(values[slot]);
+    }
+
+    void resize(final int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    void setValue(final int slot, final Number value) {
+      values[slot] = value.floatValue();
+    }
+  }
+
+  private static final class IntVector extends PrimitiveVector {
+
+    private int[] values = new int[0];
+
+    Object getValue(final int slot) {
+      return Integer.valueOf(values[slot]);
+    }
+
+    void resize(final int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    void setValue(final int slot, final Number value) {
+      values[slot] = value.intValue();
+    }
+  }
+
+  private static final class LongVector extends PrimitiveVector {
+
+    private long[] values = new long[0];
+
+    Object getValue(final int slot) {
+      return Long.valueOf(values[slot]);
+    }
+
+    void resize(final int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    void setValue(final int slot, final Number value) {
+      values[slot] = value.longValue();
+    }
+  }
+
+  private static final class ShortVector extends PrimitiveVector {
+
+    private short[] values = new short[0];
+
+    Object getValue(final int slot) {
+      return Short.valueOf(values[slot]);
+    }
+
+    void resize(final int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    void setValue(final int slot, final Number value) {
+      values[slot] = value.shortValue();
+    }
+  }
+
+  /**
+   * The TableColumn class is used by the ColumnarRecordTable class to represent columns of the record table
+   * and to hold the storage of their values.
+   */
+  private final class TableColumn extends ColumnImpl implements Mutable {
+
+    // The index of the storage slots of the rows by the value of this Column, or null until first used; volatile
+    // since the index may be built by concurrent readers, such as those of a ConcurrentRecordTable.
+    private volatile ColumnIndex<Integer> valueIndex;
+
+    private ColumnVector vector;
+
+    /**
+     * Copy constructor used to create an instance of the TableColumn class used by this record table
+     * to represent columns.
+     * @param column the Column object on which this TableColumn is based (copied).
+     */
+    public TableColumn(final Column column) {
+      super(ObjectUtil.isNull(column) ? null : column.getName(), ObjectUtil.isNull(column) ? null : column.getType());
+      validateColumn(column);
+      setComparator(column.getComparator());
+      setDefaultValue(column.getDefaultValue());
+      setDescription(column.getDescription());
+      setDisplayName(column.getDisplayName());
+      setNullable(column.isNullable());
+      setSize(column.getSize());
+      setUnique(column.isUnique());
+      vector = ColumnVector.newInstance(getType(), capacity);
+    }
+
+    /**
+     * Stores the value of this Column for a new row in the specified storage slot.
+     * @param slot the storage slot of the new row.
+     * @param value the value of this Column in the new row.
+     */
+    void addValue(final int slot, final Object value) {
+      vector.set(slot, value);
+
+      if (isIndexed()) {
+        valueIndex.add(value, getSlotHandle(slot));
+      }
+    }
+
+    /**
+     * Gets the index of the storage slots of the rows by the value of this Column, building the index from
+     * the rows of the record table on first use.  Concurrent readers of the record table build the indexes one
+     * at a time, since building an index allocates the handles of the storage slots.
+     * @return the ColumnIndex of the storage slots of the rows by the value of this Column.
+     */
+    ColumnIndex<Integer> getValueIndex() {
+      ColumnIndex<Integer> index = valueIndex;
+
+      if (ObjectUtil.isNull(index)) {
+        synchronized (ColumnarRecordTable.this) {
+          index = valueIndex;
+
+          if (ObjectUtil.isNull(index)) {
+            index = new ColumnIndex<Integer>(this);
+
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+              index.add(vector.get(rowSlots[rowIndex]), getSlotHandle(rowSlots[rowIndex]));
+            }
+
+            valueIndex = index;
+          }
+        }
+      }
+
+      return index;
+    }
+
+    /**
+     * Returns the storage of the values of this Column.
+     * @return the ColumnVector storing the values of this Column.
+     */
+    ColumnVector getVector() {
+      return vector;
+    }
+
+    /**
+     * Determines whether the index of the storage slots of the rows by the value of this Column has been built.
+     * @return a boolean value indicating whether the values of this Column are indexed.
+     */
+    boolean isIndexed() {
+      return ObjectUtil.isNotNull(valueIndex);
+    }
+
+    /**
+     * Determines whether this TableColumn is a column of the enclosing record table.
+     * @return a boolean value indicating whether this TableColumn is a column of the record table.
+     */
+    private boolean isTableColumn() {
+      final int columnIndex = getColumnIndex(this);
+      return (columnIndex > -1 && columnList.get(columnIndex) == this);
+    }
+
+    /**
+     * Determines whether this TableColumn instance can be modified or is read-only.  The mutable
+     * state of this Column is delegated to the enclosing record table.
+     * @return a boolean value indicating if the TableColumn is read-only or modifiable.
+     */
+    public boolean isMutable() {
+      return ColumnarRecordTable.this.isMutable();
+    }
+
+    /**
+     * Releases the value of this Column in the removed row stored in the specified storage slot.
+     * @param slot the storage slot of the removed row.
+     */
+    void removeValue(final int slot) {
+      if (isIndexed()) {
+        valueIndex.remove(vector.get(slot), getSlotHandle(slot));
+      }
+
+      vector.set(slot, null);
+    }
+
+    /**
+     * Replaces the storage of the values of this Column with empty storage of the default capacity, and
+     * discards the index of it's values.
+     */
+    void resetVector() {
+      vector = ColumnVector.newInstance(getType(), DEFAULT_INITIAL_CAPACITY);
+      valueIndex = null;
+    }
+
+    /**
+     * Sets the default value used when a record in a table of records does not specify a value for
+     * this Column.
+     * @param defaultValue an Object representing the default value used when no value is provided
+     * for this Column.
+     */
+    public void setDefaultValue(final Object defaultValue) {
+      validateMutable();
+      super.setDefaultValue(defaultValue);
+    }
+
+    /**
+     * Sets the description of this Column instance describing the meaning behind data in this column.
+     * @param description the String description of this Column.
+     */
+    public void setDescription(final String description) {
+      validateMutable();
+      super.setDescription(description);
+    }
+
+    /**
+     * Sets the presentation name of this Column instance that will be used for display purposes.
+     * @param displayName the String presentation display name of this Column instance.
+     */
+    public void setDisplayName(final String displayName) {
+      validateMutable();
+      super.setDisplayName(displayName);
+    }
+
+    /**
+     * The setMutable method is not supported by the TableColumn class.  Mutability can only be determined
+     * by the enclosing record table.
+     * @param mutable a boolean value indicating whether this TableColumn is modifiable or read-only.
+     */
+    public void setMutable(final boolean mutable) {
+      throw new UnsupportedOperationException("Operation Not Supported!");
+    }
+
+    /**
+     * Sets whether null values are allowed to be set as a value on this Column.  Null values of the Column
+     * in the rows of the record table are replaced with the Column's default value, if any.
+     * @param nullable is a boolean value indicating if null values are allowed to be set on this Column.
+     * @throws java.lang.IllegalStateException if a row of the record table has a null value for this Column
+     * and this Column has no default value.
+     */
+    public void setNullable(final boolean nullable) {
+      validateMutable();
+
+      if (!nullable && isTableColumn()) {
+        final Object defaultValue = getColumnValue(this, null);
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+          if (ObjectUtil.isNull(vector.get(rowSlots[rowIndex]))) {
+            if (ObjectUtil.isNull(defaultValue)) {
+              logger.warn("Unable to set column (" + getName() + ") to non-nullable since there exists a row @ index ("
+                + rowIndex + ") who's value for this column in the record table is null!");
+              throw new IllegalStateException("Unable to set column (" + getName()
+                + ") to non-nullable since there exists a row @ index (" + rowIndex
+                + ") who's value for this column in the record table is null!");
+            }
+
+            setValue(rowSlots[rowIndex], defaultValue);
+          }
+        }
+      }
+
+      super.setNullable(nullable);
+    }
+
+    /**
+     * Changes the value of this Column in the row stored in the specified storage slot.
+     * @param slot the storage slot of the row.
+     * @param value the new value of this Column in the row.
+     */
+    void setValue(final int slot, final Object value) {
+      if (isIndexed()) {
+        final Integer slotHandle = getSlotHandle(slot);
+        valueIndex.remove(vector.get(slot), slotHandle);
+        valueIndex.add(value, slotHandle);
+      }
+
+      vector.set(slot, value);
+    }
+
+    /**
+     * Sets the size of the column's data type value.
+     * @param size a numerical value representing the size of the data value with respect to type.
+     */
+    public void setSize(final int size) {
+      validateMutable();
+      super.setSize(size);
+    }
+
+    /**
+     * Sets whether value in this column should be unique.
+     * @param unique a boolean value indicating whether values of this Column are to be unique.
+     * @throws java.lang.IllegalStateException if rows of the record table have duplicate values for this Column.
+     */
+    public void setUnique(final boolean unique) {
+      validateMutable();
+
+      if (unique && isTableColumn()) {
+        final Set<Object> columnValueSet = new HashSet<Object>(rowCount);
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+          final Object columnValue = vector.get(rowSlots[rowIndex]);
+
+          if (ObjectUtil.isNotNull(columnValue) && !columnValueSet.add(columnValue)) {
+            logger.warn("Unable to set column (" + getName()
+              + ") as unique since rows in this record table have duplicate values for this column!");
+            throw new IllegalStateException("Unable to set column (" + getName()
+              + ") as unique since rows in this record table have duplicate values for this column!");
+          }
+        }
+      }
+
+      super.setUnique(unique);
+    }
+  }
+
+  /**
+   * The RowSpliterator class splits the rows of this record table by row index, creating a view of each row as
+   * it is traversed.  Like the row Iterator, it is fail-fast.
+   */
+  private final class RowSpliterator implements Spliterator<Record> {
+
+    private int expectedModCount;
+    private int rowIndex;
+
+    // The index one past the last row traversed by this Spliterator, or -1 until first used.
+    private int fence;
+
+    public RowSpliterator(final int origin, final int fence, final int expectedModCount) {
+      this.rowIndex = origin;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+    }
+
+    private void checkForComodification() {
+      if (expectedModCount != modCount) {
+        logger.warn("The record table has been modified outside this Spliterator!");
+        throw new ConcurrentModificationException("The record table has been modified outside this Spliterator!");
+      }
+    }
+
+    public int characteristics() {
+      return (Spliterator.NONNULL | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    public long estimateSize() {
+      return (getFence() - rowIndex);
+    }
+
+    public void forEachRemaining(final Consumer<? super Record> action) {
+      Assert.notNull(action, "The action cannot be null!");
+
+      for (final int fence = getFence(); rowIndex < fence; ) {
+        checkForComodification();
+        action.accept(new RowView(rowSlots[rowIndex++]));
+      }
+    }
+
+    private int getFence() {
+      if (fence < 0) {
+        expectedModCount = modCount;
+        fence = rowCount;
+      }
+
+      return fence;
+    }
+
+    public boolean tryAdvance(final Consumer<? super Record> action) {
+      Assert.notNull(action, "The action cannot be null!");
+
+      if (rowIndex < getFence()) {
+        checkForComodification();
+        action.accept(new RowView(rowSlots[rowIndex++]));
+        return true;
+      }
+
+      return false;
+    }
+
+    public Spliterator<Record> trySplit() {
+      final int fence = getFence();
+      final int middle = ((rowIndex + fence) >>> 1);
+
+      if (rowIndex >= middle) {
+        return null;
+      }
+
+      final Spliterator<Record> prefix = new RowSpliterator(rowIndex, middle, expectedModCount);
+      rowIndex = middle;
+      return prefix;
+    }
+  }
+
+  /**
+   * The RowView class is a lightweight Record view of a row of this record table, identified by it's storage
+   * slot and the generation of the slot when the view was created, whose fields are the names of the columns of
+   * the record table.
+   */
+  private final class RowView extends AbstractRecord<String> {
+
+    // The generation of the storage slot when this view was created.
+    private final int generation;
+
+    // The storage slot of the row in the enclosing record table.
+    private final int slot;
+
+    // The fields and values of the row once it has been removed from the record table, otherwise null.
+    private String[] detachedFields;
+    private Object[] detachedValues;
+
+    /**
+     * Creates an instance of the RowView class for the row stored in the specified storage slot.
+     * @param slot the storage slot of the row.
+     */
+    public RowView(final int slot) {
+      this.slot = slot;
+      this.generation = getSlotGeneration(slot);
+    }
+
+    /**
+     * The interface used by Visitor objects to traverse the object structure and perform its designated
+     * operation on this object.  NOTE: this overridden accept method accepts all Visitor objects except the
+     * MutableVisitor, since the mutable property is only kept on the enclosing record table.
+     * @param visitor the Visitor object used to invoke some operation on this Object.
+     */
+    public void accept(final Visitor visitor) {
+      if (!(visitor instanceof MutableVisitor)) {
+        super.accept(visitor);
+      }
+    }
+
+    /**
+     * The addField method is not supported by row views, since the structure of a row is determined by the
+     * columns of the record table.
+     * @param field the field to add to this Record.
+     * @param defaultValue the default value for the new field.
+     * @return a boolean value indicating whether the specified field was added to this Record.
+     */
+    public boolean addField(final String field, final Object defaultValue) {
+      throw new UnsupportedOperationException("Operation Not Allowed!");
+    }
+
+    /**
+     * Determines whether this Record contains the specified field.
+     * @param field the field being determined for containment by this Record.
+     * @return a boolean value indicating if this Record contains the specified field.
+     */
+    public boolean containsField(final String field) {
+      return (indexOf(field) > -1);
+    }
+
+    /**
+     * Creates a copy of the values of this row as a DefaultRecord.
+     * @return a DefaultRecord copy of this row.
+     */
+    public Object copy() {
+      return new DefaultRecord(this);
+    }
+
+    /**
+     * Copies the fields and values of the row, which is being removed from the record table, so that this
+     * Record remains readable afterwards.
+     */
+    void detach() {
+      final String[] fields = new String[columnCount()];
+      final Object[] values = new Object[fields.length];
+
+      for (int columnIndex = 0; columnIndex < fields.length; columnIndex++) {
+        fields[columnIndex] = columnList.get(columnIndex).getName();
+        values[columnIndex] = getVector(columnIndex).get(slot);
+      }
+
+      detachedFields = fields;
+      detachedValues = values;
+    }
+
+    /**
+     * Gets the field at the specified index.
+     * @param fieldIndex the integer index of the field in the Record.
+     * @return the name of the column in the record table at the specified index.
+     * @throws java.lang.IndexOutOfBoundsException if the field index is less than zero or more than
+     * the number of fields in this Record.
+     */
+    public String getField(final int fieldIndex) {
+      validateNotStale();
+      validateFieldIndex(fieldIndex);
+      return (isDetached() ? detachedFields[fieldIndex] : columnList.get(fieldIndex).getName());
+    }
+
+    /**
+     * Gets the field index for the specified field in this Record.
+     * @param field the field to obtain the index of.
+     * @return the integer index in this Record for the specified field.
+     * @throws java.lang.NoSuchFieldException if the field does not exist in this Record.
+     */
+    public int getFieldIndex(final String field) throws NoSuchFieldException {
+      final int fieldIndex = indexOf(field);
+
+      if (fieldIndex < 0) {
+        logger.warn("(" + field + ") is not a valid column in this Record!");
+        throw new NoSuchFieldException("(" + field + ") is not a valid column in this Record!");
+      }
+
+      return fieldIndex;
+    }
+
+    /**
+     * Returns the record table containing the row viewed by this Record.
+     * @return the enclosing ColumnarRecordTable.
+     */
+    ColumnarRecordTable getRecordTable() {
+      return ColumnarRecordTable.this;
+    }
+
+    /**
+     * Gets the value of the field at the specified index in this Record.
+     * @param fieldIndex the index of the field in the Record in which to return the value.
+     * @return the specified field value.
+     * @throws java.lang.IndexOutOfBoundsException if the field index is less than zero or more than
+     * the number of fields in this Record.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(final int fieldIndex) {
+      validateNotStale();
+      validateFieldIndex(fieldIndex);
+      return (T) (isDetached() ? detachedValues[fieldIndex] : getVector(fieldIndex).get(slot));
+    }
+
+    /**
+     * Gets the value of the specified field in this Record.
+     * @param field the field to return a value for.
+     * @return the Object value of the specified field in this Record.
+     * @throws java.lang.NoSuchFieldException if the specified field does not exist in this Record.
+     */
+    public <T> T getValue(final String field) throws NoSuchFieldException {
+      return this.<T>getValue(getFieldIndex(field));
+    }
+
+    /**
+     * Returns the index of the specified field in this Record.
+     * @param field the field to obtain the index of.
+     * @return the index of the field, or -1 if the field does not exist in this Record.
+     */
+    private int indexOf(final String field) {
+      validateNotStale();
+      return (isDetached() ? Arrays.asList(detachedFields).indexOf(field) : getColumnIndex(field));
+    }
+
+    /**
+     * Determines whether the row viewed by this Record has been removed from the record table.
+     * @return a boolean value indicating whether this Record is detached from the record table.
+     */
+    boolean isDetached() {
+      return ObjectUtil.isNotNull(detachedFields);
+    }
+
+    /**
+     * Determines whether this Record object can be modified, or is read-only, which is delegated to the
+     * enclosing record table.  A Record of a row removed from the record table is read-only.
+     * @return a boolean value indicating whether this Record object can be modified or not.
+     */
+    public boolean isMutable() {
+      return (!isDetached() && !isStale() && ColumnarRecordTable.this.isMutable());
+    }
+
+    /**
+     * Determines whether the row viewed by this Record has been removed from the record table without this
+     * Record being detached, in which case the values of the row are no longer available.
+     * @return a boolean value indicating whether this Record is a stale view of a removed row.
+     */
+    boolean isStale() {
+      return (!isDetached() && getSlotGeneration(slot) != generation);
+    }
+
+    /**
+     * The removeField method is not supported by row views, since the structure of a row is determined by
+     * the columns of the record table.
+     * @param field the field to remove from this Record.
+     * @return the Object value of the removed field.
+     */
+    public Object removeField(final String field) throws NoSuchFieldException {
+      throw new UnsupportedOperationException("Operation Not Allowed!");
+    }
+
+    /**
+     * The setMutable method is not supported by row views; the mutable property is kept by the record table.
+     * @param mutable a boolean property indicating if this Record object can be modfied, or is read-only.
+     */
+    public void setMutable(final boolean mutable) {
+      throw new UnsupportedOperationException("Not Implemented!");
+    }
+
+    /**
+     * Sets the value of the specified field in this Record, and in the record table, to the specified value.
+     * @param field the field to set the value of.
+     * @param value the Object value to set on the specified field in this Record.
+     * @return the original Object value of the specified field in this Record.
+     * @throws java.lang.NoSuchFieldException if the specified field does not exist in this Record.
+     */
+    public Object setValue(final String field, final Object value) throws NoSuchFieldException {
+      final int fieldIndex = getFieldIndex(field);
+      verifyMutable();
+      return setSlotValue(slot, fieldIndex, value);
+    }
+
+    /**
+     * Gets the number of fields in this Record.
+     * @return and integer value of the number of fields in this Record.
+     */
+    public int size() {
+      validateNotStale();
+      return (isDetached() ? detachedFields.length : columnCount());
+    }
+
+    /**
+     * Returns a String representation of this Record, which of a stale view only identifies the storage slot.
+     * @return a String representation of this Record.
+     */
+    public String toString() {
+      if (isStale()) {
+        final StringBuffer buffer = new StringBuffer("{slot = ");
+        buffer.append(slot);
+        buffer.append(", stale = true");
+        buffer.append("}:").append(getClass().getName());
+        return buffer.toString();
+      }
+
+      return super.toString();
+    }
+
+    /**
+     * Verifies that the row viewed by this Record has not been removed from the record table.
+     * @throws java.lang.IllegalStateException if this Record is a stale view of a removed row.
+     */
+    private void validateNotStale() {
+      if (isStale()) {
+        logger.warn("The row viewed by this Record has been removed from the record table!");
+        throw new IllegalStateException("The row viewed by this Record has been removed from the record table!");
+      }
+    }
+  }
+
+}
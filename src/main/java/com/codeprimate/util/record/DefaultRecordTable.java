@@ -7,9 +7,10 @@
  * Copyright (c) 2002, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2007.1.20
+ * @version 2026.10.17
  * @see com.cp.common.util.record.AbstractRecordTable
  * @see com.cp.common.util.record.Column
+ * @see com.cp.common.util.record.ColumnIndex
  * @see com.cp.common.util.IncompatibleRecordExeption
  * @see com.cp.common.util.IdentityComparator
  * @see com.cp.common.util.record.NonUniqueColumnValueException
@@ -29,18 +30,18 @@ import com.cp.common.util.Visitor;
 import com.cp.common.util.record.AbstractRecord;
 import com.cp.common.util.record.Column;
 import com.cp.common.util.record.ColumnImpl;
+import com.cp.common.util.record.ColumnIndex;
 import com.cp.common.util.record.IncompatibleRecordException;
 import com.cp.common.util.record.NonUniqueColumnValueException;
 import com.cp.common.util.record.Record;
 import com.cp.common.util.record.RecordTable;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.TreeSet;
 import org.apache.log4j.Logger;
 
@@ -59,9 +60,6 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
   // The record table data structure is a collection of rows (Records).
   private final List<com.cp.common.util.record.Record> recordList;
 
-  // A Map of Column to hash values of the values in the column for all rows in this record table
-  private final Map<Column, Set<Integer>> columnValueHashMap;
-
   // A Set of hash values computed from the rows in this record table.
   private final Set<com.cp.common.util.record.Record> rowSet;
 
@@ -81,39 +79,10 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
     rowSet = new TreeSet<com.cp.common.util.record.Record>(IdentityComparator.getInstance());
     recordList = new ArrayList<com.cp.common.util.record.Record>(INITIAL_TABLE_CAPACITY);
     columnList = new ArrayList<Column>(ArrayUtil.length(columns));
-    columnValueHashMap = new HashMap<Column, Set<Integer>>((int) (columnList.size() * 1.5));
 
     if (ArrayUtil.isNotEmpty(columns)) {
-      for (Column column : columns) {
-        column = new TableColumn(column);
-        columnList.add(column);
-        columnValueHashMap.put(column, null);
-      }
-    }
-  }
-
-  /**
-   * Stores the hash value of the new value for the specified Column and removes any previous hash value
-   * for the old value.
-   * @param column a column in this record table.
-   * @param oldValue the old value being replaced by the new value.
-   * @param newValue the new value whose hash code will be stored to determine uniqueness.
-   */
-  private void addColumnValueHash(final com.cp.common.util.record.Column column, final Object oldValue, final Object newValue) {
-    if (ObjectUtil.isNotNull(oldValue) || ObjectUtil.isNotNull(newValue)) {
-      Set<Integer> columnValueHashSet = columnValueHashMap.get(column);
-
-      if (ObjectUtil.isNull((columnValueHashSet))) {
-        columnValueHashSet = new HashSet<Integer>((int) (rowCount() * 1.5));
-        columnValueHashMap.put(column, columnValueHashSet);
-      }
-
-      if (ObjectUtil.isNotNull(oldValue)) {
-        columnValueHashSet.remove(new Integer(oldValue.hashCode()));
-      }
-
-      if (ObjectUtil.isNotNull(newValue)) {
-        columnValueHashSet.add(new Integer(newValue.hashCode()));
+      for (final Column column : columns) {
+        columnList.add(new TableColumn(column));
       }
     }
   }
@@ -156,7 +125,6 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
         // method, therefore, the column cannot be removed from the table until
         // after the field has been removed from all rows in this table.
         columnIterator.remove();
-        columnValueHashMap.remove(currentColumn);
       }
     };
   }
@@ -179,6 +147,18 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
    * record table.
    */
   public boolean contains(final Record record) {
+    final TableColumn column = getIndexedColumn();
+
+    if (ObjectUtil.isNotNull(column) && ObjectUtil.isNotNull(record) && record.containsKey(column)) {
+      for (final Record row : column.getValueIndex().get(record.get(column))) {
+        if (row.equals(record)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
     return recordList.contains(record);
   }
 
@@ -223,6 +203,28 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
     return columnList.indexOf(column);
   }
 
+  /**
+   * Returns a column of this record table having an index of it's values, preferring a unique column,
+   * or null if no column is unique or indexed.
+   * @return a TableColumn with an index of it's values, or null if no column is unique or indexed.
+   */
+  private TableColumn getIndexedColumn() {
+    TableColumn indexedColumn = null;
+
+    for (final Column column : columnList) {
+      final TableColumn tableColumn = (TableColumn) column;
+
+      if (tableColumn.isUnique()) {
+        return tableColumn;
+      }
+      else if (ObjectUtil.isNull(indexedColumn) && tableColumn.isIndexed()) {
+        indexedColumn = tableColumn;
+      }
+    }
+
+    return indexedColumn;
+  }
+
   /**
    * Returns the row in this record table at index as a Record object.
    * @param rowIndex the index of the row in this record table to get a Record object for.
@@ -251,6 +253,44 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
     return recordList.indexOf(row);
   }
 
+  /**
+   * Returns the rows in this record table having the specified value for the Column, looked up in the index
+   * of the Column's values, which is built on first use and maintained as rows are added, changed and removed.
+   * @param column the Column of this record table whose value is matched.
+   * @param value the value of the Column in the rows being returned.
+   * @return a List of the rows having the value for the Column, or an empty List if no row has the value.
+   */
+  public List<Record> getRows(final Column column, final Object value) {
+    return getTableColumn(column).getValueIndex().get(value);
+  }
+
+  /**
+   * Returns the rows in this record table having a non-null value for the Column within the specified range,
+   * ordered by the value of the Column, looked up in the sorted index of the Column's values.
+   * @param column the Column of this record table whose value is compared with the range.
+   * @param fromValue the lower bound of the range, or null if the range has no lower bound.
+   * @param fromInclusive a boolean value indicating whether the lower bound is included in the range.
+   * @param toValue the upper bound of the range, or null if the range has no upper bound.
+   * @param toInclusive a boolean value indicating whether the upper bound is included in the range.
+   * @return a List of the rows having a value for the Column within the range.
+   */
+  public List<Record> getRows(final Column column, final Object fromValue, final boolean fromInclusive,
+                              final Object toValue, final boolean toInclusive) {
+    return getTableColumn(column).getValueIndex().getRange(fromValue, fromInclusive, toValue, toInclusive);
+  }
+
+  /**
+   * Returns the TableColumn of this record table equal to the specified Column.
+   * @param column the Column of this record table.
+   * @return the TableColumn of this record table equal to the Column.
+   * @throws java.lang.IndexOutOfBoundsException if the Column is not a column of this record table.
+   */
+  private TableColumn getTableColumn(final Column column) {
+    final int columnIndex = getColumnIndex(column);
+    validateColumnIndex(columnIndex);
+    return (TableColumn) columnList.get(columnIndex);
+  }
+
   /**
    * Inserts the specified Column at the specified column index into this record table.
    * @param column the Column to insert into the record table.
@@ -352,10 +392,7 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
               logger.debug("value (" + value + ")");
             }
 
-            // the null check is necessary; see addColumnValueHash
-            if (ObjectUtil.isNotNull(columnValueHashMap.get(column))) {
-              columnValueHashMap.get(column).remove(new Integer(ObjectUtil.hashCode(value)));
-            }
+            ((TableColumn) column).removeValue(value, currentRow);
           }
           catch (NoSuchFieldException ignore) {
             logger.error(ignore.getMessage(), ignore);
@@ -386,6 +423,40 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
     recordList.set(rowIndex, record);
   }
 
+  /**
+   * Implementation of the BulkSortable.setAll(:Object[]) method.  This method verifies all the Records
+   * are contained in this record table before replacing the order of the rows in a single pass, so that
+   * either all or none of the Records are set.
+   * @param records the array of Records from this record table in the order in which they are set.
+   * @throws java.lang.IllegalArgumentException if the number of Records does not match the number of rows
+   * in this record table, or if the record table did not previously contain one of the Records.
+   */
+  public void setAll(final Object[] records) throws Exception {
+    validateRowCount(records);
+
+    for (final Object record : records) {
+      if (!rowSet.contains(record)) {
+        logger.warn("The record (" + record + ") is NOT contained in this record table!");
+        throw new IllegalArgumentException("The record (" + record + ") is NOT contained in this record table!");
+      }
+    }
+
+    for (int rowIndex = 0; rowIndex < records.length; rowIndex++) {
+      recordList.set(rowIndex, (Record) records[rowIndex]);
+    }
+  }
+
+  /**
+   * Returns a Spliterator over the rows of this record table, splitting the ArrayList of rows by index.  The
+   * Spliterator is fail-fast, throwing a ConcurrentModificationException if rows are added or removed during
+   * the traversal.
+   * @return a Spliterator over the rows of this record table.
+   * @see java.util.ArrayList#spliterator()
+   */
+  public Spliterator<Record> spliterator() {
+    return recordList.spliterator();
+  }
+
   /**
    * Verifies that the Column being added to this record table is valid.
    * @param column the Column object being validated before adding to this record table.
@@ -436,12 +507,9 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
     }
 
     if (column.isUnique() && ObjectUtil.isNotNull(value)) {
-      final Set<Integer> columnValueHashSet = columnValueHashMap.get(column);
-      if (ObjectUtil.isNotNull(columnValueHashSet)) {
-        if (columnValueHashSet.contains(new Integer(value.hashCode()))) {
-          logger.warn("(" + value + ") is not a unique value for column (" + column + ")!");
-          throw new NonUniqueColumnValueException("(" + value + ") is not a unique value for column (" + column + ")!");
-        }
+      if (getTableColumn(column).getValueIndex().contains(value)) {
+        logger.warn("(" + value + ") is not a unique value for column (" + column + ")!");
+        throw new NonUniqueColumnValueException("(" + value + ") is not a unique value for column (" + column + ")!");
       }
     }
   }
@@ -492,6 +560,10 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
    */
   private final class TableColumn extends ColumnImpl implements Mutable {
 
+    // The index of the rows of the record table by the value of this Column, or null until first used; volatile
+    // since the index may be built by concurrent readers, such as those of a ConcurrentRecordTable.
+    private volatile ColumnIndex<Record> valueIndex;
+
     /**
      * Creates an instance of the TableColumn class.
      * @param name the name of this column in the record table.
@@ -517,6 +589,53 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
       setUnique(column.isUnique());
     }
 
+    /**
+     * Adds the specified row, having the specified value for this Column, to the index of this Column's values.
+     * @param value the value of this Column in the row.
+     * @param row the row of the record table.
+     */
+    void addValue(final Object value, final Record row) {
+      if (isIndexed()) {
+        valueIndex.add(value, row);
+      }
+    }
+
+    /**
+     * Gets the index of the rows of the record table by the value of this Column, building the index from the
+     * rows of the record table on first use.  Concurrent readers of the record table build the index only once.
+     * @return the ColumnIndex of the rows by the value of this Column.
+     */
+    ColumnIndex<Record> getValueIndex() {
+      ColumnIndex<Record> index = valueIndex;
+
+      if (ObjectUtil.isNull(index)) {
+        synchronized (this) {
+          index = valueIndex;
+
+          if (ObjectUtil.isNull(index)) {
+            index = new ColumnIndex<Record>(this);
+            final int columnIndex = getColumnIndex(this);
+
+            for (final Record row : recordList) {
+              index.add(row.getValue(columnIndex), row);
+            }
+
+            valueIndex = index;
+          }
+        }
+      }
+
+      return index;
+    }
+
+    /**
+     * Determines whether the index of the rows of the record table by the value of this Column has been built.
+     * @return a boolean value indicating whether the values of this Column are indexed.
+     */
+    boolean isIndexed() {
+      return ObjectUtil.isNotNull(valueIndex);
+    }
+
     /**
      * Determines whether this TableColumn instance can be modified or is read-only.  The mutable
      * state of this Column is delegated to the enclosing record table.
@@ -526,6 +645,18 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
       return DefaultRecordTable.this.isMutable();
     }
 
+    /**
+     * Removes the specified row, having the specified value for this Column, from the index of this Column's
+     * values.
+     * @param value the value of this Column in the row.
+     * @param row the row of the record table.
+     */
+    void removeValue(final Object value, final Record row) {
+      if (isIndexed()) {
+        valueIndex.remove(value, row);
+      }
+    }
+
     /**
      * Sets the default value used when a record in a table of records does not specify a value for
      * this Column.
@@ -672,7 +803,7 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
         try {
           final Object value = getColumnValue(column, record.getValue(column));
           // we have already validated the column's value in validateRecordCompatibility!
-          addColumnValueHash(column, null, value);
+          ((TableColumn) column).addValue(value, this);
           rowData.add(value);
         }
         catch (NoSuchFieldException ignore) {
@@ -878,8 +1009,16 @@ public class DefaultRecordTable extends com.cp.common.util.record.AbstractRecord
         logger.debug("column value (" + value + ")");
       }
 
-      validateColumnValue(field, value);
-      addColumnValueHash(field, rowData.get(columnIndex), columnValue);
+      final TableColumn column = (TableColumn) getColumn(columnIndex);
+      final Object currentValue = rowData.get(columnIndex);
+
+      // a row may be set to it's current value without violating the unique constraint of the column
+      if (!ObjectUtil.equals(currentValue, columnValue)) {
+        validateColumnValue(field, value);
+      }
+
+      column.removeValue(currentValue, this);
+      column.addValue(columnValue, this);
 
       return rowData.set(columnIndex, columnValue);
     }
@@ -0,0 +1,158 @@
+/*
+ * AbstractIndex.java (c) 17 October 2026
+ *
+ * The AbstractIndex class is the base class of the indexes maintained by an IndexedCollection over a
+ * property of it's Bean elements, mapping each property value (key) to the elements having that value.
+ * Subclasses determine how the keys are organized, and therefore which lookups the index supports.
+ *
+ * An index is maintained as elements are added to and removed from the IndexedCollection.  The value
+ * of an indexed property must not be changed while the element is in the IndexedCollection; instead,
+ * the element should be set again at it's index in the IndexedCollection after the change.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.search.HashIndex
+ * @see com.codeprimate.util.search.IndexedCollection
+ * @see com.codeprimate.util.search.SortedIndex
+ */
+
+package com.codeprimate.util.search;
+
+import com.cp.common.beans.util.PropertyAccessor;
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+public abstract class AbstractIndex {
+
+  private final String property;
+
+  /**
+   * Creates an instance of the AbstractIndex class indexing the elements by the value of the specified property.
+   * @param property the name of the Bean property whose value is the key of the elements in the index.
+   * @throws NullPointerException if the property is null.
+   */
+  protected AbstractIndex(final String property) {
+    Assert.notNull(property, "The property cannot be null!");
+    this.property = property;
+  }
+
+  /**
+   * Adds the element to the index under the value of it's indexed property.
+   * @param element the element to add.
+   * @throws IllegalArgumentException if the value of the indexed property could not be determined.
+   */
+  public void add(final Object element) {
+    getElements(getKey(element), true).add(element);
+  }
+
+  /**
+   * Adds all the elements returned by the Iterator to the index.
+   * @param elements the Iterator over the elements to add.
+   */
+  void addAll(final Iterator elements) {
+    while (elements.hasNext()) {
+      add(elements.next());
+    }
+  }
+
+  /**
+   * Removes all the elements from the index.
+   */
+  public abstract void clear();
+
+  /**
+   * Returns the elements whose indexed property value equals the specified key.
+   * @param key the value of the indexed property.
+   * @return an unmodifiable Collection of the elements with the key, in the order they were added.
+   */
+  public Collection<Object> get(final Object key) {
+    final List<Object> elements = getElements(key, false);
+    return (ObjectUtil.isNull(elements) ? Collections.emptyList() : Collections.unmodifiableList(elements));
+  }
+
+  /**
+   * Returns the List of elements under the specified key, creating the List if it does not exist and create
+   * is true.
+   * @param key the value of the indexed property.
+   * @param create a boolean value indicating whether to create the List of elements if the key is not indexed.
+   * @return the List of elements under the key, or null if the key is not indexed and create is false.
+   */
+  protected abstract List<Object> getElements(Object key, boolean create);
+
+  /**
+   * Returns the value of the indexed property of the specified element.
+   * @param element the element from which to get the key.
+   * @return the value of the indexed property of the element.
+   * @throws IllegalArgumentException if the value of the indexed property could not be determined.
+   */
+  protected Object getKey(final Object element) {
+    try {
+      return PropertyAccessor.getPropertyValue(element, getProperty());
+    }
+    catch (Exception e) {
+      throw new IllegalArgumentException("Failed to get the value of property (" + getProperty()
+        + ") of element (" + element + ")!", e);
+    }
+  }
+
+  /**
+   * Returns the name of the Bean property whose value is the key of the elements in the index.
+   * @return the String name of the indexed property.
+   */
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * Creates a new List to hold the elements under a key.
+   * @return a new, empty List of elements.
+   */
+  protected static List<Object> newElementList() {
+    return new ArrayList<Object>(1);
+  }
+
+  /**
+   * Removes one occurrence of the element from the index.
+   * @param element the element to remove.
+   * @return a boolean value indicating whether the element was in the index.
+   * @throws IllegalArgumentException if the value of the indexed property could not be determined.
+   */
+  public boolean remove(final Object element) {
+    final Object key = getKey(element);
+    final List<Object> elements = getElements(key, false);
+
+    if (ObjectUtil.isNotNull(elements) && elements.remove(element)) {
+      if (elements.isEmpty()) {
+        removeKey(key);
+      }
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Removes the key, whose List of elements is empty, from the index.
+   * @param key the value of the indexed property.
+   */
+  protected abstract void removeKey(Object key);
+
+  /**
+   * Returns a String representation of this index.
+   * @return a String representation of this index.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{property = ");
+    buffer.append(getProperty());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+}
@@ -4,7 +4,7 @@
  * Copyright (c) 2003, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2006.8.14
+ * @version 2026.10.17
  */
 
 package com.codeprimate.util.search;
@@ -24,4 +24,14 @@ public class CPSearchFactory extends AbstractSearchFactory {
     return new com.codeprimate.util.search.IndexedSearch(filter);
   }
 
+  /**
+   * Gets an instance of the Parallel Search algorithm, which finds all the elements matching the SearchFilter
+   * in order.
+   * @param filter the SearchFilter used to identify the item being searched.
+   * @return a Searcher that implements the Parallel Search algorithm.
+   */
+  public Searcher getParallelSearch(final SearchFilter filter) {
+    return new ParallelSearch(filter);
+  }
+
 }
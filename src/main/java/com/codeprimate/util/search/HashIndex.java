@@ -0,0 +1,69 @@
+/*
+ * HashIndex.java (c) 17 October 2026
+ *
+ * The HashIndex class indexes the elements of an IndexedCollection in a hash table keyed by the value of
+ * a property, so that the elements equal to a property value are found in constant time.  Null property
+ * values are indexed like any other value.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.search.AbstractIndex
+ * @see com.codeprimate.util.search.SortedIndex
+ */
+
+package com.codeprimate.util.search;
+
+import com.cp.common.lang.ObjectUtil;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HashIndex extends AbstractIndex {
+
+  private final Map<Object, List<Object>> index = new HashMap<Object, List<Object>>();
+
+  /**
+   * Creates an instance of the HashIndex class indexing the elements by the value of the specified property.
+   * @param property the name of the Bean property whose value is the key of the elements in the index.
+   * @throws NullPointerException if the property is null.
+   */
+  public HashIndex(final String property) {
+    super(property);
+  }
+
+  /**
+   * Removes all the elements from the index.
+   */
+  public void clear() {
+    index.clear();
+  }
+
+  /**
+   * Returns the List of elements under the specified key, creating the List if it does not exist and create
+   * is true.
+   * @param key the value of the indexed property.
+   * @param create a boolean value indicating whether to create the List of elements if the key is not indexed.
+   * @return the List of elements under the key, or null if the key is not indexed and create is false.
+   */
+  protected List<Object> getElements(final Object key, final boolean create) {
+    List<Object> elements = index.get(key);
+
+    if (ObjectUtil.isNull(elements) && create) {
+      elements = newElementList();
+      index.put(key, elements);
+    }
+
+    return elements;
+  }
+
+  /**
+   * Removes the key, whose List of elements is empty, from the index.
+   * @param key the value of the indexed property.
+   */
+  protected void removeKey(final Object key) {
+    index.remove(key);
+  }
+
+}
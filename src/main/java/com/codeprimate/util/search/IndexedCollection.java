@@ -0,0 +1,214 @@
+/*
+ * IndexedCollection.java (c) 17 October 2026
+ *
+ * The IndexedCollection class is a SearchableSortableCollection that maintains indexes over properties
+ * of it's elements as the elements are added, set and removed, so that the IndexedSearch can find the
+ * elements matching a SearchFilter without examining every element of the Collection.  Sorting the
+ * IndexedCollection rebuilds it's indexes.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.search.AbstractIndex
+ * @see com.codeprimate.util.search.IndexedSearch
+ * @see com.cp.common.util.SearchableSortableCollection
+ */
+
+package com.codeprimate.util.search;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.util.SearchableSortableCollection;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.apache.log4j.Logger;
+
+public class IndexedCollection extends SearchableSortableCollection {
+
+  private static final Logger logger = Logger.getLogger(IndexedCollection.class);
+
+  private final Map<String, AbstractIndex> indexes = new HashMap<String, AbstractIndex>();
+
+  /**
+   * Creates an empty instance of the IndexedCollection class.
+   */
+  public IndexedCollection() {
+  }
+
+  /**
+   * Creates an instance of the IndexedCollection class containing the elements of the specified Collection.
+   * @param collection the Collection of elements to index.
+   * @throws NullPointerException if the Collection is null.
+   */
+  public IndexedCollection(final Collection collection) {
+    super(collection);
+  }
+
+  /**
+   * Adds the specified object to the Collection and then to it's indexes.  If the object cannot be indexed, it
+   * is not added to the Collection.
+   * @param obj the Object being added to the Collection.
+   * @return a boolean value of true if the Object was successfully added to the Collection.
+   * @throws IllegalArgumentException if the value of an indexed property of the Object could not be determined.
+   */
+  public boolean add(final Object obj) {
+    if (!super.add(obj)) {
+      return false;
+    }
+
+    int indexed = 0;
+
+    try {
+      for (final AbstractIndex index : indexes.values()) {
+        index.add(obj);
+        indexed++;
+      }
+    }
+    catch (RuntimeException e) {
+      // NOTE the Object is removed from the indexes that added it and from the end of the Collection, so that the
+      // Collection and it's indexes remain consistent.
+      for (final Iterator<AbstractIndex> it = indexes.values().iterator(); indexed-- > 0; ) {
+        it.next().remove(obj);
+      }
+
+      removeLast();
+      throw e;
+    }
+
+    return true;
+  }
+
+  /**
+   * Builds the specified index over the elements of the Collection and maintains the index as the Collection
+   * changes, replacing any index over the same property.
+   * @param index the AbstractIndex to build and maintain.
+   * @throws NullPointerException if the index is null.
+   * @throws IllegalArgumentException if the value of the indexed property of an element could not be determined.
+   */
+  public void addIndex(final AbstractIndex index) {
+    Assert.notNull(index, "The index cannot be null!");
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("Building index (" + index + ") over (" + size() + ") elements.");
+    }
+
+    index.clear();
+    index.addAll(super.iterator());
+    indexes.put(index.getProperty(), index);
+  }
+
+  /**
+   * Removes all the elements from the Collection and it's indexes.
+   */
+  public void clear() {
+    super.clear();
+
+    for (final AbstractIndex index : indexes.values()) {
+      index.clear();
+    }
+  }
+
+  /**
+   * Returns the index over the specified property.
+   * @param property the name of the indexed property.
+   * @return the AbstractIndex over the property, or null if the property is not indexed.
+   */
+  public AbstractIndex getIndex(final String property) {
+    return indexes.get(property);
+  }
+
+  /**
+   * Returns an Iterator of the elements of the Collection, which removes the elements from the indexes as well.
+   * @return a java.util.Iterator.
+   */
+  public Iterator iterator() {
+    final Iterator it = super.iterator();
+
+    return new Iterator() {
+      private Object element;
+
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      public Object next() {
+        element = it.next();
+        return element;
+      }
+
+      public void remove() {
+        it.remove();
+
+        for (final AbstractIndex index : indexes.values()) {
+          index.remove(element);
+        }
+      }
+    };
+  }
+
+  /**
+   * Rebuilds all the indexes over the elements of the Collection.
+   */
+  private void rebuildIndexes() {
+    for (final AbstractIndex index : indexes.values()) {
+      index.clear();
+      index.addAll(super.iterator());
+    }
+  }
+
+  /**
+   * Removes the last element from the Collection, but not from the indexes.
+   */
+  private void removeLast() {
+    final Iterator it = super.iterator();
+
+    while (it.hasNext()) {
+      it.next();
+
+      if (!it.hasNext()) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Stops maintaining the index over the specified property.
+   * @param property the name of the indexed property.
+   * @return the AbstractIndex over the property, or null if the property was not indexed.
+   */
+  public AbstractIndex removeIndex(final String property) {
+    return indexes.remove(property);
+  }
+
+  /**
+   * Sets the element at the specified index in the Collection to be the specified Object, replacing the
+   * previous element in the indexes.
+   * @param obj the Object to set at index position within the Collection.
+   * @param index the index in the Collection in which to set the Object.
+   */
+  public void set(final Object obj, final int index) {
+    final Object previous = get(index);
+
+    super.set(obj, index);
+
+    for (final AbstractIndex propertyIndex : indexes.values()) {
+      propertyIndex.remove(previous);
+      propertyIndex.add(obj);
+    }
+  }
+
+  /**
+   * Sets all the elements of the Collection to the elements of the specified array, in order, and rebuilds
+   * the indexes.
+   * @param elements the array of elements to set in the Collection.
+   * @throws java.lang.IllegalArgumentException if the number of elements does not match the size of the
+   * Collection.
+   */
+  public void setAll(final Object[] elements) {
+    super.setAll(elements);
+    rebuildIndexes();
+  }
+
+}
@@ -1,27 +1,119 @@
 /*
  * IndexedSearch.java (c) 24 October 2004
  *
+ * The IndexedSearch class searches an IndexedCollection using the indexes over the properties of it's
+ * elements.  A PropertySearchFilter is looked up in the index over one of it's properties, choosing the
+ * index with the fewest matching elements when several of the filter's properties are indexed, and a
+ * PropertyRangeSearchFilter is looked up in a SortedIndex over it's property.  The elements found in the
+ * index are then matched against the SearchFilter, so that the properties of the filter that are not
+ * indexed are still applied.  Searchable collections that are not indexed, and SearchFilters that cannot
+ * use an index, are searched linearly.
+ *
+ * The search returns a Collection of the matching elements, as the LinearSearch does.
+ *
  * Copyright (c) 2003, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2004.10.26
+ * @version 2026.10.17
+ * @see com.codeprimate.util.search.IndexedCollection
+ * @see com.cp.common.util.search.LinearSearch
  */
 
 package com.codeprimate.util.search;
 
+import com.cp.common.lang.ObjectUtil;
 import com.cp.common.lang.Searchable;
 import com.cp.common.util.search.AbstractSearcher;
+import com.cp.common.util.search.LinearSearch;
+import com.cp.common.util.search.PropertyRangeSearchFilter;
+import com.cp.common.util.search.PropertySearchFilter;
 import com.cp.common.util.search.SearchException;
 import com.cp.common.util.search.SearchFilter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import org.apache.log4j.Logger;
+
+public class IndexedSearch extends AbstractSearcher<SearchFilter> {
 
-public class IndexedSearch extends com.cp.common.util.search.AbstractSearcher {
+  private static final Logger logger = Logger.getLogger(IndexedSearch.class);
 
+  /**
+   * Creates an instance of the IndexedSearch class to search for the elements matching the SearchFilter.
+   * @param filter the SearchFilter used to identify the elements being searched.
+   * @throws NullPointerException if the SearchFilter is null.
+   */
   public IndexedSearch(final SearchFilter filter) {
     super(filter);
   }
 
-  public Object search(final Searchable collection) throws com.cp.common.util.search.SearchException {
-    throw new UnsupportedOperationException("Not Implemented!");
+  /**
+   * Returns the elements of the IndexedCollection that may match the SearchFilter, as found in the indexes
+   * of the IndexedCollection.
+   * @param collection the IndexedCollection to search.
+   * @return a Collection of candidate elements, or null if the SearchFilter cannot use an index.
+   */
+  protected Collection<Object> getCandidates(final IndexedCollection collection) {
+    final SearchFilter filter = getSearchFilter();
+
+    if (filter instanceof PropertySearchFilter) {
+      Collection<Object> candidates = null;
+
+      for (final Map.Entry<?, ?> entry : ((PropertySearchFilter) filter).getPropertyMap().entrySet()) {
+        final AbstractIndex index = collection.getIndex(entry.getKey().toString());
+
+        if (ObjectUtil.isNotNull(index)) {
+          final Collection<Object> indexedElements = index.get(entry.getValue());
+
+          if (ObjectUtil.isNull(candidates) || indexedElements.size() < candidates.size()) {
+            candidates = indexedElements;
+          }
+        }
+      }
+
+      return candidates;
+    }
+    else if (filter instanceof PropertyRangeSearchFilter) {
+      final PropertyRangeSearchFilter rangeFilter = (PropertyRangeSearchFilter) filter;
+      final AbstractIndex index = collection.getIndex(rangeFilter.getProperty());
+
+      if (index instanceof SortedIndex) {
+        return ((SortedIndex) index).getRange(rangeFilter.getLowerBound(), true, rangeFilter.getUpperBound(), true);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Searches the Searchable collection for the elements matching the SearchFilter, using the indexes of the
+   * Searchable collection if it is an IndexedCollection.
+   * @param collection the Searchable collection to search.
+   * @return a Collection of the elements matching the SearchFilter.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public Object search(final Searchable collection) throws SearchException {
+    final Collection<Object> candidates = (collection instanceof IndexedCollection
+      ? getCandidates((IndexedCollection) collection) : null);
+
+    if (ObjectUtil.isNull(candidates)) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("No index of the Searchable collection (" + collection.getClass().getName()
+          + ") applies to the SearchFilter (" + getSearchFilter() + "); searching linearly.");
+      }
+
+      return new LinearSearch(getSearchFilter()).search(collection);
+    }
+
+    final Collection<Object> searchResults = new ArrayList<Object>(candidates.size());
+
+    for (final Object element : candidates) {
+      if (getSearchFilter().matches(element)) {
+        searchResults.add(element);
+      }
+    }
+
+    return searchResults;
   }
 
 }
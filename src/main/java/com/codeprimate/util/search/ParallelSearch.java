@@ -0,0 +1,355 @@
+/*
+ * ParallelSearch.java (c) 17 October 2026
+ *
+ * The ParallelSearch class searches the elements of a Searchable collection linearly, as the LinearSearch
+ * does, but in parallel using a ForkJoinPool.  The Searchable collection is partitioned by index range,
+ * recursively splitting each range into halves until a range is smaller than the sequential threshold, so
+ * the Searchable collection should provide efficient random access to it's elements.
+ *
+ * The search mode determines the result of the search.  FIND_ALL returns a Collection of all the matching
+ * elements, in the order of the Searchable collection unless the search is unordered, which avoids combining
+ * the partial results in order.  FIND_ANY returns any matching element, and stops the search as soon as one
+ * is found.  FIND_FIRST returns the matching element with the lowest index, and stops searching the ranges
+ * that follow the first match found so far.  Both return null when no element matches.
+ *
+ * Like the ParallelSort, the ParallelSearch holds no state about any search operation, so a single instance
+ * can be called concurrently to search any number of Searchable collections.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.search.LinearSearch
+ * @see com.codeprimate.util.sort.ParallelSort
+ * @see java.util.concurrent.ForkJoinPool
+ */
+
+package com.codeprimate.util.search;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.Searchable;
+import com.cp.common.util.search.AbstractSearcher;
+import com.cp.common.util.search.SearchException;
+import com.cp.common.util.search.SearchFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.log4j.Logger;
+
+public class ParallelSearch extends AbstractSearcher<SearchFilter> {
+
+  private static final Logger logger = Logger.getLogger(ParallelSearch.class);
+
+  public static final int DEFAULT_THRESHOLD = 1024;
+
+  // The index recorded by a FIND_FIRST or FIND_ANY search before any matching element has been found.
+  private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+  private final boolean ordered;
+
+  private final ForkJoinPool pool;
+
+  private final Mode mode;
+
+  private volatile int threshold;
+
+  /**
+   * Creates an instance of the ParallelSearch class to find all the elements matching the SearchFilter, in
+   * order, using the common ForkJoinPool.
+   * @param filter the SearchFilter used to identify the elements being searched.
+   */
+  public ParallelSearch(final SearchFilter filter) {
+    this(filter, Mode.FIND_ALL);
+  }
+
+  /**
+   * Creates an instance of the ParallelSearch class to find the elements matching the SearchFilter, as
+   * determined by the search mode, using the common ForkJoinPool.
+   * @param filter the SearchFilter used to identify the elements being searched.
+   * @param mode the Mode determining which matching elements are returned.
+   */
+  public ParallelSearch(final SearchFilter filter, final Mode mode) {
+    this(filter, mode, true, DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates an instance of the ParallelSearch class to find the elements matching the SearchFilter, as
+   * determined by the search mode, using the specified ForkJoinPool, searching sequentially once a range of
+   * elements is smaller than the threshold.
+   * @param filter the SearchFilter used to identify the elements being searched.
+   * @param mode the Mode determining which matching elements are returned.
+   * @param ordered a boolean value indicating whether a FIND_ALL search returns the matching elements in the
+   * order of the Searchable collection.
+   * @param threshold the number of elements below which a range of elements is searched sequentially.
+   * @param pool the ForkJoinPool executing the search.
+   * @throws NullPointerException if the SearchFilter, Mode or ForkJoinPool is null.
+   * @throws IllegalArgumentException if the threshold is less than 1.
+   */
+  public ParallelSearch(final SearchFilter filter, final Mode mode, final boolean ordered, final int threshold,
+                        final ForkJoinPool pool) {
+    super(filter);
+    Assert.notNull(mode, "The search Mode cannot be null!");
+    Assert.notNull(pool, "The ForkJoinPool cannot be null!");
+    setThreshold(threshold);
+    this.mode = mode;
+    this.ordered = ordered;
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the Mode determining which matching elements are returned.
+   * @return the Mode of the search.
+   */
+  public Mode getMode() {
+    return mode;
+  }
+
+  /**
+   * Returns the ForkJoinPool executing the search.
+   * @return the ForkJoinPool executing the search.
+   */
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Returns the number of elements below which a range of elements is searched sequentially.
+   * @return an integer value specifying the sequential threshold of the search.
+   */
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Sets the number of elements below which a range of elements is searched sequentially.
+   * @param threshold an integer value specifying the sequential threshold of the search.
+   * @throws IllegalArgumentException if the threshold is less than 1.
+   */
+  public final void setThreshold(final int threshold) {
+    Assert.isTrue(threshold > 0, "The threshold (" + threshold + ") must be greater than 0!");
+    this.threshold = threshold;
+  }
+
+  /**
+   * Determines whether a FIND_ALL search returns the matching elements in the order of the Searchable collection.
+   * @return a boolean value indicating whether the search is ordered.
+   */
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /**
+   * Searches the Searchable collection in parallel for the elements matching the SearchFilter.
+   * @param collection the Searchable collection to search.
+   * @return a Collection of the matching elements for a FIND_ALL search, otherwise a matching element, or null
+   * if no element matches.
+   * @throws com.cp.common.util.search.SearchException if the SearchFilter fails.
+   */
+  public Object search(final Searchable collection) throws SearchException {
+    if (logger.isDebugEnabled()) {
+      logger.debug("Searching a Searchable collection of type (" + collection.getClass().getName()
+        + ") of size (" + collection.size() + ") using the Parallel Search algorithm in mode (" + mode + ")!");
+    }
+
+    final SearchTask task = new SearchTask(collection, 0, collection.size(), new Search(collection));
+
+    try {
+      pool.invoke(task);
+    }
+    catch (FilterException e) {
+      logger.error("Failed to search Searchable collection (" + collection.getClass().getName()
+        + ") with the Parallel Search algorithm!", e.getCause());
+      throw (SearchException) e.getCause();
+    }
+
+    return task.search.getResult(task);
+  }
+
+  /**
+   * Returns a String representation of this Searcher.
+   * @return a String representation of this Searcher.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{filter = ");
+    buffer.append(getSearchFilter());
+    buffer.append(", mode = ").append(getMode());
+    buffer.append(", ordered = ").append(isOrdered());
+    buffer.append(", threshold = ").append(getThreshold());
+    buffer.append(", pool = ").append(getPool());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * The Mode enumerated type defines which matching elements are returned by the ParallelSearch.
+   */
+  public static enum Mode {
+    FIND_ALL,
+    FIND_ANY,
+    FIND_FIRST
+  }
+
+  /**
+   * The FilterException class carries a SearchException thrown by the SearchFilter out of the ForkJoinPool.
+   */
+  private static final class FilterException extends RuntimeException {
+    private FilterException(final SearchException cause) {
+      super(cause);
+    }
+  }
+
+  /**
+   * The Search class holds the state of a single search operation shared by all of it's SearchTasks.
+   */
+  private final class Search {
+
+    // The lowest index of a matching element found by a FIND_FIRST or FIND_ANY search.
+    private final AtomicInteger foundIndex = new AtomicInteger(NOT_FOUND);
+
+    private final Queue<Object> unorderedResults = new ConcurrentLinkedQueue<Object>();
+
+    private final Searchable collection;
+
+    private Search(final Searchable collection) {
+      this.collection = collection;
+    }
+
+    /**
+     * Records the index of a matching element, keeping the lowest index found.
+     */
+    private void found(final int index) {
+      int currentIndex = foundIndex.get();
+
+      while (index < currentIndex && !foundIndex.compareAndSet(currentIndex, index)) {
+        currentIndex = foundIndex.get();
+      }
+    }
+
+    /**
+     * Returns the result of the search once the root SearchTask, and so all it's subtasks, have completed.
+     */
+    private Object getResult(final SearchTask rootTask) {
+      switch (mode) {
+        case FIND_ALL:
+          return new ArrayList<Object>(isOrdered() ? rootTask.results : unorderedResults);
+        default:
+          final int index = foundIndex.get();
+          return (index == NOT_FOUND ? null : collection.get(index));
+      }
+    }
+
+    /**
+     * Determines whether the range of elements starting at the specified index need not be searched because
+     * the result of a FIND_FIRST or FIND_ANY search has already been found.
+     */
+    private boolean isCancelled(final int fromIndex) {
+      switch (mode) {
+        case FIND_ANY:
+          return (foundIndex.get() != NOT_FOUND);
+        case FIND_FIRST:
+          return (foundIndex.get() < fromIndex);
+        default:
+          return false;
+      }
+    }
+
+    /**
+     * Determines whether the element matches the SearchFilter.
+     */
+    private boolean matches(final Object element) {
+      try {
+        return getSearchFilter().matches(element);
+      }
+      catch (SearchException e) {
+        throw new FilterException(e);
+      }
+    }
+  }
+
+  /**
+   * The SearchTask class searches a range of elements of the Searchable collection, splitting the range into
+   * halves searched in parallel until the range is smaller than the sequential threshold.
+   */
+  private final class SearchTask extends RecursiveAction {
+
+    private final int fromIndex;
+    private final int toIndex;
+
+    private List<Object> results = Collections.emptyList();
+
+    private final Search search;
+
+    private final Searchable collection;
+
+    private SearchTask(final Searchable collection, final int fromIndex, final int toIndex, final Search search) {
+      this.collection = collection;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.search = search;
+    }
+
+    protected void compute() {
+      if (search.isCancelled(fromIndex)) {
+        return;
+      }
+
+      if ((toIndex - fromIndex) <= threshold) {
+        searchSequentially();
+      }
+      else {
+        final int middleIndex = ((fromIndex + toIndex) >>> 1);
+        final SearchTask left = new SearchTask(collection, fromIndex, middleIndex, search);
+        final SearchTask right = new SearchTask(collection, middleIndex, toIndex, search);
+
+        invokeAll(left, right);
+
+        if (Mode.FIND_ALL.equals(mode) && isOrdered()) {
+          if (left.results.isEmpty()) {
+            results = right.results;
+          }
+          else {
+            results = left.results;
+            results.addAll(right.results);
+          }
+        }
+      }
+    }
+
+    private void searchSequentially() {
+      for (int index = fromIndex; index < toIndex; index++) {
+        // NOTE a FIND_FIRST search checks the found index for every element to stop at the first match found
+        // in a preceding range.
+        if (!Mode.FIND_ALL.equals(mode) && search.isCancelled(index)) {
+          return;
+        }
+
+        final Object element = collection.get(index);
+
+        if (search.matches(element)) {
+          switch (mode) {
+            case FIND_ALL:
+              if (isOrdered()) {
+                if (results.isEmpty()) {
+                  results = new ArrayList<Object>();
+                }
+                results.add(element);
+              }
+              else {
+                search.unorderedResults.add(element);
+              }
+              break;
+            default:
+              search.found(index);
+              return;
+          }
+        }
+      }
+    }
+  }
+
+}
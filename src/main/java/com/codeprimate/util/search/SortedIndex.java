@@ -0,0 +1,152 @@
+/*
+ * SortedIndex.java (c) 17 October 2026
+ *
+ * The SortedIndex class indexes the elements of an IndexedCollection in a balanced tree ordered by the
+ * value of a property, so that the elements equal to a property value are found in logarithmic time and
+ * the elements whose property value lies within a range are found in logarithmic time plus the time to
+ * return them.  Null property values are indexed separately, are found by an equality lookup of null and
+ * are never within a range.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.search.AbstractIndex
+ * @see com.codeprimate.util.search.HashIndex
+ */
+
+package com.codeprimate.util.search;
+
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.ComparableComparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public class SortedIndex extends AbstractIndex {
+
+  private final List<Object> nullKeyElements = newElementList();
+
+  private final TreeMap<Object, List<Object>> index;
+
+  /**
+   * Creates an instance of the SortedIndex class indexing the elements by the natural order of the value of
+   * the specified property, which must be Comparable.
+   * @param property the name of the Bean property whose value is the key of the elements in the index.
+   * @throws NullPointerException if the property is null.
+   */
+  public SortedIndex(final String property) {
+    this(property, null);
+  }
+
+  /**
+   * Creates an instance of the SortedIndex class indexing the elements by the value of the specified property,
+   * in the order determined by the Comparator.
+   * @param property the name of the Bean property whose value is the key of the elements in the index.
+   * @param orderBy the Comparator ordering the property values, or null to use their natural order.
+   * @throws NullPointerException if the property is null.
+   */
+  @SuppressWarnings("unchecked")
+  public SortedIndex(final String property, final Comparator orderBy) {
+    super(property);
+    index = new TreeMap<Object, List<Object>>((Comparator<Object>) orderBy);
+  }
+
+  /**
+   * Removes all the elements from the index.
+   */
+  public void clear() {
+    index.clear();
+    nullKeyElements.clear();
+  }
+
+  /**
+   * Returns the Comparator ordering the property values.
+   * @return the Comparator ordering the property values, or null if they are in their natural order.
+   */
+  public Comparator getOrderBy() {
+    return index.comparator();
+  }
+
+  /**
+   * Returns the List of elements under the specified key, creating the List if it does not exist and create
+   * is true.
+   * @param key the value of the indexed property.
+   * @param create a boolean value indicating whether to create the List of elements if the key is not indexed.
+   * @return the List of elements under the key, or null if the key is not indexed and create is false.
+   */
+  protected List<Object> getElements(final Object key, final boolean create) {
+    if (ObjectUtil.isNull(key)) {
+      return nullKeyElements;
+    }
+
+    List<Object> elements = index.get(key);
+
+    if (ObjectUtil.isNull(elements) && create) {
+      elements = newElementList();
+      index.put(key, elements);
+    }
+
+    return elements;
+  }
+
+  /**
+   * Returns the elements whose indexed property value lies between the lower and upper key, in the order of
+   * their keys.
+   * @param lowerKey the smallest property value of the elements returned, or null if the range has no lower
+   * bound.
+   * @param lowerInclusive a boolean value indicating whether elements equal to the lower key are returned.
+   * @param upperKey the largest property value of the elements returned, or null if the range has no upper
+   * bound.
+   * @param upperInclusive a boolean value indicating whether elements equal to the upper key are returned.
+   * @return an unmodifiable Collection of the elements whose key lies within the range, which is empty if the
+   * lower key is greater than the upper key, or the keys are equal and not both inclusive.
+   */
+  @SuppressWarnings("unchecked")
+  public Collection<Object> getRange(final Object lowerKey, final boolean lowerInclusive,
+                                     final Object upperKey, final boolean upperInclusive) {
+    // NOTE the sub maps of a NavigableMap reject bounds outside of their range, so an empty range is handled first.
+    if (ObjectUtil.isNotNull(lowerKey) && ObjectUtil.isNotNull(upperKey)) {
+      final Comparator<Object> orderBy = (Comparator<Object>) (ObjectUtil.isNull(index.comparator())
+        ? ComparableComparator.getInstance() : index.comparator());
+      final int comparison = orderBy.compare(lowerKey, upperKey);
+
+      if (comparison > 0 || (comparison == 0 && !(lowerInclusive && upperInclusive))) {
+        return Collections.emptyList();
+      }
+    }
+
+    NavigableMap<Object, List<Object>> range = index;
+
+    if (ObjectUtil.isNotNull(lowerKey)) {
+      range = range.tailMap(lowerKey, lowerInclusive);
+    }
+
+    if (ObjectUtil.isNotNull(upperKey)) {
+      range = range.headMap(upperKey, upperInclusive);
+    }
+
+    final List<Object> elements = new ArrayList<Object>();
+
+    for (final List<Object> keyElements : range.values()) {
+      elements.addAll(keyElements);
+    }
+
+    return Collections.unmodifiableList(elements);
+  }
+
+  /**
+   * Removes the key, whose List of elements is empty, from the index.
+   * @param key the value of the indexed property.
+   */
+  protected void removeKey(final Object key) {
+    if (ObjectUtil.isNotNull(key)) {
+      index.remove(key);
+    }
+  }
+
+}
@@ -0,0 +1,313 @@
+/*
+ * AdaptiveSort.java (c) 17 October 2026
+ *
+ * The AdaptiveSort class chooses the sorting algorithm for each Sortable collection it sorts based on
+ * the size of the collection, how much of the collection is already in order and the cost of accessing
+ * the elements of the collection, so that callers need not pick a SortType by hand and never pay for an
+ * O(n^2) algorithm on a large collection.
+ *
+ * Small collections that are not BulkSortable are sorted in place with an Insertion Sort, avoiding the
+ * copy of the elements.  Otherwise, the elements are copied to an array once and the runs of elements
+ * already in order are counted.  A collection that is a single ascending run is left untouched.  Small
+ * arrays are sorted with an Insertion Sort, large arrays with few runs are sorted by merging their runs
+ * with a TimSort, and large arrays with many short runs are sorted with the ParallelSort.  The sorted
+ * elements are then written back once.
+ *
+ * The strategy chosen for each sort is counted per strategy across all instances of the AdaptiveSort,
+ * and the strategy of the last sort is recorded on the instance.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.sort.ParallelSort
+ * @see com.cp.common.lang.BulkSortable
+ * @see com.cp.common.util.sort.AbstractSorter
+ */
+
+package com.codeprimate.util.sort;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.BulkSortable;
+import com.cp.common.lang.Sortable;
+import com.cp.common.util.SortAscendingComparator;
+import com.cp.common.util.sort.AbstractSorter;
+import com.cp.common.util.sort.InsertionSort;
+import com.cp.common.util.sort.SortException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.log4j.Logger;
+
+public class AdaptiveSort extends AbstractSorter {
+
+  private static final Logger logger = Logger.getLogger(AdaptiveSort.class);
+
+  public static final int DEFAULT_INSERTION_SORT_THRESHOLD = 32;
+  public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 65536;
+
+  // The average length of the runs below which an array is considered unordered.
+  private static final int MIN_AVERAGE_RUN_LENGTH = 32;
+
+  private static final LongAdder[] STRATEGY_COUNTS = new LongAdder[Strategy.values().length];
+
+  static {
+    for (int index = 0; index < STRATEGY_COUNTS.length; index++) {
+      STRATEGY_COUNTS[index] = new LongAdder();
+    }
+  }
+
+  private volatile int insertionSortThreshold = DEFAULT_INSERTION_SORT_THRESHOLD;
+  private volatile int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
+
+  private final ParallelSort parallelSort;
+
+  private volatile Strategy lastStrategy;
+
+  /**
+   * Creates an instance of the AdaptiveSort class to sort the elements of a Sortable collection in
+   * ascending order.
+   */
+  public AdaptiveSort() {
+    this(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Creates an instance of the AdaptiveSort class to sort the elements of a Sortable collection in the
+   * order determined by the Comparator.
+   * @param orderBy the Comparator used to order the elements of the Sortable collection.
+   */
+  public AdaptiveSort(final Comparator orderBy) {
+    super(orderBy);
+    parallelSort = new ParallelSort(orderBy);
+  }
+
+  /**
+   * Returns the number of sorts, by all instances of the AdaptiveSort, that used the specified strategy.
+   * @param strategy the Strategy of the sort.
+   * @return a long value of the number of sorts that used the strategy.
+   */
+  public static long getStrategyCount(final Strategy strategy) {
+    return STRATEGY_COUNTS[strategy.ordinal()].sum();
+  }
+
+  /**
+   * Returns the number of elements at or below which an array of elements is sorted with an Insertion Sort.
+   * @return an integer value specifying the Insertion Sort threshold.
+   */
+  public int getInsertionSortThreshold() {
+    return insertionSortThreshold;
+  }
+
+  /**
+   * Sets the number of elements at or below which an array of elements is sorted with an Insertion Sort.
+   * @param insertionSortThreshold an integer value specifying the Insertion Sort threshold.
+   * @throws IllegalArgumentException if the threshold is negative.
+   */
+  public void setInsertionSortThreshold(final int insertionSortThreshold) {
+    Assert.isTrue(insertionSortThreshold >= 0, "The insertion sort threshold (" + insertionSortThreshold
+      + ") cannot be negative!");
+    this.insertionSortThreshold = insertionSortThreshold;
+  }
+
+  /**
+   * Returns the Strategy chosen for the last sort performed by this AdaptiveSort.
+   * @return the Strategy of the last sort, or null if this AdaptiveSort has not sorted anything.
+   */
+  public Strategy getLastStrategy() {
+    return lastStrategy;
+  }
+
+  /**
+   * Returns the number of elements at or above which an unordered array of elements is sorted in parallel.
+   * @return an integer value specifying the ParallelSort threshold.
+   */
+  public int getParallelSortThreshold() {
+    return parallelSortThreshold;
+  }
+
+  /**
+   * Sets the number of elements at or above which an unordered array of elements is sorted in parallel.
+   * @param parallelSortThreshold an integer value specifying the ParallelSort threshold.
+   * @throws IllegalArgumentException if the threshold is less than 2.
+   */
+  public void setParallelSortThreshold(final int parallelSortThreshold) {
+    Assert.isTrue(parallelSortThreshold > 1, "The parallel sort threshold (" + parallelSortThreshold
+      + ") must be greater than 1!");
+    this.parallelSortThreshold = parallelSortThreshold;
+  }
+
+  /**
+   * Counts the runs of ascending or strictly descending elements in the array, stopping once the count
+   * exceeds the maximum.
+   * @param elements the array of elements.
+   * @param maxRunCount the number of runs after which counting stops.
+   * @return the number of runs in the array, or a number greater than maxRunCount.
+   */
+  private int countRuns(final Object[] elements, final int maxRunCount) {
+    final Comparator<Object> orderBy = getElementOrderBy();
+
+    int runCount = 0;
+    int index = 0;
+
+    while (index < elements.length && runCount <= maxRunCount) {
+      runCount++;
+      index++;
+
+      if (index < elements.length) {
+        if (orderBy.compare(elements[index - 1], elements[index]) <= 0) {
+          while (index < elements.length && orderBy.compare(elements[index - 1], elements[index]) <= 0) {
+            index++;
+          }
+        }
+        else {
+          while (index < elements.length && orderBy.compare(elements[index - 1], elements[index]) > 0) {
+            index++;
+          }
+        }
+      }
+    }
+
+    return runCount;
+  }
+
+  /**
+   * Sorts the elements in the array in place using an Insertion Sort.
+   */
+  private void insertionSort(final Object[] elements) {
+    final Comparator<Object> orderBy = getElementOrderBy();
+
+    for (int i = 1; i < elements.length; i++) {
+      final Object element = elements[i];
+
+      int j = i - 1;
+
+      while (j >= 0 && orderBy.compare(element, elements[j]) < 0) {
+        elements[j + 1] = elements[j];
+        j--;
+      }
+
+      elements[j + 1] = element;
+    }
+  }
+
+  /**
+   * Records the strategy chosen for a sort.
+   */
+  private Strategy record(final Strategy strategy, final int size) {
+    STRATEGY_COUNTS[strategy.ordinal()].increment();
+    lastStrategy = strategy;
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("sorting (" + size + ") elements using strategy (" + strategy + ")");
+    }
+
+    return strategy;
+  }
+
+  /**
+   * Sorts the specified Sortable collection using the strategy best suited to the collection.
+   * @param collection the Sortable collection to sort.
+   * @throws SortException if the sort operation fails.
+   */
+  public void sort(final Sortable collection) throws SortException {
+    final int size = collection.size();
+
+    // NOTE copying the elements of a small collection would cost more than sorting it in place.
+    if (size <= getInsertionSortThreshold() && !(collection instanceof BulkSortable)) {
+      record(Strategy.INSERTION_SORT, size);
+      new InsertionSort(getOrderBy()).insertionSort(collection, 0, size - 1);
+      return;
+    }
+
+    final Object[] elements = toArray(collection);
+
+    try {
+      if (Strategy.PRESORTED.equals(sort(elements))) {
+        return;
+      }
+    }
+    catch (RuntimeException e) {
+      logger.error("Failed to sort Sortable collection (" + collection.getClass().getName()
+        + ") with the Adaptive Sort algorithm!", e);
+      throw new SortException("Failed to sort Sortable collection (" + collection.getClass().getName()
+        + ") with the Adaptive Sort algorithm!", e);
+    }
+
+    setAll(collection, elements);
+  }
+
+  /**
+   * Sorts the elements in the array using the strategy best suited to the array.
+   * @param elements the array of elements to sort.
+   * @return the Strategy used to sort the array.
+   */
+  public Strategy sort(final Object[] elements) {
+    final int size = elements.length;
+
+    if (size <= getInsertionSortThreshold()) {
+      insertionSort(elements);
+      return record((size < 2 ? Strategy.PRESORTED : Strategy.INSERTION_SORT), size);
+    }
+
+    final int maxRunCount = Math.max(1, size / MIN_AVERAGE_RUN_LENGTH);
+    final int runCount = countRuns(elements, maxRunCount);
+
+    if (runCount == 1 && getElementOrderBy().compare(elements[0], elements[size - 1]) <= 0) {
+      return record(Strategy.PRESORTED, size);
+    }
+    else if (runCount > maxRunCount && size >= getParallelSortThreshold()
+      && parallelSort.getPool().getParallelism() > 1) {
+      parallelSort.parallelSort(elements);
+      return record(Strategy.PARALLEL_SORT, size);
+    }
+    else {
+      // NOTE Arrays.sort is a TimSort, which merges the existing runs of the array.
+      Arrays.sort(elements, getElementOrderBy());
+      return record(Strategy.RUN_MERGE_SORT, size);
+    }
+  }
+
+  /**
+   * Returns a String representation of this Sorter.
+   * @return a String representation of this Sorter.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{orderBy = ");
+    buffer.append(getOrderBy());
+    buffer.append(", insertionSortThreshold = ").append(getInsertionSortThreshold());
+    buffer.append(", parallelSortThreshold = ").append(getParallelSortThreshold());
+    buffer.append(", lastStrategy = ").append(getLastStrategy());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * The Strategy enumerated type defines the sorting algorithms chosen by the AdaptiveSort.
+   */
+  public static enum Strategy {
+    PRESORTED("Presorted"),
+    INSERTION_SORT("Insertion Sort"),
+    RUN_MERGE_SORT("Run Merge Sort"),
+    PARALLEL_SORT("Parallel Sort");
+
+    private final String description;
+
+    Strategy(final String description) {
+      this.description = description;
+    }
+
+    /**
+     * Returns a description of the sorting algorithm.
+     * @return a String describing the sorting algorithm.
+     */
+    public String getDescription() {
+      return description;
+    }
+
+    public String toString() {
+      return description;
+    }
+  }
+
+}
@@ -18,6 +18,15 @@ public class CPSortFactory extends AbstractSortFactory {
 
   private static final Logger logger = Logger.getLogger(CPSortFactory.class);
 
+  /**
+   * Gets an instance of the Adaptive Sort algorithm, order determined by the Comparator.
+   * @param orderBy a Comparater used to order the elements of the Sortable collection.
+   * @return a Sorter that chooses the sorting algorithm suited to each Sortable collection.
+   */
+  public com.cp.common.util.sort.Sorter getAdaptiveSort(final Comparator orderBy) {
+    return new com.codeprimate.util.sort.AdaptiveSort(orderBy);
+  }
+
   /**
    * Gets an instance of the Multithreaded Quick Sort algorithm, order determined by the Comparator.
    * @param orderBy a Comparater used to order of the elements of the Sortable collection.
@@ -27,6 +36,15 @@ public class CPSortFactory extends AbstractSortFactory {
     return new com.codeprimate.util.sort.MultithreadedQuickSort(orderBy);
   }
 
+  /**
+   * Gets an instance of the Parallel Sort algorithm, order determined by the Comparator.
+   * @param orderBy a Comparater used to order the elements of the Sortable collection.
+   * @return a Sorter that implements the Parallel Sort algorithm.
+   */
+  public com.cp.common.util.sort.Sorter getParallelSort(final Comparator orderBy) {
+    return new com.codeprimate.util.sort.ParallelSort(orderBy);
+  }
+
   /**
    * Gets an instance of the Tree Sort algorithm, order determined by the Comparator.
    * @param orderBy a Comparater used to order the elements of the Sortable collection.
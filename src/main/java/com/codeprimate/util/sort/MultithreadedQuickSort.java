@@ -29,7 +29,11 @@ import java.util.Map;
 import java.util.Stack;
 import org.apache.log4j.Logger;
 
-public final class MultithreadedQuickSort extends com.cp.common.util.sort.AbstractSorter {
+/**
+ * @deprecated the MultithreadedQuickSort creates it's own Threads for every instance and can only be used once;
+ * use the com.codeprimate.util.sort.ParallelSort instead!
+ */
+@Deprecated public final class MultithreadedQuickSort extends com.cp.common.util.sort.AbstractSorter {
 
   private static final Logger logger = Logger.getLogger(MultithreadedQuickSort.class);
 
@@ -163,6 +167,10 @@ public final class MultithreadedQuickSort extends com.cp.common.util.sort.Abstra
   }
 
   public void sort(final Sortable collection) throws com.cp.common.util.sort.SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     setCollection(collection);
     eventStack.push(new WorkUnit(0, (collection.size() - 1)));
     join();
@@ -0,0 +1,232 @@
+/*
+ * ParallelSort.java (c) 17 October 2026
+ *
+ * The ParallelSort class sorts the elements of a Sortable collection with a parallel Merge Sort
+ * executed by a ForkJoinPool.  The elements are copied out of the Sortable collection once, sorted
+ * in an array by recursively splitting the array into halves, which are sorted in parallel until a
+ * half is smaller than the sequential threshold, and then merged, and finally copied back into the
+ * Sortable collection once, in a single operation each if the Sortable collection is a BulkSortable.
+ * The sort is stable.
+ *
+ * Unlike the MultithreadedQuickSort, the ParallelSort holds no state about any sort operation and
+ * does not create any Threads of it's own, so a single instance can be reused, and called
+ * concurrently, to sort any number of Sortable collections.  By default, the sort is executed by the
+ * common ForkJoinPool, which is sized to the number of available processors.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.lang.Sortable
+ * @see com.cp.common.util.sort.AbstractSorter
+ * @see java.util.concurrent.ForkJoinPool
+ */
+
+package com.codeprimate.util.sort;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.Sortable;
+import com.cp.common.util.SortAscendingComparator;
+import com.cp.common.util.sort.AbstractSorter;
+import com.cp.common.util.sort.SortException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.log4j.Logger;
+
+public class ParallelSort extends AbstractSorter {
+
+  private static final Logger logger = Logger.getLogger(ParallelSort.class);
+
+  public static final int DEFAULT_THRESHOLD = 8192;
+
+  private final ForkJoinPool pool;
+
+  private volatile int threshold;
+
+  /**
+   * Creates an instance of the ParallelSort class to sort the elements of a Sortable collection in
+   * ascending order using the common ForkJoinPool.
+   */
+  public ParallelSort() {
+    this(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Creates an instance of the ParallelSort class to sort the elements of a Sortable collection in the
+   * order determined by the Comparator using the common ForkJoinPool.
+   * @param orderBy the Comparator used to order the elements of the Sortable collection.
+   */
+  public ParallelSort(final Comparator orderBy) {
+    this(orderBy, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Creates an instance of the ParallelSort class to sort the elements of a Sortable collection in the
+   * order determined by the Comparator using the common ForkJoinPool, sorting sequentially once a range
+   * of elements is smaller than the threshold.
+   * @param orderBy the Comparator used to order the elements of the Sortable collection.
+   * @param threshold the number of elements below which a range of elements is sorted sequentially.
+   */
+  public ParallelSort(final Comparator orderBy, final int threshold) {
+    this(orderBy, threshold, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates an instance of the ParallelSort class to sort the elements of a Sortable collection in the
+   * order determined by the Comparator using the specified ForkJoinPool, sorting sequentially once a
+   * range of elements is smaller than the threshold.
+   * @param orderBy the Comparator used to order the elements of the Sortable collection.
+   * @param threshold the number of elements below which a range of elements is sorted sequentially.
+   * @param pool the ForkJoinPool executing the sort.
+   * @throws NullPointerException if the ForkJoinPool is null.
+   */
+  public ParallelSort(final Comparator orderBy, final int threshold, final ForkJoinPool pool) {
+    super(orderBy);
+    Assert.notNull(pool, "The ForkJoinPool cannot be null!");
+    setThreshold(threshold);
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the ForkJoinPool executing the sort.
+   * @return the ForkJoinPool executing the sort.
+   */
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Returns the number of elements below which a range of elements is sorted sequentially.
+   * @return an integer value specifying the sequential threshold of the sort.
+   */
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Sets the number of elements below which a range of elements is sorted sequentially.
+   * @param threshold an integer value specifying the sequential threshold of the sort.
+   * @throws IllegalArgumentException if the threshold is less than 2.
+   */
+  public final void setThreshold(final int threshold) {
+    Assert.isTrue(threshold > 1, "The threshold (" + threshold + ") must be greater than 1!");
+    this.threshold = threshold;
+  }
+
+  /**
+   * Sorts the elements in the array in the order determined by the Comparator, in parallel using the
+   * ForkJoinPool.
+   * @param array the array of elements to sort.
+   */
+  public void parallelSort(final Object[] array) {
+    if (array.length < threshold) {
+      Arrays.sort(array, getElementOrderBy());
+    }
+    else {
+      pool.invoke(new SortTask(array, new Object[array.length], 0, array.length, getElementOrderBy(), threshold));
+    }
+  }
+
+  /**
+   * Sorts the specified Sortable collection using a parallel Merge Sort.
+   * @param collection the Sortable collection to sort.
+   * @throws SortException if the sort operation fails.
+   */
+  public void sort(final Sortable collection) throws SortException {
+    if (logger.isDebugEnabled()) {
+      logger.debug("Sorting a Sortable collection of type (" + collection.getClass().getName()
+        + ") using the Parallel Sort algorithm!");
+    }
+
+    final Object[] array = toArray(collection);
+
+    try {
+      parallelSort(array);
+    }
+    catch (RuntimeException e) {
+      logger.error("Failed to sort Sortable collection (" + collection.getClass().getName()
+        + ") with the Parallel Sort algorithm!", e);
+      throw new SortException("Failed to sort Sortable collection (" + collection.getClass().getName()
+        + ") with the Parallel Sort algorithm!", e);
+    }
+
+    setAll(collection, array);
+  }
+
+  /**
+   * Returns a String representation of this Sorter.
+   * @return a String representation of this Sorter.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{orderBy = ");
+    buffer.append(getOrderBy());
+    buffer.append(", threshold = ").append(getThreshold());
+    buffer.append(", parallelism = ").append(getPool().getParallelism());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * The SortTask class sorts a range of the array, from the begin index inclusive to the end index
+   * exclusive, by sorting both halves of the range in parallel and merging the halves through the
+   * temporary array.
+   */
+  private static final class SortTask extends RecursiveAction {
+
+    private final int beginIndex;
+    private final int endIndex;
+    private final int threshold;
+
+    private final Comparator<Object> orderBy;
+
+    private final Object[] array;
+    private final Object[] tempArray;
+
+    SortTask(final Object[] array, final Object[] tempArray, final int beginIndex, final int endIndex,
+             final Comparator<Object> orderBy, final int threshold) {
+      this.array = array;
+      this.tempArray = tempArray;
+      this.beginIndex = beginIndex;
+      this.endIndex = endIndex;
+      this.orderBy = orderBy;
+      this.threshold = threshold;
+    }
+
+    protected void compute() {
+      if ((endIndex - beginIndex) < threshold) {
+        Arrays.sort(array, beginIndex, endIndex, orderBy);
+        return;
+      }
+
+      final int midIndex = (beginIndex + endIndex) >>> 1;
+
+      invokeAll(new SortTask(array, tempArray, beginIndex, midIndex, orderBy, threshold),
+        new SortTask(array, tempArray, midIndex, endIndex, orderBy, threshold));
+
+      // NOTE the halves are already in order when the last element of the lower half is not after the first
+      // element of the upper half, which is common for partially sorted input.
+      if (orderBy.compare(array[midIndex - 1], array[midIndex]) > 0) {
+        merge(midIndex);
+      }
+    }
+
+    private void merge(final int midIndex) {
+      int left = beginIndex;
+      int right = midIndex;
+      int tempIndex = beginIndex;
+
+      while (left < midIndex && right < endIndex) {
+        // NOTE taking the element from the lower half when equal keeps the sort stable.
+        tempArray[tempIndex++] = (orderBy.compare(array[left], array[right]) <= 0 ? array[left++] : array[right++]);
+      }
+
+      System.arraycopy(array, left, tempArray, tempIndex, midIndex - left);
+      tempIndex += (midIndex - left);
+      System.arraycopy(array, right, tempArray, tempIndex, endIndex - right);
+      System.arraycopy(tempArray, beginIndex, array, beginIndex, endIndex - beginIndex);
+    }
+  }
+
+}
@@ -51,14 +51,21 @@ public class TreeSort extends AbstractSorter {
     try {
       final SortedBag orderedBag = new TreeBag(getOrderBy());
 
-      for (int index = collection.size(); --index >= 0; ) {
-        orderedBag.add(collection.get(index));
+      final Object[] elements = toArray(collection);
+
+      for (int index = elements.length; --index >= 0; ) {
+        orderedBag.add(elements[index]);
       }
 
       int index = 0;
       for (Iterator it = orderedBag.iterator(); it.hasNext(); ) {
-        collection.set(it.next(), index++);
+        elements[index++] = it.next();
       }
+
+      setAll(collection, elements);
+    }
+    catch (SortException e) {
+      throw e;
     }
     catch (Exception e) {
       logger.error("Failed to sort Sortable Collection (" + collection.getClass().getName()
@@ -0,0 +1,40 @@
+/*
+ * BulkSortable.java (c) 17 October 2026
+ *
+ * The BulkSortable interface is an optional extension of the Sortable interface for collections
+ * that can copy all their elements out to an array, and replace all their elements from an array,
+ * in a single operation.  Sorters detect BulkSortable collections and sort a plain array of the
+ * elements instead of accessing every element through get and set, writing the sorted elements
+ * back once.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.lang.Sortable
+ * @see com.cp.common.util.sort.Sorter
+ */
+
+package com.cp.common.lang;
+
+public interface BulkSortable<T> extends Sortable<T> {
+
+  /**
+   * Sets all the elements of this BulkSortable object's collection of objects to the elements of
+   * the specified array, in order.  The array must contain the same number of elements as this
+   * collection.
+   * @param elements the array of elements to place in the collection of objects.
+   * @throws java.lang.IllegalArgumentException if the number of elements does not match the size
+   * of this collection.
+   * @throws java.lang.Exception if the elements could not be set.
+   */
+  public void setAll(Object[] elements) throws Exception;
+
+  /**
+   * Returns a new array containing all the elements of this BulkSortable object's collection of
+   * objects, in order.
+   * @return an array of the elements in this collection.
+   */
+  public Object[] toArray();
+
+}
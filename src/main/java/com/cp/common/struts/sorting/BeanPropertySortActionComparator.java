@@ -4,13 +4,13 @@
  * Copyright (c) 2003, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2004.5.19
+ * @version 2026.10.17
  */
 
 package com.cp.common.struts.sorting;
 
-import java.util.Comparator;
-import org.apache.commons.beanutils.BeanComparator;
+import com.cp.common.beans.util.PropertyAccessor;
+import com.cp.common.lang.ObjectUtil;
 import org.apache.log4j.Logger;
 
 public class BeanPropertySortActionComparator extends SortActionComparator {
@@ -28,17 +28,19 @@ public class BeanPropertySortActionComparator extends SortActionComparator {
   public int compare(final Object o1, final Object o2) {
     final int multiplier = (isReverse() ? -1 : 1);
     logger.debug("multiplier = " + multiplier);
-    return multiplier * getComparator().compare(o1, o2);
+    return multiplier * getValue(o1).compareTo(getValue(o2));
   }
 
   /**
-   * Returns an instance of the BeanComparator class to sort elements of a Sortable Collection by their
-   * common property defined by sortKey.
-   * @return a instance of the BeanComparator class to sort elements of a Sortable Collection by their
-   * common property defined by sortKey.
+   * Returns the value of the property defined by sortKey of the element of the Sortable Collection, or the
+   * element itself if the sortKey is not set.  The property is read with the cached PropertyAccessor for the
+   * class of the element.
+   * @param element the element of the Sortable Collection.
+   * @return the Comparable value by which the element is ordered.
    */
-  private Comparator getComparator() {
-    return new BeanComparator(getSortKey());
+  private Comparable getValue(final Object element) {
+    return (Comparable) (ObjectUtil.isNull(getSortKey()) ? element
+      : PropertyAccessor.getPropertyValue(element, getSortKey()));
   }
 
 }
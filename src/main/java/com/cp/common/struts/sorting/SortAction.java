@@ -16,7 +16,13 @@ import com.cp.common.struts.CPActionForm;
 import com.cp.common.struts.CPActionMapping;
 import com.cp.common.struts.DefaultAction;
 import com.cp.common.util.ComparableComparator;
-import com.cp.common.util.sort.QuickSort;
+import com.cp.common.util.sort.AbstractSortFactory;
+import com.cp.common.util.sort.DoubleKeyExtractor;
+import com.cp.common.util.sort.DoubleKeySort;
+import com.cp.common.util.sort.IntKeyExtractor;
+import com.cp.common.util.sort.IntKeySort;
+import com.cp.common.util.sort.LongKeyExtractor;
+import com.cp.common.util.sort.LongKeySort;
 import com.cp.common.util.sort.SortType;
 import com.cp.common.util.sort.Sorter;
 import java.util.Comparator;
@@ -99,6 +105,29 @@ public class SortAction extends DefaultAction {
     return (SortActionMapping) mapping;
   }
 
+  /**
+   * Returns a Sorter ordering the elements by primitive sort keys if the Comparator is also an IntKeyExtractor,
+   * LongKeyExtractor or DoubleKeyExtractor, which avoids boxing and comparing the values of numeric properties.
+   * The elements are sorted in descending order if the Comparator is a SortActionComparator that is reversed.
+   * @param orderBy the Comparator used to order the elements in the specified Sortable Collection.
+   * @return a primitive key Sorter, or null if the Comparator does not extract primitive sort keys.
+   */
+  protected Sorter getKeySorter(final Comparator orderBy) {
+    final boolean descending = (orderBy instanceof SortActionComparator && ((SortActionComparator) orderBy).isReverse());
+
+    if (orderBy instanceof IntKeyExtractor) {
+      return new IntKeySort((IntKeyExtractor) orderBy, descending);
+    }
+    else if (orderBy instanceof LongKeyExtractor) {
+      return new LongKeySort((LongKeyExtractor) orderBy, descending);
+    }
+    else if (orderBy instanceof DoubleKeyExtractor) {
+      return new DoubleKeySort((DoubleKeyExtractor) orderBy, descending);
+    }
+
+    return null;
+  }
+
   /**
    * Returns the configured Comparator or SortActionComparator instance used to order the elements of the
    * specified Sortable Collection.
@@ -149,15 +178,20 @@ public class SortAction extends DefaultAction {
       return (Sorter) ClassUtil.getInstance(sortAlgorithmClass, new Object[] { orderBy });
     }
     // Else, treat the sortAlgorithm property as a description of the sort algorithm specifying the SortType and use it
-    // to call the factory method and get the Sorter class.
+    // to call the factory method and get the Sorter class.  A primitive key Sorter is only used when no SortType is
+    // configured, so that it never overrides the configured algorithm.
     catch (Exception e) {
       logger.warn(e);
       final SortType sortType = SortType.getSortType(sortAlgorithm);
       if (ObjectUtil.isNull(sortType)) {
-        return new QuickSort(orderBy);
+        final Sorter keySorter = getKeySorter(orderBy);
+        if (ObjectUtil.isNotNull(keySorter)) {
+          return keySorter;
+        }
       }
-      // TODO use a factory to get the sorting algorithm, instance of the Sorter class.
-      return new QuickSort(orderBy);
+      // NOTE default to the Adaptive Sort, which never applies an O(n^2) algorithm to a large collection.
+      return AbstractSortFactory.getInstance().getSort((ObjectUtil.isNull(sortType) ? SortType.ADAPTIVE_SORT
+        : sortType), orderBy);
     }
   }
 
@@ -9,9 +9,9 @@
 
 package com.cp.common.util;
 
+import com.cp.common.lang.BulkSortable;
 import com.cp.common.lang.ObjectUtil;
 import com.cp.common.lang.Searchable;
-import com.cp.common.lang.Sortable;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -19,7 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import org.apache.log4j.Logger;
 
-public class SearchableSortableCollection extends AbstractCollection implements Searchable, Sortable {
+public class SearchableSortableCollection extends AbstractCollection implements BulkSortable, Searchable {
 
   private static final Logger logger = Logger.getLogger(SearchableSortableCollection.class);
 
@@ -63,6 +63,13 @@ public class SearchableSortableCollection extends AbstractCollection implements
     return collection.add(obj);
   }
 
+  /**
+   * Removes all the elements from the Collection.
+   */
+  public void clear() {
+    collection.clear();
+  }
+
   /**
    * Returns the element at the specified index in the Collection.
    * @param index the index of the element in the Collection to
@@ -97,6 +104,26 @@ public class SearchableSortableCollection extends AbstractCollection implements
     collection.set(index, obj);
   }
 
+  /**
+   * Sets all the elements of the Collection to the elements of the specified array, in order.
+   * @param elements the array of elements to set in the Collection.
+   * @throws java.lang.IllegalArgumentException if the number of elements does not match the size
+   * of the Collection.
+   */
+  @SuppressWarnings("unchecked")
+  public void setAll(final Object[] elements) {
+    if (elements.length != collection.size()) {
+      logger.warn("The number of elements (" + elements.length + ") does not match the size of the Collection ("
+        + collection.size() + ")!");
+      throw new IllegalArgumentException("The number of elements (" + elements.length
+        + ") does not match the size of the Collection (" + collection.size() + ")!");
+    }
+
+    for (int index = 0; index < elements.length; index++) {
+      collection.set(index, elements[index]);
+    }
+  }
+
   /**
    * Returns the size of the Collection (number of elements).
    * @return the number of elements in the Collection.
@@ -105,4 +132,12 @@ public class SearchableSortableCollection extends AbstractCollection implements
     return collection.size();
   }
 
+  /**
+   * Returns an array containing all the elements of the Collection, in order.
+   * @return an array of the elements in the Collection.
+   */
+  public Object[] toArray() {
+    return collection.toArray();
+  }
+
 }
@@ -9,8 +9,11 @@
  *
  * <code>
  *    getCacheableInstance
+ *    getDescription
  *    getSize
+ *    getWeight
  *    invalidateCache
+ *    invalidateCacheables
  *    iterateCacheables
  *    purgeCache
  *    readCacheable
@@ -28,11 +31,27 @@
 
 package com.cp.common.util.cache;
 
+import com.cp.common.lang.Assert;
 import com.cp.common.lang.NumberUtil;
 import com.cp.common.lang.ObjectUtil;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
 import javax.swing.event.EventListenerList;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -45,21 +64,36 @@ public abstract class AbstractCache implements Cache {
   private int maxSize = DEFAULT_MAX_SIZE;
   private int purgeInterval = DEFAULT_PURGE_INTERVAL;
 
+  private volatile long maxWeight = 0l;
+  private volatile long refreshAheadTime = 0l;
+
+  private volatile CacheLoader cacheLoader;
+
+  private volatile StatsCounter statsCounter = DisabledStatsCounter.INSTANCE;
+
+  private volatile Executor executor = ForkJoinPool.commonPool();
+
+  private volatile Weigher weigher;
+
   private EventListenerList eventListenerList;
 
+  // Loads in progress mapped by key; used to coalesce concurrent loads of the same key.
+  private final ConcurrentMap<String, FutureTask<Object>> loadMap = new ConcurrentHashMap<String, FutureTask<Object>>();
+
   protected final Log log = LogFactory.getLog(getClass());
 
-  private final Thread purgeTx;
+  private volatile ScheduledFuture<?> purgeFuture;
+
+  private boolean terminated = false;
 
   /**
-   * Instantiates AbstractCache by starting a Thread to run purge operations on this
-   * cache.
+   * Instantiates AbstractCache.  The purge operation on this cache is scheduled with the
+   * CacheScheduler, which runs the purge operations of all caches on a single shared thread,
+   * when the first Cacheable object is written, so that it never runs against a partially
+   * constructed cache.
    */
   public AbstractCache() {
     eventListenerList = new EventListenerList();
-    purgeTx = new Thread(new PurgeCacheTx());
-    purgeTx.setDaemon(true);
-    purgeTx.start();
   }
 
   /**
@@ -75,6 +109,18 @@ public abstract class AbstractCache implements Cache {
     }
   }
 
+  /**
+   * Adds the EvictionListener object to the list of listeners notified of the Cacheable objects
+   * evicted from this cache.
+   * @param listener the EvictionListener notified of EvictionEvents.
+   */
+  public void addEvictionListener(final EvictionListener listener) {
+    if (ObjectUtil.isNotNull(listener)) {
+      log.debug("adding EvictionListener (" + listener.getClass().getName() + ")");
+      eventListenerList.add(EvictionListener.class, listener);
+    }
+  }
+
   /**
    * Determines whether the specified Cacheable object is stored in this cache.
    * @param cacheObject the Cacheable object in question of being contained
@@ -164,18 +210,6 @@ public abstract class AbstractCache implements Cache {
     return false;
   }
 
-  /**
-   * Called by the Garbage Collector (gc) to reclaim any resources held by this
-   * Cache object.
-   * @throws Throwable if the finalize operation fails.
-   */
-  protected final void finalize() throws Throwable {
-    super.finalize();
-    purgeTx.interrupt();
-    invalidateCache();
-    purgeCache();
-  }
-
   /**
    * Fires a CacheEvent to the specified CacheDataSourceListeners that registered
    * themselves with this cache.
@@ -195,8 +229,7 @@ public abstract class AbstractCache implements Cache {
         log.debug("event: " + event);
       }
 
-      for (Iterator it = Arrays.asList(eventListenerList.getListenerList()).iterator(); it.hasNext(); ) {
-        final CacheDataSourceListener listener = (CacheDataSourceListener) it.next();
+      for (final CacheDataSourceListener listener : eventListenerList.getListeners(CacheDataSourceListener.class)) {
         if (log.isDebugEnabled()) {
           log.debug("Notifying CacheDataSourceListener (" + listener.getClass().getName() + ")");
         }
@@ -205,6 +238,33 @@ public abstract class AbstractCache implements Cache {
     }
   }
 
+  /**
+   * Records the eviction in the statistics of this cache and fires an EvictionEvent to the
+   * EvictionListeners registered with this cache.  A RuntimeException thrown by a listener is
+   * logged and does not prevent the eviction.
+   * @param cacheObject the Cacheable object that was evicted.
+   * @param cause the EvictionCause indicating why the Cacheable object was evicted.
+   */
+  protected void fireEvictionEvent(final Cacheable cacheObject, final EvictionCause cause) {
+    statsCounter.recordEviction(cause);
+
+    if (hasEvictionListeners()) {
+      final EvictionEvent event = new EvictionEvent(this, cacheObject, cause);
+      if (log.isDebugEnabled()) {
+        log.debug("event: " + event);
+      }
+
+      for (final EvictionListener listener : eventListenerList.getListeners(EvictionListener.class)) {
+        try {
+          listener.cacheableEvicted(event);
+        }
+        catch (RuntimeException e) {
+          log.warn("The EvictionListener (" + listener.getClass().getName() + ") failed to process event (" + event + ")!", e);
+        }
+      }
+    }
+  }
+
   /**
    * Creates a concrete instance of the Cacheable interface initialized with the
    * specified key and data Object value.
@@ -227,6 +287,32 @@ public abstract class AbstractCache implements Cache {
    */
   protected abstract Cacheable getCacheableInstance(String key, Object data, Calendar expirationDate);
 
+  /**
+   * Returns the CacheLoader used to load data on a read miss, if any.
+   * @return the CacheLoader registered with this cache, or null if this cache is not a
+   * read-through cache.
+   */
+  public CacheLoader getCacheLoader() {
+    return cacheLoader;
+  }
+
+  /**
+   * Returns the expiration date of the specified Cacheable object in milliseconds since the
+   * epoch, without copying the expiration date of AbstractCacheable objects.
+   * @param cacheObject the Cacheable object.
+   * @return a long value of the expiration date in milliseconds, or
+   * AbstractCacheable.NO_EXPIRATION if the Cacheable object does not expire.
+   */
+  private static long getExpirationTime(final Cacheable cacheObject) {
+    if (cacheObject instanceof AbstractCacheable) {
+      return ((AbstractCacheable) cacheObject).getExpirationTime();
+    }
+
+    final Calendar expirationDate = cacheObject.getExpirationDate();
+
+    return (ObjectUtil.isNull(expirationDate) ? AbstractCacheable.NO_EXPIRATION : expirationDate.getTimeInMillis());
+  }
+
   /**
    * Returns the maximum number of Cacheable objects that this cache can contain
    * before the cache algorithm is called upon to determine which Cacheable
@@ -248,6 +334,115 @@ public abstract class AbstractCache implements Cache {
     return purgeInterval;
   }
 
+  /**
+   * Returns the maximum total weight of the Cacheable objects in this cache, as determined by
+   * the Weigher, before Cacheable objects are evicted.
+   * @return a long value stating the upper limit on the total weight of the Cacheable objects
+   * this cache can hold, or 0 if the cache is only bounded by it's maximum size.
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Returns the number of milliseconds before the expiration of a Cacheable object within
+   * which a read triggers an asynchronous reload of the data by the CacheLoader.
+   * @return a long value specifying the refresh-ahead time in milliseconds, or 0 if
+   * refresh-ahead is disabled.
+   */
+  public long getRefreshAheadTime() {
+    return refreshAheadTime;
+  }
+
+  /**
+   * Returns a snapshot of the hit, miss, load and eviction statistics of this cache.
+   * @return a CacheStats snapshot of the statistics recorded since statistics were enabled,
+   * or empty statistics if statistics are disabled.
+   */
+  public CacheStats getStats() {
+    return statsCounter.snapshot();
+  }
+
+  /**
+   * Returns the StatsCounter recording the statistics of this cache, which records nothing when
+   * statistics are disabled.
+   * @return the StatsCounter of this cache.
+   */
+  protected StatsCounter getStatsCounter() {
+    return statsCounter;
+  }
+
+  /**
+   * Returns the Weigher computing the weight of the Cacheable objects written to this cache.
+   * @return the Weigher registered with this cache, or null if every Cacheable object has a
+   * weight of 1.
+   */
+  public Weigher getWeigher() {
+    return weigher;
+  }
+
+  /**
+   * Returns the current total weight of the Cacheable objects in this cache.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public abstract long getWeight();
+
+  /**
+   * Asynchronously invalidates the Cacheable objects mapped to the specified keys, forcing
+   * a refresh of each on it's next read.  Keys not mapped to a Cacheable object in this cache
+   * are ignored.
+   * @param keys the Collection of String keys to invalidate.
+   * @return a CompletableFuture completing once the Cacheable objects have been invalidated.
+   * @throws NullPointerException if the Collection of keys is null.
+   */
+  public CompletableFuture<Void> invalidateAll(final Collection<String> keys) {
+    Assert.notNull(keys, "The Collection of keys to invalidate cannot be null!");
+
+    final List<String> keyList = new ArrayList<String>(keys);
+
+    return CompletableFuture.runAsync(new Runnable() {
+      public void run() {
+        invalidateCacheables(keyList);
+      }
+    }, getExecutor());
+  }
+
+  /**
+   * Invalidates the Cacheable objects mapped to the specified keys as a single batch.
+   * Implementing classes should acquire any lock guarding the Cacheable objects once for
+   * the entire batch.
+   * @param keys the List of String keys to invalidate.
+   */
+  protected abstract void invalidateCacheables(List<String> keys);
+
+  /**
+   * Determines whether any EvictionListeners are registered with this cache, allowing caches to
+   * avoid preparing EvictionEvents that no one listens to.
+   * @return a boolean value indicating whether any EvictionListeners are registered.
+   */
+  protected boolean hasEvictionListeners() {
+    return (eventListenerList.getListenerCount(EvictionListener.class) > 0);
+  }
+
+  /**
+   * Determines whether this cache records statistics.
+   * @return a boolean value indicating whether statistics are enabled.
+   */
+  public boolean isStatisticsEnabled() {
+    return (statsCounter != DisabledStatsCounter.INSTANCE);
+  }
+
+  /**
+   * Determines whether the specified total weight exceeds the maximum weight of this cache.
+   * @param weight a long value specifying the total weight of Cacheable objects.
+   * @return a boolean value indicating whether this cache is bounded by weight and the
+   * specified weight exceeds the maximum weight.
+   */
+  protected boolean isOverweight(final long weight) {
+    final long maxWeight = getMaxWeight();
+    return (maxWeight > 0 && weight > maxWeight);
+  }
+
   /**
    * Returns an Iterator to traverse the keys mapped to Cacheable objects in this
    * cache.
@@ -291,21 +486,229 @@ public abstract class AbstractCache implements Cache {
 
   /**
    * Cleans the cache by removing expired and/or invalid cache objects from the
-   * cache.  This method is called from within the PurgeCacheTx thread every
-   * 30 seconds.
+   * cache.  This method is called by the CacheScheduler every purge interval.
    */
   protected abstract void purgeCache();
 
   /**
-   * Reads the data Object value mapped to the specified key in this cache.
+   * Reads the Cacheable object mapped to the specified key for use by this cache only, such as
+   * reading it's data.  Unlike readCacheable, implementing classes may return the Cacheable
+   * object stored in this cache rather than a defensive copy, keeping reads that hit the cache
+   * free of allocation, so the returned Cacheable object must not escape this cache.
+   * @param key the key used as a lookup value for the Cacheable object stored in this cache.
+   * @return the Cacheable object associated with the specified key, or null if the key is not
+   * mapped to a valid, unexpired Cacheable object in this cache.
+   * @throws CacheException if the Cacheable object could not be read.
+   */
+  protected Cacheable lookupCacheable(final String key) throws CacheException {
+    return readCacheable(key);
+  }
+
+  /**
+   * Loads the data mapped to the specified key with the CacheLoader and stores it in this
+   * cache.  Concurrent loads of the same key are coalesced, such that the CacheLoader is
+   * invoked once while the other callers wait on, and share, the result of the same load.
+   * @param key the String key of the data to load.
+   * @return the data Object loaded for the key, or null if the CacheLoader did not find any
+   * data for the key.
+   * @throws CacheException if the CacheLoader failed to load the data.
+   */
+  protected Object loadObject(final String key) throws CacheException {
+    final FutureTask<Object> loadTask = new FutureTask<Object>(new LoadCallable(key, true));
+    final FutureTask<Object> existingLoadTask = loadMap.putIfAbsent(key, loadTask);
+
+    if (ObjectUtil.isNull(existingLoadTask)) {
+      try {
+        loadTask.run();
+      }
+      finally {
+        loadMap.remove(key, loadTask);
+      }
+    }
+    else if (log.isDebugEnabled()) {
+      log.debug("waiting on load in progress for key (" + key + ")");
+    }
+
+    return getLoadResult(key, (ObjectUtil.isNotNull(existingLoadTask) ? existingLoadTask : loadTask));
+  }
+
+  /**
+   * Waits for and returns the result of the specified load.
+   * @param key the String key of the data being loaded.
+   * @param loadTask the FutureTask loading the data.
+   * @return the data Object loaded for the key.
+   * @throws CacheException if the load failed or the calling Thread was interrupted.
+   */
+  private Object getLoadResult(final String key, final FutureTask<Object> loadTask) throws CacheException {
+    try {
+      return loadTask.get();
+    }
+    catch (ExecutionException e) {
+      if (e.getCause() instanceof CacheException) {
+        throw (CacheException) e.getCause();
+      }
+      log.warn("Failed to load data for key (" + key + ")!", e.getCause());
+      throw new CacheException("Failed to load data for key (" + key + ")!", e.getCause());
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CacheException("Interrupted while waiting on the load of data for key (" + key + ")!", e);
+    }
+  }
+
+  /**
+   * Reads the data Object value mapped to the specified key in this cache.  If a CacheLoader
+   * has been registered and the key is not mapped to a valid, unexpired Cacheable object, the
+   * data is loaded by the CacheLoader and stored in this cache.
    * @param key the String value mapping the data Object in the cache.
    * @return the data value as a java.lang.Object for the specified key in
    * this cache, or null if the key is not mapped to an Object value in this
-   * cache.
+   * cache and could not be loaded.
+   * @throws CacheException if the Cacheable object could not be read or loaded.
    */
   public Object readObject(final String key) throws com.cp.common.util.cache.CacheException {
-    final com.cp.common.util.cache.Cacheable cacheObject = readCacheable(key);
-    return (ObjectUtil.isNotNull(cacheObject) ? cacheObject.getData() : null);
+    final com.cp.common.util.cache.Cacheable cacheObject = lookupCacheable(key);
+
+    if (ObjectUtil.isNotNull(cacheObject)) {
+      statsCounter.recordHits(1);
+      refreshAhead(cacheObject);
+      return cacheObject.getData();
+    }
+
+    statsCounter.recordMisses(1);
+
+    return (ObjectUtil.isNotNull(getCacheLoader()) ? loadObject(key) : null);
+  }
+
+  /**
+   * Asynchronously reads the data Objects mapped to the specified keys in this cache.  Keys
+   * that are not mapped to a valid, unexpired Cacheable object are loaded by the CacheLoader,
+   * if any, after the Cacheable objects present in this cache have been read.
+   * @param keys the Collection of String keys to read.
+   * @return a CompletableFuture completing with a Map of the keys to their data Objects, in the
+   * iteration order of the keys, excluding keys that are neither in this cache nor loaded.
+   * The CompletableFuture completes exceptionally with a CacheException if a Cacheable object
+   * could not be read or loaded.
+   * @throws NullPointerException if the Collection of keys is null.
+   */
+  public CompletableFuture<Map<String, Object>> readAll(final Collection<String> keys) {
+    Assert.notNull(keys, "The Collection of keys to read cannot be null!");
+
+    final List<String> keyList = new ArrayList<String>(keys);
+
+    return CompletableFuture.supplyAsync(new Supplier<Map<String, Object>>() {
+      public Map<String, Object> get() {
+        try {
+          final Map<String, Cacheable> cacheObjects = readCacheables(keyList);
+          final Map<String, Object> objects = new LinkedHashMap<String, Object>(keyList.size());
+
+          statsCounter.recordHits(cacheObjects.size());
+          statsCounter.recordMisses(keyList.size() - cacheObjects.size());
+
+          for (final String key : keyList) {
+            final Cacheable cacheObject = cacheObjects.get(key);
+
+            if (ObjectUtil.isNotNull(cacheObject)) {
+              refreshAhead(cacheObject);
+              objects.put(key, cacheObject.getData());
+            }
+            else if (ObjectUtil.isNotNull(getCacheLoader())) {
+              final Object value = loadObject(key);
+              if (ObjectUtil.isNotNull(value)) {
+                objects.put(key, value);
+              }
+            }
+          }
+
+          return objects;
+        }
+        catch (CacheException e) {
+          throw new CompletionException(e);
+        }
+      }
+    }, getExecutor());
+  }
+
+  /**
+   * Looks up the Cacheable objects mapped to the specified keys with lookupCacheable, without
+   * acquiring any lock for the batch.  Like lookupCacheable, the Cacheable objects read must not
+   * escape this cache.
+   * @param keys the List of String keys to read.
+   * @return a Map of the keys to the Cacheable objects read from this cache, excluding the keys
+   * not mapped to a valid, unexpired Cacheable object.
+   * @throws CacheException if a Cacheable object could not be read.
+   */
+  protected final Map<String, Cacheable> lookupCacheables(final List<String> keys) throws CacheException {
+    final Map<String, Cacheable> cacheObjects = new LinkedHashMap<String, Cacheable>(keys.size());
+
+    for (final String key : keys) {
+      final Cacheable cacheObject = lookupCacheable(key);
+      if (ObjectUtil.isNotNull(cacheObject)) {
+        cacheObjects.put(key, cacheObject);
+      }
+    }
+
+    return cacheObjects;
+  }
+
+  /**
+   * Reads the Cacheable objects mapped to the specified keys as a single batch.  Implementing
+   * classes may override this method to acquire any lock guarding the Cacheable objects once
+   * for the entire batch.  Like lookupCacheable, the Cacheable objects read must not escape
+   * this cache.
+   * @param keys the List of String keys to read.
+   * @return a Map of the keys to the Cacheable objects read from this cache, excluding the keys
+   * not mapped to a valid, unexpired Cacheable object.
+   * @throws CacheException if a Cacheable object could not be read.
+   */
+  protected Map<String, Cacheable> readCacheables(final List<String> keys) throws CacheException {
+    return lookupCacheables(keys);
+  }
+
+  /**
+   * Asynchronously reloads the data of the specified Cacheable object with the CacheLoader
+   * if the Cacheable object expires within the refresh-ahead time, unless a load of the key
+   * is already in progress.
+   * @param cacheObject the Cacheable object that was read.
+   */
+  private void refreshAhead(final Cacheable cacheObject) {
+    final long refreshAheadTime = getRefreshAheadTime();
+
+    if (refreshAheadTime > 0 && ObjectUtil.isNotNull(getCacheLoader())) {
+      final long expirationTime = getExpirationTime(cacheObject);
+
+      if (expirationTime != AbstractCacheable.NO_EXPIRATION
+          && (expirationTime - System.currentTimeMillis()) <= refreshAheadTime) {
+        final String key = cacheObject.getKey();
+        final FutureTask<Object> refreshTask = new FutureTask<Object>(new LoadCallable(key, false)) {
+          protected void done() {
+            loadMap.remove(key, this);
+          }
+        };
+
+        if (ObjectUtil.isNull(loadMap.putIfAbsent(key, refreshTask))) {
+          if (log.isDebugEnabled()) {
+            log.debug("refreshing key (" + key + ") ahead of expiration time (" + expirationTime + ")");
+          }
+          try {
+            getExecutor().execute(refreshTask);
+          }
+          catch (RuntimeException e) {
+            log.warn("Failed to schedule the refresh of key (" + key + ")!", e);
+            loadMap.remove(key, refreshTask);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the Executor running the asynchronous operations of this cache, such as the
+   * refresh-ahead loads and the bulk operations.
+   * @return the Executor running the asynchronous operations of this cache.
+   */
+  public Executor getExecutor() {
+    return executor;
   }
 
   /**
@@ -321,6 +724,31 @@ public abstract class AbstractCache implements Cache {
     }
   }
 
+  /**
+   * Removes the EvictionListener object from the list of listeners notified of the Cacheable
+   * objects evicted from this cache.
+   * @param listener the EvictionListener notified of EvictionEvents.
+   */
+  public void removeEvictionListener(final EvictionListener listener) {
+    if (ObjectUtil.isNotNull(listener)) {
+      log.debug("removing EvictionListener (" + listener.getClass().getName() + ")");
+      eventListenerList.remove(EvictionListener.class, listener);
+    }
+  }
+
+  /**
+   * Sets the CacheLoader used to load data on a read miss, making this cache a read-through
+   * cache.
+   * @param cacheLoader the CacheLoader loading data from the data source, or null to disable
+   * read-through loading.
+   */
+  public void setCacheLoader(final CacheLoader cacheLoader) {
+    if (log.isDebugEnabled()) {
+      log.debug("cacheLoader (" + cacheLoader + ")");
+    }
+    this.cacheLoader = cacheLoader;
+  }
+
   /**
    * Sets the maximum number of Cacheable objects held by this cache.  Note, that
    * if the cache currently contains more Cacheable objects than the newly
@@ -345,32 +773,210 @@ public abstract class AbstractCache implements Cache {
     this.maxSize = maxSize;
   }
 
+  /**
+   * Sets the maximum total weight of the Cacheable objects held by this cache, as determined
+   * by the Weigher, allowing this cache to be sized by a memory budget rather than a number of
+   * Cacheable objects.  The maximum size continues to apply.
+   * @param maxWeight the upper bound on the total weight of the Cacheable objects allowed in
+   * this cache, or 0 to bound this cache by it's maximum size only.
+   * @throws java.lang.IllegalArgumentException if the maxWeight value is negative.
+   */
+  public void setMaxWeight(final long maxWeight) {
+    if (log.isDebugEnabled()) {
+      log.debug("maxWeight (" + maxWeight + ")");
+    }
+
+    if (maxWeight < 0) {
+      log.warn(maxWeight + " is not a valid max weight for this cache.  Please specify non-negative whole value!");
+      throw new IllegalArgumentException(maxWeight + " is not a valid max weight for this cache.  Please specify non-negative whole value!");
+    }
+
+    this.maxWeight = maxWeight;
+  }
+
+  /**
+   * Enables or disables the recording of statistics by this cache.  Statistics are recorded by
+   * lock-free counters; when disabled, the counters are replaced by a StatsCounter that records
+   * nothing.  Enabling statistics resets the statistics of this cache.
+   * @param statisticsEnabled a boolean value indicating whether statistics should be recorded.
+   */
+  public void setStatisticsEnabled(final boolean statisticsEnabled) {
+    if (log.isDebugEnabled()) {
+      log.debug("statisticsEnabled (" + statisticsEnabled + ")");
+    }
+    this.statsCounter = (statisticsEnabled ? new ConcurrentStatsCounter() : DisabledStatsCounter.INSTANCE);
+  }
+
+  /**
+   * Schedules the purge operation on this cache with the CacheScheduler, unless it is already
+   * scheduled or this cache has been terminated.  Called when a Cacheable object is written, so
+   * that the purge operation is scheduled once this cache has been fully constructed.
+   */
+  protected final void schedulePurge() {
+    if (ObjectUtil.isNull(purgeFuture)) {
+      synchronized (this) {
+        if (ObjectUtil.isNull(purgeFuture) && !terminated && getPurgeInterval() > 0) {
+          purgeFuture = CacheScheduler.schedulePurge(this, getPurgeInterval());
+        }
+      }
+    }
+  }
+
   /**
    * Set the specified time interval in which the purge operation will be run.
-   * The interval is set in milliseconds and determines how long the PurgeThreadTx
-   * will sleep before calling the purgeCache method again.
-   * @param purgeInterval the number of milliseconds between purgeCache operations.
+   * The interval is set in milliseconds and determines how long the CacheScheduler
+   * waits before calling the purgeCache method again.  An interval of 0 disables the
+   * periodic purge operation, in which case the cache is only purged by explicit calls to
+   * purgeCache and on terminate.
+   * @param purgeInterval the number of milliseconds between purgeCache operations, or 0.
    */
-  protected void setPurgeInterval(final int purgeInterval) {
+  protected synchronized void setPurgeInterval(final int purgeInterval) {
     log.debug("purgeInterval = " + purgeInterval);
     if (purgeInterval < 0) {
       log.warn(purgeInterval + " is not a valid interval.  Please specify a positive whole value in milliseconds.");
       throw new IllegalArgumentException(purgeInterval + " is not a valid interval.  Please specify a positive whole value in milliseconds.");
     }
     this.purgeInterval = purgeInterval;
+
+    // Reschedule the purge operation if it has already been scheduled.
+    if (ObjectUtil.isNotNull(purgeFuture)) {
+      purgeFuture.cancel(false);
+      purgeFuture = (purgeInterval > 0 ? CacheScheduler.schedulePurge(this, purgeInterval) : null);
+    }
   }
 
   /**
-   * Called to release any resources held by this Cache object.  If this method is
+   * Sets the number of milliseconds before the expiration of a Cacheable object within which
+   * a read triggers an asynchronous reload of the data by the CacheLoader, so that frequently
+   * read data is refreshed before it expires rather than on a miss.
+   * @param refreshAheadTime a long value specifying the refresh-ahead time in milliseconds, or
+   * 0 to disable refresh-ahead.
+   * @throws IllegalArgumentException if the refresh-ahead time is negative.
+   */
+  public void setRefreshAheadTime(final long refreshAheadTime) {
+    if (refreshAheadTime < 0) {
+      log.warn(refreshAheadTime + " is not a valid refresh-ahead time.  Please specify a non-negative whole value in milliseconds.");
+      throw new IllegalArgumentException(refreshAheadTime + " is not a valid refresh-ahead time.  Please specify a non-negative whole value in milliseconds.");
+    }
+    this.refreshAheadTime = refreshAheadTime;
+  }
+
+  /**
+   * Sets the Executor running the asynchronous operations of this cache, such as the
+   * refresh-ahead loads and the bulk operations.  By default, asynchronous operations are
+   * run by the common ForkJoinPool.
+   * @param executor the Executor running the asynchronous operations of this cache.
+   * @throws NullPointerException if the Executor is null.
+   */
+  public void setExecutor(final Executor executor) {
+    if (ObjectUtil.isNull(executor)) {
+      log.warn("The Executor cannot be null!");
+      throw new NullPointerException("The Executor cannot be null!");
+    }
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the Weigher computing the weight of the Cacheable objects written to this cache.  The
+   * weight of a Cacheable object is recorded when it is written, so changing the Weigher does
+   * not affect the Cacheable objects already in this cache.
+   * @param weigher the Weigher computing the weight of the data, or null to give every
+   * Cacheable object a weight of 1.
+   */
+  public void setWeigher(final Weigher weigher) {
+    if (log.isDebugEnabled()) {
+      log.debug("weigher (" + weigher + ")");
+    }
+    this.weigher = weigher;
+  }
+
+  /**
+   * Called to release any resources held by this Cache object.  Cancels the purge operation
+   * scheduled for this cache, then invalidates and purges the cache.  If this method is
    * overridden, make sure to include a call to super.terminate at the beginning
    * of the method.
    */
   public void terminate() {
-    try {
-      finalize();
+    synchronized (this) {
+      terminated = true;
+
+      if (ObjectUtil.isNotNull(purgeFuture)) {
+        purgeFuture.cancel(false);
+        purgeFuture = null;
+      }
     }
-    catch (Throwable t) {
-      log.warn(t);
+
+    invalidateCache();
+    purgeCache();
+  }
+
+  /**
+   * Computes the weight of the specified data with the Weigher.
+   * @param key the String key mapping the data in this cache.
+   * @param data the data Object being written to this cache.
+   * @return a long value specifying the weight of the data, which is 1 if no Weigher has been
+   * registered with this cache.
+   * @throws java.lang.IllegalArgumentException if the Weigher returned a negative weight.
+   */
+  protected long weigh(final String key, final Object data) {
+    final Weigher weigher = getWeigher();
+
+    if (ObjectUtil.isNull(weigher)) {
+      return 1l;
+    }
+
+    final long weight = weigher.weigh(key, data);
+
+    if (weight < 0) {
+      log.warn("The weight (" + weight + ") of key (" + key + ") cannot be negative!");
+      throw new IllegalArgumentException("The weight (" + weight + ") of key (" + key + ") cannot be negative!");
+    }
+
+    return weight;
+  }
+
+  /**
+   * Asynchronously stores the specified data Objects in this cache mapped to their keys.
+   * Note, each data Object will be wrapped in a Cacheable object implementation, unless the
+   * data Object is itself a Cacheable object, in which case it is stored as is.
+   * @param data the Map of String keys to the data Objects to store in this cache.
+   * @return a CompletableFuture completing once all data Objects have been stored in this
+   * cache.  The CompletableFuture completes exceptionally with a CacheException if a data
+   * Object could not be stored.
+   * @throws NullPointerException if the Map of data Objects is null.
+   */
+  public CompletableFuture<Void> writeAll(final Map<String, ?> data) {
+    Assert.notNull(data, "The Map of data Objects to write cannot be null!");
+
+    final List<Cacheable> cacheObjects = new ArrayList<Cacheable>(data.size());
+
+    for (final Map.Entry<String, ?> entry : data.entrySet()) {
+      cacheObjects.add(entry.getValue() instanceof Cacheable ? (Cacheable) entry.getValue()
+        : getCacheableInstance(entry.getKey(), entry.getValue()));
+    }
+
+    return CompletableFuture.runAsync(new Runnable() {
+      public void run() {
+        try {
+          writeCacheables(cacheObjects);
+        }
+        catch (CacheException e) {
+          throw new CompletionException(e);
+        }
+      }
+    }, getExecutor());
+  }
+
+  /**
+   * Stores the specified Cacheable objects in this cache as a single batch.  Implementing
+   * classes may override this method to acquire any lock guarding the Cacheable objects once
+   * for the entire batch.
+   * @param cacheObjects the List of Cacheable objects to store in this cache.
+   * @throws CacheException if a Cacheable object could not be stored in this cache.
+   */
+  protected void writeCacheables(final List<Cacheable> cacheObjects) throws CacheException {
+    for (final Cacheable cacheObject : cacheObjects) {
+      writeCacheable(cacheObject);
     }
   }
 
@@ -407,19 +1013,63 @@ public abstract class AbstractCache implements Cache {
   }
 
   /**
-   * PurgeCacheTx is a Runnable implementation to be run in a Thread and clean the
-   * cache of it's contents.
+   * The LoadCallable class loads the data for a key with the CacheLoader and stores the loaded
+   * data in this cache before the load completes, so that callers arriving after the load
+   * find the data in this cache.
    */
-  protected final class PurgeCacheTx implements Runnable {
-    public void run() {
-      while (!Thread.currentThread().isInterrupted()) {
-        purgeCache();
-        try {
-          Thread.sleep(getPurgeInterval());
-        }
-        catch (InterruptedException ignore) {
+  private final class LoadCallable implements Callable<Object> {
+
+    private final boolean checkCache;
+
+    private final String key;
+
+    LoadCallable(final String key, final boolean checkCache) {
+      this.key = key;
+      this.checkCache = checkCache;
+    }
+
+    public Object call() throws Exception {
+      // NOTE another load of the key may have completed between the read miss and the start of this load.
+      if (checkCache) {
+        final Cacheable cacheObject = lookupCacheable(key);
+        if (ObjectUtil.isNotNull(cacheObject)) {
+          return cacheObject.getData();
         }
       }
+
+      final CacheLoader cacheLoader = getCacheLoader();
+      final StatsCounter statsCounter = getStatsCounter();
+      final long loadStartTime = System.nanoTime();
+      final Object value;
+
+      try {
+        value = (ObjectUtil.isNotNull(cacheLoader) ? cacheLoader.load(key) : null);
+      }
+      catch (Exception e) {
+        statsCounter.recordLoadFailure(System.nanoTime() - loadStartTime);
+        throw e;
+      }
+
+      if (ObjectUtil.isNotNull(value)) {
+        statsCounter.recordLoadSuccess(System.nanoTime() - loadStartTime);
+      }
+      else {
+        statsCounter.recordLoadFailure(System.nanoTime() - loadStartTime);
+      }
+
+      if (log.isDebugEnabled()) {
+        log.debug("loaded value (" + value + ") for key (" + key + ")");
+      }
+
+      if (value instanceof Cacheable) {
+        writeCacheable((Cacheable) value);
+        return ((Cacheable) value).getData();
+      }
+      else if (ObjectUtil.isNotNull(value)) {
+        writeObject(key, value);
+      }
+
+      return value;
     }
   }
 
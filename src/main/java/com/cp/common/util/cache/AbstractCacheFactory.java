@@ -67,6 +67,15 @@ public abstract class AbstractCacheFactory {
    */
   public abstract com.cp.common.util.cache.Cache getCacheInstance(CacheType cacheType);
 
+  /**
+   * Returns a Cache implementation implementing the Least Recently Used algorithm that is safe
+   * for concurrent access and evicts in constant time when written.
+   * @return a concurrent LRU Cache implementation.
+   */
+  public com.cp.common.util.cache.Cache getConcurrentLRUCacheInstance() {
+    return getCacheInstance(CacheType.CLRU);
+  }
+
   /**
    * Returns a Cache implementation implementing the Least Frequently Used algorithm.
    * @return a LFU Cache implementation.
@@ -83,4 +92,30 @@ public abstract class AbstractCacheFactory {
     return getCacheInstance(CacheType.LRU);
   }
 
+  /**
+   * Returns a Cache implementation storing serialized data outside of the Java heap.
+   * @return an off-heap Cache implementation.
+   */
+  public com.cp.common.util.cache.Cache getOffHeapCacheInstance() {
+    return getCacheInstance(CacheType.OFF_HEAP);
+  }
+
+  /**
+   * Returns a Cache implementation with an on-heap tier backed by an off-heap tier, to which
+   * Cacheable objects are demoted when evicted from the on-heap tier.
+   * @return a tiered Cache implementation.
+   */
+  public com.cp.common.util.cache.Cache getTieredCacheInstance() {
+    return getCacheInstance(CacheType.TIERED);
+  }
+
+  /**
+   * Returns a Cache implementation implementing the Window TinyLFU algorithm, which admits
+   * Cacheable objects based on their estimated access frequency.
+   * @return a W-TinyLFU Cache implementation.
+   */
+  public com.cp.common.util.cache.Cache getTinyLFUCacheInstance() {
+    return getCacheInstance(CacheType.W_TINYLFU);
+  }
+
 }
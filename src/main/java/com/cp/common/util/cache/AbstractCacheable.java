@@ -19,8 +19,13 @@ public abstract class AbstractCacheable implements Cacheable {
 
   private static final Logger logger = Logger.getLogger(AbstractCacheable.class);
 
+  public static final long NO_EXPIRATION = Long.MAX_VALUE;
+
   private Calendar expirationDate;
 
+  // The expiration date in milliseconds since the epoch, which is checked on every read without copying the Calendar.
+  private long expirationTime = NO_EXPIRATION;
+
   private final Object data;
 
   private final String key;
@@ -65,6 +70,7 @@ public abstract class AbstractCacheable implements Cacheable {
     this.key = key;
     this.data = data;
     this.expirationDate = expirationDate;
+    this.expirationTime = getExpirationTime(expirationDate);
   }
 
   /**
@@ -80,9 +86,21 @@ public abstract class AbstractCacheable implements Cacheable {
 
     this.data = cacheable.getData();
     this.expirationDate = getCalendar(cacheable.getExpirationDate());
+    this.expirationTime = getExpirationTime(this.expirationDate);
     this.key = cacheable.getKey();
   }
 
+  /**
+   * Converts the specified expiration date into milliseconds since the epoch.
+   * @param expirationDate the Calendar object specifying the expiration date, or null if the
+   * Cacheable object does not expire.
+   * @return a long value of the expiration date in milliseconds, or NO_EXPIRATION if the
+   * expiration date is null.
+   */
+  private static long getExpirationTime(final Calendar expirationDate) {
+    return (ObjectUtil.isNull(expirationDate) ? NO_EXPIRATION : expirationDate.getTimeInMillis());
+  }
+
   /**
    * Utility method to make a defensive copy of a Calendar object.
    * @param calendar the Calendar object to clone.
@@ -140,7 +158,18 @@ public abstract class AbstractCacheable implements Cacheable {
    * @return a Calendar object signifying the expiration date on the data.
    */
   public Calendar getExpirationDate() {
-    return getCalendar(expirationDate);
+    return (ObjectUtil.isNull(expirationDate) ? null : getCalendar(expirationDate));
+  }
+
+  /**
+   * Returns the expiration date of the data represented by this Cacheable object in
+   * milliseconds since the epoch.  Unlike getExpirationDate, this method does not copy the
+   * expiration date.
+   * @return a long value of the expiration date in milliseconds, or NO_EXPIRATION if this
+   * Cacheable object does not expire.
+   */
+  public long getExpirationTime() {
+    return expirationTime;
   }
 
   /**
@@ -160,24 +189,8 @@ public abstract class AbstractCacheable implements Cacheable {
    * @return a boolean value indicating whether this Cacheable object has expired.
    */
   public boolean hasExpired() {
-    final Calendar expirationDate = getExpirationDate();
-
-    if (ObjectUtil.isNotNull(expirationDate)) {
-      final Calendar now = Calendar.getInstance();
-      now.setTimeZone(expirationDate.getTimeZone());
-
-      if (logger.isDebugEnabled()) {
-        logger.debug("Comparing now (" + now + ") with expiration date (" + expirationDate + ")");
-      }
-
-      return now.after(expirationDate);
-    }
-
-    if (logger.isDebugEnabled()) {
-      logger.debug("The expirationDate is null; the Cacheable object will never expire!");
-    }
-
-    return false;
+    // NOTE this method is called on every read, so it must not allocate.
+    return (expirationTime != NO_EXPIRATION && System.currentTimeMillis() > expirationTime);
   }
 
   /**
@@ -212,6 +225,7 @@ public abstract class AbstractCacheable implements Cacheable {
       logger.debug("expirationDate (" + expirationDate + ")");
     }
     this.expirationDate = getCalendar(expirationDate);
+    this.expirationTime = getExpirationTime(this.expirationDate);
   }
 
   /**
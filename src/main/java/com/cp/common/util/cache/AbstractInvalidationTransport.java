@@ -0,0 +1,75 @@
+/*
+ * AbstractInvalidationTransport.java (c) 17 October 2026
+ *
+ * The AbstractInvalidationTransport class manages the InvalidationListeners of an
+ * InvalidationTransport.  Implementing classes provide the publish, publishAll and close
+ * methods, and call fireInvalidationEvent for each invalidation received from another node.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.InvalidationTransport
+ */
+
+package com.cp.common.util.cache;
+
+import com.cp.common.lang.ObjectUtil;
+import javax.swing.event.EventListenerList;
+import org.apache.log4j.Logger;
+
+public abstract class AbstractInvalidationTransport implements InvalidationTransport {
+
+  private static final Logger logger = Logger.getLogger(AbstractInvalidationTransport.class);
+
+  private final EventListenerList eventListenerList = new EventListenerList();
+
+  /**
+   * Adds the InvalidationListener notified of the invalidations published by other nodes.
+   * @param listener the InvalidationListener notified of InvalidationEvents.
+   */
+  public void addInvalidationListener(final InvalidationListener listener) {
+    if (ObjectUtil.isNotNull(listener)) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("adding InvalidationListener (" + listener.getClass().getName() + ")");
+      }
+      eventListenerList.add(InvalidationListener.class, listener);
+    }
+  }
+
+  /**
+   * Notifies the InvalidationListeners of an invalidation received from another node.  A
+   * RuntimeException thrown by a listener is logged and does not prevent the notification of the
+   * other listeners.
+   * @param event the InvalidationEvent describing the invalidation.
+   */
+  protected void fireInvalidationEvent(final InvalidationEvent event) {
+    if (logger.isDebugEnabled()) {
+      logger.debug("event: " + event);
+    }
+
+    for (final InvalidationListener listener : eventListenerList.getListeners(InvalidationListener.class)) {
+      try {
+        listener.keysInvalidated(event);
+      }
+      catch (RuntimeException e) {
+        logger.warn("The InvalidationListener (" + listener.getClass().getName() + ") failed to process event ("
+          + event + ")!", e);
+      }
+    }
+  }
+
+  /**
+   * Removes the InvalidationListener notified of the invalidations published by other nodes.
+   * @param listener the InvalidationListener notified of InvalidationEvents.
+   */
+  public void removeInvalidationListener(final InvalidationListener listener) {
+    if (ObjectUtil.isNotNull(listener)) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("removing InvalidationListener (" + listener.getClass().getName() + ")");
+      }
+      eventListenerList.remove(InvalidationListener.class, listener);
+    }
+  }
+
+}
@@ -10,7 +10,10 @@
 package com.cp.common.util.cache;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface Cache {
 
@@ -22,6 +25,13 @@ public interface Cache {
    */
   public void addCacheDataSourceListener(CacheDataSourceListener dsl);
 
+  /**
+   * Adds the EvictionListener object to the list of listeners notified of the Cacheable objects
+   * evicted from this cache, along with the cause of the eviction.
+   * @param listener the EvictionListener notified of EvictionEvents.
+   */
+  public void addEvictionListener(EvictionListener listener);
+
   /**
    * Determines whether the specified Cacheable object is stored in this cache.
    * @param cacheObject the Cacheable object in question of being contained
@@ -51,6 +61,12 @@ public interface Cache {
    */
   public boolean containsObject(Object obj);
 
+  /**
+   * Returns a String description of this Cache, such as the cache algorithm.
+   * @return a String description of this Cache.
+   */
+  public String getDescription();
+
   /**
    * Returns the maximum number of Cacheable objects that this cache can contain
    * before the cache algorithm is called upon to determine which Cacheable
@@ -60,6 +76,14 @@ public interface Cache {
    */
   public int getMaxSize();
 
+  /**
+   * Returns the maximum total weight of the Cacheable objects in this cache, as determined by
+   * the Weigher, before Cacheable objects are evicted.
+   * @return a long value stating the upper limit on the total weight of the Cacheable objects
+   * this cache can hold, or 0 if the cache is only bounded by it's maximum size.
+   */
+  public long getMaxWeight();
+
   /**
    * Returns the current number of Cacheable objects in this cache.
    * @return an integer value of the number of Cacheable objects stored in this
@@ -67,12 +91,39 @@ public interface Cache {
    */
   public int getSize();
 
+  /**
+   * Returns a snapshot of the hit, miss, load and eviction statistics of this cache.
+   * @return a CacheStats snapshot of the statistics recorded since statistics were enabled,
+   * or empty statistics if statistics are disabled.
+   */
+  public CacheStats getStats();
+
+  /**
+   * Returns the current total weight of the Cacheable objects in this cache.
+   * @return a long value of the total weight of the Cacheable objects stored in this cache.
+   */
+  public long getWeight();
+
   /**
    * Forces an refresh on the Cacheable objects in this cache on the next read
    * operations.
    */
   public void invalidateCache();
 
+  /**
+   * Determines whether this cache records statistics.
+   * @return a boolean value indicating whether statistics are enabled.
+   */
+  public boolean isStatisticsEnabled();
+
+  /**
+   * Asynchronously invalidates the Cacheable objects mapped to the specified keys as a
+   * single batch, forcing a refresh of each on it's next read.
+   * @param keys the Collection of String keys to invalidate.
+   * @return a CompletableFuture completing once the Cacheable objects have been invalidated.
+   */
+  public CompletableFuture<Void> invalidateAll(Collection<String> keys);
+
   /**
    * Returns an Iterator to traverse the Cacheable objects in this cache.
    * @return a java.util.Iterator object to iterate the Cacheable objects in this
@@ -106,6 +157,15 @@ public interface Cache {
    */
   public com.cp.common.util.cache.Cacheable readCacheable(String key) throws com.cp.common.util.cache.CacheException;
 
+  /**
+   * Asynchronously reads the data Objects mapped to the specified keys in this cache as a
+   * single batch, loading the missing keys with the CacheLoader, if any.
+   * @param keys the Collection of String keys to read.
+   * @return a CompletableFuture completing with a Map of the keys to their data Objects,
+   * excluding keys that are neither in this cache nor loaded.
+   */
+  public CompletableFuture<Map<String, Object>> readAll(Collection<String> keys);
+
   /**
    * Reads the data Object value mapped to the specified key in this cache.
    * @param key the String value mapping the data Object in the cache.
@@ -125,6 +185,21 @@ public interface Cache {
    */
   public void removeCacheDataSourceListener(CacheDataSourceListener dsl);
 
+  /**
+   * Removes the EvictionListener object from the list of listeners notified of the Cacheable
+   * objects evicted from this cache.
+   * @param listener the EvictionListener notified of EvictionEvents.
+   */
+  public void removeEvictionListener(EvictionListener listener);
+
+  /**
+   * Sets the CacheLoader used to load data on a read miss, making this cache a read-through
+   * cache.  Concurrent reads missing the same key are coalesced into a single load.
+   * @param cacheLoader the CacheLoader loading data from the data source, or null to disable
+   * read-through loading.
+   */
+  public void setCacheLoader(CacheLoader cacheLoader);
+
   /**
    * Sets the maximum number of Cacheable objects held by this cache.  Note, that
    * if the cache currently contains more Cacheable objects than the newly
@@ -138,11 +213,41 @@ public interface Cache {
    */
   public void setMaxSize(int maxSize);
 
+  /**
+   * Sets the maximum total weight of the Cacheable objects held by this cache, as determined
+   * by the Weigher.
+   * @param maxWeight the upper bound on the total weight of the Cacheable objects allowed in
+   * this cache, or 0 to bound this cache by it's maximum size only.
+   */
+  public void setMaxWeight(long maxWeight);
+
+  /**
+   * Enables or disables the recording of statistics by this cache.  Enabling statistics resets
+   * the statistics of this cache.
+   * @param statisticsEnabled a boolean value indicating whether statistics should be recorded.
+   */
+  public void setStatisticsEnabled(boolean statisticsEnabled);
+
+  /**
+   * Sets the Weigher computing the weight of the Cacheable objects written to this cache.
+   * @param weigher the Weigher computing the weight of the data, or null to give every
+   * Cacheable object a weight of 1.
+   */
+  public void setWeigher(Weigher weigher);
+
   /**
    * Called to release any resources held by this Cache object.
    */
   public void terminate();
 
+  /**
+   * Asynchronously stores the specified data Objects in this cache mapped to their keys as a
+   * single batch.
+   * @param data the Map of String keys to the data Objects to store in this cache.
+   * @return a CompletableFuture completing once all data Objects have been stored in this cache.
+   */
+  public CompletableFuture<Void> writeAll(Map<String, ?> data);
+
   /**
    * Stores the specified Cacheable object in this cache mapped to the key property
    * value of the Cacheable object.
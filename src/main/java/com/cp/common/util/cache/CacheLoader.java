@@ -0,0 +1,28 @@
+/*
+ * CacheLoader.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.Cache#setCacheLoader(CacheLoader)
+ * @see com.cp.common.util.cache.CacheDataSourceListener
+ */
+
+package com.cp.common.util.cache;
+
+public interface CacheLoader {
+
+  /**
+   * Loads the data mapped to the specified key from the data source when the key is not
+   * present in the cache, or when the data is refreshed ahead of it's expiration.  The
+   * cache guarantees that concurrent requests for the same key are coalesced into a single
+   * call to this method.
+   * @param key the String key of the data to load.
+   * @return the data Object mapped to the key, a Cacheable object wrapping the data with an
+   * expiration date, or null if the data source does not contain data for the key.
+   * @throws Exception if the data could not be loaded from the data source.
+   */
+  public Object load(String key) throws Exception;
+
+}
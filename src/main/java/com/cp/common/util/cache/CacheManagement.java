@@ -0,0 +1,243 @@
+/*
+ * CacheManagement.java (c) 17 October 2026
+ *
+ * The CacheManagement class publishes the statistics of caches, both as JMX MBeans registered
+ * with the platform MBeanServer and as a periodic dump to the log run by the CacheScheduler.
+ * The statistics of a cache must be enabled with Cache.setStatisticsEnabled to be recorded.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.CacheScheduler
+ * @see com.cp.common.util.cache.CacheStats
+ * @see com.cp.common.util.cache.CacheStatsMXBean
+ */
+
+package com.cp.common.util.cache;
+
+import com.cp.common.lang.Assert;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ScheduledFuture;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.log4j.Logger;
+
+public final class CacheManagement {
+
+  private static final Logger logger = Logger.getLogger(CacheManagement.class);
+
+  private static final String OBJECT_NAME_DOMAIN = "com.cp.common.util.cache";
+
+  /**
+   * Private constructor enforcing non-instantiability.
+   */
+  private CacheManagement() {
+  }
+
+  /**
+   * Returns the JMX ObjectName under which the CacheStatsMXBean of the cache with the specified
+   * name is registered.
+   * @param name the String name identifying the cache.
+   * @return the ObjectName of the CacheStatsMXBean of the cache.
+   * @throws CacheException if the name does not form a valid ObjectName.
+   */
+  public static ObjectName getObjectName(final String name) throws CacheException {
+    Assert.notBlank(name, "The name of the cache must be specified!");
+
+    try {
+      return new ObjectName(OBJECT_NAME_DOMAIN + ":type=Cache,name=" + ObjectName.quote(name));
+    }
+    catch (JMException e) {
+      logger.warn("(" + name + ") is not a valid name for a cache MBean!", e);
+      throw new CacheException("(" + name + ") is not a valid name for a cache MBean!", e);
+    }
+  }
+
+  /**
+   * Registers a CacheStatsMXBean for the specified cache with the platform MBeanServer.
+   * @param name the String name identifying the cache.
+   * @param cache the Cache to expose through JMX.
+   * @return the ObjectName under which the CacheStatsMXBean was registered.
+   * @throws CacheException if the CacheStatsMXBean could not be registered, as when a cache
+   * with the same name is already registered.
+   * @throws NullPointerException if the Cache is null.
+   */
+  public static ObjectName registerMBean(final String name, final Cache cache) throws CacheException {
+    Assert.notNull(cache, "The Cache to register cannot be null!");
+
+    final ObjectName objectName = getObjectName(name);
+
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new CacheStatsMXBeanAdapter(cache), objectName);
+      return objectName;
+    }
+    catch (JMException e) {
+      logger.warn("Failed to register the MBean (" + objectName + ") for Cache (" + cache.getDescription() + ")!", e);
+      throw new CacheException("Failed to register the MBean (" + objectName + ") for Cache ("
+        + cache.getDescription() + ")!", e);
+    }
+  }
+
+  /**
+   * Schedules a periodic dump of the statistics of the specified cache to the log at the INFO
+   * level on the shared CacheScheduler thread.  Each dump logs the statistics of the interval
+   * since the previous dump as well as the cumulative statistics.  The cache is referenced
+   * weakly, so the periodic dump is cancelled once the cache has been garbage collected.
+   * @param name the String name identifying the cache in the log.
+   * @param cache the Cache whose statistics are logged.
+   * @param interval the number of milliseconds between dumps.
+   * @return a ScheduledFuture used to cancel the periodic dump.
+   * @throws NullPointerException if the Cache is null.
+   * @throws IllegalArgumentException if the interval is not positive.
+   */
+  public static ScheduledFuture<?> scheduleStatsLogging(final String name, final Cache cache, final long interval) {
+    Assert.notNull(cache, "The Cache to log cannot be null!");
+    return CacheScheduler.scheduleWithFixedDelay(new StatsLoggingTask(name, cache), interval);
+  }
+
+  /**
+   * Unregisters the CacheStatsMXBean of the cache with the specified name from the platform
+   * MBeanServer, if registered.
+   * @param name the String name identifying the cache.
+   * @throws CacheException if the CacheStatsMXBean could not be unregistered.
+   */
+  public static void unregisterMBean(final String name) throws CacheException {
+    final ObjectName objectName = getObjectName(name);
+    final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    try {
+      if (mbeanServer.isRegistered(objectName)) {
+        mbeanServer.unregisterMBean(objectName);
+      }
+    }
+    catch (JMException e) {
+      logger.warn("Failed to unregister the MBean (" + objectName + ")!", e);
+      throw new CacheException("Failed to unregister the MBean (" + objectName + ")!", e);
+    }
+  }
+
+  /**
+   * The CacheStatsMXBeanAdapter class adapts a Cache to the CacheStatsMXBean interface.  Each
+   * attribute is read from a fresh CacheStats snapshot.
+   */
+  private static final class CacheStatsMXBeanAdapter implements CacheStatsMXBean {
+
+    private final Cache cache;
+
+    CacheStatsMXBeanAdapter(final Cache cache) {
+      this.cache = cache;
+    }
+
+    public double getAverageLoadPenalty() {
+      return cache.getStats().getAverageLoadPenalty();
+    }
+
+    public String getDescription() {
+      return cache.getDescription();
+    }
+
+    public long getEvictionCount() {
+      return cache.getStats().getEvictionCount();
+    }
+
+    public long getExpiredEvictionCount() {
+      return cache.getStats().getEvictionCount(EvictionCause.EXPIRED);
+    }
+
+    public long getHitCount() {
+      return cache.getStats().getHitCount();
+    }
+
+    public double getHitRate() {
+      return cache.getStats().getHitRate();
+    }
+
+    public long getInvalidatedEvictionCount() {
+      return cache.getStats().getEvictionCount(EvictionCause.INVALIDATED);
+    }
+
+    public long getLoadFailureCount() {
+      return cache.getStats().getLoadFailureCount();
+    }
+
+    public long getLoadSuccessCount() {
+      return cache.getStats().getLoadSuccessCount();
+    }
+
+    public int getMaxSize() {
+      return cache.getMaxSize();
+    }
+
+    public long getMaxWeight() {
+      return cache.getMaxWeight();
+    }
+
+    public long getMissCount() {
+      return cache.getStats().getMissCount();
+    }
+
+    public double getMissRate() {
+      return cache.getStats().getMissRate();
+    }
+
+    public int getSize() {
+      return cache.getSize();
+    }
+
+    public long getSizeEvictionCount() {
+      return cache.getStats().getEvictionCount(EvictionCause.SIZE);
+    }
+
+    public long getWeight() {
+      return cache.getWeight();
+    }
+
+    public long getWeightEvictionCount() {
+      return cache.getStats().getEvictionCount(EvictionCause.WEIGHT);
+    }
+
+    public boolean isStatisticsEnabled() {
+      return cache.isStatisticsEnabled();
+    }
+
+    public void setStatisticsEnabled(final boolean statisticsEnabled) {
+      cache.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  /**
+   * The StatsLoggingTask class logs the statistics of a cache, remembering the last snapshot in
+   * order to log the statistics of each interval.  The task only runs on the CacheScheduler
+   * thread, so the last snapshot is not shared between threads.
+   */
+  private static final class StatsLoggingTask extends CacheScheduler.WeakReferenceTask<Cache> {
+
+    private CacheStats lastStats = CacheStats.EMPTY;
+
+    private final String name;
+
+    StatsLoggingTask(final String name, final Cache cache) {
+      super(cache);
+      this.name = name;
+    }
+
+    protected void run(final Cache cache) {
+      if (logger.isInfoEnabled()) {
+        final CacheStats stats = cache.getStats();
+
+        logger.info("Cache (" + name + ") of type (" + cache.getDescription() + ") size (" + cache.getSize()
+          + ") weight (" + cache.getWeight() + ") interval statistics " + stats.minus(lastStats)
+          + " cumulative statistics " + stats);
+
+        lastStats = stats;
+      }
+    }
+
+    public String toString() {
+      return "StatsLoggingTask(" + name + ")";
+    }
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * CacheScheduler.java (c) 17 October 2026
+ *
+ * The CacheScheduler class runs the periodic maintenance of all caches in the JVM, such as the
+ * purge operation, on a single shared daemon thread in place of a purge thread per cache.
+ * Caches are referenced weakly by their scheduled tasks, which extend WeakReferenceTask, so a
+ * cache that is no longer referenced by the application is garbage collected and it's tasks are
+ * cancelled without relying on finalization or an explicit call to terminate.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.AbstractCache
+ * @see java.util.concurrent.ScheduledThreadPoolExecutor
+ */
+
+package com.cp.common.util.cache;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Logger;
+
+public final class CacheScheduler {
+
+  private static final Logger logger = Logger.getLogger(CacheScheduler.class);
+
+  private static final String THREAD_NAME = "cp-common-cache-scheduler";
+
+  private static ScheduledThreadPoolExecutor executor;
+
+  /**
+   * Private constructor to enforce the non-instantiability property of a utility class.
+   */
+  private CacheScheduler() {
+  }
+
+  /**
+   * Returns the shared executor, creating it on first use or after the CacheScheduler has been
+   * shutdown.
+   * @return the ScheduledThreadPoolExecutor running the scheduled tasks.
+   */
+  private static synchronized ScheduledThreadPoolExecutor getExecutor() {
+    if (ObjectUtil.isNull(executor) || executor.isShutdown()) {
+      executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        public Thread newThread(final Runnable runnable) {
+          final Thread thread = new Thread(runnable, THREAD_NAME);
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      executor.setRemoveOnCancelPolicy(true);
+      executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    return executor;
+  }
+
+  /**
+   * Schedules the purge operation of the specified cache to run at the given interval.
+   * @param cache the AbstractCache to purge.
+   * @param purgeInterval the number of milliseconds between purge operations.
+   * @return a ScheduledFuture used to cancel the purge operation.
+   */
+  static ScheduledFuture<?> schedulePurge(final AbstractCache cache, final long purgeInterval) {
+    return scheduleWithFixedDelay(new PurgeTask(cache), purgeInterval);
+  }
+
+  /**
+   * Schedules the specified task to run repeatedly on the shared daemon thread with the given delay
+   * between the end of one run and the start of the next.  The task must not block and any
+   * RuntimeException thrown by the task is logged and does not cancel subsequent runs.
+   * @param task the Runnable task to run.
+   * @param delay the number of milliseconds between runs of the task.
+   * @return a ScheduledFuture used to cancel the task.
+   */
+  public static ScheduledFuture<?> scheduleWithFixedDelay(final Runnable task, final long delay) {
+    Assert.notNull(task, "The task to schedule cannot be null!");
+    Assert.greaterThan(delay, 0l, "The delay (" + delay + ") must be a positive number of milliseconds!");
+    return getExecutor().scheduleWithFixedDelay(new SafeTask(task), delay, delay, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops the shared daemon thread and cancels all scheduled tasks.  Tasks scheduled after shutdown
+   * cause the shared daemon thread to be restarted.
+   */
+  public static synchronized void shutdown() {
+    if (ObjectUtil.isNotNull(executor)) {
+      for (Runnable task : executor.shutdownNow()) {
+        if (task instanceof Future) {
+          ((Future) task).cancel(false);
+        }
+      }
+      executor = null;
+    }
+  }
+
+  /**
+   * The PurgeTask class runs the purge operation of a weakly referenced cache.
+   */
+  private static final class PurgeTask extends WeakReferenceTask<AbstractCache> {
+
+    PurgeTask(final AbstractCache cache) {
+      super(cache);
+    }
+
+    protected void run(final AbstractCache cache) {
+      cache.purgeCache();
+    }
+  }
+
+  /**
+   * The SafeTask class guards the shared daemon thread against failures of a scheduled task.
+   */
+  private static final class SafeTask implements Runnable {
+
+    private final Runnable task;
+
+    SafeTask(final Runnable task) {
+      this.task = task;
+    }
+
+    public void run() {
+      try {
+        task.run();
+      }
+      catch (CancellationSignal signal) {
+        // NOTE rethrowing suppresses subsequent executions of the periodic task.
+        throw signal;
+      }
+      catch (RuntimeException e) {
+        logger.warn("The scheduled task (" + task + ") failed!", e);
+      }
+    }
+  }
+
+  /**
+   * The WeakReferenceTask class is a scheduled task operating on a weakly referenced object, such
+   * as a cache, so that scheduling the task does not prevent the object from being garbage
+   * collected.  The task cancels itself once the object has been garbage collected.
+   */
+  public static abstract class WeakReferenceTask<T> implements Runnable {
+
+    private final WeakReference<T> reference;
+
+    protected WeakReferenceTask(final T referent) {
+      Assert.notNull(referent, "The object referenced by the task cannot be null!");
+      reference = new WeakReference<T>(referent);
+    }
+
+    public final void run() {
+      final T referent = reference.get();
+
+      if (ObjectUtil.isNull(referent)) {
+        throw new CancellationSignal();
+      }
+
+      run(referent);
+    }
+
+    /**
+     * Runs this task on the weakly referenced object, which has not been garbage collected.
+     * @param referent the object referenced by this task.
+     */
+    protected abstract void run(T referent);
+  }
+
+  /**
+   * The CancellationSignal is thrown by a scheduled task to suppress it's subsequent executions.
+   */
+  private static final class CancellationSignal extends RuntimeException {
+
+    CancellationSignal() {
+      super("cancelled", null, false, false);
+    }
+  }
+
+}
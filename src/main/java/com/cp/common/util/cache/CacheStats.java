@@ -0,0 +1,252 @@
+/*
+ * CacheStats.java (c) 17 October 2026
+ *
+ * The CacheStats class is an immutable snapshot of the statistics of a cache, including the
+ * number of hits, misses, loads and evictions by EvictionCause.  The counts are cumulative since
+ * statistics were enabled on the cache; the minus method computes the statistics of an interval
+ * from two snapshots.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.Cache#getStats()
+ * @see com.cp.common.util.cache.StatsCounter
+ */
+
+package com.cp.common.util.cache;
+
+import com.cp.common.lang.Assert;
+import java.util.Arrays;
+
+public final class CacheStats {
+
+  public static final CacheStats EMPTY = new CacheStats(0l, 0l, 0l, 0l, 0l, new long[EvictionCause.values().length]);
+
+  private final long hitCount;
+  private final long loadFailureCount;
+  private final long loadSuccessCount;
+  private final long missCount;
+  private final long totalLoadTime;
+
+  private final long[] evictionCounts;
+
+  /**
+   * Creates an instance of the CacheStats class initialized with the specified counts.
+   * @param hitCount the number of reads that found a valid, unexpired Cacheable object.
+   * @param missCount the number of reads that did not find a valid, unexpired Cacheable object.
+   * @param loadSuccessCount the number of successful loads by the CacheLoader.
+   * @param loadFailureCount the number of loads by the CacheLoader that failed or found no data.
+   * @param totalLoadTime the total number of nanoseconds spent loading data.
+   * @param evictionCounts the number of evictions indexed by the ordinal of the EvictionCause.
+   * @throws IllegalArgumentException if any count is negative or there is not exactly one
+   * eviction count per EvictionCause.
+   */
+  public CacheStats(final long hitCount,
+                    final long missCount,
+                    final long loadSuccessCount,
+                    final long loadFailureCount,
+                    final long totalLoadTime,
+                    final long[] evictionCounts) {
+    Assert.greaterThanEqual(hitCount, 0l, "The hit count (" + hitCount + ") cannot be negative!");
+    Assert.greaterThanEqual(missCount, 0l, "The miss count (" + missCount + ") cannot be negative!");
+    Assert.greaterThanEqual(loadSuccessCount, 0l, "The load success count (" + loadSuccessCount + ") cannot be negative!");
+    Assert.greaterThanEqual(loadFailureCount, 0l, "The load failure count (" + loadFailureCount + ") cannot be negative!");
+    Assert.greaterThanEqual(totalLoadTime, 0l, "The total load time (" + totalLoadTime + ") cannot be negative!");
+    Assert.notNull(evictionCounts, "The eviction counts cannot be null!");
+    Assert.equals(evictionCounts.length, EvictionCause.values().length,
+      "There must be one eviction count per EvictionCause!");
+
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.loadSuccessCount = loadSuccessCount;
+    this.loadFailureCount = loadFailureCount;
+    this.totalLoadTime = totalLoadTime;
+    this.evictionCounts = evictionCounts.clone();
+  }
+
+  /**
+   * Returns the average number of nanoseconds spent loading data.
+   * @return a double value of the average load time in nanoseconds, or 0 if no data was loaded.
+   */
+  public double getAverageLoadPenalty() {
+    final long loadCount = getLoadCount();
+    return (loadCount == 0 ? 0.0d : (double) totalLoadTime / loadCount);
+  }
+
+  /**
+   * Returns the total number of Cacheable objects evicted from the cache for any cause.
+   * @return a long value of the number of evictions.
+   */
+  public long getEvictionCount() {
+    long evictionCount = 0l;
+
+    for (final long count : evictionCounts) {
+      evictionCount += count;
+    }
+
+    return evictionCount;
+  }
+
+  /**
+   * Returns the number of Cacheable objects evicted from the cache for the specified cause.
+   * @param cause the EvictionCause of the evictions to count.
+   * @return a long value of the number of evictions for the specified cause.
+   * @throws NullPointerException if the EvictionCause is null.
+   */
+  public long getEvictionCount(final EvictionCause cause) {
+    Assert.notNull(cause, "The EvictionCause cannot be null!");
+    return evictionCounts[cause.ordinal()];
+  }
+
+  /**
+   * Returns the number of reads that found a valid, unexpired Cacheable object.
+   * @return a long value of the number of cache hits.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the ratio of reads that were cache hits.
+   * @return a double value between 0 and 1 of the hit rate, which is 1 if there were no reads.
+   */
+  public double getHitRate() {
+    final long requestCount = getRequestCount();
+    return (requestCount == 0 ? 1.0d : (double) hitCount / requestCount);
+  }
+
+  /**
+   * Returns the number of loads by the CacheLoader, whether successful or not.
+   * @return a long value of the number of loads.
+   */
+  public long getLoadCount() {
+    return (loadSuccessCount + loadFailureCount);
+  }
+
+  /**
+   * Returns the number of loads by the CacheLoader that failed or did not find any data.
+   * @return a long value of the number of failed loads.
+   */
+  public long getLoadFailureCount() {
+    return loadFailureCount;
+  }
+
+  /**
+   * Returns the number of successful loads by the CacheLoader.
+   * @return a long value of the number of successful loads.
+   */
+  public long getLoadSuccessCount() {
+    return loadSuccessCount;
+  }
+
+  /**
+   * Returns the number of reads that did not find a valid, unexpired Cacheable object.
+   * @return a long value of the number of cache misses.
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the ratio of reads that were cache misses.
+   * @return a double value between 0 and 1 of the miss rate, which is 0 if there were no reads.
+   */
+  public double getMissRate() {
+    final long requestCount = getRequestCount();
+    return (requestCount == 0 ? 0.0d : (double) missCount / requestCount);
+  }
+
+  /**
+   * Returns the number of reads, which is the number of hits plus the number of misses.
+   * @return a long value of the number of reads.
+   */
+  public long getRequestCount() {
+    return (hitCount + missCount);
+  }
+
+  /**
+   * Returns the total number of nanoseconds spent loading data.
+   * @return a long value of the total load time in nanoseconds.
+   */
+  public long getTotalLoadTime() {
+    return totalLoadTime;
+  }
+
+  /**
+   * Returns the statistics of the interval between the specified, earlier snapshot and this
+   * snapshot.  Counts that would be negative, as when statistics were reset in between, are
+   * floored at zero.
+   * @param other the earlier CacheStats snapshot.
+   * @return a CacheStats object with the differences of the counts.
+   * @throws NullPointerException if the other CacheStats snapshot is null.
+   */
+  public CacheStats minus(final CacheStats other) {
+    Assert.notNull(other, "The CacheStats to subtract cannot be null!");
+
+    final long[] evictionCountDifferences = new long[evictionCounts.length];
+
+    for (int index = 0; index < evictionCounts.length; index++) {
+      evictionCountDifferences[index] = Math.max(0l, evictionCounts[index] - other.evictionCounts[index]);
+    }
+
+    return new CacheStats(Math.max(0l, hitCount - other.hitCount),
+      Math.max(0l, missCount - other.missCount),
+      Math.max(0l, loadSuccessCount - other.loadSuccessCount),
+      Math.max(0l, loadFailureCount - other.loadFailureCount),
+      Math.max(0l, totalLoadTime - other.totalLoadTime),
+      evictionCountDifferences);
+  }
+
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+      return true;
+    }
+
+    if (!(obj instanceof CacheStats)) {
+      return false;
+    }
+
+    final CacheStats that = (CacheStats) obj;
+
+    return (hitCount == that.hitCount
+      && missCount == that.missCount
+      && loadSuccessCount == that.loadSuccessCount
+      && loadFailureCount == that.loadFailureCount
+      && totalLoadTime == that.totalLoadTime
+      && Arrays.equals(evictionCounts, that.evictionCounts));
+  }
+
+  public int hashCode() {
+    int hashValue = 17;
+    hashValue = 37 * hashValue + (int) (hitCount ^ (hitCount >>> 32));
+    hashValue = 37 * hashValue + (int) (missCount ^ (missCount >>> 32));
+    hashValue = 37 * hashValue + (int) (loadSuccessCount ^ (loadSuccessCount >>> 32));
+    hashValue = 37 * hashValue + (int) (loadFailureCount ^ (loadFailureCount >>> 32));
+    hashValue = 37 * hashValue + (int) (totalLoadTime ^ (totalLoadTime >>> 32));
+    hashValue = 37 * hashValue + Arrays.hashCode(evictionCounts);
+    return hashValue;
+  }
+
+  /**
+   * Returns a String representation of this CacheStats snapshot.
+   * @return a String representation of this CacheStats snapshot.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{hitCount = ");
+    buffer.append(hitCount);
+    buffer.append(", missCount = ").append(missCount);
+    buffer.append(", hitRate = ").append(getHitRate());
+    buffer.append(", loadSuccessCount = ").append(loadSuccessCount);
+    buffer.append(", loadFailureCount = ").append(loadFailureCount);
+    buffer.append(", averageLoadPenalty = ").append(getAverageLoadPenalty());
+
+    for (final EvictionCause cause : EvictionCause.values()) {
+      buffer.append(", evictionCount(").append(cause).append(") = ").append(evictionCounts[cause.ordinal()]);
+    }
+
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * CacheStatsMXBean.java (c) 17 October 2026
+ *
+ * The CacheStatsMXBean interface is the JMX management interface exposing the configuration and
+ * statistics of a cache, including the number of evictions by EvictionCause.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.CacheManagement#registerMBean(String, Cache)
+ * @see com.cp.common.util.cache.CacheStats
+ */
+
+package com.cp.common.util.cache;
+
+public interface CacheStatsMXBean {
+
+  public double getAverageLoadPenalty();
+
+  public String getDescription();
+
+  public long getEvictionCount();
+
+  public long getExpiredEvictionCount();
+
+  public long getHitCount();
+
+  public double getHitRate();
+
+  public long getInvalidatedEvictionCount();
+
+  public long getLoadFailureCount();
+
+  public long getLoadSuccessCount();
+
+  public int getMaxSize();
+
+  public long getMaxWeight();
+
+  public long getMissCount();
+
+  public double getMissRate();
+
+  public int getSize();
+
+  public long getSizeEvictionCount();
+
+  public long getWeight();
+
+  public long getWeightEvictionCount();
+
+  public boolean isStatisticsEnabled();
+
+  public void setStatisticsEnabled(boolean statisticsEnabled);
+
+}
@@ -19,18 +19,34 @@ public final class CacheType {
 
   private static final Logger logger = Logger.getLogger(CacheType.class);
 
+  public static final String CLRU_ACRONYM = "CLRU";
+  public static final String CLRU_DESCRIPTION = "Concurrent Least Recently Used";
   public static final String LFU_ACRONYM = "LFU";
   public static final String LFU_DESCRIPTION = "Least Frequently Used";
   public static final String LRU_ACRONYM = "LRU";
   public static final String LRU_DESCRIPTION = "Least Recently Used";
-
+  public static final String OFF_HEAP_ACRONYM = "OFF-HEAP";
+  public static final String OFF_HEAP_DESCRIPTION = "Off-Heap Least Recently Used";
+  public static final String TIERED_ACRONYM = "TIERED";
+  public static final String TIERED_DESCRIPTION = "Tiered On-Heap and Off-Heap";
+  public static final String W_TINYLFU_ACRONYM = "W-TINYLFU";
+  public static final String W_TINYLFU_DESCRIPTION = "Window Tiny Least Frequently Used";
+
+  public static final CacheType CLRU = new CacheType(CLRU_ACRONYM, CLRU_DESCRIPTION);
   public static final CacheType LFU = new CacheType(LFU_ACRONYM, LFU_DESCRIPTION);
   public static final CacheType LRU = new CacheType(LRU_ACRONYM, LRU_DESCRIPTION);
+  public static final CacheType OFF_HEAP = new CacheType(OFF_HEAP_ACRONYM, OFF_HEAP_DESCRIPTION);
+  public static final CacheType TIERED = new CacheType(TIERED_ACRONYM, TIERED_DESCRIPTION);
+  public static final CacheType W_TINYLFU = new CacheType(W_TINYLFU_ACRONYM, W_TINYLFU_DESCRIPTION);
 
-  private static final List cacheTypeList = new ArrayList();
+  private static final List<CacheType> cacheTypeList = new ArrayList<CacheType>();
   static {
+    cacheTypeList.add(CLRU);
     cacheTypeList.add(LFU);
     cacheTypeList.add(LRU);
+    cacheTypeList.add(OFF_HEAP);
+    cacheTypeList.add(TIERED);
+    cacheTypeList.add(W_TINYLFU);
   }
 
   private final String acronym;
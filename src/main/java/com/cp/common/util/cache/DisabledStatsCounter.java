@@ -0,0 +1,42 @@
+/*
+ * DisabledStatsCounter.java (c) 17 October 2026
+ *
+ * The DisabledStatsCounter class is the StatsCounter of caches with statistics disabled, which
+ * records nothing.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.StatsCounter
+ */
+
+package com.cp.common.util.cache;
+
+final class DisabledStatsCounter implements StatsCounter {
+
+  static final DisabledStatsCounter INSTANCE = new DisabledStatsCounter();
+
+  private DisabledStatsCounter() {
+  }
+
+  public void recordEviction(final EvictionCause cause) {
+  }
+
+  public void recordHits(final int count) {
+  }
+
+  public void recordLoadFailure(final long loadTime) {
+  }
+
+  public void recordLoadSuccess(final long loadTime) {
+  }
+
+  public void recordMisses(final int count) {
+  }
+
+  public CacheStats snapshot() {
+    return CacheStats.EMPTY;
+  }
+
+}
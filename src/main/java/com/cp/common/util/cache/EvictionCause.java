@@ -0,0 +1,72 @@
+/*
+ * EvictionCause.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.EvictionEvent
+ */
+
+package com.cp.common.util.cache;
+
+import com.cp.common.lang.ObjectUtil;
+
+public enum EvictionCause {
+  EXPIRED("Expired"),
+  INVALIDATED("Invalidated"),
+  SIZE("Size"),
+  WEIGHT("Weight");
+
+  private final String description;
+
+  /**
+   * Creates an instance of the EvictionCause Enum initialized with a description of the cause.
+   * @param description a String value describing this EvictionCause enumerated constant.
+   */
+  EvictionCause(final String description) {
+    this.description = description;
+  }
+
+  /**
+   * Looks up an EvictionCause enumerated type value by description.
+   * @param description a String value specifying the EvictionCause enumerated type value's description.
+   * @return an EvictionCause enumerated type value by description.
+   */
+  public static EvictionCause getEvictionCauseByDescription(final String description) {
+    for (final EvictionCause cause : values()) {
+      if (ObjectUtil.equals(cause.getDescription(), description)) {
+        return cause;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Gets the description of this EvictionCause enumerated type value.
+   * @return a String value describing this EvictionCause enumerated type value.
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Determines whether the Cacheable object was evicted to keep the cache within it's maximum
+   * size or maximum weight, as opposed to being removed because it's data is no longer current.
+   * @return a boolean value indicating whether this EvictionCause is SIZE or WEIGHT.
+   */
+  public boolean isCapacity() {
+    return (this == SIZE || this == WEIGHT);
+  }
+
+  /**
+   * Returns a String representation of this EvictionCause enumerated type value.
+   * @return a String representation of this EvictionCause enumerated type value.
+   */
+  @Override
+  public String toString() {
+    return description;
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * EvictionEvent.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.CacheEvent
+ * @see com.cp.common.util.cache.EvictionCause
+ * @see com.cp.common.util.cache.EvictionListener
+ */
+
+package com.cp.common.util.cache;
+
+public class EvictionEvent extends CacheEvent {
+
+  private final EvictionCause cause;
+
+  /**
+   * Creates an instance of the EvictionEvent class notifying listeners that the Cacheable object
+   * was evicted from the Cache for the specified cause.
+   * @param source the reference to the Cache.
+   * @param cacheObject the Cacheable object that was evicted from the Cache.
+   * @param cause the EvictionCause indicating why the Cacheable object was evicted.
+   */
+  public EvictionEvent(final Cache source,
+                       final Cacheable cacheObject,
+                       final EvictionCause cause) {
+    super(source, cacheObject);
+    this.cause = cause;
+  }
+
+  /**
+   * Returns the cause of the eviction of the Cacheable object.
+   * @return the EvictionCause indicating why the Cacheable object was evicted.
+   */
+  public EvictionCause getCause() {
+    return cause;
+  }
+
+  /**
+   * Return a String representation of this EvictionEvent.
+   * @return a String representation of this EvictionEvent.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{cache = ");
+    buffer.append(getCache());
+    buffer.append(", cacheable = ").append(getCacheable());
+    buffer.append(", cause = ").append(getCause());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+}
@@ -0,0 +1,27 @@
+/*
+ * EvictionListener.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.EvictionEvent
+ */
+
+package com.cp.common.util.cache;
+
+import java.util.EventListener;
+
+public interface EvictionListener extends EventListener {
+
+  /**
+   * The cache implementation calls upon this interface to notify the listener that a Cacheable
+   * object was removed from the cache by the cache itself, rather than replaced by a write.  The
+   * listener is notified synchronously, possibly while the cache holds a lock, and therefore
+   * must not read from or write to the cache that fired the event.
+   * @param evt the EvictionEvent object referring to the cache, the evicted Cacheable object and
+   * the cause of the eviction.
+   */
+  public void cacheableEvicted(EvictionEvent evt);
+
+}
@@ -0,0 +1,147 @@
+/*
+ * InvalidationEvent.java (c) 17 October 2026
+ *
+ * The InvalidationEvent class notifies InvalidationListeners that another node invalidated
+ * either the specified keys or all keys of the named cache.  The event carries the time at which
+ * the invalidation was published, as measured by the clock of the publishing node.  The clocks of
+ * the nodes are not synchronized, so the time is informational, such as for logging, and cannot be
+ * compared with the times of the writes on the receiving node.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.InvalidationListener
+ * @see com.cp.common.util.cache.InvalidationTransport
+ */
+
+package com.cp.common.util.cache;
+
+import com.cp.common.lang.Assert;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EventObject;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class InvalidationEvent extends EventObject {
+
+  private final boolean allKeys;
+
+  private final long timestamp;
+
+  private final Set<String> keys;
+
+  private final String cacheName;
+
+  /**
+   * Creates an instance of the InvalidationEvent class notifying listeners that the specified
+   * keys of the named cache were invalidated.
+   * @param source the InvalidationTransport that received the invalidation.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @param keys the Collection of String keys that were invalidated.
+   * @throws NullPointerException if the cache name or the Collection of keys is null.
+   */
+  public InvalidationEvent(final InvalidationTransport source, final String cacheName, final Collection<String> keys) {
+    this(source, cacheName, keys, false);
+  }
+
+  /**
+   * Creates an instance of the InvalidationEvent class notifying listeners that the specified
+   * keys, or all keys, of the named cache were invalidated now.
+   * @param source the InvalidationTransport that received the invalidation.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @param keys the Collection of String keys that were invalidated, which is ignored if all keys
+   * were invalidated.
+   * @param allKeys a boolean value indicating whether all keys were invalidated.
+   * @throws NullPointerException if the cache name or the Collection of keys is null.
+   */
+  public InvalidationEvent(final InvalidationTransport source,
+                           final String cacheName,
+                           final Collection<String> keys,
+                           final boolean allKeys) {
+    this(source, cacheName, keys, allKeys, System.currentTimeMillis());
+  }
+
+  /**
+   * Creates an instance of the InvalidationEvent class notifying listeners that the specified
+   * keys, or all keys, of the named cache were invalidated at the given time.
+   * @param source the InvalidationTransport that received the invalidation.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @param keys the Collection of String keys that were invalidated, which is ignored if all keys
+   * were invalidated.
+   * @param allKeys a boolean value indicating whether all keys were invalidated.
+   * @param timestamp the time, in milliseconds since the epoch, at which the invalidation was
+   * published by the other node.
+   * @throws NullPointerException if the cache name or the Collection of keys is null.
+   */
+  public InvalidationEvent(final InvalidationTransport source,
+                           final String cacheName,
+                           final Collection<String> keys,
+                           final boolean allKeys,
+                           final long timestamp) {
+    super(source);
+    Assert.notNull(cacheName, "The name of the cache cannot be null!");
+    Assert.notNull(keys, "The Collection of invalidated keys cannot be null!");
+    this.cacheName = cacheName;
+    this.keys = Collections.unmodifiableSet(new LinkedHashSet<String>(keys));
+    this.allKeys = allKeys;
+    this.timestamp = timestamp;
+  }
+
+  /**
+   * Returns the name identifying the cache across nodes.
+   * @return a String name of the cache whose keys were invalidated.
+   */
+  public String getCacheName() {
+    return cacheName;
+  }
+
+  /**
+   * Returns the keys that were invalidated.
+   * @return an unmodifiable Set of String keys that were invalidated.
+   */
+  public Set<String> getKeys() {
+    return keys;
+  }
+
+  /**
+   * Returns the time at which the invalidation was published by the other node, as measured by
+   * the clock of that node.
+   * @return a long value of the milliseconds since the epoch at which the invalidation was published.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Returns the InvalidationTransport that received the invalidation.
+   * @return the InvalidationTransport that received the invalidation.
+   */
+  public InvalidationTransport getTransport() {
+    return (InvalidationTransport) getSource();
+  }
+
+  /**
+   * Determines whether all keys of the cache were invalidated.
+   * @return a boolean value indicating whether all keys of the cache were invalidated.
+   */
+  public boolean isAllKeys() {
+    return allKeys;
+  }
+
+  /**
+   * Return a String representation of this InvalidationEvent.
+   * @return a String representation of this InvalidationEvent.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{cacheName = ");
+    buffer.append(getCacheName());
+    buffer.append(", allKeys = ").append(isAllKeys());
+    buffer.append(", keys = ").append(getKeys());
+    buffer.append(", timestamp = ").append(getTimestamp());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+}
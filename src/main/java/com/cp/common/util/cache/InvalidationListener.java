@@ -0,0 +1,25 @@
+/*
+ * InvalidationListener.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.InvalidationEvent
+ * @see com.cp.common.util.cache.InvalidationTransport
+ */
+
+package com.cp.common.util.cache;
+
+import java.util.EventListener;
+
+public interface InvalidationListener extends EventListener {
+
+  /**
+   * Called when another node invalidated keys of a cache.  The listener is called on the
+   * Thread of the InvalidationTransport delivering the invalidation and should not block.
+   * @param evt the InvalidationEvent identifying the cache and the keys that were invalidated.
+   */
+  public void keysInvalidated(InvalidationEvent evt);
+
+}
@@ -0,0 +1,55 @@
+/*
+ * InvalidationTransport.java (c) 17 October 2026
+ *
+ * The InvalidationTransport interface carries the invalidations of caches between the nodes
+ * (JVMs) of a deployment, keeping near caches on each node from serving data that was changed
+ * on another node.  A transport delivers the invalidations published by other nodes to it's
+ * InvalidationListeners, but never the invalidations it published itself.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.AbstractInvalidationTransport
+ * @see com.cp.common.util.cache.InvalidationListener
+ */
+
+package com.cp.common.util.cache;
+
+import java.util.Collection;
+
+public interface InvalidationTransport {
+
+  /**
+   * Adds the InvalidationListener notified of the invalidations published by other nodes.
+   * @param listener the InvalidationListener notified of InvalidationEvents.
+   */
+  public void addInvalidationListener(InvalidationListener listener);
+
+  /**
+   * Stops this transport and releases any resources, such as sockets and threads, held by it.
+   */
+  public void close();
+
+  /**
+   * Publishes the invalidation of the specified keys of the named cache to the other nodes.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @param keys the Collection of String keys that were invalidated.
+   * @throws CacheException if the invalidation could not be published.
+   */
+  public void publish(String cacheName, Collection<String> keys) throws CacheException;
+
+  /**
+   * Publishes the invalidation of all keys of the named cache to the other nodes.
+   * @param cacheName the String name identifying the cache across nodes.
+   * @throws CacheException if the invalidation could not be published.
+   */
+  public void publishAll(String cacheName) throws CacheException;
+
+  /**
+   * Removes the InvalidationListener notified of the invalidations published by other nodes.
+   * @param listener the InvalidationListener notified of InvalidationEvents.
+   */
+  public void removeInvalidationListener(InvalidationListener listener);
+
+}
@@ -0,0 +1,86 @@
+/*
+ * JavaSerializer.java (c) 17 October 2026
+ *
+ * The JavaSerializer class is the default Serializer, which uses Java Object Serialization and
+ * therefore requires that the data Objects implement java.io.Serializable.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.Serializer
+ * @see java.io.Serializable
+ */
+
+package com.cp.common.util.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import org.apache.log4j.Logger;
+
+public final class JavaSerializer implements Serializer {
+
+  private static final Logger logger = Logger.getLogger(JavaSerializer.class);
+
+  public static final JavaSerializer INSTANCE = new JavaSerializer();
+
+  /**
+   * Reads the data Object from the specified array of bytes with an ObjectInputStream.
+   * @param bytes the byte array containing the serialized form of the data Object.
+   * @return the data Object read from the byte array.
+   * @throws CacheException if the byte array could not be deserialized.
+   */
+  public Object deserialize(final byte[] bytes) throws CacheException {
+    try {
+      final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+      try {
+        return in.readObject();
+      }
+      finally {
+        in.close();
+      }
+    }
+    catch (ClassNotFoundException e) {
+      logger.warn("Failed to deserialize the data Object!", e);
+      throw new CacheException("Failed to deserialize the data Object!", e);
+    }
+    catch (IOException e) {
+      logger.warn("Failed to deserialize the data Object!", e);
+      throw new CacheException("Failed to deserialize the data Object!", e);
+    }
+  }
+
+  /**
+   * Writes the specified data Object to an array of bytes with an ObjectOutputStream.
+   * @param data the Serializable data Object to serialize.
+   * @return a byte array containing the serialized form of the data Object.
+   * @throws CacheException if the data Object is not Serializable or could not be serialized.
+   */
+  public byte[] serialize(final Object data) throws CacheException {
+    if (!(data instanceof Serializable)) {
+      logger.warn("The data Object (" + data + ") must be Serializable!");
+      throw new CacheException("The data Object (" + data + ") must be Serializable!");
+    }
+
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final ObjectOutputStream out = new ObjectOutputStream(bytes);
+      try {
+        out.writeObject(data);
+      }
+      finally {
+        out.close();
+      }
+      return bytes.toByteArray();
+    }
+    catch (IOException e) {
+      logger.warn("Failed to serialize the data Object (" + data + ")!", e);
+      throw new CacheException("Failed to serialize the data Object (" + data + ")!", e);
+    }
+  }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Serializer.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.JavaSerializer
+ */
+
+package com.cp.common.util.cache;
+
+public interface Serializer {
+
+  /**
+   * Converts the bytes produced by the serialize method back into the data Object.
+   * @param bytes the byte array containing the serialized form of the data Object.
+   * @return the data Object read from the byte array.
+   * @throws CacheException if the byte array could not be deserialized.
+   */
+  public Object deserialize(byte[] bytes) throws CacheException;
+
+  /**
+   * Converts the specified data Object into an array of bytes, such that the data Object can be
+   * stored outside of the Java heap.
+   * @param data the data Object to serialize.
+   * @return a byte array containing the serialized form of the data Object.
+   * @throws CacheException if the data Object could not be serialized.
+   */
+  public byte[] serialize(Object data) throws CacheException;
+
+}
@@ -0,0 +1,55 @@
+/*
+ * StatsCounter.java (c) 17 October 2026
+ *
+ * The StatsCounter interface records the hits, misses, loads and evictions of a cache as they
+ * happen, and takes CacheStats snapshots of the recorded values.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.CacheStats
+ * @see com.cp.common.util.cache.ConcurrentStatsCounter
+ */
+
+package com.cp.common.util.cache;
+
+public interface StatsCounter {
+
+  /**
+   * Records the eviction of a Cacheable object from the cache.
+   * @param cause the EvictionCause indicating why the Cacheable object was evicted.
+   */
+  public void recordEviction(EvictionCause cause);
+
+  /**
+   * Records the specified number of reads that found a valid, unexpired Cacheable object.
+   * @param count the number of cache hits.
+   */
+  public void recordHits(int count);
+
+  /**
+   * Records a load of data by the CacheLoader that failed or did not find any data.
+   * @param loadTime the number of nanoseconds spent loading the data.
+   */
+  public void recordLoadFailure(long loadTime);
+
+  /**
+   * Records a successful load of data by the CacheLoader.
+   * @param loadTime the number of nanoseconds spent loading the data.
+   */
+  public void recordLoadSuccess(long loadTime);
+
+  /**
+   * Records the specified number of reads that did not find a valid, unexpired Cacheable object.
+   * @param count the number of cache misses.
+   */
+  public void recordMisses(int count);
+
+  /**
+   * Returns a snapshot of the values recorded by this StatsCounter.
+   * @return a CacheStats object with the values recorded so far.
+   */
+  public CacheStats snapshot();
+
+}
@@ -0,0 +1,269 @@
+/*
+ * TimerWheel.java (c) 17 October 2026
+ *
+ * The TimerWheel class is a hierarchical timing wheel tracking the expiration deadlines of
+ * cached items in amortized constant time.  Each level of the wheel is an array of buckets
+ * spanning a power of two number of milliseconds; a timer is placed in the bucket of the
+ * coarsest level able to resolve it's deadline.  Advancing the wheel only visits the buckets
+ * whose time has elapsed, expiring the due timers and cascading the remaining timers down to
+ * finer grained levels, so that a purge operation only touches the items that are due rather
+ * than scanning the entire cache.
+ *
+ * The levels of the wheel have the following resolution and span
+ *
+ * <code>
+ *    level 0 - 64 buckets of ~1 second spanning ~1 minute
+ *    level 1 - 64 buckets of ~1 minute spanning ~1.2 hours
+ *    level 2 - 16 buckets of ~1.2 hours spanning ~18.6 hours
+ *    level 3 - 16 buckets of ~18.6 hours spanning ~12.4 days
+ *    level 4 - 1 overflow bucket
+ * </code>
+ *
+ * A TimerWheel is not thread-safe and must be guarded by the caller.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.CacheScheduler
+ */
+
+package com.cp.common.util.cache;
+
+import com.cp.common.lang.Assert;
+
+public final class TimerWheel<T> {
+
+  private static final int[] BUCKETS = { 64, 64, 16, 16, 1 };
+  private static final int[] SHIFT = { 10, 16, 22, 26, 30 };
+
+  private long currentTime;
+
+  private final Timer<T>[][] wheel;
+
+  /**
+   * Creates an instance of the TimerWheel class starting at the specified time.
+   * @param currentTime a long value specifying the current time in milliseconds.
+   */
+  @SuppressWarnings("unchecked")
+  public TimerWheel(final long currentTime) {
+    this.currentTime = currentTime;
+    wheel = new Timer[BUCKETS.length][];
+
+    for (int level = 0; level < BUCKETS.length; level++) {
+      wheel[level] = new Timer[BUCKETS[level]];
+
+      for (int index = 0; index < BUCKETS[level]; index++) {
+        wheel[level][index] = new Timer<T>(null, 0l);
+      }
+    }
+  }
+
+  /**
+   * Advances this TimerWheel to the specified time, passing the item of each timer whose deadline
+   * has elapsed to the ExpirationHandler.  Timers that are not yet due are cascaded to the
+   * appropriate bucket.
+   * @param time a long value specifying the current time in milliseconds.
+   * @param handler the ExpirationHandler notified of the items whose deadline has elapsed.
+   * @return an integer value indicating the number of timers that expired.
+   */
+  public int advance(final long time, final ExpirationHandler<T> handler) {
+    final long previousTime = currentTime;
+
+    int expiredCount = 0;
+
+    if (time > previousTime) {
+      currentTime = time;
+
+      for (int level = 0; level < SHIFT.length; level++) {
+        final long previousTicks = (previousTime >>> SHIFT[level]);
+        final long currentTicks = (time >>> SHIFT[level]);
+
+        if (currentTicks <= previousTicks) {
+          break;
+        }
+
+        expiredCount += expire(level, previousTicks, currentTicks, handler);
+      }
+    }
+
+    return expiredCount;
+  }
+
+  /**
+   * Cancels the specified timer, removing it from this TimerWheel.
+   * @param timer the Timer to cancel.
+   */
+  public void cancel(final Timer<T> timer) {
+    if (timer != null && timer.isScheduled()) {
+      unlink(timer);
+    }
+  }
+
+  /**
+   * Expires or cascades the timers in the buckets of the specified level whose time has elapsed.
+   * @param level the level of the wheel.
+   * @param previousTicks the number of ticks of the level at the previous time.
+   * @param currentTicks the number of ticks of the level at the current time.
+   * @param handler the ExpirationHandler notified of the items whose deadline has elapsed.
+   * @return an integer value indicating the number of timers that expired.
+   */
+  private int expire(final int level, final long previousTicks, final long currentTicks,
+                     final ExpirationHandler<T> handler) {
+    final Timer<T>[] buckets = wheel[level];
+    final int mask = (buckets.length - 1);
+    final int steps = (int) Math.min(1 + (currentTicks - previousTicks), buckets.length);
+    final int start = (int) (previousTicks & mask);
+
+    int expiredCount = 0;
+
+    for (int step = start, end = (start + steps); step < end; step++) {
+      final Timer<T> sentinel = buckets[step & mask];
+
+      Timer<T> timer = sentinel.next;
+
+      // Detach the bucket so that timers may be rescheduled while it is processed.
+      sentinel.previous = sentinel;
+      sentinel.next = sentinel;
+
+      while (timer != sentinel) {
+        final Timer<T> next = timer.next;
+
+        timer.previous = null;
+        timer.next = null;
+
+        if (timer.deadline <= currentTime) {
+          expiredCount++;
+          handler.expired(timer.item);
+        }
+        else {
+          link(timer);
+        }
+
+        timer = next;
+      }
+    }
+
+    return expiredCount;
+  }
+
+  /**
+   * Returns the sentinel of the bucket in which a timer with the specified deadline belongs.
+   * @param deadline a long value specifying the deadline of the timer in milliseconds.
+   * @return the sentinel Timer of the bucket.
+   */
+  private Timer<T> findBucket(final long deadline) {
+    final long time = Math.max(deadline, currentTime);
+    final long duration = (time - currentTime);
+    final int overflowLevel = (wheel.length - 1);
+
+    for (int level = 0; level < overflowLevel; level++) {
+      if (duration < (1l << SHIFT[level + 1])) {
+        final long ticks = (time >>> SHIFT[level]);
+        return wheel[level][(int) (ticks & (wheel[level].length - 1))];
+      }
+    }
+
+    return wheel[overflowLevel][0];
+  }
+
+  /**
+   * Links the timer at the tail of the bucket in which it belongs.
+   * @param timer the Timer to link.
+   */
+  private void link(final Timer<T> timer) {
+    final Timer<T> sentinel = findBucket(timer.deadline);
+
+    timer.previous = sentinel.previous;
+    timer.next = sentinel;
+    sentinel.previous.next = timer;
+    sentinel.previous = timer;
+  }
+
+  /**
+   * Schedules the specified item to expire at the given deadline.
+   * @param item the item to expire.
+   * @param deadline a long value specifying the time in milliseconds at which the item expires.
+   * @return a Timer that can be used to cancel the expiration of the item.
+   */
+  public Timer<T> schedule(final T item, final long deadline) {
+    Assert.notNull(item, "The item to schedule cannot be null!");
+    final Timer<T> timer = new Timer<T>(item, deadline);
+    link(timer);
+    return timer;
+  }
+
+  /**
+   * Unlinks the timer from it's bucket.
+   * @param timer the Timer to unlink.
+   */
+  private void unlink(final Timer<T> timer) {
+    timer.previous.next = timer.next;
+    timer.next.previous = timer.previous;
+    timer.previous = null;
+    timer.next = null;
+  }
+
+  /**
+   * The ExpirationHandler interface is notified by the TimerWheel of the items whose deadline
+   * has elapsed.
+   */
+  public static interface ExpirationHandler<T> {
+
+    /**
+     * Called when the deadline of the specified item has elapsed.
+     * @param item the item whose deadline has elapsed.
+     */
+    public void expired(T item);
+
+  }
+
+  /**
+   * The Timer class records the deadline of an item scheduled in the TimerWheel and doubles as the
+   * node in the doubly-linked list of the bucket in which it is placed.
+   */
+  public static final class Timer<T> {
+
+    private final long deadline;
+
+    private final T item;
+
+    private Timer<T> previous;
+    private Timer<T> next;
+
+    private Timer(final T item, final long deadline) {
+      this.item = item;
+      this.deadline = deadline;
+      // NOTE a Timer without an item is a bucket sentinel and links to itself.
+      if (item == null) {
+        this.previous = this;
+        this.next = this;
+      }
+    }
+
+    /**
+     * Returns the time in milliseconds at which the item expires.
+     * @return a long value specifying the deadline of the item.
+     */
+    public long getDeadline() {
+      return deadline;
+    }
+
+    /**
+     * Returns the item scheduled to expire.
+     * @return the item scheduled to expire.
+     */
+    public T getItem() {
+      return item;
+    }
+
+    /**
+     * Determines whether this Timer is currently scheduled in the TimerWheel.
+     * @return a boolean value indicating whether this Timer is scheduled.
+     */
+    public boolean isScheduled() {
+      return (next != null);
+    }
+  }
+
+}
@@ -0,0 +1,26 @@
+/*
+ * Weigher.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.cache.Cache#setMaxWeight(long)
+ * @see com.cp.common.util.cache.Cache#setWeigher(Weigher)
+ */
+
+package com.cp.common.util.cache;
+
+public interface Weigher {
+
+  /**
+   * Returns the weight of the data mapped to the specified key, such as it's approximate size
+   * in bytes.  The weight is computed once, when the data is written to the cache, and counts
+   * towards the maximum weight of the cache until the data is removed.
+   * @param key the String key mapping the data in the cache.
+   * @param data the data Object being written to the cache.
+   * @return a non-negative long value specifying the weight of the data.
+   */
+  public long weigh(String key, Object data);
+
+}
@@ -4,7 +4,7 @@
  * Copyright (c) 2003, Codeprimate LLC
  * All Rights Reserved
  * @author John J. Blum
- * @version 2010.6.1
+ * @version 2026.10.17
  */
 
 package com.cp.common.util.record;
@@ -57,6 +57,22 @@ public abstract class AbstractRecordFactory {
     return INSTANCE;
   }
 
+  /**
+   * Returns a service provider instance of the RecordTable interface storing the values of the record table
+   * by column, with lightweight views of the rows as Records.
+   * @return a service provider implementation of the RecordTable interface using columnar storage.
+   */
+  public abstract RecordTable getColumnarRecordTableInstance();
+
+  /**
+   * Returns a service provider instance of the RecordTable interface storing the values of the record table
+   * by column, initialized to the specified structure, columns.
+   * @param columns the array of columns constituting the structure of the
+   * RecordTable instance.
+   * @return a service provider implementation of the RecordTable interface using columnar storage.
+   */
+  public abstract RecordTable getColumnarRecordTableInstance(Column[] columns);
+
   /**
    * Returns a service provider instance of the Record interface.
    * @return a Record interface implementation.
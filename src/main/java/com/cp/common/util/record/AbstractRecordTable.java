@@ -14,7 +14,7 @@
  * Copyright (c) 2002, Codeprimate LLC
  * All Rights Reserved
  * @author John J. Blum
- * @version 2010.6.1
+ * @version 2026.10.17
  * @see com.cp.common.util.record.Column
  * @see com.cp.common.util.InvalidColunValueException
  * @see com.cp.common.util.InvalidColunValueSizeException
@@ -30,13 +30,16 @@
 
 package com.cp.common.util.record;
 
+import com.cp.common.lang.Assert;
 import com.cp.common.lang.ClassUtil;
 import com.cp.common.lang.Mutable;
 import com.cp.common.lang.ObjectImmutableException;
 import com.cp.common.lang.ObjectUtil;
 import com.cp.common.lang.StringUtil;
+import com.cp.common.util.ComparableComparator;
 import com.cp.common.util.Visitor;
 import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -44,6 +47,9 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -219,6 +225,18 @@ public abstract class AbstractRecordTable extends AbstractCollection<Record> imp
     return super.containsAll(c);
   }
 
+  /**
+   * Performs the specified action on every row of this record table in parallel using the parallelStream of rows
+   * split by the spliterator method.
+   * @param action the action performed on each row of this record table.
+   * @throws java.lang.NullPointerException if the action is null.
+   * @see java.util.Collection#parallelStream()
+   */
+  public void forEachParallel(final Consumer<? super Record> action) {
+    Assert.notNull(action, "The action cannot be null!");
+    parallelStream().forEach(action);
+  }
+
   /**
    * Implementation of the Searchable.get(I) and Sortable.get(I) methods.  This method returns
    * the row, or Record object, at index in this record table.
@@ -500,6 +518,79 @@ public abstract class AbstractRecordTable extends AbstractCollection<Record> imp
     return -1;
   }
 
+  /**
+   * Returns the rows in this record table having the specified value for the Column.  This implementation
+   * compares the value of the Column in every row of this record table, returning the rows in row order.
+   * @param column the Column of this record table whose value is matched.
+   * @param value the value of the Column in the rows being returned.
+   * @return a List of the rows having the value for the Column, or an empty List if no row has the value.
+   */
+  public List<Record> getRows(final Column column, final Object value) {
+    final int columnIndex = getColumnIndex(column);
+    final List<Record> rows = new ArrayList<Record>();
+
+    validateColumnIndex(columnIndex);
+
+    for (int rowIndex = 0, rowCount = rowCount(); rowIndex < rowCount; rowIndex++) {
+      if (ObjectUtil.equalsIgnoreNull(value, getCellValue(rowIndex, columnIndex))) {
+        rows.add(getRow(rowIndex));
+      }
+    }
+
+    return rows;
+  }
+
+  /**
+   * Returns the rows in this record table having a non-null value for the Column within the specified range.
+   * This implementation compares the value of the Column in every row of this record table with the bounds of
+   * the range, using the Comparator returned by getComparator, returning the rows in row order.
+   * @param column the Column of this record table whose value is compared with the range.
+   * @param fromValue the lower bound of the range, or null if the range has no lower bound.
+   * @param fromInclusive a boolean value indicating whether the lower bound is included in the range.
+   * @param toValue the upper bound of the range, or null if the range has no upper bound.
+   * @param toInclusive a boolean value indicating whether the upper bound is included in the range.
+   * @return a List of the rows having a value for the Column within the range.
+   */
+  public List<Record> getRows(final Column column, final Object fromValue, final boolean fromInclusive,
+                              final Object toValue, final boolean toInclusive) {
+    final int columnIndex = getColumnIndex(column);
+    final List<Record> rows = new ArrayList<Record>();
+
+    validateColumnIndex(columnIndex);
+
+    for (int rowIndex = 0, rowCount = rowCount(); rowIndex < rowCount; rowIndex++) {
+      final Object value = getCellValue(rowIndex, columnIndex);
+
+      if (ObjectUtil.isNotNull(value)) {
+        final Comparator<?> tableComparator = getComparator(column, value);
+
+        @SuppressWarnings("unchecked")
+        final Comparator<Object> comparator = (Comparator<Object>) (ObjectUtil.isNull(tableComparator)
+          ? ComparableComparator.getInstance() : tableComparator);
+
+        if (ObjectUtil.isNotNull(fromValue)) {
+          final int compareValue = comparator.compare(value, fromValue);
+
+          if (compareValue < 0 || (compareValue == 0 && !fromInclusive)) {
+            continue;
+          }
+        }
+
+        if (ObjectUtil.isNotNull(toValue)) {
+          final int compareValue = comparator.compare(value, toValue);
+
+          if (compareValue > 0 || (compareValue == 0 && !toInclusive)) {
+            continue;
+          }
+        }
+
+        rows.add(getRow(rowIndex));
+      }
+    }
+
+    return rows;
+  }
+
   /**
    * Returns true if this RecordTable contains no Records.
    * @return a boolean value indicating if the RecordTable contains Records or not.
@@ -682,6 +773,23 @@ public abstract class AbstractRecordTable extends AbstractCollection<Record> imp
     return rowCount;
   }
 
+  /**
+   * Implementation of the BulkSortable.setAll(:Object[]) method.  This method sets each Record in the array
+   * at the corresponding row index in this record table using the Sortable.set(:Object, I) method.
+   * @param records the array of Records from this record table in the order in which they are set.
+   * @throws java.lang.IllegalArgumentException if the number of Records does not match the number of rows
+   * in this record table.
+   * @throws java.lang.Exception if a Record could not be set in this record table.
+   * @see com.cp.common.lang.BulkSortable#setAll
+   */
+  public void setAll(final Object[] records) throws Exception {
+    validateRowCount(records);
+
+    for (int rowIndex = 0; rowIndex < records.length; rowIndex++) {
+      set((Record) records[rowIndex], rowIndex);
+    }
+  }
+
   /**
    * Sets the specified cell at (rowIndex, columnIndex) in this record table with the specified Object value.
    * @param rowIndex the index of the row.
@@ -702,7 +810,12 @@ public abstract class AbstractRecordTable extends AbstractCollection<Record> imp
     final Column column = getColumn(columnIndex);
 
     value = getColumnValue(column, value);
-    validateColumnValue(column, value);
+
+    // a row may be set to it's current value without violating the unique constraint of the column
+    if (!ObjectUtil.equals(value, getCellValue(rowIndex, columnIndex))) {
+      validateColumnValue(column, value);
+    }
+
     getRow(rowIndex).setValue(columnIndex, value);
   }
 
@@ -742,6 +855,17 @@ public abstract class AbstractRecordTable extends AbstractCollection<Record> imp
     return rowCount();
   }
 
+  /**
+   * Returns a Spliterator over the rows of this record table, in row order, sized by the number of rows.  This
+   * implementation splits the rows traversed by rowIterator into batches, and should be overridden by subclasses
+   * providing random access to rows.
+   * @return a Spliterator over the rows of this record table.
+   * @see java.util.Spliterators#spliterator(java.util.Iterator, long, int)
+   */
+  public Spliterator<Record> spliterator() {
+    return Spliterators.spliterator(rowIterator(), rowCount(), Spliterator.NONNULL | Spliterator.ORDERED);
+  }
+
   /**
    * Returns an array containing all of the Records in this record table.
    * @return an array of Records contained in this record table.
@@ -1007,6 +1131,21 @@ public abstract class AbstractRecordTable extends AbstractCollection<Record> imp
     }
   }
 
+  /**
+   * Verifies that the number of Records in the array matches the number of rows in this record table.
+   * @param records the array of Records being set in this record table.
+   * @throws java.lang.IllegalArgumentException if the number of Records does not match the number of rows
+   * in this record table.
+   */
+  protected void validateRowCount(final Object[] records) {
+    if (records.length != rowCount()) {
+      log.warn("The number of records (" + records.length + ") does not match the number of rows ("
+        + rowCount() + ") in this record table!");
+      throw new IllegalArgumentException("The number of records (" + records.length
+        + ") does not match the number of rows (" + rowCount() + ") in this record table!");
+    }
+  }
+
   /**
    * Verifies that the specified row index is bound within the number of rows contained by
    * this record table.
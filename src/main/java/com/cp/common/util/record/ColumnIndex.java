@@ -0,0 +1,319 @@
+/*
+ * ColumnIndex.java (c) 17 October 2026
+ *
+ * The ColumnIndex class indexes the rows of a RecordTable by the value of a Column.  A hash index maps each
+ * value of the Column to the rows having that value, and is used by the record table to enforce the unique
+ * constraint of the Column, to test whether the record table contains a Record and to find the rows having
+ * a given value, without scanning all rows of the record table.  A sorted index of the non-null values of
+ * the Column, ordered by the Column's Comparator or the natural order of the values, is built on the first
+ * range lookup and maintained thereafter.
+ *
+ * The rows are identified by a handle chosen by the record table, such as a Record object or a storage
+ * position, and are compared by identity.  The record table must add and remove the handle of a row to and
+ * from the ColumnIndex whenever the row is added, removed or it's value for the Column is changed.
+ *
+ * The ColumnIndex is not thread-safe, except that concurrent lookups, with no concurrent changes, may build the
+ * sorted index safely, as do the readers of a ConcurrentRecordTable.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.record.Column
+ * @see com.cp.common.util.record.RecordTable
+ * @see java.util.HashMap
+ * @see java.util.TreeMap
+ */
+
+package com.cp.common.util.record;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.ComparableComparator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public final class ColumnIndex<R> {
+
+  private final Column column;
+
+  // Maps each value of the Column, including null, to a row handle or to a RowList of row handles.
+  private final Map<Object, Object> hashIndex = new HashMap<Object, Object>();
+
+  // Maps each non-null value of the Column, in order, to the same row handle or RowList as the hashIndex,
+  // or is null if the sorted index has not yet been built.
+  private volatile NavigableMap<Object, Object> sortedIndex;
+
+  /**
+   * Creates an instance of the ColumnIndex class to index rows of a record table by the value of the
+   * specified Column.
+   * @param column the Column of the record table being indexed.
+   * @throws java.lang.NullPointerException if the Column is null.
+   */
+  public ColumnIndex(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+    this.column = column;
+  }
+
+  /**
+   * Adds the specified row, having the specified value for the indexed Column, to this index.
+   * @param value the value of the indexed Column in the row.
+   * @param row the handle of the row.
+   */
+  public void add(final Object value, final R row) {
+    final Object entry = hashIndex.get(value);
+
+    if (ObjectUtil.isNull(entry)) {
+      putEntry(value, row);
+    }
+    else if (entry instanceof RowList) {
+      ((RowList) entry).add(row);
+    }
+    else {
+      final RowList rows = new RowList();
+      rows.add(entry);
+      rows.add(row);
+      putEntry(value, rows);
+    }
+  }
+
+  /**
+   * Adds the row handle, or the row handles of the RowList, of an index entry to the List of rows.
+   */
+  @SuppressWarnings("unchecked")
+  private void addRows(final List<R> rows, final Object entry) {
+    if (entry instanceof RowList) {
+      rows.addAll((List<R>) entry);
+    }
+    else if (ObjectUtil.isNotNull(entry)) {
+      rows.add((R) entry);
+    }
+  }
+
+  /**
+   * Removes all rows from this index.
+   */
+  public void clear() {
+    hashIndex.clear();
+    sortedIndex = null;
+  }
+
+  /**
+   * Determines whether any row has the specified value for the indexed Column.
+   * @param value the value of the indexed Column.
+   * @return a boolean value indicating whether a row has the specified value for the indexed Column.
+   */
+  public boolean contains(final Object value) {
+    return hashIndex.containsKey(value);
+  }
+
+  /**
+   * Determines whether a row other than the specified row has the specified value for the indexed Column.
+   * @param value the value of the indexed Column.
+   * @param row the handle of the row excluded from the search, or null to include all rows.
+   * @return a boolean value indicating whether another row has the specified value for the indexed Column.
+   */
+  public boolean containsOther(final Object value, final R row) {
+    final Object entry = hashIndex.get(value);
+
+    if (entry instanceof RowList) {
+      final RowList rows = (RowList) entry;
+      return (rows.size() > 1 || rows.get(0) != row);
+    }
+
+    return (ObjectUtil.isNotNull(entry) && entry != row);
+  }
+
+  /**
+   * Gets the rows having the specified value for the indexed Column, in no particular order.
+   * @param value the value of the indexed Column.
+   * @return a List of the handles of the rows having the value for the indexed Column.
+   */
+  public List<R> get(final Object value) {
+    final List<R> rows = new ArrayList<R>();
+    addRows(rows, hashIndex.get(value));
+    return rows;
+  }
+
+  /**
+   * Gets the Column indexed by this ColumnIndex.
+   * @return the Column indexed by this ColumnIndex.
+   */
+  public Column getColumn() {
+    return column;
+  }
+
+  /**
+   * Gets the rows having a non-null value for the indexed Column within the specified range, ordered by the
+   * value of the indexed Column.  A null bound leaves the range unbounded at that end.  A range whose lower bound
+   * is greater than it's upper bound, or whose equal bounds are not both inclusive, is empty.
+   * @param fromValue the lower bound of the range, or null if the range has no lower bound.
+   * @param fromInclusive a boolean value indicating whether the lower bound is included in the range.
+   * @param toValue the upper bound of the range, or null if the range has no upper bound.
+   * @param toInclusive a boolean value indicating whether the upper bound is included in the range.
+   * @return a List of the handles of the rows having a value for the indexed Column within the range.
+   * @throws java.lang.ClassCastException if the values of the indexed Column are not Comparable and the
+   * Column does not specify a Comparator.
+   */
+  public List<R> getRange(final Object fromValue, final boolean fromInclusive, final Object toValue, final boolean toInclusive) {
+    final List<R> rows = new ArrayList<R>();
+
+    // NOTE the sub maps of a NavigableMap reject bounds outside of their range, so an empty range is handled first.
+    if (ObjectUtil.isNotNull(fromValue) && ObjectUtil.isNotNull(toValue)) {
+      final int comparison = getComparator().compare(fromValue, toValue);
+
+      if (comparison > 0 || (comparison == 0 && !(fromInclusive && toInclusive))) {
+        return rows;
+      }
+    }
+
+    NavigableMap<Object, Object> range = getSortedIndex();
+
+    if (ObjectUtil.isNotNull(fromValue)) {
+      range = range.tailMap(fromValue, fromInclusive);
+    }
+
+    if (ObjectUtil.isNotNull(toValue)) {
+      range = range.headMap(toValue, toInclusive);
+    }
+
+    for (final Object entry : range.values()) {
+      addRows(rows, entry);
+    }
+
+    return rows;
+  }
+
+  /**
+   * Gets the Comparator ordering the non-null values of the indexed Column, which is the Comparator of the Column,
+   * or the natural order of the values.
+   */
+  @SuppressWarnings("unchecked")
+  private Comparator<Object> getComparator() {
+    final Comparator<?> comparator = column.getComparator();
+    return (Comparator<Object>) (ObjectUtil.isNull(comparator) ? ComparableComparator.getInstance() : comparator);
+  }
+
+  /**
+   * Gets the sorted index of the non-null values of the indexed Column, building it from the hash index if
+   * it has not yet been built.
+   * @return the sorted index of the values of the indexed Column.
+   */
+  private NavigableMap<Object, Object> getSortedIndex() {
+    NavigableMap<Object, Object> index = sortedIndex;
+
+    if (ObjectUtil.isNull(index)) {
+      synchronized (this) {
+        index = sortedIndex;
+
+        if (ObjectUtil.isNull(index)) {
+          index = new TreeMap<Object, Object>(getComparator());
+
+          for (final Map.Entry<Object, Object> entry : hashIndex.entrySet()) {
+            if (ObjectUtil.isNotNull(entry.getKey())) {
+              index.put(entry.getKey(), entry.getValue());
+            }
+          }
+
+          sortedIndex = index;
+        }
+      }
+    }
+
+    return index;
+  }
+
+  /**
+   * Determines whether this index has no rows.
+   * @return a boolean value indicating whether this index is empty.
+   */
+  public boolean isEmpty() {
+    return hashIndex.isEmpty();
+  }
+
+  /**
+   * Maps the specified value to the row handle or RowList in both the hash index and the sorted index.
+   */
+  private void putEntry(final Object value, final Object entry) {
+    hashIndex.put(value, entry);
+
+    if (ObjectUtil.isNotNull(sortedIndex) && ObjectUtil.isNotNull(value)) {
+      sortedIndex.put(value, entry);
+    }
+  }
+
+  /**
+   * Removes the specified row, having the specified value for the indexed Column, from this index.
+   * @param value the value of the indexed Column in the row.
+   * @param row the handle of the row.
+   * @return a boolean value indicating whether the row was removed from this index.
+   */
+  public boolean remove(final Object value, final R row) {
+    final Object entry = hashIndex.get(value);
+
+    if (entry instanceof RowList) {
+      final RowList rows = (RowList) entry;
+
+      for (int index = 0, size = rows.size(); index < size; index++) {
+        if (rows.get(index) == row) {
+          rows.remove(index);
+
+          if (rows.size() == 1) {
+            putEntry(value, rows.get(0));
+          }
+
+          return true;
+        }
+      }
+    }
+    else if (ObjectUtil.isNotNull(entry) && entry == row) {
+      hashIndex.remove(value);
+
+      if (ObjectUtil.isNotNull(sortedIndex) && ObjectUtil.isNotNull(value)) {
+        sortedIndex.remove(value);
+      }
+
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the number of distinct values of the indexed Column in the rows of this index.
+   * @return an integer value of the number of distinct values of the indexed Column.
+   */
+  public int size() {
+    return hashIndex.size();
+  }
+
+  /**
+   * Returns a String representation of this ColumnIndex.
+   * @return a String representation of this ColumnIndex.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{column = ");
+    buffer.append(getColumn().getName());
+    buffer.append(", size = ").append(size());
+    buffer.append(", sorted = ").append(ObjectUtil.isNotNull(sortedIndex));
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * The RowList class holds the handles of the rows sharing a value of the indexed Column, and distinguishes
+   * a List of row handles from a single row handle in the index.
+   */
+  private static final class RowList extends ArrayList<Object> {
+
+    public RowList() {
+      super(2);
+    }
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * ColumnKeyExtractor.java (c) 17 October 2026
+ *
+ * The ColumnKeyExtractor class extracts the primitive sort key of a Record from the value of a numeric
+ * or date Column, so that the Records of a RecordTable can be sorted by the Column with the primitive
+ * key Sorters without boxing or comparing the values.  Only the primitive wrapper types, whose values a
+ * long or double key represents exactly, are key types; other Numbers such as BigDecimal and BigInteger
+ * would lose precision as a double key and are sorted by comparing their values.  Null values are ordered
+ * first in ascending order by extracting the smallest key of the primitive type.  Date and Calendar values do not fit an int, so
+ * Columns of such values must be sorted by their long or double keys.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.record.Column
+ * @see com.cp.common.util.record.Record
+ * @see com.cp.common.util.sort.DoubleKeySort
+ * @see com.cp.common.util.sort.IntKeySort
+ * @see com.cp.common.util.sort.LongKeySort
+ */
+
+package com.cp.common.util.record;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.sort.DoubleKeyExtractor;
+import com.cp.common.util.sort.IntKeyExtractor;
+import com.cp.common.util.sort.LongKeyExtractor;
+import java.util.Calendar;
+import java.util.Date;
+
+public class ColumnKeyExtractor implements DoubleKeyExtractor, IntKeyExtractor, LongKeyExtractor {
+
+  private final Column column;
+
+  /**
+   * Creates an instance of the ColumnKeyExtractor class extracting the sort key of a Record from the
+   * value of the specified Column.
+   * @param column the numeric or date Column from which the sort keys are extracted.
+   * @throws NullPointerException if the Column is null.
+   * @throws IllegalArgumentException if the Column's type is not a key type.
+   */
+  public ColumnKeyExtractor(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+    Assert.isTrue(isKeyType(column.getType()), "The column (" + column.getName() + ") of type ("
+      + column.getType() + ") does not have a numeric or date value!");
+    this.column = column;
+  }
+
+  /**
+   * Determines whether the values of the specified type can be extracted as primitive sort keys.
+   * @param type the Class type of the values of a Column.
+   * @return a boolean value indicating whether the type is a Byte, Short, Integer, Long, Float, Double, Date or
+   * Calendar type.
+   */
+  public static boolean isKeyType(final Class type) {
+    return (ObjectUtil.isNotNull(type) && (Byte.class.equals(type) || Short.class.equals(type)
+      || Integer.class.equals(type) || Long.class.equals(type) || Float.class.equals(type) || Double.class.equals(type)
+      || Date.class.isAssignableFrom(type) || Calendar.class.isAssignableFrom(type)));
+  }
+
+  /**
+   * Returns the Column from which the sort keys are extracted.
+   * @return the Column from which the sort keys are extracted.
+   */
+  public Column getColumn() {
+    return column;
+  }
+
+  /**
+   * Returns the value of the Column in the specified Record.
+   */
+  @SuppressWarnings("unchecked")
+  private Object getValue(final Object record) {
+    try {
+      return ((Record) record).getValue(column.getName());
+    }
+    catch (NoSuchFieldException e) {
+      throw new IllegalArgumentException(column.getName() + " is not a valid column in the record!", e);
+    }
+  }
+
+  /**
+   * Returns the value of the Column in the specified Record as a double sort key.
+   * @param record the Record from which to extract the sort key.
+   * @return the double sort key of the Record, or negative infinity if the value is null.
+   */
+  public double getDoubleKey(final Object record) {
+    final Object value = getValue(record);
+    return (value instanceof Number ? ((Number) value).doubleValue()
+      : (ObjectUtil.isNull(value) ? Double.NEGATIVE_INFINITY : toTime(value)));
+  }
+
+  /**
+   * Returns the value of the Column in the specified Record as an int sort key.
+   * @param record the Record from which to extract the sort key.
+   * @return the int sort key of the Record, or Integer.MIN_VALUE if the value is null.
+   * @throws IllegalArgumentException if the value is a Date or Calendar, whose time in milliseconds
+   * would be truncated to an int.
+   */
+  public int getIntKey(final Object record) {
+    final Object value = getValue(record);
+
+    if (ObjectUtil.isNull(value)) {
+      return Integer.MIN_VALUE;
+    }
+    else if (!(value instanceof Number)) {
+      throw new IllegalArgumentException("The value (" + value + ") of column (" + column.getName()
+        + ") is a time that cannot be extracted as an int sort key!");
+    }
+
+    return ((Number) value).intValue();
+  }
+
+  /**
+   * Returns the value of the Column in the specified Record as a long sort key.
+   * @param record the Record from which to extract the sort key.
+   * @return the long sort key of the Record, or Long.MIN_VALUE if the value is null.
+   */
+  public long getLongKey(final Object record) {
+    final Object value = getValue(record);
+    return (value instanceof Number ? ((Number) value).longValue()
+      : (ObjectUtil.isNull(value) ? Long.MIN_VALUE : toTime(value)));
+  }
+
+  /**
+   * Returns the time in milliseconds of the specified Date or Calendar value.
+   */
+  private static long toTime(final Object value) {
+    return (value instanceof Calendar ? ((Calendar) value).getTimeInMillis() : ((Date) value).getTime());
+  }
+
+  /**
+   * Returns a String representation of this ColumnKeyExtractor.
+   * @return a String representation of this ColumnKeyExtractor.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{column = ");
+    buffer.append(getColumn().getName());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+}
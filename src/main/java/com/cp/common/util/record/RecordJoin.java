@@ -0,0 +1,636 @@
+/*
+ * RecordJoin.java (c) 17 October 2026
+ *
+ * The RecordJoin class joins the rows of two RecordTables on the values of one or more pairs of join Columns,
+ * producing a new RecordTable with the Columns of the left record table followed by the Columns of the right
+ * record table.  An inner join returns a row for each pair of left and right rows having equal join values, and a
+ * left outer join also returns each left row having no matching right row, with null values for the right Columns.
+ * Rows having a null join value never match.  The results are ordered by left row, then by right row.
+ *
+ * The hash join indexes the rows of the right record table by their join values in a ColumnIndex and probes it
+ * with each left row, so the smaller record table should be the right one.  The hash join matches join values by
+ * their equals and hashCode methods, ignoring any Comparators of the join Columns, whereas the merge join matches
+ * join values that it's Comparators consider equal; the two joins return the same rows only when the Comparators
+ * are consistent with equals.  The build row limit is the memory budget of the hash join, which is unlimited by
+ * default; when the right record table has more rows than the limit, the rows of both record
+ * tables are partitioned by the hash of their join values and joined one partition at a time, at the cost of a scan
+ * of both record tables for each partition.  The number of partitions is chosen so that an evenly spread partition
+ * holds no more right rows than the limit, but rows having the same join values always share a partition, so the
+ * index may hold more right rows than the limit when many right rows have the same, or colliding, join values.
+ *
+ * The merge join requires both record tables to be sorted by their join Columns, in the order of a RecordComparator
+ * on the join Columns, or of the Comparators of the join Columns, and joins them in a single pass, holding only the
+ * right rows having the current join values.  Both the left and right join values are compared with the Comparators
+ * of the left join Columns, so the right record table must be sorted in that same order; the Comparators of the
+ * right join Columns are not used.
+ *
+ * A right Column having the name of a left Column is left out of the results if it is the join Column paired with
+ * that left Column, and is otherwise renamed with the right column prefix.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.record.ColumnIndex
+ * @see com.cp.common.util.record.RecordComparator
+ * @see com.cp.common.util.record.RecordTable
+ */
+
+package com.cp.common.util.record;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.ComparableComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.apache.log4j.Logger;
+
+public class RecordJoin {
+
+  private static final Logger logger = Logger.getLogger(RecordJoin.class);
+
+  // By default, the hash join indexes all right rows at once and never partitions.
+  public static final int DEFAULT_BUILD_ROW_LIMIT = Integer.MAX_VALUE;
+
+  public static final String DEFAULT_RIGHT_COLUMN_PREFIX = "right.";
+
+  public static enum JoinType { INNER, LEFT_OUTER }
+
+  private int buildRowLimit = DEFAULT_BUILD_ROW_LIMIT;
+
+  private JoinType joinType = JoinType.INNER;
+
+  private String rightColumnPrefix = DEFAULT_RIGHT_COLUMN_PREFIX;
+
+  private final Column[] leftColumns;
+  private final Column[] rightColumns;
+
+  /**
+   * Creates an instance of the RecordJoin class to join two record tables on Columns having the same names in both
+   * record tables.
+   * @param joinColumns the join Columns of both record tables.
+   * @throws java.lang.IllegalArgumentException if the join Columns are empty.
+   * @throws java.lang.NullPointerException if the join Columns are null or contain null.
+   */
+  public RecordJoin(final Column... joinColumns) {
+    this(joinColumns, joinColumns);
+  }
+
+  /**
+   * Creates an instance of the RecordJoin class to join two record tables on the specified pairs of left and right
+   * join Columns.  The left Column at an index is paired with the right Column at the same index.
+   * @param leftColumns the join Columns of the left record table.
+   * @param rightColumns the join Columns of the right record table.
+   * @throws java.lang.IllegalArgumentException if the join Columns are empty or the number of left and right join
+   * Columns differ.
+   * @throws java.lang.NullPointerException if the left or right join Columns are null or contain null.
+   */
+  public RecordJoin(final Column[] leftColumns, final Column[] rightColumns) {
+    Assert.notNull(leftColumns, "The left join columns cannot be null!");
+    Assert.notNull(rightColumns, "The right join columns cannot be null!");
+    Assert.isFalse(leftColumns.length == 0, "The join columns cannot be empty!");
+    Assert.isFalse(leftColumns.length != rightColumns.length, "The number of left join columns ("
+      + leftColumns.length + ") must match the number of right join columns (" + rightColumns.length + ")!");
+
+    for (int index = 0; index < leftColumns.length; index++) {
+      Assert.notNull(leftColumns[index], "The left join columns cannot contain null!");
+      Assert.notNull(rightColumns[index], "The right join columns cannot contain null!");
+    }
+
+    this.leftColumns = leftColumns.clone();
+    this.rightColumns = rightColumns.clone();
+  }
+
+  /**
+   * Gets the number of right rows per partition the hash join aims to hold in it's index at once.  A partition may
+   * hold more right rows when many of them have the same join values.
+   * @return an integer value of the number of right rows per partition of the hash join.
+   */
+  public int getBuildRowLimit() {
+    return buildRowLimit;
+  }
+
+  /**
+   * Sets the number of right rows per partition the hash join aims to hold in it's index at once.  When the right
+   * record table has more rows, the hash join partitions both record tables and joins one partition at a time.
+   * Right rows having the same join values are never split across partitions, so a partition may hold more right
+   * rows than the limit when the join values are skewed.  Every partition scans both record tables, so joining a
+   * left record table of L rows with a right record table of R rows in P partitions costs O(P * (L + R)) rather than
+   * O(L + R); the limit trades join time for memory.  The default limit is unlimited, so the hash join does not
+   * partition unless a limit is set.
+   * @param buildRowLimit an integer value of the number of right rows per partition of the hash join.
+   * @throws java.lang.IllegalArgumentException if the build row limit is less than 1.
+   */
+  public void setBuildRowLimit(final int buildRowLimit) {
+    Assert.isFalse(buildRowLimit < 1, "The build row limit (" + buildRowLimit + ") must be greater than 0!");
+    this.buildRowLimit = buildRowLimit;
+  }
+
+  /**
+   * Gets the Comparators ordering the values of the specified join Columns, which are the Comparators of the
+   * Columns, or the natural order of the values as used by the RecordComparator.
+   */
+  @SuppressWarnings("unchecked")
+  private static List<Comparator<Object>> getComparators(final Column[] joinColumns) {
+    final List<Comparator<Object>> comparators = new ArrayList<Comparator<Object>>(joinColumns.length);
+
+    for (final Column joinColumn : joinColumns) {
+      final Comparator<?> comparator = joinColumn.getComparator();
+      comparators.add((Comparator<Object>) (ObjectUtil.isNull(comparator) ? ComparableComparator.getInstance()
+        : comparator));
+    }
+
+    return comparators;
+  }
+
+  /**
+   * Gets the type of join, inner or left outer, performed by this RecordJoin.
+   * @return the JoinType of this RecordJoin.
+   */
+  public JoinType getJoinType() {
+    return joinType;
+  }
+
+  /**
+   * Sets the type of join, inner or left outer, performed by this RecordJoin.
+   * @param joinType the JoinType of this RecordJoin.
+   * @throws java.lang.NullPointerException if the JoinType is null.
+   */
+  public void setJoinType(final JoinType joinType) {
+    Assert.notNull(joinType, "The join type cannot be null!");
+    this.joinType = joinType;
+  }
+
+  /**
+   * Gets the join values of the specified row as the hash key of the row, which is the value of the single join
+   * Column, or a List of the values of the join Columns, or null if any join value is null.
+   */
+  private static Object getKey(final Record row, final Column[] joinColumns) {
+    if (joinColumns.length == 1) {
+      return getValue(row, joinColumns[0]);
+    }
+
+    final Object[] values = getValues(row, joinColumns);
+    return (ObjectUtil.isNull(values) ? null : Arrays.asList(values));
+  }
+
+  /**
+   * Gets the number of partitions of the hash join needed to keep the specified number of right rows within the
+   * build row limit, when they are spread evenly over the partitions.
+   */
+  private int getPartitionCount(final int rightRowCount) {
+    return Math.max(1, (rightRowCount / buildRowLimit) + (rightRowCount % buildRowLimit == 0 ? 0 : 1));
+  }
+
+  /**
+   * Gets the partition of the hash join for the specified hash key, using the high bits of the mixed hash code
+   * of the key, which are independent of the low bits used to place the key in the index.
+   */
+  private static int getPartition(final Object key, final int partitionCount) {
+    final long mixedHash = ((key.hashCode() * 0x9E3779B9) & 0xFFFFFFFFL);
+    return (int) ((mixedHash * partitionCount) >>> 32);
+  }
+
+  /**
+   * Gets the prefix prepended to the name of a right Column having the name of a left Column.
+   * @return the String prefix of the renamed right Columns.
+   */
+  public String getRightColumnPrefix() {
+    return rightColumnPrefix;
+  }
+
+  /**
+   * Sets the prefix prepended to the name of a right Column having the name of a left Column.
+   * @param rightColumnPrefix the String prefix of the renamed right Columns.
+   * @throws java.lang.NullPointerException if the prefix is null.
+   */
+  public void setRightColumnPrefix(final String rightColumnPrefix) {
+    Assert.notNull(rightColumnPrefix, "The right column prefix cannot be null!");
+    this.rightColumnPrefix = rightColumnPrefix;
+  }
+
+  /**
+   * Gets the Columns of the specified record table having the names of the specified join Columns.
+   */
+  private static Column[] getTableColumns(final RecordTable recordTable, final Column[] joinColumns, final String side) {
+    Assert.notNull(recordTable, "The " + side + " record table cannot be null!");
+
+    final Column[] tableColumns = new Column[joinColumns.length];
+
+    for (int index = 0; index < joinColumns.length; index++) {
+      tableColumns[index] = recordTable.getColumn(joinColumns[index].getName());
+
+      if (ObjectUtil.isNull(tableColumns[index])) {
+        logger.warn("(" + joinColumns[index].getName() + ") is not a column of the " + side + " record table!");
+        throw new IllegalArgumentException("(" + joinColumns[index].getName() + ") is not a column of the " + side
+          + " record table!");
+      }
+    }
+
+    return tableColumns;
+  }
+
+  /**
+   * Gets the value of the specified Column in the row, which is keyed either by the Column, as in a RecordAdapter,
+   * or by the name of the Column.
+   */
+  private static Object getValue(final Record row, final Column column) {
+    return (row.containsKey(column) ? row.get(column) : row.get(column.getName()));
+  }
+
+  /**
+   * Gets the values of the join Columns in the specified row, or null if any join value is null.
+   */
+  private static Object[] getValues(final Record row, final Column[] joinColumns) {
+    final Object[] values = new Object[joinColumns.length];
+
+    for (int index = 0; index < joinColumns.length; index++) {
+      values[index] = getValue(row, joinColumns[index]);
+
+      if (ObjectUtil.isNull(values[index])) {
+        return null;
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * Joins the specified left and right record tables with a hash join, indexing the rows of the right record table
+   * by their join values.  The right record table should be the smaller of the two.  Join values match when they
+   * are equal by their equals methods, regardless of the Comparators of the join Columns, which the merge join uses.
+   * @param left the left RecordTable, all rows of which are returned by a left outer join.
+   * @param right the right RecordTable, whose rows are indexed by their join values.
+   * @return a new RecordTable containing the joined rows.
+   * @throws java.lang.IllegalArgumentException if a join Column is not a Column of it's record table, or a right
+   * Column cannot be renamed to a unique name.
+   * @throws java.lang.NullPointerException if the left or right record table is null.
+   */
+  public RecordTable hashJoin(final RecordTable left, final RecordTable right) {
+    final Column[] leftJoinColumns = getTableColumns(left, leftColumns, "left");
+    final Column[] rightJoinColumns = getTableColumns(right, rightColumns, "right");
+    final JoinResults results = new JoinResults(left, right, leftJoinColumns, rightJoinColumns);
+    final int partitionCount = getPartitionCount(right.rowCount());
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("hash join of (" + right.rowCount() + ") right rows in (" + partitionCount + ") partitions");
+    }
+
+    // with more than one partition, the results of each left row are kept with it's row index and put in left row
+    // order once all partitions have been joined
+    final List<RankedRow> rankedRows = (partitionCount > 1 ? new ArrayList<RankedRow>() : null);
+
+    for (int partition = 0; partition < partitionCount; partition++) {
+      final ColumnIndex<Record> index = new ColumnIndex<Record>(rightJoinColumns[0]);
+
+      for (final Iterator<Record> it = right.rowIterator(); it.hasNext(); ) {
+        final Record rightRow = it.next();
+        final Object key = getKey(rightRow, rightJoinColumns);
+
+        if (ObjectUtil.isNotNull(key) && (partitionCount == 1 || getPartition(key, partitionCount) == partition)) {
+          index.add(key, rightRow);
+        }
+      }
+
+      int rank = 0;
+
+      for (final Iterator<Record> it = left.rowIterator(); it.hasNext(); rank++) {
+        final Record leftRow = it.next();
+        final Object key = getKey(leftRow, leftJoinColumns);
+        final int keyPartition = (partitionCount == 1 || ObjectUtil.isNull(key) ? 0
+          : getPartition(key, partitionCount));
+
+        if (keyPartition == partition) {
+          final List<Record> rightRows = (ObjectUtil.isNull(key) ? java.util.Collections.<Record>emptyList()
+            : index.get(key));
+
+          if (ObjectUtil.isNull(rankedRows)) {
+            results.join(leftRow, rightRows);
+          }
+          else if (!rightRows.isEmpty() || JoinType.LEFT_OUTER.equals(getJoinType())) {
+            rankedRows.add(new RankedRow(rank, leftRow, rightRows));
+          }
+        }
+      }
+    }
+
+    if (ObjectUtil.isNotNull(rankedRows)) {
+      java.util.Collections.sort(rankedRows);
+
+      for (final RankedRow rankedRow : rankedRows) {
+        results.join(rankedRow.leftRow, rankedRow.rightRows);
+      }
+    }
+
+    return results.getRecordTable();
+  }
+
+  /**
+   * Joins the specified left and right record tables with a merge join.  Both record tables must be sorted by their
+   * join Columns, in the order of a RecordComparator on the join Columns, or of the Comparators of the join Columns;
+   * rows having a null join value may be anywhere.  The join values of both record tables are compared with the
+   * Comparators of the left join Columns, so the right record table must also be sorted in that order.
+   * @param left the left RecordTable sorted by the left join Columns, all rows of which are returned by a left
+   * outer join.
+   * @param right the right RecordTable sorted by the right join Columns.
+   * @return a new RecordTable containing the joined rows.
+   * @throws java.lang.IllegalArgumentException if a join Column is not a Column of it's record table, a right
+   * Column cannot be renamed to a unique name, or either record table is not sorted by it's join Columns.
+   * @throws java.lang.NullPointerException if the left or right record table is null.
+   */
+  public RecordTable mergeJoin(final RecordTable left, final RecordTable right) {
+    final Column[] leftJoinColumns = getTableColumns(left, leftColumns, "left");
+    final Column[] rightJoinColumns = getTableColumns(right, rightColumns, "right");
+    final JoinResults results = new JoinResults(left, right, leftJoinColumns, rightJoinColumns);
+    // the right join values are compared with the Comparators of the left join Columns, so that both sides agree
+    // on the order and equality of the join values
+    final List<Comparator<Object>> comparators = getComparators(leftJoinColumns);
+
+    final SortedRows rightRows = new SortedRows(right.rowIterator(), rightJoinColumns, comparators, "right");
+    final List<Record> rightGroup = new ArrayList<Record>();
+
+    Object[] leftValues = null;
+    Object[] rightGroupValues = null;
+
+    for (final Iterator<Record> it = left.rowIterator(); it.hasNext(); ) {
+      final Record leftRow = it.next();
+      final Object[] values = getValues(leftRow, leftJoinColumns);
+
+      if (ObjectUtil.isNull(values)) {
+        results.join(leftRow, java.util.Collections.<Record>emptyList());
+        continue;
+      }
+
+      if (ObjectUtil.isNotNull(leftValues) && compare(leftValues, values, comparators) > 0) {
+        logger.warn("The left record table is not sorted by the join columns (" + Arrays.asList(leftJoinColumns) + ")!");
+        throw new IllegalArgumentException("The left record table is not sorted by the join columns ("
+          + Arrays.asList(leftJoinColumns) + ")!");
+      }
+
+      leftValues = values;
+
+      if (ObjectUtil.isNull(rightGroupValues) || compare(rightGroupValues, values, comparators) != 0) {
+        rightGroup.clear();
+        rightGroupValues = values;
+
+        while (rightRows.hasNext() && compare(rightRows.peekValues(), values, comparators) < 0) {
+          rightRows.next();
+        }
+
+        while (rightRows.hasNext() && compare(rightRows.peekValues(), values, comparators) == 0) {
+          rightGroup.add(rightRows.next());
+        }
+      }
+
+      results.join(leftRow, rightGroup);
+    }
+
+    return results.getRecordTable();
+  }
+
+  /**
+   * Compares the specified join values with the Comparators of the join Columns.
+   */
+  private static int compare(final Object[] values1, final Object[] values2,
+                             final List<Comparator<Object>> comparators) {
+    for (int index = 0; index < comparators.size(); index++) {
+      final int compareValue = comparators.get(index).compare(values1[index], values2[index]);
+
+      if (compareValue != 0) {
+        return compareValue;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Returns a String representation of this RecordJoin.
+   * @return a String representation of this RecordJoin.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{joinType = ");
+    buffer.append(getJoinType());
+    buffer.append(", leftColumns = ").append(Arrays.asList(leftColumns));
+    buffer.append(", rightColumns = ").append(Arrays.asList(rightColumns));
+    buffer.append(", buildRowLimit = ").append(getBuildRowLimit());
+    buffer.append(", rightColumnPrefix = ").append(getRightColumnPrefix());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * The JoinResults class holds the Columns and rows of the results of a join, mapping the Columns of the left and
+   * right record tables to the Columns of the results.
+   */
+  private final class JoinResults {
+
+    private final Column[] leftTableColumns;
+    private final Column[] rightTableColumns;
+
+    private final String[] leftNames;
+    private final String[] rightNames;
+
+    private final RecordTable recordTable;
+
+    public JoinResults(final RecordTable left, final RecordTable right, final Column[] leftJoinColumns,
+                       final Column[] rightJoinColumns) {
+      final List<Column> columns = new ArrayList<Column>();
+      final Set<String> names = new HashSet<String>();
+
+      leftTableColumns = left.getColumns().toArray(new Column[left.columnCount()]);
+      leftNames = new String[leftTableColumns.length];
+
+      for (int index = 0; index < leftTableColumns.length; index++) {
+        leftNames[index] = leftTableColumns[index].getName();
+        names.add(leftNames[index]);
+        columns.add(copyColumn(leftTableColumns[index], leftNames[index]));
+      }
+
+      final List<Column> rightColumnList = new ArrayList<Column>();
+      final List<String> rightNameList = new ArrayList<String>();
+
+      for (final Column column : right.getColumns()) {
+        String name = column.getName();
+
+        if (names.contains(name)) {
+          if (isPairedJoinColumn(column, leftJoinColumns, rightJoinColumns)) {
+            continue;
+          }
+
+          name = getRightColumnPrefix() + name;
+
+          if (names.contains(name)) {
+            logger.warn("The right column (" + column.getName() + ") cannot be renamed to (" + name
+              + "), which is already the name of a column of the results!");
+            throw new IllegalArgumentException("The right column (" + column.getName() + ") cannot be renamed to ("
+              + name + "), which is already the name of a column of the results!");
+          }
+        }
+
+        names.add(name);
+        rightColumnList.add(column);
+        rightNameList.add(name);
+        columns.add(copyColumn(column, name));
+      }
+
+      rightTableColumns = rightColumnList.toArray(new Column[rightColumnList.size()]);
+      rightNames = rightNameList.toArray(new String[rightNameList.size()]);
+      recordTable = AbstractRecordFactory.getInstance().getColumnarRecordTableInstance(
+        columns.toArray(new Column[columns.size()]));
+    }
+
+    /**
+     * Copies the type, Comparator, description and display name of the specified Column to a new nullable Column
+     * of the results having the specified name.
+     */
+    private Column copyColumn(final Column column, final String name) {
+      final Column copy = new ColumnImpl(name, column.getType());
+      copy.setComparator(column.getComparator());
+      copy.setDescription(column.getDescription());
+      copy.setDisplayName(column.getName().equals(name) ? column.getDisplayName() : name);
+      return copy;
+    }
+
+    public RecordTable getRecordTable() {
+      return recordTable;
+    }
+
+    /**
+     * Determines whether the right Column is a right join Column paired with the left join Column of the same name.
+     */
+    private boolean isPairedJoinColumn(final Column column, final Column[] leftJoinColumns,
+                                       final Column[] rightJoinColumns) {
+      for (int index = 0; index < rightJoinColumns.length; index++) {
+        if (rightJoinColumns[index].getName().equals(column.getName())
+          && leftJoinColumns[index].getName().equals(column.getName())) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    /**
+     * Adds a row to the results for the left row joined with each of the specified matching right rows, or, for a
+     * left outer join without matching right rows, a row for the left row with null right values.
+     */
+    public void join(final Record leftRow, final List<Record> rightRows) {
+      if (rightRows.isEmpty()) {
+        if (JoinType.LEFT_OUTER.equals(getJoinType())) {
+          recordTable.addRow(newRow(leftRow, null));
+        }
+      }
+      else {
+        for (final Record rightRow : rightRows) {
+          recordTable.addRow(newRow(leftRow, rightRow));
+        }
+      }
+    }
+
+    /**
+     * Creates a row of the results, keyed by the names of the Columns of the results, with the values of the left
+     * row and of the right row, or null right values if the right row is null.
+     */
+    @SuppressWarnings("unchecked")
+    private Record newRow(final Record leftRow, final Record rightRow) {
+      final Record<String> row = AbstractRecordFactory.getInstance().getRecordInstance();
+
+      for (int index = 0; index < leftTableColumns.length; index++) {
+        row.addField(leftNames[index], getValue(leftRow, leftTableColumns[index]));
+      }
+
+      for (int index = 0; index < rightTableColumns.length; index++) {
+        row.addField(rightNames[index], (ObjectUtil.isNull(rightRow) ? null : getValue(rightRow, rightTableColumns[index])));
+      }
+
+      return row;
+    }
+  }
+
+  /**
+   * The RankedRow class holds a left row, it's row index and it's matching right rows, ordering the results of a
+   * partitioned hash join by left row.
+   */
+  private static final class RankedRow implements Comparable<RankedRow> {
+
+    private final int rank;
+    private final List<Record> rightRows;
+    private final Record leftRow;
+
+    public RankedRow(final int rank, final Record leftRow, final List<Record> rightRows) {
+      this.rank = rank;
+      this.leftRow = leftRow;
+      this.rightRows = rightRows;
+    }
+
+    public int compareTo(final RankedRow rankedRow) {
+      return (rank < rankedRow.rank ? -1 : (rank == rankedRow.rank ? 0 : 1));
+    }
+  }
+
+  /**
+   * The SortedRows class iterates the rows of a record table sorted by it's join Columns, skipping rows having a
+   * null join value, peeking at the join values of the next row and verifying the rows are sorted.
+   */
+  private static final class SortedRows {
+
+    private Object[] nextValues;
+    private Record nextRow;
+
+    private final Column[] joinColumns;
+    private final List<Comparator<Object>> comparators;
+    private final Iterator<Record> rows;
+    private final String side;
+
+    public SortedRows(final Iterator<Record> rows, final Column[] joinColumns,
+                      final List<Comparator<Object>> comparators, final String side) {
+      this.rows = rows;
+      this.joinColumns = joinColumns;
+      this.comparators = comparators;
+      this.side = side;
+      advance();
+    }
+
+    private void advance() {
+      final Object[] previousValues = nextValues;
+
+      nextRow = null;
+      nextValues = null;
+
+      while (rows.hasNext() && ObjectUtil.isNull(nextValues)) {
+        nextRow = rows.next();
+        nextValues = getValues(nextRow, joinColumns);
+      }
+
+      if (ObjectUtil.isNull(nextValues)) {
+        nextRow = null;
+      }
+      else if (ObjectUtil.isNotNull(previousValues) && compare(previousValues, nextValues, comparators) > 0) {
+        logger.warn("The " + side + " record table is not sorted by the join columns (" + Arrays.asList(joinColumns) + ")!");
+        throw new IllegalArgumentException("The " + side + " record table is not sorted by the join columns ("
+          + Arrays.asList(joinColumns) + ")!");
+      }
+    }
+
+    public boolean hasNext() {
+      return ObjectUtil.isNotNull(nextRow);
+    }
+
+    public Record next() {
+      final Record row = nextRow;
+      advance();
+      return row;
+    }
+
+    public Object[] peekValues() {
+      return nextValues;
+    }
+  }
+
+}
@@ -0,0 +1,1091 @@
+/*
+ * RecordQuery.java (c) 17 October 2026
+ *
+ * The RecordQuery class queries the rows of a RecordTable.  A query selects the rows satisfying all of it's
+ * where conditions, optionally groups them by the values of one or more Columns computing count, sum, min,
+ * max and avg aggregates for each group, orders them with a Comparator, such as a RecordComparator, limits
+ * their number and projects them onto the selected Columns.  The results are returned by a streaming Iterator
+ * or collected into a new RecordTable.
+ *
+ * The query is evaluated lazily, when iterated.  The rows of the record table stream through the where
+ * conditions, the limit and the projection one at a time, and only grouping and ordering read all matching
+ * rows before returning the first result.  Ordering with a limit keeps only the first limit rows in order.
+ * An equality or range condition is answered with the getRows methods of the record table, which record
+ * tables maintaining a ColumnIndex on the Column answer without scanning all rows, and the other conditions
+ * are tested on the rows found.  The rows found this way are returned in the order of the getRows methods
+ * rather than in row order; the ColumnarRecordTable returns rows of equal value in the order they were added
+ * and rows in a range in the order of their values.  Queries whose results must follow the row order, such
+ * as a limit without an order by, should use a where condition with a Filter instead.
+ *
+ * Note that answering an equality or range condition may build an index as a side effect.  The first such
+ * condition on a Column of a ColumnarRecordTable builds a ColumnIndex of all of the Column's values, even for a
+ * Column that is neither unique nor indexed, and the first range condition also builds a sorted copy of that
+ * index.  Both are kept in memory and maintained on every later change to the record table.  A one-off query on
+ * such a Column of a large or frequently changed record table should use a where condition with a Filter, which
+ * scans the rows without building an index.
+ *
+ * Each result is a new Record keyed by column name.  The record table must not be modified while the
+ * results of a query are being iterated.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.Filter
+ * @see com.cp.common.util.record.ColumnIndex
+ * @see com.cp.common.util.record.Record
+ * @see com.cp.common.util.record.RecordComparator
+ * @see com.cp.common.util.record.RecordTable
+ * @see java.lang.Iterable
+ */
+
+package com.cp.common.util.record;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.util.ComparableComparator;
+import com.cp.common.util.Filter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.apache.log4j.Logger;
+
+public class RecordQuery implements Iterable<Record> {
+
+  private static final Logger logger = Logger.getLogger(RecordQuery.class);
+
+  public static enum Aggregate { AVG, COUNT, MAX, MIN, SUM }
+
+  private int limit = -1;
+
+  private Column[] groupByColumns;
+  private Column[] selectColumns;
+
+  private Comparator<Record> orderBy;
+
+  private final List<AggregateColumn> aggregateColumnList = new ArrayList<AggregateColumn>();
+  private final List<Condition> conditionList = new ArrayList<Condition>();
+
+  private final RecordTable recordTable;
+
+  /**
+   * Creates an instance of the RecordQuery class to query the rows of the specified RecordTable.
+   * @param recordTable the RecordTable being queried.
+   * @throws java.lang.NullPointerException if the RecordTable is null.
+   */
+  public RecordQuery(final RecordTable recordTable) {
+    Assert.notNull(recordTable, "The record table cannot be null!");
+    this.recordTable = recordTable;
+  }
+
+  /**
+   * Factory method to create a RecordQuery querying the rows of the specified RecordTable.
+   * @param recordTable the RecordTable being queried.
+   * @return a RecordQuery querying the rows of the RecordTable.
+   * @throws java.lang.NullPointerException if the RecordTable is null.
+   */
+  public static RecordQuery from(final RecordTable recordTable) {
+    return new RecordQuery(recordTable);
+  }
+
+  /**
+   * Adds the specified aggregate of the values of the specified Column to the results of this query.  The
+   * aggregate is computed for each group of rows, or for all rows if the query is not grouped.  Null values
+   * are ignored.  The result Column of the aggregate is named after the aggregate and the Column, for
+   * example "sum(salary)", or "count" when counting rows.  Count is a Long, sum is a Long for a Column of Long,
+   * Integer, Short or Byte values and a Double otherwise, avg is a Double, and min and max are of the type of
+   * the Column.
+   * @param aggregate the Aggregate computed.
+   * @param column the Column of the record table whose values are aggregated, or null when counting rows.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the Column is null and the Aggregate is not COUNT, if the
+   * Column is not a Column of the record table, or if the Column is not numeric and the Aggregate is SUM or AVG.
+   * @throws java.lang.NullPointerException if the Aggregate is null.
+   */
+  public RecordQuery aggregate(final Aggregate aggregate, final Column column) {
+    Assert.notNull(aggregate, "The aggregate cannot be null!");
+
+    final Column aggregatedColumn = (ObjectUtil.isNull(column) ? null : getTableColumn(column));
+
+    if (ObjectUtil.isNull(aggregatedColumn) && !Aggregate.COUNT.equals(aggregate)) {
+      logger.warn("A column is required to compute the " + aggregate + " aggregate!");
+      throw new IllegalArgumentException("A column is required to compute the " + aggregate + " aggregate!");
+    }
+
+    if ((Aggregate.AVG.equals(aggregate) || Aggregate.SUM.equals(aggregate))
+      && !Number.class.isAssignableFrom(aggregatedColumn.getType())) {
+      logger.warn("The " + aggregate + " aggregate requires a numeric column; (" + aggregatedColumn.getName()
+        + ") is of type (" + aggregatedColumn.getType().getName() + ")!");
+      throw new IllegalArgumentException("The " + aggregate + " aggregate requires a numeric column; ("
+        + aggregatedColumn.getName() + ") is of type (" + aggregatedColumn.getType().getName() + ")!");
+    }
+
+    aggregateColumnList.add(new AggregateColumn(aggregate, aggregatedColumn));
+    return this;
+  }
+
+  /**
+   * Adds the average of the values of the specified Column to the results of this query.
+   * @param column the numeric Column of the record table whose values are averaged.
+   * @return this RecordQuery.
+   * @see RecordQuery#aggregate(RecordQuery.Aggregate, Column)
+   */
+  public RecordQuery avg(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+    return aggregate(Aggregate.AVG, column);
+  }
+
+  /**
+   * Adds the number of rows to the results of this query.
+   * @return this RecordQuery.
+   * @see RecordQuery#aggregate(RecordQuery.Aggregate, Column)
+   */
+  public RecordQuery count() {
+    return aggregate(Aggregate.COUNT, null);
+  }
+
+  /**
+   * Adds the number of non-null values of the specified Column to the results of this query.
+   * @param column the Column of the record table whose non-null values are counted.
+   * @return this RecordQuery.
+   * @see RecordQuery#aggregate(RecordQuery.Aggregate, Column)
+   */
+  public RecordQuery count(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+    return aggregate(Aggregate.COUNT, column);
+  }
+
+  /**
+   * Copies the name, type, Comparator, description and display name of the specified Column to a new Column
+   * of the results.
+   */
+  private static Column copyColumn(final Column column) {
+    final Column copy = new ColumnImpl(column.getName(), column.getType());
+    copy.setComparator(column.getComparator());
+    copy.setDescription(column.getDescription());
+    copy.setDisplayName(column.getDisplayName());
+    return copy;
+  }
+
+  /**
+   * Copies the values of the specified Columns in the row to a new Record keyed by column name.
+   */
+  private static Record copyRow(final Record row, final Column[] columns) {
+    final Record<String> record = newRecord();
+
+    for (final Column column : columns) {
+      record.addField(column.getName(), getValue(row, column));
+    }
+
+    return record;
+  }
+
+  /**
+   * Gets the Columns of the results of this query, in order.  The results have the group by Columns followed by
+   * the aggregate Columns when grouped or aggregated, or the Columns of the record table otherwise, projected
+   * onto the selected Columns.
+   * @return a List of the Columns of the results of this query.
+   * @throws java.lang.IllegalArgumentException if a selected Column is not a Column of the results.
+   */
+  public List<Column> getColumns() {
+    final List<Column> columns = new ArrayList<Column>();
+
+    for (final Column column : getProjection(getResultColumns())) {
+      columns.add(copyColumn(column));
+    }
+
+    return columns;
+  }
+
+  /**
+   * Gets the Comparator used to compare values of the specified Column, which is the Comparator of the record
+   * table for the Column and value, or the natural order of the values.
+   */
+  @SuppressWarnings("unchecked")
+  private Comparator<Object> getComparator(final Column column, final Object value) {
+    final Comparator<?> comparator = recordTable.getComparator(column, value);
+    return (Comparator<Object>) (ObjectUtil.isNull(comparator) ? ComparableComparator.getInstance() : comparator);
+  }
+
+  /**
+   * Gets the condition answered with the getRows methods of the record table, preferring equality on a unique
+   * Column, then equality on any Column and then a range, or null if no condition can be answered by getRows.
+   */
+  private Condition getDrivingCondition() {
+    Condition drivingCondition = null;
+
+    for (final Condition condition : conditionList) {
+      if (condition.getRank() < (ObjectUtil.isNull(drivingCondition) ? Condition.UNRANKED : drivingCondition.getRank())) {
+        drivingCondition = condition;
+      }
+    }
+
+    return drivingCondition;
+  }
+
+  /**
+   * Gets the Columns selected from the specified result Columns, or the result Columns if no Columns have been
+   * selected.
+   */
+  private Column[] getProjection(final Column[] resultColumns) {
+    if (ObjectUtil.isNull(selectColumns)) {
+      return resultColumns;
+    }
+
+    final Column[] projection = new Column[selectColumns.length];
+
+    for (int index = 0; index < selectColumns.length; index++) {
+      for (final Column resultColumn : resultColumns) {
+        if (resultColumn.getName().equals(selectColumns[index].getName())) {
+          projection[index] = resultColumn;
+          break;
+        }
+      }
+
+      if (ObjectUtil.isNull(projection[index])) {
+        logger.warn("(" + selectColumns[index].getName() + ") is not a column of the query results!");
+        throw new IllegalArgumentException("(" + selectColumns[index].getName() + ") is not a column of the query results!");
+      }
+    }
+
+    return projection;
+  }
+
+  /**
+   * Gets the RecordTable queried by this RecordQuery.
+   * @return the RecordTable queried by this RecordQuery.
+   */
+  public RecordTable getRecordTable() {
+    return recordTable;
+  }
+
+  /**
+   * Gets the Columns of the results of this query before projection onto the selected Columns.
+   */
+  private Column[] getResultColumns() {
+    if (isAggregated()) {
+      final List<Column> columns = new ArrayList<Column>();
+
+      if (ObjectUtil.isNotNull(groupByColumns)) {
+        columns.addAll(Arrays.asList(groupByColumns));
+      }
+
+      columns.addAll(aggregateColumnList);
+      return columns.toArray(new Column[columns.size()]);
+    }
+
+    final List<Column> columns = recordTable.getColumns();
+    return columns.toArray(new Column[columns.size()]);
+  }
+
+  /**
+   * Gets the Column of the record table having the name of the specified Column.
+   */
+  private Column getTableColumn(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+
+    final Column tableColumn = recordTable.getColumn(column.getName());
+
+    if (ObjectUtil.isNull(tableColumn)) {
+      logger.warn("(" + column.getName() + ") is not a column of the record table!");
+      throw new IllegalArgumentException("(" + column.getName() + ") is not a column of the record table!");
+    }
+
+    return tableColumn;
+  }
+
+  /**
+   * Gets the value of the specified Column in the row, which is keyed either by the Column, as in a RecordAdapter,
+   * or by the name of the Column.
+   */
+  private static Object getValue(final Record row, final Column column) {
+    return (row.containsKey(column) ? row.get(column) : row.get(column.getName()));
+  }
+
+  /**
+   * Groups the results of this query by the values of the specified Columns of the record table.  Each group is
+   * a single result holding the values of the group by Columns and the aggregates of it's rows.
+   * @param columns the Columns of the record table whose values determine the groups.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the Columns are empty or a Column is not a Column of the
+   * record table.
+   */
+  public RecordQuery groupBy(final Column... columns) {
+    Assert.isFalse(ObjectUtil.isNull(columns) || columns.length == 0, "The group by columns cannot be null or empty!");
+
+    final Column[] groupByColumns = new Column[columns.length];
+
+    for (int index = 0; index < columns.length; index++) {
+      groupByColumns[index] = getTableColumn(columns[index]);
+    }
+
+    this.groupByColumns = groupByColumns;
+    return this;
+  }
+
+  /**
+   * Determines whether the results of this query are groups of rows, which is the case when the query is grouped
+   * or computes aggregates.
+   */
+  private boolean isAggregated() {
+    return (ObjectUtil.isNotNull(groupByColumns) || !aggregateColumnList.isEmpty());
+  }
+
+  /**
+   * Evaluates this query, returning an Iterator over the results.  The Iterator does not support remove.
+   * @return an Iterator over the results of this query.
+   * @throws java.lang.IllegalArgumentException if a selected Column is not a Column of the results.
+   */
+  public Iterator<Record> iterator() {
+    final Column[] resultColumns = getResultColumns();
+    final Column[] projection = getProjection(resultColumns);
+
+    Iterator<Record> results = getMatchingRows();
+    boolean copied = false;
+
+    if (isAggregated()) {
+      results = aggregateRows(results).iterator();
+      copied = true;
+    }
+
+    if (ObjectUtil.isNotNull(orderBy)) {
+      results = sortRows(results, resultColumns, copied).iterator();
+      copied = true;
+    }
+
+    if (limit > -1) {
+      results = new LimitIterator(results, limit);
+    }
+
+    return (copied && ObjectUtil.isNull(selectColumns) ? results : new ProjectionIterator(results, projection));
+  }
+
+  /**
+   * Limits the number of results of this query.
+   * @param limit the maximum number of results returned by this query.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the limit is negative.
+   */
+  public RecordQuery limit(final int limit) {
+    Assert.isFalse(limit < 0, "The limit (" + limit + ") cannot be negative!");
+    this.limit = limit;
+    return this;
+  }
+
+  /**
+   * Adds the maximum of the values of the specified Column to the results of this query.
+   * @param column the Column of the record table whose maximum value is computed.
+   * @return this RecordQuery.
+   * @see RecordQuery#aggregate(RecordQuery.Aggregate, Column)
+   */
+  public RecordQuery max(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+    return aggregate(Aggregate.MAX, column);
+  }
+
+  /**
+   * Adds the minimum of the values of the specified Column to the results of this query.
+   * @param column the Column of the record table whose minimum value is computed.
+   * @return this RecordQuery.
+   * @see RecordQuery#aggregate(RecordQuery.Aggregate, Column)
+   */
+  public RecordQuery min(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+    return aggregate(Aggregate.MIN, column);
+  }
+
+  /**
+   * Orders the results of this query with the specified Comparator, such as a RecordComparator, comparing
+   * Records keyed by column name.  Results comparing equal remain in the order the rows were matched, which is
+   * row order unless an equality or range condition is answered with the getRows methods of the record table.
+   * @param orderBy the Comparator ordering the results of this query.
+   * @return this RecordQuery.
+   * @throws java.lang.NullPointerException if the Comparator is null.
+   */
+  public RecordQuery orderBy(final Comparator<Record> orderBy) {
+    Assert.notNull(orderBy, "The order by comparator cannot be null!");
+    this.orderBy = orderBy;
+    return this;
+  }
+
+  /**
+   * Orders the results of this query by the values of the specified Columns using a RecordComparator.
+   * @param columns the Columns of the results whose values determine the order of the results.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the Columns are null or empty.
+   * @see com.cp.common.util.record.RecordComparator
+   */
+  public RecordQuery orderBy(final Column... columns) {
+    return orderBy(new RecordComparator(columns));
+  }
+
+  /**
+   * Projects the results of this query onto the specified Columns, in order.  The Columns are matched by name
+   * to the Columns of the results, which include the aggregate Columns of a grouped query.
+   * @param columns the Columns of the results selected by this query.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the Columns are null or empty.
+   */
+  public RecordQuery select(final Column... columns) {
+    Assert.isFalse(ObjectUtil.isNull(columns) || columns.length == 0, "The selected columns cannot be null or empty!");
+
+    for (final Column column : columns) {
+      Assert.notNull(column, "The selected columns cannot contain null!");
+    }
+
+    this.selectColumns = columns.clone();
+    return this;
+  }
+
+  /**
+   * Adds the sum of the values of the specified Column to the results of this query.
+   * @param column the numeric Column of the record table whose values are summed.
+   * @return this RecordQuery.
+   * @see RecordQuery#aggregate(RecordQuery.Aggregate, Column)
+   */
+  public RecordQuery sum(final Column column) {
+    Assert.notNull(column, "The column cannot be null!");
+    return aggregate(Aggregate.SUM, column);
+  }
+
+  /**
+   * Evaluates this query, collecting the results into a new RecordTable with the Columns of the results.
+   * @return a RecordTable containing the results of this query.
+   * @see RecordQuery#getColumns()
+   */
+  public RecordTable toRecordTable() {
+    final List<Column> columns = getColumns();
+    final RecordTable results = AbstractRecordFactory.getInstance().getColumnarRecordTableInstance(
+      columns.toArray(new Column[columns.size()]));
+
+    for (final Iterator<Record> it = iterator(); it.hasNext(); ) {
+      results.addRow(it.next());
+    }
+
+    return results;
+  }
+
+  /**
+   * Returns a String representation of this RecordQuery.
+   * @return a String representation of this RecordQuery.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{where = ");
+    buffer.append(conditionList);
+    buffer.append(", groupBy = ").append(ObjectUtil.isNull(groupByColumns) ? null : Arrays.asList(groupByColumns));
+    buffer.append(", aggregates = ").append(aggregateColumnList);
+    buffer.append(", orderBy = ").append(orderBy);
+    buffer.append(", limit = ").append(limit);
+    buffer.append(", select = ").append(ObjectUtil.isNull(selectColumns) ? null : Arrays.asList(selectColumns));
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * Restricts the results of this query to the rows whose value for the specified Column is accepted by the
+   * specified Filter.
+   * @param column the Column of the record table whose value is tested.
+   * @param filter the Filter accepting the value of the Column.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the Column is not a Column of the record table.
+   * @throws java.lang.NullPointerException if the Column or Filter is null.
+   */
+  public RecordQuery where(final Column column, final Filter filter) {
+    Assert.notNull(filter, "The filter cannot be null!");
+    conditionList.add(new FilterCondition(getTableColumn(column), filter));
+    return this;
+  }
+
+  /**
+   * Restricts the results of this query to the rows having the specified value, which may be null, for the
+   * specified Column.
+   * @param column the Column of the record table whose value is tested.
+   * @param value the value of the Column in the rows of the results.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the Column is not a Column of the record table.
+   * @throws java.lang.NullPointerException if the Column is null.
+   */
+  public RecordQuery whereEquals(final Column column, final Object value) {
+    conditionList.add(new EqualsCondition(getTableColumn(column), value));
+    return this;
+  }
+
+  /**
+   * Restricts the results of this query to the rows having a non-null value for the specified Column within the
+   * specified range.  A null bound leaves the range unbounded at that end.
+   * @param column the Column of the record table whose value is tested.
+   * @param fromValue the lower bound of the range, or null if the range has no lower bound.
+   * @param fromInclusive a boolean value indicating whether the lower bound is included in the range.
+   * @param toValue the upper bound of the range, or null if the range has no upper bound.
+   * @param toInclusive a boolean value indicating whether the upper bound is included in the range.
+   * @return this RecordQuery.
+   * @throws java.lang.IllegalArgumentException if the Column is not a Column of the record table.
+   * @throws java.lang.NullPointerException if the Column is null.
+   */
+  public RecordQuery whereRange(final Column column, final Object fromValue, final boolean fromInclusive,
+                                final Object toValue, final boolean toInclusive) {
+    conditionList.add(new RangeCondition(getTableColumn(column), fromValue, fromInclusive, toValue, toInclusive));
+    return this;
+  }
+
+  /**
+   * Groups the matching rows by the values of the group by Columns, computing the aggregates of each group,
+   * and returns the groups in the order their first row was matched.  A query computing aggregates without
+   * group by Columns has a single group, even when no rows match.
+   */
+  private List<Record> aggregateRows(final Iterator<Record> rows) {
+    final Column[] groupColumns = (ObjectUtil.isNull(groupByColumns) ? new Column[0] : groupByColumns);
+    final Map<List<Object>, Accumulator[]> groups = new LinkedHashMap<List<Object>, Accumulator[]>();
+
+    while (rows.hasNext()) {
+      final Record row = rows.next();
+      final List<Object> groupKey = new ArrayList<Object>(groupColumns.length);
+
+      for (final Column column : groupColumns) {
+        groupKey.add(getValue(row, column));
+      }
+
+      Accumulator[] accumulators = groups.get(groupKey);
+
+      if (ObjectUtil.isNull(accumulators)) {
+        accumulators = newAccumulators();
+        groups.put(groupKey, accumulators);
+      }
+
+      for (final Accumulator accumulator : accumulators) {
+        accumulator.add(row);
+      }
+    }
+
+    if (groups.isEmpty() && groupColumns.length == 0) {
+      groups.put(java.util.Collections.<Object>emptyList(), newAccumulators());
+    }
+
+    final List<Record> results = new ArrayList<Record>(groups.size());
+
+    for (final Map.Entry<List<Object>, Accumulator[]> group : groups.entrySet()) {
+      final Record<String> result = newRecord();
+
+      for (int index = 0; index < groupColumns.length; index++) {
+        result.addField(groupColumns[index].getName(), group.getKey().get(index));
+      }
+
+      for (final Accumulator accumulator : group.getValue()) {
+        result.addField(accumulator.getAggregateColumn().getName(), accumulator.getValue());
+      }
+
+      results.add(result);
+    }
+
+    return results;
+  }
+
+  /**
+   * Gets the rows of the record table satisfying all where conditions, answering the driving condition with
+   * the getRows methods of the record table and testing the other conditions on each row.
+   */
+  private Iterator<Record> getMatchingRows() {
+    final Condition drivingCondition = getDrivingCondition();
+    final List<Condition> conditions = new ArrayList<Condition>(conditionList);
+
+    if (ObjectUtil.isNotNull(drivingCondition)) {
+      conditions.remove(drivingCondition);
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("driving condition (" + drivingCondition + ")");
+      }
+    }
+
+    final Iterator<Record> rows = (ObjectUtil.isNull(drivingCondition) ? recordTable.rowIterator()
+      : drivingCondition.getRows().iterator());
+
+    return (conditions.isEmpty() ? rows : new ConditionIterator(rows, conditions));
+  }
+
+  /**
+   * Creates the Accumulators computing the aggregates of a group of rows.
+   */
+  private Accumulator[] newAccumulators() {
+    final Accumulator[] accumulators = new Accumulator[aggregateColumnList.size()];
+
+    for (int index = 0; index < accumulators.length; index++) {
+      accumulators[index] = new Accumulator(aggregateColumnList.get(index));
+    }
+
+    return accumulators;
+  }
+
+  /**
+   * Creates a new, empty Record keyed by column name.
+   */
+  @SuppressWarnings("unchecked")
+  private static Record<String> newRecord() {
+    return AbstractRecordFactory.getInstance().getRecordInstance();
+  }
+
+  /**
+   * Determines whether the specified type holds integral values, whose sum is computed as a long.
+   */
+  private static boolean isIntegral(final Class<?> type) {
+    return (Long.class.equals(type) || Integer.class.equals(type) || Short.class.equals(type)
+      || Byte.class.equals(type));
+  }
+
+  /**
+   * Sorts the rows with the order by Comparator, copying them to Records keyed by column name unless already
+   * copied.  With a limit, only the first limit rows in order are kept, in a bounded heap of the greatest.
+   */
+  private List<Record> sortRows(final Iterator<Record> rows, final Column[] columns, final boolean copied) {
+    final Comparator<RankedRecord> comparator = new RankedRecordComparator(orderBy);
+    final List<RankedRecord> sortedRows = new ArrayList<RankedRecord>();
+
+    if (limit < 0) {
+      for (int rank = 0; rows.hasNext(); rank++) {
+        sortedRows.add(new RankedRecord(copied ? rows.next() : copyRow(rows.next(), columns), rank));
+      }
+    }
+    else if (limit > 0) {
+      final PriorityQueue<RankedRecord> heap = new PriorityQueue<RankedRecord>(limit,
+        java.util.Collections.reverseOrder(comparator));
+
+      for (int rank = 0; rows.hasNext(); rank++) {
+        final RankedRecord row = new RankedRecord(copied ? rows.next() : copyRow(rows.next(), columns), rank);
+
+        if (heap.size() < limit) {
+          heap.add(row);
+        }
+        else if (comparator.compare(row, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(row);
+        }
+      }
+
+      sortedRows.addAll(heap);
+    }
+
+    java.util.Collections.sort(sortedRows, comparator);
+
+    final List<Record> results = new ArrayList<Record>(sortedRows.size());
+
+    for (final RankedRecord row : sortedRows) {
+      results.add(row.getRecord());
+    }
+
+    return results;
+  }
+
+  /**
+   * The Accumulator class computes an aggregate of the values of a Column in a group of rows.  The sum of
+   * integral values is computed as a long, which throws an ArithmeticException on overflow.
+   */
+  private final class Accumulator {
+
+    private long count;
+    private long integralSum;
+
+    private double sum;
+
+    private Object extremeValue;
+
+    private final AggregateColumn aggregateColumn;
+
+    public Accumulator(final AggregateColumn aggregateColumn) {
+      this.aggregateColumn = aggregateColumn;
+    }
+
+    public void add(final Record row) {
+      final Column column = aggregateColumn.getAggregatedColumn();
+
+      if (ObjectUtil.isNull(column)) {
+        count++;
+        return;
+      }
+
+      final Object value = RecordQuery.getValue(row, column);
+
+      if (ObjectUtil.isNotNull(value)) {
+        count++;
+
+        switch (aggregateColumn.getAggregate()) {
+          case AVG:
+            sum += ((Number) value).doubleValue();
+            break;
+          case SUM:
+            if (isIntegral(column.getType())) {
+              integralSum = Math.addExact(integralSum, ((Number) value).longValue());
+            }
+            else {
+              sum += ((Number) value).doubleValue();
+            }
+            break;
+          case MAX:
+            if (ObjectUtil.isNull(extremeValue) || getComparator(column, value).compare(value, extremeValue) > 0) {
+              extremeValue = value;
+            }
+            break;
+          case MIN:
+            if (ObjectUtil.isNull(extremeValue) || getComparator(column, value).compare(value, extremeValue) < 0) {
+              extremeValue = value;
+            }
+            break;
+        }
+      }
+    }
+
+    public AggregateColumn getAggregateColumn() {
+      return aggregateColumn;
+    }
+
+    public Object getValue() {
+      switch (aggregateColumn.getAggregate()) {
+        case AVG:
+          return (count == 0 ? null : Double.valueOf(sum / count));
+        case COUNT:
+          return Long.valueOf(count);
+        case SUM:
+          return (count == 0 ? null : (isIntegral(aggregateColumn.getAggregatedColumn().getType())
+            ? (Object) Long.valueOf(integralSum) : Double.valueOf(sum)));
+        default:
+          return extremeValue;
+      }
+    }
+  }
+
+  /**
+   * The AggregateColumn class is the Column of the results holding an aggregate of a Column of the record table.
+   */
+  private static final class AggregateColumn extends ColumnImpl {
+
+    private final Aggregate aggregate;
+    private final Column aggregatedColumn;
+
+    public AggregateColumn(final Aggregate aggregate, final Column aggregatedColumn) {
+      super(getAggregateName(aggregate, aggregatedColumn), getAggregateType(aggregate, aggregatedColumn));
+      this.aggregate = aggregate;
+      this.aggregatedColumn = aggregatedColumn;
+    }
+
+    private static String getAggregateName(final Aggregate aggregate, final Column aggregatedColumn) {
+      final String name = aggregate.name().toLowerCase();
+      return (ObjectUtil.isNull(aggregatedColumn) ? name : name + "(" + aggregatedColumn.getName() + ")");
+    }
+
+    private static Class getAggregateType(final Aggregate aggregate, final Column aggregatedColumn) {
+      switch (aggregate) {
+        case COUNT:
+          return Long.class;
+        case AVG:
+          return Double.class;
+        case SUM:
+          return (isIntegral(aggregatedColumn.getType()) ? Long.class : Double.class);
+        default:
+          return aggregatedColumn.getType();
+      }
+    }
+
+    public Aggregate getAggregate() {
+      return aggregate;
+    }
+
+    public Column getAggregatedColumn() {
+      return aggregatedColumn;
+    }
+  }
+
+  /**
+   * The Condition class is a where condition of the query on the value of a Column.  The rank of a condition
+   * orders it's preference for being answered by the getRows methods of the record table.
+   */
+  private abstract class Condition {
+
+    protected static final int UNIQUE_EQUALS_RANK = 0;
+    protected static final int EQUALS_RANK = 1;
+    protected static final int RANGE_RANK = 2;
+    protected static final int UNRANKED = Integer.MAX_VALUE;
+
+    protected final Column column;
+
+    public Condition(final Column column) {
+      this.column = column;
+    }
+
+    public abstract boolean accept(Object value);
+
+    public int getRank() {
+      return UNRANKED;
+    }
+
+    public List<Record> getRows() {
+      throw new UnsupportedOperationException("(" + this + ") cannot be answered by the record table!");
+    }
+  }
+
+  /**
+   * The ConditionIterator class iterates the rows satisfying all of the specified conditions.
+   */
+  private final class ConditionIterator implements Iterator<Record> {
+
+    private Record nextRow;
+
+    private final Iterator<Record> rows;
+    private final List<Condition> conditions;
+
+    public ConditionIterator(final Iterator<Record> rows, final List<Condition> conditions) {
+      this.rows = rows;
+      this.conditions = conditions;
+    }
+
+    private boolean accept(final Record row) {
+      for (final Condition condition : conditions) {
+        if (!condition.accept(getValue(row, condition.column))) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    public boolean hasNext() {
+      while (ObjectUtil.isNull(nextRow) && rows.hasNext()) {
+        final Record row = rows.next();
+
+        if (accept(row)) {
+          nextRow = row;
+        }
+      }
+
+      return ObjectUtil.isNotNull(nextRow);
+    }
+
+    public Record next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more rows satisfy the conditions of the query!");
+      }
+
+      final Record row = nextRow;
+      nextRow = null;
+      return row;
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException("Not Supported!");
+    }
+  }
+
+  /**
+   * The EqualsCondition class accepts a value of the Column equal to the specified value, which may be null.
+   */
+  private final class EqualsCondition extends Condition {
+
+    private final Object value;
+
+    public EqualsCondition(final Column column, final Object value) {
+      super(column);
+      this.value = value;
+    }
+
+    public boolean accept(final Object value) {
+      return ObjectUtil.equalsIgnoreNull(this.value, value);
+    }
+
+    public int getRank() {
+      return (column.isUnique() ? UNIQUE_EQUALS_RANK : EQUALS_RANK);
+    }
+
+    public List<Record> getRows() {
+      return recordTable.getRows(column, value);
+    }
+
+    public String toString() {
+      return column.getName() + " = " + value;
+    }
+  }
+
+  /**
+   * The FilterCondition class accepts a value of the Column accepted by the specified Filter.
+   */
+  private final class FilterCondition extends Condition {
+
+    private final Filter<Object> filter;
+
+    @SuppressWarnings("unchecked")
+    public FilterCondition(final Column column, final Filter filter) {
+      super(column);
+      this.filter = filter;
+    }
+
+    public boolean accept(final Object value) {
+      return filter.accept(value);
+    }
+
+    public String toString() {
+      return column.getName() + " accepted by " + filter;
+    }
+  }
+
+  /**
+   * The LimitIterator class iterates at most limit elements of the specified Iterator.
+   */
+  private static final class LimitIterator implements Iterator<Record> {
+
+    private int remaining;
+
+    private final Iterator<Record> results;
+
+    public LimitIterator(final Iterator<Record> results, final int limit) {
+      this.results = results;
+      this.remaining = limit;
+    }
+
+    public boolean hasNext() {
+      return (remaining > 0 && results.hasNext());
+    }
+
+    public Record next() {
+      if (remaining <= 0) {
+        throw new NoSuchElementException("The limit of the query has been reached!");
+      }
+
+      remaining--;
+      return results.next();
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException("Not Supported!");
+    }
+  }
+
+  /**
+   * The ProjectionIterator class copies the values of the projected Columns of each row to a new Record keyed
+   * by column name.
+   */
+  private static final class ProjectionIterator implements Iterator<Record> {
+
+    private final Column[] projection;
+    private final Iterator<Record> rows;
+
+    public ProjectionIterator(final Iterator<Record> rows, final Column[] projection) {
+      this.rows = rows;
+      this.projection = projection;
+    }
+
+    public boolean hasNext() {
+      return rows.hasNext();
+    }
+
+    public Record next() {
+      return copyRow(rows.next(), projection);
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException("Not Supported!");
+    }
+  }
+
+  /**
+   * The RangeCondition class accepts a non-null value of the Column within the specified range.
+   */
+  private final class RangeCondition extends Condition {
+
+    private final boolean fromInclusive;
+    private final boolean toInclusive;
+
+    private final Object fromValue;
+    private final Object toValue;
+
+    public RangeCondition(final Column column, final Object fromValue, final boolean fromInclusive,
+                          final Object toValue, final boolean toInclusive) {
+      super(column);
+      this.fromValue = fromValue;
+      this.fromInclusive = fromInclusive;
+      this.toValue = toValue;
+      this.toInclusive = toInclusive;
+    }
+
+    public boolean accept(final Object value) {
+      if (ObjectUtil.isNull(value)) {
+        return false;
+      }
+
+      final Comparator<Object> comparator = getComparator(column, value);
+
+      if (ObjectUtil.isNotNull(fromValue)) {
+        final int compareValue = comparator.compare(value, fromValue);
+
+        if (compareValue < 0 || (compareValue == 0 && !fromInclusive)) {
+          return false;
+        }
+      }
+
+      if (ObjectUtil.isNotNull(toValue)) {
+        final int compareValue = comparator.compare(value, toValue);
+
+        if (compareValue > 0 || (compareValue == 0 && !toInclusive)) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    public int getRank() {
+      return RANGE_RANK;
+    }
+
+    public List<Record> getRows() {
+      return recordTable.getRows(column, fromValue, fromInclusive, toValue, toInclusive);
+    }
+
+    public String toString() {
+      return column.getName() + " in " + (fromInclusive ? "[" : "(") + fromValue + ", " + toValue
+        + (toInclusive ? "]" : ")");
+    }
+  }
+
+  /**
+   * The RankedRecord class pairs a result with it's position in the matching rows, so that results comparing
+   * equal keep row order.
+   */
+  private static final class RankedRecord {
+
+    private final int rank;
+    private final Record record;
+
+    public RankedRecord(final Record record, final int rank) {
+      this.record = record;
+      this.rank = rank;
+    }
+
+    public int getRank() {
+      return rank;
+    }
+
+    public Record getRecord() {
+      return record;
+    }
+  }
+
+  /**
+   * The RankedRecordComparator class orders RankedRecords by the order by Comparator and then by rank.
+   */
+  private static final class RankedRecordComparator implements Comparator<RankedRecord> {
+
+    private final Comparator<Record> orderBy;
+
+    public RankedRecordComparator(final Comparator<Record> orderBy) {
+      this.orderBy = orderBy;
+    }
+
+    public int compare(final RankedRecord row1, final RankedRecord row2) {
+      final int compareValue = orderBy.compare(row1.getRecord(), row2.getRecord());
+      return (compareValue != 0 ? compareValue : (row1.getRank() < row2.getRank() ? -1 : (row1.getRank() == row2.getRank() ? 0 : 1)));
+    }
+  }
+
+}
@@ -7,10 +7,11 @@
  * Copyright (c) 2002, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2005.11.29
+ * @version 2026.10.17
  * @see java.lang.Cloneable
  * @see java.io.Serializable
  * @see java.util.Collection
+ * @see com.cp.common.lang.BulkSortable
  * @see com.cp.common.lang.Copyable
  * @see com.cp.common.lang.Mutable
  * @see com.cp.common.lang.Searchable
@@ -25,10 +26,10 @@
 
 package com.cp.common.util.record;
 
+import com.cp.common.lang.BulkSortable;
 import com.cp.common.lang.Copyable;
 import com.cp.common.lang.Mutable;
 import com.cp.common.lang.Searchable;
-import com.cp.common.lang.Sortable;
 import com.cp.common.lang.Visitable;
 import com.cp.common.util.record.*;
 import com.cp.common.util.record.Column;
@@ -38,8 +39,10 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
-public interface RecordTable extends Cloneable, Collection<Record>, Copyable, Mutable, Searchable<Record>, Serializable, Sortable<Record>, Visitable {
+public interface RecordTable extends BulkSortable<Record>, Cloneable, Collection<Record>, Copyable, Mutable, Searchable<Record>, Serializable, Visitable {
 
   /**
    * Adds the specified Column as the last Column in the record table, thereby altering the structure of this
@@ -85,6 +88,16 @@ public interface RecordTable extends Cloneable, Collection<Record>, Copyable, Mu
    */
   public boolean contains(Record record);
 
+  /**
+   * Performs the specified action on every row of this record table, splitting the rows across the threads of
+   * the common ForkJoinPool by way of parallelStream.  The action may be performed on the rows in any order and
+   * concurrently, so the action must be thread-safe and must not modify the structure of this record table.
+   * @param action the action performed on each row of this record table.
+   * @throws java.lang.NullPointerException if the action is null.
+   * @see java.util.Collection#parallelStream()
+   */
+  public void forEachParallel(Consumer<? super Record> action);
+
   /**
    * Returns the value of the specified cell at (rowIndex, columnIndex) in this record table.
    * @param rowIndex the index of the row.
@@ -208,6 +221,26 @@ public interface RecordTable extends Cloneable, Collection<Record>, Copyable, Mu
    */
   public int getRowIndex(Record row);
 
+  /**
+   * Returns the rows in this record table having the specified value for the Column, in no particular order.
+   * @param column the Column of this record table whose value is matched.
+   * @param value the value of the Column in the rows being returned.
+   * @return a List of the rows having the value for the Column, or an empty List if no row has the value.
+   */
+  public List<Record> getRows(Column column, Object value);
+
+  /**
+   * Returns the rows in this record table having a non-null value for the Column within the specified range,
+   * in no particular order.  A null bound leaves the range unbounded at that end.
+   * @param column the Column of this record table whose value is compared with the range.
+   * @param fromValue the lower bound of the range, or null if the range has no lower bound.
+   * @param fromInclusive a boolean value indicating whether the lower bound is included in the range.
+   * @param toValue the upper bound of the range, or null if the range has no upper bound.
+   * @param toInclusive a boolean value indicating whether the upper bound is included in the range.
+   * @return a List of the rows having a value for the Column within the range.
+   */
+  public List<Record> getRows(Column column, Object fromValue, boolean fromInclusive, Object toValue, boolean toInclusive);
+
   /**
    * Inserts the specified Column at the specified column index into this record table.
    * @param column the Column to insert into the record table.
@@ -308,6 +341,15 @@ public interface RecordTable extends Cloneable, Collection<Record>, Copyable, Mu
    */
   public void setCellValue(int rowIndex, Column column, Object value);
 
+  /**
+   * Returns a Spliterator over the rows of this record table, in row order, reporting the number of rows so that
+   * stream and parallelStream split the rows evenly.  The Spliterator is SIZED and ORDERED, and is fail-fast
+   * where the record table is.
+   * @return a Spliterator over the rows of this record table.
+   * @see java.util.Collection#spliterator()
+   */
+  public Spliterator<Record> spliterator();
+
   /**
    * Returns a tabular data structure of this record table containing all row and column values.
    * @return a two-dimensional Object array containing the values of this record table.
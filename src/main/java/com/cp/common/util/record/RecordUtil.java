@@ -4,17 +4,25 @@
  * Copyright (c) 2002, Codeprimate LLC
  * All Rights Reserved
  * @author John J. Blum
- * @version 2010.5.23
+ * @version 2026.10.17
  * @see com.cp.common.util.record.Record
  * @see com.cp.common.util.record.RecordTable
  */
 
 package com.cp.common.util.record;
 
+import com.cp.common.lang.Assert;
 import com.cp.common.lang.Mutable;
 import com.cp.common.lang.ObjectImmutableException;
 import com.cp.common.lang.ObjectUtil;
 import com.cp.common.util.Visitor;
+import com.cp.common.util.sort.DoubleKeySort;
+import com.cp.common.util.sort.IntKeySort;
+import com.cp.common.util.sort.LongKeySort;
+import com.cp.common.util.sort.MergeSort;
+import com.cp.common.util.sort.SortException;
+import com.cp.common.util.sort.Sorter;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -23,6 +31,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -36,6 +47,63 @@ public final class RecordUtil {
   private RecordUtil() {
   }
 
+  /**
+   * Wraps the specified RecordTable object in a thread-safe RecordTable implementation for concurrent readers.  Unlike
+   * synchronizedRecordTable, which serializes every access through one mutex, readers of the concurrent record table
+   * proceed in parallel and only writers are serialized, making it the better choice for record tables read far more
+   * often than modified.  Iterators and Spliterators of the concurrent record table traverse a snapshot of the rows.
+   * @param recordTable the RecordTable object accessed concurrently.
+   * @return a thread-safe RecordTable implementation encapsulating the RecordTable object for concurrent readers.
+   * @throws java.lang.NullPointerException if the RecordTable is null.
+   */
+  public static RecordTable concurrentRecordTable(final RecordTable recordTable) {
+    return new ConcurrentRecordTable(recordTable);
+  }
+
+  /**
+   * Returns a Sorter ordering Records by the values of the specified Column.  Columns of int, short or byte
+   * values are sorted by the IntKeySort, columns of long, Date or Calendar values by the LongKeySort, and
+   * columns of float or double values by the DoubleKeySort.  Columns of other values, including BigDecimal and
+   * BigInteger values that a double key would misorder, are sorted by the MergeSort with a RecordComparator.
+   * All of these Sorters are stable.
+   * @param column the Column whose values determine the order of the Records.
+   * @param descending a boolean value indicating whether the Records are sorted in descending order.
+   * @return a Sorter ordering Records by the values of the Column.
+   * @throws NullPointerException if the Column is null.
+   */
+  public static Sorter getColumnSorter(final Column column, final boolean descending) {
+    Assert.notNull(column, "The column cannot be null!");
+
+    final Class type = column.getType();
+
+    if (!ColumnKeyExtractor.isKeyType(type)) {
+      final Comparator<Record> orderBy = new RecordComparator(new Column[] { column });
+      return new MergeSort(descending ? java.util.Collections.reverseOrder(orderBy) : orderBy);
+    }
+    else if (Integer.class.equals(type) || Short.class.equals(type) || Byte.class.equals(type)) {
+      return new IntKeySort(new ColumnKeyExtractor(column), descending);
+    }
+    else if (Long.class.equals(type) || !Number.class.isAssignableFrom(type)) {
+      return new LongKeySort(new ColumnKeyExtractor(column), descending);
+    }
+    else {
+      return new DoubleKeySort(new ColumnKeyExtractor(column), descending);
+    }
+  }
+
+  /**
+   * Sorts the rows of the specified RecordTable by the values of the specified Column.
+   * @param recordTable the RecordTable to sort.
+   * @param column the Column whose values determine the order of the rows.
+   * @param descending a boolean value indicating whether the rows are sorted in descending order.
+   * @throws SortException if the RecordTable could not be sorted.
+   * @see RecordUtil#getColumnSorter(Column, boolean)
+   */
+  public static void sort(final RecordTable recordTable, final Column column, final boolean descending)
+      throws SortException {
+    getColumnSorter(column, descending).sort(recordTable);
+  }
+
   /**
    * Synchronizes access to the specified Record object.
    * @param record is the Record object in which to serialize access.
@@ -58,7 +126,8 @@ public final class RecordUtil {
   }
 
   /**
-   * Synchronizes access to the specified RecordTable object.
+   * Synchronizes access to the specified RecordTable object.  Every access, including reads, is serialized
+   * through a single mutex; see concurrentRecordTable for record tables read concurrently.
    * @param recordTable is the RecordTable object in which to serialize access.
    * @return a synchronized, thread-safe instance of the RecordTable object.
    */
@@ -108,6 +177,752 @@ public final class RecordUtil {
     return new UnmodifiableRecordTable(recordTable);
   }
 
+  /**
+   * ConcurrentRecordTable is a wrapper RecordTable implementation providing concurrent read access to a RecordTable
+   * object, for record tables read far more often than modified.  Reads share the read lock of a StampedLock, and the
+   * row and column counts are first read optimistically without locking, while writes, and Visitors, hold the write
+   * lock exclusively.  Iterators, Spliterators and parallel traversals work on a snapshot of the rows taken under the
+   * read lock, so they never throw a ConcurrentModificationException and do not support remove; the rows in the
+   * snapshot are the rows of the record table, not copies.  The lock is not reentrant, so a Visitor must not call
+   * back into this record table.
+   *
+   * Only the methods of this record table are guarded by the lock.  The Records returned by getRow, getRows,
+   * iterators and traversals are the rows of the wrapped record table, and reading or setting their values is not
+   * guarded, so rows must only be changed through setCellValue, or by a Visitor, while other threads read them.
+   * The getRows and contains methods hold the read lock even if the wrapped record table builds the index of a
+   * Column on first use; the record tables of this library build their indexes safely under concurrent reads,
+   * and other record tables must do the same to be wrapped.
+   */
+  private static class ConcurrentRecordTable implements RecordTable {
+
+    private final RecordTable recordTable;
+    private final StampedLock lock = new StampedLock();
+
+    public ConcurrentRecordTable(final RecordTable recordTable) {
+      if (log.isDebugEnabled()) {
+        log.debug("recordTable (" + recordTable + ")");
+      }
+
+      if (ObjectUtil.isNull(recordTable)) {
+        log.warn("The RecordTable parameter cannot be null!");
+        throw new NullPointerException("The RecordTable parameter cannot be null!");
+      }
+
+      this.recordTable = recordTable;
+    }
+
+    public void accept(final Visitor visitor) {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.accept(visitor);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean add(final Record rec) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.add(rec);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean addAll(final Collection<? extends Record> c) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.addAll(c);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean addColumn(final Column column) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.addColumn(column);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean addRow(final Record row) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.addRow(row);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public void clear() {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.clear();
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public Object copy() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.copy();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public int columnCount() {
+      long stamp = lock.tryOptimisticRead();
+
+      if (stamp != 0L) {
+        try {
+          final int columnCount = recordTable.columnCount();
+
+          if (lock.validate(stamp)) {
+            return columnCount;
+          }
+        }
+        catch (RuntimeException ignore) {
+          // a concurrent write invalidated the optimistic read; the count is read again holding the read lock
+        }
+      }
+
+      stamp = lock.readLock();
+
+      try {
+        return recordTable.columnCount();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Iterator<Column> columnIterator() {
+      final long stamp = lock.readLock();
+
+      try {
+        return java.util.Collections.unmodifiableList(new ArrayList<Column>(recordTable.getColumns())).iterator();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public boolean contains(final Column column) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.contains(column);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public boolean contains(final Object o) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.contains(o);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public boolean contains(final Record record) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.contains(record);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public boolean containsAll(final Collection c) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.containsAll(c);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public void forEachParallel(final Consumer<? super Record> action) {
+      Assert.notNull(action, "The action cannot be null!");
+      getRowSnapshot().parallelStream().forEach(action);
+    }
+
+    public Record get(final int index) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.get(index);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public <T> T getCellValue(final int rowIndex, final int columnIndex) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getCellValue(rowIndex, columnIndex);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public <T> T getCellValue(final int rowIndex, final Column column) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getCellValue(rowIndex, column);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Column getColumn(final int columnIndex) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getColumn(columnIndex);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Column getColumn(final String columnName) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getColumn(columnName);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public int getColumnIndex(final Column column) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getColumnIndex(column);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public List<Column> getColumns() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getColumns();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Comparator getComparator(final Column column, final Object value) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getComparator(column, value);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Column getFirstColumn() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getFirstColumn();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public int getFirstColumnIndex() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getFirstColumnIndex();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Record getFirstRow() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getFirstRow();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public int getFirstRowIndex() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getFirstRowIndex();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Column getLastColumn() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getLastColumn();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public int getLastColumnIndex() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getLastColumnIndex();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Record getLastRow() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getLastRow();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public int getLastRowIndex() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getLastRowIndex();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Record getRow(final int rowIndex) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getRow(rowIndex);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public int getRowIndex(final Record row) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getRowIndex(row);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    private List<Record> getRowSnapshot() {
+      final long stamp = lock.readLock();
+
+      try {
+        final List<Record> rows = new ArrayList<Record>(recordTable.rowCount());
+
+        for (final Iterator<Record> it = recordTable.rowIterator(); it.hasNext(); ) {
+          rows.add(it.next());
+        }
+
+        return java.util.Collections.unmodifiableList(rows);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public List<Record> getRows(final Column column, final Object value) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getRows(column, value);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public List<Record> getRows(final Column column, final Object fromValue, final boolean fromInclusive,
+                                final Object toValue, final boolean toInclusive) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.getRows(column, fromValue, fromInclusive, toValue, toInclusive);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public boolean insertColumn(final Column column, final int columnIndex) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.insertColumn(column, columnIndex);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean insertRow(final Record record, final int rowIndex) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.insertRow(record, rowIndex);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean isEmpty() {
+      return (rowCount() == 0);
+    }
+
+    public boolean isMutable() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.isMutable();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Iterator<Record> iterator() {
+      return getRowSnapshot().iterator();
+    }
+
+    public void registerComparator(final Class type, final Comparator comparator) {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.registerComparator(type, comparator);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean remove(final Object o) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.remove(o);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean removeAll() {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.removeAll();
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean removeAll(final Collection c) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.removeAll(c);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public Column removeColumn(final int columnIndex) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.removeColumn(columnIndex);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public int removeColumn(final Column column) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.removeColumn(column);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public Record removeRow(final int rowIndex) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.removeRow(rowIndex);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public int removeRow(final Record record) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.removeRow(record);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public boolean retainAll(final Collection c) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.retainAll(c);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public int rowCount() {
+      long stamp = lock.tryOptimisticRead();
+
+      if (stamp != 0L) {
+        try {
+          final int rowCount = recordTable.rowCount();
+
+          if (lock.validate(stamp)) {
+            return rowCount;
+          }
+        }
+        catch (RuntimeException ignore) {
+          // a concurrent write invalidated the optimistic read; the count is read again holding the read lock
+        }
+      }
+
+      stamp = lock.readLock();
+
+      try {
+        return recordTable.rowCount();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Iterator<Record> rowIterator() {
+      return getRowSnapshot().iterator();
+    }
+
+    public void set(final Record record, final int index) throws Exception {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.set(record, index);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public void setAll(final Object[] records) throws Exception {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.setAll(records);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public void setCellValue(final int rowIndex, final int columnIndex, final Object value) {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.setCellValue(rowIndex, columnIndex, value);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public void setCellValue(final int rowIndex, final Column column, final Object value) {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.setCellValue(rowIndex, column, value);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public void setMutable(final boolean mutable) {
+      final long stamp = lock.writeLock();
+
+      try {
+        recordTable.setMutable(mutable);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    public int size() {
+      return rowCount();
+    }
+
+    public Spliterator<Record> spliterator() {
+      return getRowSnapshot().spliterator();
+    }
+
+    public Object[] toArray() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.toArray();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public <T> T[] toArray(final T[] a) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.toArray(a);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Object[][] toTabular() {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.toTabular();
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Object[][] toTabular(final int[] rowIndices) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.toTabular(rowIndices);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Object[][] toTabular(final Column[] columns) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.toTabular(columns);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Object[][] toTabular(final int[] rowIndices, final Column[] columns) {
+      final long stamp = lock.readLock();
+
+      try {
+        return recordTable.toTabular(rowIndices, columns);
+      }
+      finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    public Comparator unregisterComparator(final Class type) {
+      final long stamp = lock.writeLock();
+
+      try {
+        return recordTable.unregisterComparator(type);
+      }
+      finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+  }
+
   /**
    * SynchronizedRecord is a wrapper Record implementation providing synchronized (serialized) access
    * to a Record object.
@@ -593,6 +1408,12 @@ public final class RecordUtil {
       }
     }
 
+    public void forEachParallel(final Consumer<? super Record> action) {
+      synchronized (mutex) {
+        recordTable.forEachParallel(action);
+      }
+    }
+
     public Record get(final int index) {
       synchronized (mutex) {
         return recordTable.get(index);
@@ -701,6 +1522,19 @@ public final class RecordUtil {
       }
     }
 
+    public List<Record> getRows(final Column column, final Object value) {
+      synchronized (mutex) {
+        return recordTable.getRows(column, value);
+      }
+    }
+
+    public List<Record> getRows(final Column column, final Object fromValue, final boolean fromInclusive,
+                                final Object toValue, final boolean toInclusive) {
+      synchronized (mutex) {
+        return recordTable.getRows(column, fromValue, fromInclusive, toValue, toInclusive);
+      }
+    }
+
     public boolean insertColumn(final Column column, final int columnIndex) {
       synchronized (mutex) {
         return recordTable.insertColumn(column, columnIndex);
@@ -803,6 +1637,12 @@ public final class RecordUtil {
       }
     }
 
+    public void setAll(final Object[] records) throws Exception {
+      synchronized (mutex) {
+        recordTable.setAll(records);
+      }
+    }
+
     public void setCellValue(final int rowIndex, final int columnIndex, final Object value) {
       synchronized (mutex) {
         recordTable.setCellValue(rowIndex, columnIndex, value);
@@ -827,6 +1667,12 @@ public final class RecordUtil {
       }
     }
 
+    public Spliterator<Record> spliterator() {
+      synchronized (mutex) {
+        return recordTable.spliterator();
+      }
+    }
+
     public Object[] toArray() {
       synchronized (mutex) {
         return recordTable.toArray();
@@ -947,6 +1793,15 @@ public final class RecordUtil {
       return recordTable.copy();
     }
 
+    public List<Record> getRows(final Column column, final Object value) {
+      return recordTable.getRows(column, value);
+    }
+
+    public List<Record> getRows(final Column column, final Object fromValue, final boolean fromInclusive,
+                                final Object toValue, final boolean toInclusive) {
+      return recordTable.getRows(column, fromValue, fromInclusive, toValue, toInclusive);
+    }
+
     public boolean insertColumn(final Column column, final int columnIndex) {
       log.warn("The record table is immutable!");
       throw new ObjectImmutableException("The record table is immutable!");
@@ -970,10 +1825,19 @@ public final class RecordUtil {
       throw new ObjectImmutableException("The record table is immutable!");
     }
 
+    public void setAll(final Object[] records) throws Exception {
+      log.warn("The record table is immutable!");
+      throw new ObjectImmutableException("The record table is immutable!");
+    }
+
     public void setMutable(final boolean mutable) {
       log.warn("Operation Not Allowed!");
       throw new UnsupportedOperationException("Operation Not Allowed!");
     }
+
+    public Spliterator<Record> spliterator() {
+      return recordTable.spliterator();
+    }
   }
 
 }
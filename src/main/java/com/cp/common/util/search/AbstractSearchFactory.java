@@ -4,7 +4,7 @@
  * Copyright (c) 2003, Codeprimate LLC
  * All Rights Reserved
  * @author John J. Blum
- * @version 2010.6.1
+ * @version 2026.10.17
  */
 
 package com.cp.common.util.search;
@@ -82,6 +82,14 @@ public abstract class AbstractSearchFactory {
     return new com.cp.common.util.search.LinearSearch(filter);
   }
 
+  /**
+   * Gets an instance of the Parallel Search algorithm, which finds all the elements matching the SearchFilter
+   * in order.
+   * @param filter the SearchFilter used to identify the item being searched.
+   * @return a Searcher that implements the Parallel Search algorithm.
+   */
+  public abstract Searcher getParallelSearch(SearchFilter filter);
+
   /**
    * Gets a Searcher implementing the search algorithm based on the SearchType enumerated-type.
    * @param searchType the enumerated-type specifying the searching algorithm to get.
@@ -102,6 +110,9 @@ public abstract class AbstractSearchFactory {
     else if (SearchType.LINEAR_SEARCH.equals(searchType)) {
       return getLinearSearch(filter);
     }
+    else if (SearchType.PARALLEL_SEARCH.equals(searchType)) {
+      return getParallelSearch(filter);
+    }
     else {
       logger.warn("The searchType (" + searchType + ") is not a supported search algorithm!");
       throw new IllegalArgumentException("The searchType (" + searchType + ") is not a supported search algorithm!");
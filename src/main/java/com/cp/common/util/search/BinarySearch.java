@@ -4,7 +4,7 @@
  * Copyright (c) 2001, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2006.10.25
+ * @version 2026.10.17
  * @see com.cp.common.lang.Searchable
  * @see com.cp.common.util.search.Searcher
  * @see com.cp.common.util.search.AbstractSearcher
@@ -20,6 +20,8 @@ public class BinarySearch extends AbstractSearcher<BinarySearchFilter> {
 
   private static final Logger logger = Logger.getLogger(BinarySearch.class);
 
+  private final boolean galloping;
+
   /**
    * Constructs a new BinarySearch object with the specified
    * filter. The filter is used to locate the object in the
@@ -33,7 +35,67 @@ public class BinarySearch extends AbstractSearcher<BinarySearchFilter> {
    * matching the search criteria.
    */
   public BinarySearch(final BinarySearchFilter filter) {
+    this(filter, false);
+  }
+
+  /**
+   * Constructs a new BinarySearch object with the specified filter, which, if galloping, first probes the
+   * elements at exponentially increasing distances from the beginning of the search range to narrow the
+   * range before bisecting it.  Galloping costs O(log i) comparisons, where i is the index of the result,
+   * rather than O(log n), which favors very large Searchable collections with results near the beginning.
+   * @param filter the BinarySearchFilter used to locate the elements matching the search criteria.
+   * @param galloping a boolean value indicating whether to gallop before bisecting the search range.
+   */
+  public BinarySearch(final BinarySearchFilter filter, final boolean galloping) {
     super(filter);
+    this.galloping = galloping;
+  }
+
+  /**
+   * Determines whether the element, given the result of comparing it to the search filter criteria, comes
+   * before the bound being searched for.  The upper bound follows the elements matching the criteria, while
+   * the lower bound precedes them.
+   */
+  private static boolean isBeforeBound(final int compareValue, final boolean upper) {
+    return (compareValue > 0 || (upper && compareValue == 0));
+  }
+
+  /**
+   * Returns the first index, from the fromIndex to the toIndex, of the element that does not come before
+   * the lower or upper bound, or toIndex if all the elements come before the bound.
+   */
+  private int bound(final Searchable collection, final int fromIndex, final int toIndex, final boolean upper)
+      throws SearchException {
+    int low = fromIndex;
+    int high = toIndex;
+
+    if (isGalloping()) {
+      final int length = (toIndex - fromIndex);
+
+      int offset = 1;
+
+      while (offset < length && isBeforeBound(getSearchFilter().compare(collection.get(fromIndex + offset - 1)), upper)) {
+        low = (fromIndex + offset);
+        offset = (offset > (length >>> 1) ? length : (offset << 1));
+      }
+
+      if (offset < length) {
+        high = (fromIndex + offset - 1);
+      }
+    }
+
+    while (low < high) {
+      final int middle = ((low + high) >>> 1);
+
+      if (isBeforeBound(getSearchFilter().compare(collection.get(middle)), upper)) {
+        low = (middle + 1);
+      }
+      else {
+        high = middle;
+      }
+    }
+
+    return low;
   }
 
   /**
@@ -57,43 +119,120 @@ public class BinarySearch extends AbstractSearcher<BinarySearchFilter> {
    * operation fails.
    * @see search
    */
-  public Object binarySearch(final Searchable collection, int startIndex, int endIndex) throws SearchException {
-    if (logger.isDebugEnabled()) {
-      logger.debug("startIndex (" + startIndex + ")");
-      logger.debug("endIndex (" + endIndex + ")");
-    }
-
+  public Object binarySearch(final Searchable collection, final int startIndex, final int endIndex) throws SearchException {
     if (startIndex > endIndex) {
       return null;
     }
 
-    final int compareIndex = (int) Math.round(((double) (endIndex + startIndex)) / 2.0);
+    final int index = indexOf(collection, startIndex, endIndex + 1);
 
-    if (logger.isDebugEnabled()) {
-      logger.debug("compareIndex (" + compareIndex + ")");
-    }
+    return (index >= 0 ? collection.get(index) : null);
+  }
 
-    final Object element = collection.get(compareIndex);
+  /**
+   * Returns the indices of the first element matching the search filter criteria and of the element following
+   * the last element matching the criteria.  The indices are equal if no element matches the criteria, in which
+   * case both are the index at which a matching element would be inserted.
+   * @param collection the ordered Searchable collection to search.
+   * @return a two element integer array containing the lower and upper bound of the matching elements.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int[] equalRange(final Searchable collection) throws SearchException {
+    return equalRange(collection, 0, collection.size());
+  }
 
-    if (logger.isDebugEnabled()) {
-      logger.debug("element (" + element + ")");
-    }
+  /**
+   * Returns the indices, from the fromIndex to the toIndex, of the first element matching the search filter
+   * criteria and of the element following the last element matching the criteria.
+   * @param collection the ordered Searchable collection to search.
+   * @param fromIndex the index of the first element to search, inclusive.
+   * @param toIndex the index of the last element to search, exclusive.
+   * @return a two element integer array containing the lower and upper bound of the matching elements.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int[] equalRange(final Searchable collection, final int fromIndex, final int toIndex) throws SearchException {
+    final int lowerBound = lowerBound(collection, fromIndex, toIndex);
+    return new int[] { lowerBound, upperBound(collection, lowerBound, toIndex) };
+  }
 
-    final int compareResult = getSearchFilter().compare(element);
+  /**
+   * Returns the index of an element matching the search filter criteria, in the manner of
+   * java.util.Arrays.binarySearch.
+   * @param collection the ordered Searchable collection to search.
+   * @return the index of a matching element, or (-(insertion point) - 1) if no element matches the criteria,
+   * where the insertion point is the index at which a matching element would be inserted.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int indexOf(final Searchable collection) throws SearchException {
+    return indexOf(collection, 0, collection.size());
+  }
 
-    if (logger.isDebugEnabled()) {
-      logger.debug("compareResult (" + compareResult + ")");
+  /**
+   * Returns the index, from the fromIndex to the toIndex, of an element matching the search filter criteria,
+   * in the manner of java.util.Arrays.binarySearch.
+   * @param collection the ordered Searchable collection to search.
+   * @param fromIndex the index of the first element to search, inclusive.
+   * @param toIndex the index of the last element to search, exclusive.
+   * @return the index of a matching element, or (-(insertion point) - 1) if no element matches the criteria.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int indexOf(final Searchable collection, final int fromIndex, final int toIndex) throws SearchException {
+    if (isGalloping()) {
+      final int index = lowerBound(collection, fromIndex, toIndex);
+      return (index < toIndex && getSearchFilter().compare(collection.get(index)) == 0 ? index : -(index + 1));
     }
 
-    if (compareResult == 0) {
-      return element;
-    }
-    else if (compareResult < 0) {
-      return binarySearch(collection, startIndex, compareIndex - 1);
-    }
-    else {
-      return binarySearch(collection, compareIndex + 1, endIndex);
+    int low = fromIndex;
+    int high = toIndex - 1;
+
+    while (low <= high) {
+      final int middle = ((low + high) >>> 1);
+      final int compareValue = getSearchFilter().compare(collection.get(middle));
+
+      if (compareValue == 0) {
+        return middle;
+      }
+      else if (compareValue < 0) {
+        high = (middle - 1);
+      }
+      else {
+        low = (middle + 1);
+      }
     }
+
+    return -(low + 1);
+  }
+
+  /**
+   * Determines whether this BinarySearch gallops before bisecting the search range.
+   * @return a boolean value indicating whether this BinarySearch gallops.
+   */
+  public boolean isGalloping() {
+    return galloping;
+  }
+
+  /**
+   * Returns the index of the first element that does not come before the elements matching the search filter
+   * criteria, which is the index of the first matching element, if any, and the insertion point otherwise.
+   * @param collection the ordered Searchable collection to search.
+   * @return the index of the lower bound of the matching elements.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int lowerBound(final Searchable collection) throws SearchException {
+    return lowerBound(collection, 0, collection.size());
+  }
+
+  /**
+   * Returns the index, from the fromIndex to the toIndex, of the first element that does not come before the
+   * elements matching the search filter criteria.
+   * @param collection the ordered Searchable collection to search.
+   * @param fromIndex the index of the first element to search, inclusive.
+   * @param toIndex the index of the last element to search, exclusive.
+   * @return the index of the lower bound of the matching elements.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int lowerBound(final Searchable collection, final int fromIndex, final int toIndex) throws SearchException {
+    return bound(collection, fromIndex, toIndex, false);
   }
 
   /**
@@ -111,11 +250,34 @@ public class BinarySearch extends AbstractSearcher<BinarySearchFilter> {
    * @see binarySearch
    */
   public Object search(final Searchable collection) throws SearchException {
-    logger.debug("Searching Searchable collection...");
     if (logger.isDebugEnabled()) {
-      logger.debug("Searchable Collection: " + collection);
+      logger.debug("Searching Searchable collection (" + collection.getClass().getName() + ") of size ("
+        + collection.size() + ")...");
     }
     return binarySearch(collection, 0, collection.size() - 1);
   }
 
+  /**
+   * Returns the index of the first element that comes after the elements matching the search filter criteria.
+   * @param collection the ordered Searchable collection to search.
+   * @return the index of the upper bound of the matching elements.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int upperBound(final Searchable collection) throws SearchException {
+    return upperBound(collection, 0, collection.size());
+  }
+
+  /**
+   * Returns the index, from the fromIndex to the toIndex, of the first element that comes after the elements
+   * matching the search filter criteria.
+   * @param collection the ordered Searchable collection to search.
+   * @param fromIndex the index of the first element to search, inclusive.
+   * @param toIndex the index of the last element to search, exclusive.
+   * @return the index of the upper bound of the matching elements.
+   * @throws com.cp.common.util.search.SearchException if the search operation fails.
+   */
+  public int upperBound(final Searchable collection, final int fromIndex, final int toIndex) throws SearchException {
+    return bound(collection, fromIndex, toIndex, true);
+  }
+
 }
@@ -0,0 +1,108 @@
+/*
+ * PropertyRangeSearchFilter.java (c) 17 October 2026
+ *
+ * The PropertyRangeSearchFilter class matches the Bean objects of a Searchable collection whose property
+ * value lies between a lower and an upper bound, inclusive.  Either bound may be null, in which case the
+ * range is unbounded on that side.  Bean objects whose property value is null never match.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.search.PropertySearchFilter
+ * @see com.cp.common.util.search.SearchFilter
+ */
+
+package com.cp.common.util.search;
+
+import com.cp.common.beans.util.PropertyAccessor;
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import org.apache.log4j.Logger;
+
+public class PropertyRangeSearchFilter implements SearchFilter {
+
+  private static final Logger logger = Logger.getLogger(PropertyRangeSearchFilter.class);
+
+  private final Comparable lowerBound;
+  private final Comparable upperBound;
+
+  private final String property;
+
+  /**
+   * Creates an instance of the PropertyRangeSearchFilter class to match Bean objects whose property value
+   * lies between the lower and upper bound, inclusive.
+   * @param property the name of the Bean property whose value is compared to the bounds.
+   * @param lowerBound the smallest matching property value, or null if the range has no lower bound.
+   * @param upperBound the largest matching property value, or null if the range has no upper bound.
+   * @throws NullPointerException if the property is null.
+   */
+  public PropertyRangeSearchFilter(final String property, final Comparable lowerBound, final Comparable upperBound) {
+    Assert.notNull(property, "The property cannot be null!");
+    this.property = property;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+  }
+
+  /**
+   * Returns the smallest matching property value.
+   * @return the lower bound of the range, or null if the range has no lower bound.
+   */
+  public Comparable getLowerBound() {
+    return lowerBound;
+  }
+
+  /**
+   * Returns the name of the Bean property whose value is compared to the bounds.
+   * @return the String name of the Bean property.
+   */
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * Returns the largest matching property value.
+   * @return the upper bound of the range, or null if the range has no upper bound.
+   */
+  public Comparable getUpperBound() {
+    return upperBound;
+  }
+
+  /**
+   * Determines whether the property value of the specified element of the Searchable collection lies
+   * within the range of this PropertyRangeSearchFilter.
+   * @param obj the Object in question of matching the search filter criteria.
+   * @return a boolean value indicating whether the property value of the Object lies within the range.
+   * @throws com.cp.common.util.search.SearchException if the property value could not be determined.
+   */
+  @SuppressWarnings("unchecked")
+  public boolean matches(final Object obj) throws SearchException {
+    final Object value;
+
+    try {
+      value = PropertyAccessor.getPropertyValue(obj, property);
+    }
+    catch (Exception e) {
+      logger.error("Failed to get the value of property (" + property + ") of Object " + obj, e);
+      throw new SearchException("Failed to get the value of property (" + property + ") of Object " + obj, e);
+    }
+
+    return (ObjectUtil.isNotNull(value)
+      && (ObjectUtil.isNull(lowerBound) || lowerBound.compareTo(value) <= 0)
+      && (ObjectUtil.isNull(upperBound) || upperBound.compareTo(value) >= 0));
+  }
+
+  /**
+   * Returns a String representation of this PropertyRangeSearchFilter.
+   * @return a String representation of this PropertyRangeSearchFilter.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{property = ");
+    buffer.append(getProperty());
+    buffer.append(", lowerBound = ").append(getLowerBound());
+    buffer.append(", upperBound = ").append(getUpperBound());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+}
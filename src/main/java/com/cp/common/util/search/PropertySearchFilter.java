@@ -4,17 +4,18 @@
  * Copyright (c) 2003, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2006.10.25
+ * @version 2026.10.17
  * @see com.cp.common.util.search.BinarySearchFilter
  */
 
 package com.cp.common.util.search;
 
+import com.cp.common.beans.util.PropertyAccessor;
 import com.cp.common.lang.ObjectUtil;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.log4j.Logger;
 
 public class PropertySearchFilter implements BinarySearchFilter {
@@ -57,7 +58,7 @@ public class PropertySearchFilter implements BinarySearchFilter {
    */
   public int compare(Object obj) throws com.cp.common.util.search.SearchException {
     try {
-      final Object objValue = PropertyUtils.getProperty(obj, propertyKey);
+      final Object objValue = PropertyAccessor.getPropertyValue(obj, propertyKey);
       if (logger.isDebugEnabled()) {
         logger.debug("Object Value: " + objValue);
       }
@@ -69,6 +70,24 @@ public class PropertySearchFilter implements BinarySearchFilter {
     }
   }
 
+  /**
+   * Returns the property whose value serves as the unique identifier, or determines the order, of the
+   * Bean objects in the Searchable Collection.
+   * @return the String name of the key property.
+   */
+  public String getPropertyKey() {
+    return propertyKey;
+  }
+
+  /**
+   * Returns the Map of Bean property names to the values that the properties of matching Bean objects
+   * must equal.
+   * @return an unmodifiable Map of property names to property values.
+   */
+  public Map<?, ?> getPropertyMap() {
+    return Collections.unmodifiableMap((Map<?, ?>) propertyMap);
+  }
+
   /**
    * Determines whether the specified element of the Searchable Collection
    * satisfies the search filter criteria of this SearchFilter.
@@ -84,7 +103,7 @@ public class PropertySearchFilter implements BinarySearchFilter {
         final String property =  it.next().toString();
         logger.debug("property = " + property);
 
-        final Object objValue = PropertyUtils.getProperty(obj, property);
+        final Object objValue = PropertyAccessor.getPropertyValue(obj, property);
         if (logger.isDebugEnabled()) {
           logger.debug("Object Value = " + objValue);
         }
@@ -4,7 +4,7 @@
  * Copyright (c) 2003, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2004.10.26
+ * @version 2026.10.17
  */
 
 package com.cp.common.util.search;
@@ -21,16 +21,19 @@ public final class SearchType {
   public static final String BINARY_SEARCH_DESCRIPTION = "Binary Search";
   public static final String INDEXED_SEARCH_DESCRIPTION = "Indexed Search";
   public static final String LINEAR_SEARCH_DESCRIPTION = "Linear Search";
+  public static final String PARALLEL_SEARCH_DESCRIPTION = "Parallel Search";
 
   public static final SearchType BINARY_SEARCH = new SearchType(1, BINARY_SEARCH_DESCRIPTION);
   public static final SearchType INDEXED_SEARCH = new SearchType(3, INDEXED_SEARCH_DESCRIPTION);
   public static final SearchType LINEAR_SEARCH = new SearchType(2, LINEAR_SEARCH_DESCRIPTION);
+  public static final SearchType PARALLEL_SEARCH = new SearchType(4, PARALLEL_SEARCH_DESCRIPTION);
 
-  public static final Set SEARCH_TYPE_SET = new HashSet();
+  public static final Set<SearchType> SEARCH_TYPE_SET = new HashSet<SearchType>();
   static {
     SEARCH_TYPE_SET.add(BINARY_SEARCH);
     SEARCH_TYPE_SET.add(LINEAR_SEARCH);
     SEARCH_TYPE_SET.add(INDEXED_SEARCH);
+    SEARCH_TYPE_SET.add(PARALLEL_SEARCH);
   }
 
   private final int id;
@@ -0,0 +1,185 @@
+/*
+ * AbstractKeySorter.java (c) 17 October 2026
+ *
+ * The AbstractKeySorter class is the base class of the Sorters that order the elements of a Sortable
+ * collection by a primitive sort key extracted from each element once, rather than by comparing the
+ * elements with a Comparator.  Subclasses sort a permutation of the element indices by the primitive
+ * keys, which is then used to place the elements of the Sortable collection in order with a single
+ * write.  The permutation is also available to callers that need to reorder other data in step with
+ * the elements.
+ *
+ * The Comparator returned by getOrderBy compares elements by their extracted keys, in the same order
+ * as the sort, and is provided for callers that need to compare individual elements.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.AbstractSorter
+ * @see com.cp.common.util.sort.DoubleKeySort
+ * @see com.cp.common.util.sort.IntKeySort
+ * @see com.cp.common.util.sort.LongKeySort
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.lang.Sortable;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.apache.log4j.Logger;
+
+public abstract class AbstractKeySorter extends AbstractSorter {
+
+  private static final Logger logger = Logger.getLogger(AbstractKeySorter.class);
+
+  // The number of distinct 8-bit digits sorted by each pass of a Radix Sort.
+  protected static final int RADIX = 256;
+
+  private final boolean descending;
+
+  /**
+   * Creates an instance of the AbstractKeySorter class initialized with the Comparator comparing elements
+   * by their keys and whether the elements are sorted in descending order.
+   * @param orderBy the Comparator comparing elements by their extracted keys.
+   * @param descending a boolean value indicating whether the elements are sorted in descending order.
+   */
+  protected AbstractKeySorter(final Comparator orderBy, final boolean descending) {
+    super(orderBy);
+    this.descending = descending;
+  }
+
+  /**
+   * Determines whether the elements are sorted in descending order of their keys.
+   * @return a boolean value indicating whether the elements are sorted in descending order.
+   */
+  public boolean isDescending() {
+    return descending;
+  }
+
+  /**
+   * Sorts the specified Sortable collection by the primitive keys of it's elements.
+   * @param collection the Sortable collection to sort.
+   * @throws com.cp.common.util.sort.SortException if the sort operation fails!
+   */
+  public void sort(final Sortable collection) throws SortException {
+    if (logger.isDebugEnabled()) {
+      logger.debug("Sorting a Sortable collection of type (" + collection.getClass().getName()
+        + ") using the " + getClass().getName() + " algorithm!");
+    }
+
+    final Object[] elements = toArray(collection);
+    final int[] indices = sortIndices(elements);
+    final Object[] sortedElements = new Object[elements.length];
+
+    for (int index = 0; index < indices.length; index++) {
+      sortedElements[index] = elements[indices[index]];
+    }
+
+    setAll(collection, sortedElements);
+  }
+
+  /**
+   * Returns the permutation of the indices of the elements in the Sortable collection that sorts the
+   * elements, without modifying the Sortable collection.  The element at position i in sorted order is
+   * the element at index indices[i] in the Sortable collection.
+   * @param collection the Sortable collection of elements to sort.
+   * @return an array of element indices in sorted order.
+   */
+  public int[] sortIndices(final Sortable collection) {
+    return sortIndices(toArray(collection));
+  }
+
+  /**
+   * Returns the permutation of the indices of the elements in the array that sorts the elements, without
+   * modifying the array.  The element at position i in sorted order is the element at index indices[i]
+   * in the array.
+   * @param elements the array of elements to sort.
+   * @return an array of element indices in sorted order.
+   */
+  public abstract int[] sortIndices(Object[] elements);
+
+  /**
+   * Determines whether all the keys have the same digit in a pass of a Radix Sort, in which case the pass
+   * would not change the order of the keys and can be skipped.
+   * @param counts the number of keys with each digit, where counts[digit + 1] is the number of keys with
+   * the digit.
+   * @param size the number of keys.
+   * @return a boolean value indicating whether all the keys have the same digit.
+   */
+  protected static boolean isSingleDigit(final int[] counts, final int size) {
+    for (int digit = 1; digit <= RADIX; digit++) {
+      if (counts[digit] != 0) {
+        return (counts[digit] == size);
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Sorts the keys as unsigned long values using a least significant digit Radix Sort of 8-bit digits, and
+   * returns the permutation of the key indices in sorted order.  Equal keys keep their relative order, so the
+   * sort is stable, and passes over digits that are the same for all keys are skipped.
+   * @param keys the array of unsigned long keys to sort, which is reordered by the sort.
+   * @return an array of key indices in sorted order.
+   */
+  protected static int[] radixSort(final long[] keys) {
+    final int size = keys.length;
+
+    long[] sortKeys = keys;
+    int[] indices = getIdentityPermutation(size);
+
+    long[] tempKeys = new long[size];
+    int[] tempIndices = new int[size];
+
+    final int[] counts = new int[RADIX + 1];
+
+    for (int shift = 0; shift < Long.SIZE; shift += 8) {
+      Arrays.fill(counts, 0);
+
+      for (int index = 0; index < size; index++) {
+        counts[(int) ((sortKeys[index] >>> shift) & 0xFF) + 1]++;
+      }
+
+      if (isSingleDigit(counts, size)) {
+        continue;
+      }
+
+      for (int digit = 0; digit < RADIX; digit++) {
+        counts[digit + 1] += counts[digit];
+      }
+
+      for (int index = 0; index < size; index++) {
+        final int position = counts[(int) ((sortKeys[index] >>> shift) & 0xFF)]++;
+        tempKeys[position] = sortKeys[index];
+        tempIndices[position] = indices[index];
+      }
+
+      final long[] swapKeys = sortKeys;
+      sortKeys = tempKeys;
+      tempKeys = swapKeys;
+
+      final int[] swapIndices = indices;
+      indices = tempIndices;
+      tempIndices = swapIndices;
+    }
+
+    return indices;
+  }
+
+  /**
+   * Returns an array of the indices 0 through size - 1, the identity permutation.
+   * @param size the number of indices.
+   * @return an array of the indices 0 through size - 1.
+   */
+  protected static int[] getIdentityPermutation(final int size) {
+    final int[] indices = new int[size];
+
+    for (int index = 0; index < size; index++) {
+      indices[index] = index;
+    }
+
+    return indices;
+  }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * AbstractPartialSorter.java (c) 17 October 2026
+ *
+ * The AbstractPartialSorter class is the base class of the Sorters that can order only the first k elements
+ * of a Sortable collection, which is all a paged view displays, in much less time than a full sort.  Subclasses
+ * implement the selection of the next k elements in order from the unordered remainder of an array of elements.
+ *
+ * The PageIterator returned by getPages continues the partial sort page by page over a copy of the elements,
+ * ordering only the remainder of the elements for each page, so that the elements of the previous pages are
+ * never sorted again.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.AbstractSorter
+ * @see com.cp.common.util.sort.HeapSelectSort
+ * @see com.cp.common.util.sort.QuickSelectSort
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.Sortable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.log4j.Logger;
+
+public abstract class AbstractPartialSorter extends AbstractSorter {
+
+  private static final Logger logger = Logger.getLogger(AbstractPartialSorter.class);
+
+  /**
+   * Creates an instance of the AbstractPartialSorter class initialized with the specified orderBy Comparator.
+   * @param orderBy the Comparator used to order the elements of the Sortable collection.
+   */
+  protected AbstractPartialSorter(final Comparator orderBy) {
+    super(orderBy);
+  }
+
+  /**
+   * Returns a PageIterator over the elements of the Sortable collection in sorted order, one page of elements
+   * at a time.  The elements are copied from the Sortable collection, which is not modified, and each page is
+   * ordered only when it is requested.
+   * @param collection the Sortable collection of elements to page through in sorted order.
+   * @param pageSize the number of elements in each page.
+   * @return a PageIterator returning Lists of elements in sorted order.
+   * @throws IllegalArgumentException if the page size is less than 1.
+   */
+  public PageIterator getPages(final Sortable collection, final int pageSize) {
+    return new PageIterator(toArray(collection), pageSize);
+  }
+
+  /**
+   * Verifies the number of elements to order is not negative.
+   */
+  private static void validateK(final int k) {
+    Assert.isTrue(k >= 0, "The number of elements to order (" + k + ") cannot be negative!");
+  }
+
+  /**
+   * Orders the first k elements of the Sortable collection, which are the k smallest elements as determined
+   * by the orderBy Comparator.  The remaining elements follow in no particular order.
+   * @param collection the Sortable collection to partially sort.
+   * @param k the number of elements to order, which may exceed the size of the Sortable collection.
+   * @throws IllegalArgumentException if k is negative.
+   * @throws com.cp.common.util.sort.SortException if the partial sort operation fails!
+   */
+  public void partialSort(final Sortable collection, final int k) throws SortException {
+    validateK(k);
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("Ordering the first (" + k + ") elements of a Sortable collection of type ("
+        + collection.getClass().getName() + ") using the " + getClass().getName() + " algorithm!");
+    }
+
+    final Object[] elements = toArray(collection);
+
+    partialSort(elements, 0, Math.min(k, elements.length), collection);
+    setAll(collection, elements);
+  }
+
+  /**
+   * Orders the elements of the array from fromIndex to toIndex exclusive, converting a failure of the
+   * orderBy Comparator into a SortException.
+   */
+  private void partialSort(final Object[] elements, final int fromIndex, final int toIndex, final Sortable collection)
+      throws SortException {
+    try {
+      partialSort(elements, fromIndex, toIndex);
+    }
+    catch (RuntimeException e) {
+      logger.error("Failed to partially sort Sortable collection (" + collection.getClass().getName()
+        + ") with the " + getClass().getName() + " algorithm!", e);
+      throw new SortException("Failed to partially sort Sortable collection (" + collection.getClass().getName()
+        + ") with the " + getClass().getName() + " algorithm!", e);
+    }
+  }
+
+  /**
+   * Places the smallest (toIndex - fromIndex) elements of the array from fromIndex to the end of the array in
+   * order from fromIndex to toIndex exclusive.  The remaining elements after toIndex follow in no particular
+   * order, and the elements before fromIndex are not accessed.
+   * @param elements the array of elements to partially sort.
+   * @param fromIndex the index of the first element to order.
+   * @param toIndex the index after the last element to order.
+   */
+  protected abstract void partialSort(Object[] elements, int fromIndex, int toIndex);
+
+  /**
+   * Returns the k smallest elements of the Sortable collection in sorted order, without modifying the
+   * Sortable collection.
+   * @param collection the Sortable collection from which to select the elements.
+   * @param k the number of elements to select, which may exceed the size of the Sortable collection.
+   * @return an unmodifiable List of at most k elements in sorted order.
+   * @throws IllegalArgumentException if k is negative.
+   * @throws com.cp.common.util.sort.SortException if the select operation fails!
+   */
+  public List selectTopK(final Sortable collection, final int k) throws SortException {
+    validateK(k);
+
+    final Object[] elements = toArray(collection);
+    final int size = Math.min(k, elements.length);
+
+    partialSort(elements, 0, size, collection);
+
+    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(elements, size)));
+  }
+
+  /**
+   * Sorts the specified Sortable collection by ordering all of it's elements.
+   * @param collection the Sortable collection to sort.
+   * @throws com.cp.common.util.sort.SortException if the sort operation fails!
+   */
+  public void sort(final Sortable collection) throws SortException {
+    partialSort(collection, collection.size());
+  }
+
+  /**
+   * The PageIterator class continues a partial sort one page at a time.  The elements of the pages already
+   * returned are the smallest elements and are never accessed again, so each page costs no more than the
+   * selection of the page from the remaining elements.
+   */
+  public final class PageIterator implements Iterator<List> {
+
+    private final int pageSize;
+
+    private int position = 0;
+
+    private final Object[] elements;
+
+    private PageIterator(final Object[] elements, final int pageSize) {
+      Assert.isTrue(pageSize > 0, "The page size (" + pageSize + ") must be greater than 0!");
+      this.elements = elements;
+      this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns the number of elements in each page.
+     * @return an integer value specifying the number of elements in each page.
+     */
+    public int getPageSize() {
+      return pageSize;
+    }
+
+    /**
+     * Returns the number of elements in the pages already returned.
+     * @return an integer value specifying the position of the next page in sorted order.
+     */
+    public int getPosition() {
+      return position;
+    }
+
+    /**
+     * Determines whether there are more elements to page through.
+     * @return a boolean value indicating whether there are more elements.
+     */
+    public boolean hasNext() {
+      return (position < elements.length);
+    }
+
+    /**
+     * Returns the next page of elements in sorted order.
+     * @return an unmodifiable List of at most pageSize elements in sorted order.
+     * @throws java.util.NoSuchElementException if there are no more elements.
+     */
+    public List next() {
+      return next(getPageSize());
+    }
+
+    /**
+     * Returns the next page of elements in sorted order, with the specified number of elements.
+     * @param pageSize the number of elements in the page.
+     * @return an unmodifiable List of at most pageSize elements in sorted order.
+     * @throws IllegalArgumentException if the page size is less than 1.
+     * @throws java.util.NoSuchElementException if there are no more elements.
+     */
+    public List next(final int pageSize) {
+      Assert.isTrue(pageSize > 0, "The page size (" + pageSize + ") must be greater than 0!");
+
+      if (!hasNext()) {
+        throw new NoSuchElementException("There are no more elements to page through!");
+      }
+
+      final int fromIndex = position;
+      final int toIndex = (int) Math.min((long) fromIndex + pageSize, elements.length);
+
+      partialSort(elements, fromIndex, toIndex);
+      position = toIndex;
+
+      return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(elements, fromIndex, toIndex)));
+    }
+
+    /**
+     * The remove operation is not supported by the PageIterator.
+     * @throws java.lang.UnsupportedOperationException
+     */
+    public void remove() {
+      throw new UnsupportedOperationException("Elements cannot be removed from a partial sort!");
+    }
+  }
+
+}
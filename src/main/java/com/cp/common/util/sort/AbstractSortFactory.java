@@ -59,6 +59,21 @@ public abstract class AbstractSortFactory {
     return INSTANCE;
   }
 
+  /**
+   * Gets an instance of the Adaptive Sort algorithm, sorting in ascending order.
+   * @return a Sorter that chooses the sorting algorithm suited to each Sortable collection.
+   */
+  public Sorter getAdaptiveSort() {
+    return getAdaptiveSort(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Gets an instance of the Adaptive Sort algorithm, order determined by the Comparator.
+   * @param orderBy a Comparater used to order the elements of the Sortable collection.
+   * @return a Sorter that chooses the sorting algorithm suited to each Sortable collection.
+   */
+  public abstract Sorter getAdaptiveSort(Comparator orderBy);
+
   /**
    * Gets an instance of the Bubble Sort algorithm, sorting in ascending order.
    * @return a Sorter that implements the Bubble Sort algorithm.
@@ -76,6 +91,44 @@ public abstract class AbstractSortFactory {
     return new com.cp.common.util.sort.BubbleSort(orderBy);
   }
 
+  /**
+   * Gets an instance of the Double Key Sort algorithm, sorting elements by their double keys in ascending or
+   * descending order.
+   * @param keyExtractor the DoubleKeyExtractor extracting the sort key from each element.
+   * @param descending a boolean value indicating whether the elements are sorted in descending order.
+   * @return a Sorter that implements the Double Key Sort algorithm.
+   */
+  public AbstractKeySorter getDoubleKeySort(final DoubleKeyExtractor keyExtractor, final boolean descending) {
+    return new DoubleKeySort(keyExtractor, descending);
+  }
+
+  /**
+   * Gets an instance of the External Merge Sort algorithm, sorting in ascending order.
+   * @return a Sorter that implements the External Merge Sort algorithm.
+   */
+  public ExternalMergeSort getExternalMergeSort() {
+    return getExternalMergeSort(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Gets an instance of the External Merge Sort algorithm, order determined by the Comparator.
+   * @param orderBy a Comparater used to order the elements of the Sortable collection.
+   * @return a Sorter that implements the External Merge Sort algorithm.
+   */
+  public ExternalMergeSort getExternalMergeSort(final Comparator orderBy) {
+    return new ExternalMergeSort(orderBy);
+  }
+
+  /**
+   * Gets an instance of the Heap Select Sort algorithm, ordering the first k elements of a Sortable
+   * collection in the order determined by the Comparator.
+   * @param orderBy a Comparater used to order the elements of the Sortable collection.
+   * @return a partial Sorter that implements the Heap Select Sort algorithm.
+   */
+  public AbstractPartialSorter getHeapSelectSort(final Comparator orderBy) {
+    return new HeapSelectSort(orderBy);
+  }
+
   /**
    * Gets an instance of the Heap Sort algorithm, sorting in ascending order.
    * @return a Sorter that implements the Heap Sort algorithm.
@@ -110,6 +163,28 @@ public abstract class AbstractSortFactory {
     return new com.cp.common.util.sort.InsertionSort(orderBy);
   }
 
+  /**
+   * Gets an instance of the Int Key Sort algorithm, sorting elements by their int keys in ascending or
+   * descending order.
+   * @param keyExtractor the IntKeyExtractor extracting the sort key from each element.
+   * @param descending a boolean value indicating whether the elements are sorted in descending order.
+   * @return a Sorter that implements the Int Key Sort algorithm.
+   */
+  public AbstractKeySorter getIntKeySort(final IntKeyExtractor keyExtractor, final boolean descending) {
+    return new IntKeySort(keyExtractor, descending);
+  }
+
+  /**
+   * Gets an instance of the Long Key Sort algorithm, sorting elements by their long keys in ascending or
+   * descending order.
+   * @param keyExtractor the LongKeyExtractor extracting the sort key from each element.
+   * @param descending a boolean value indicating whether the elements are sorted in descending order.
+   * @return a Sorter that implements the Long Key Sort algorithm.
+   */
+  public AbstractKeySorter getLongKeySort(final LongKeyExtractor keyExtractor, final boolean descending) {
+    return new LongKeySort(keyExtractor, descending);
+  }
+
   /**
    * Gets an instance of the Merge Sort algorithm, sorting in ascending order.
    * @return a Sorter that implements the Merge Sort algorithm.
@@ -142,6 +217,31 @@ public abstract class AbstractSortFactory {
    */
   public abstract com.cp.common.util.sort.Sorter getMultithreadedQuickSort(Comparator orderBy);
 
+  /**
+   * Gets an instance of the Parallel Sort algorithm, sorting in ascending order.
+   * @return a Sorter that implements the Parallel Sort algorithm.
+   */
+  public Sorter getParallelSort() {
+    return getParallelSort(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Gets an instance of the Parallel Sort algorithm, order determined by the Comparator.
+   * @param orderBy a Comparater used to order the elements of the Sortable collection.
+   * @return a Sorter that implements the Parallel Sort algorithm.
+   */
+  public abstract Sorter getParallelSort(Comparator orderBy);
+
+  /**
+   * Gets an instance of the Quick Select Sort algorithm, ordering the first k elements of a Sortable
+   * collection in the order determined by the Comparator.
+   * @param orderBy a Comparater used to order the elements of the Sortable collection.
+   * @return a partial Sorter that implements the Quick Select Sort algorithm.
+   */
+  public AbstractPartialSorter getQuickSelectSort(final Comparator orderBy) {
+    return new QuickSelectSort(orderBy);
+  }
+
   /**
    * Gets an instance of the Quick Sort algorithm, sorting in ascending order.
    * @return a Sorter that implements the Quick Sort algorithm.
@@ -225,9 +325,15 @@ public abstract class AbstractSortFactory {
    */
   public final Sorter getSort(final SortType sortType, final Comparator orderBy) {
     // TODO: implement this logic in more of a polymorphic way.
-    if (com.cp.common.util.sort.SortType.BUBBLE_SORT.equals(sortType)) {
+    if (com.cp.common.util.sort.SortType.ADAPTIVE_SORT.equals(sortType)) {
+      return getAdaptiveSort(orderBy);
+    }
+    else if (com.cp.common.util.sort.SortType.BUBBLE_SORT.equals(sortType)) {
       return getBubbleSort(orderBy);
     }
+    else if (com.cp.common.util.sort.SortType.EXTERNAL_MERGE_SORT.equals(sortType)) {
+      return getExternalMergeSort(orderBy);
+    }
     else if (com.cp.common.util.sort.SortType.HEAP_SORT.equals(sortType)) {
       return getHeapSort(orderBy);
     }
@@ -240,6 +346,9 @@ public abstract class AbstractSortFactory {
     else if (com.cp.common.util.sort.SortType.MULTITHREADED_QUICK_SORT.equals(sortType)) {
       return getMultithreadedQuickSort(orderBy);
     }
+    else if (com.cp.common.util.sort.SortType.PARALLEL_SORT.equals(sortType)) {
+      return getParallelSort(orderBy);
+    }
     else if (com.cp.common.util.sort.SortType.QUICK_SORT.equals(sortType)) {
       return getQuickSort(orderBy);
     }
@@ -11,6 +11,7 @@
 
 package com.cp.common.util.sort;
 
+import com.cp.common.lang.BulkSortable;
 import com.cp.common.lang.Sortable;
 import java.util.Comparator;
 import org.apache.log4j.Logger;
@@ -55,6 +56,84 @@ public abstract class AbstractSorter implements Sorter {
     this.orderByComparator = orderBy;
   }
 
+  /**
+   * Returns the Comparator that determines the order of the elements in the Sortable collection, typed to
+   * compare the Object elements of the collection.
+   * @return a java.util.Comparator of Objects defining the sort order.
+   */
+  @SuppressWarnings("unchecked")
+  protected Comparator<Object> getElementOrderBy() {
+    return getOrderBy();
+  }
+
+  /**
+   * Sets all the elements of the Sortable collection to the elements of the array, in order, in a single
+   * operation if the Sortable collection is a BulkSortable, otherwise element by element.
+   * @param collection the Sortable collection in which to set the elements.
+   * @param elements the array of elements to set in the Sortable collection.
+   * @throws com.cp.common.util.sort.SortException if the elements could not be set.
+   */
+  @SuppressWarnings("unchecked")
+  protected static void setAll(final Sortable collection, final Object[] elements) throws SortException {
+    try {
+      if (collection instanceof BulkSortable) {
+        ((BulkSortable) collection).setAll(elements);
+      }
+      else {
+        for (int index = 0; index < elements.length; index++) {
+          collection.set(elements[index], index);
+        }
+      }
+    }
+    catch (Exception e) {
+      logger.error("Failed to set the sorted elements in the Sortable collection ("
+        + collection.getClass().getName() + ").", e);
+      throw new com.cp.common.util.sort.SortException("Failed to set the sorted elements in the Sortable collection ("
+        + collection.getClass().getName() + ").", e);
+    }
+  }
+
+  /**
+   * Sorts the Sortable collection through an array of it's elements if the Sortable collection is a BulkSortable.
+   * The elements are copied to the array, sorted by this Sorter, and set in the Sortable collection in a single
+   * operation each, rather than accessing each element in the Sortable collection through get and set
+   * during the sort.
+   * @param collection the Sortable collection to sort.
+   * @return a boolean value indicating whether the Sortable collection was a BulkSortable and has been sorted,
+   * in which case the caller must not sort the Sortable collection again.
+   * @throws com.cp.common.util.sort.SortException if the sort operation fails!
+   */
+  protected final boolean sortBulk(final Sortable collection) throws SortException {
+    if (collection instanceof BulkSortable) {
+      final Object[] elements = ((BulkSortable) collection).toArray();
+      sort(new ArraySortable(elements));
+      setAll(collection, elements);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns an array of the elements in the Sortable collection, in order, copied in a single operation if
+   * the Sortable collection is a BulkSortable, otherwise element by element.
+   * @param collection the Sortable collection of elements.
+   * @return an array of the elements in the Sortable collection.
+   */
+  protected static Object[] toArray(final Sortable collection) {
+    if (collection instanceof BulkSortable) {
+      return ((BulkSortable) collection).toArray();
+    }
+
+    final Object[] elements = new Object[collection.size()];
+
+    for (int index = 0; index < elements.length; index++) {
+      elements[index] = collection.get(index);
+    }
+
+    return elements;
+  }
+
   /**
    * swap is a commonly used routine by various sorting algorithms for interchanging two elements
    * in the collection.
@@ -67,8 +146,15 @@ public abstract class AbstractSorter implements Sorter {
                       final int index1,
                       final int index2)
       throws SortException {
+    if (collection instanceof ArraySortable) {
+      ((ArraySortable) collection).swap(index1, index2);
+      return;
+    }
+
     try {
-      logger.debug("Swapping elements at indexes " + index1 + " and " + index2);
+      if (logger.isDebugEnabled()) {
+        logger.debug("Swapping elements at indexes " + index1 + " and " + index2);
+      }
       final Object tempObject = collection.get(index1);
       collection.set(collection.get(index2), index1);
       collection.set(tempObject, index2);
@@ -0,0 +1,63 @@
+/*
+ * ArraySortable.java (c) 17 October 2026
+ *
+ * The ArraySortable class adapts an array of elements to the Sortable interface, without any logging
+ * or checking, so that the sorting algorithms can sort a copy of the elements of a BulkSortable
+ * collection directly.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.lang.BulkSortable
+ * @see com.cp.common.util.sort.AbstractSorter
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.lang.Sortable;
+
+final class ArraySortable implements Sortable {
+
+  private final Object[] elements;
+
+  /**
+   * Creates an instance of the ArraySortable class adapting the specified array.
+   * @param elements the array of elements to sort.
+   */
+  ArraySortable(final Object[] elements) {
+    this.elements = elements;
+  }
+
+  public Object get(final int index) {
+    return elements[index];
+  }
+
+  /**
+   * Returns the array adapted by this ArraySortable.
+   * @return the array of elements adapted by this ArraySortable.
+   */
+  Object[] getElements() {
+    return elements;
+  }
+
+  public void set(final Object object, final int index) {
+    elements[index] = object;
+  }
+
+  public int size() {
+    return elements.length;
+  }
+
+  /**
+   * Interchanges the elements at the specified indices of the array.
+   * @param index1 the index of the first element.
+   * @param index2 the index of the second element.
+   */
+  void swap(final int index1, final int index2) {
+    final Object temp = elements[index1];
+    elements[index1] = elements[index2];
+    elements[index2] = temp;
+  }
+
+}
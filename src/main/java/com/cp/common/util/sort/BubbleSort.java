@@ -49,6 +49,10 @@ public class BubbleSort extends com.cp.common.util.sort.AbstractSorter {
    * @throws com.cp.common.util.sort.SortException if the sort operation fails.
    */
   public void sort(final Sortable collection) throws com.cp.common.util.sort.SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     final int collectionSize = collection.size();
     for (int pass = (collectionSize - 1); pass >= 0; pass--) {
       for (int index = 1; index <= pass; index++) {
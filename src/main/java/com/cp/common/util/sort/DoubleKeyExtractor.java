@@ -0,0 +1,23 @@
+/*
+ * DoubleKeyExtractor.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.DoubleKeySort
+ */
+
+package com.cp.common.util.sort;
+
+public interface DoubleKeyExtractor {
+
+  /**
+   * Returns the double sort key of the specified element, which determines the order of the element
+   * in the Sortable collection sorted by the DoubleKeySort.
+   * @param element the element of the Sortable collection from which to extract the sort key.
+   * @return the double sort key of the element.
+   */
+  public double getDoubleKey(Object element);
+
+}
@@ -0,0 +1,37 @@
+/*
+ * ElementSerializer.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.ExternalMergeSort
+ * @see com.cp.common.util.sort.JavaElementSerializer
+ */
+
+package com.cp.common.util.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public interface ElementSerializer {
+
+  /**
+   * Reads an element written by the write method from the specified DataInput.
+   * @param in the DataInput from which to read the element.
+   * @return the element Object read from the DataInput.
+   * @throws IOException if the element could not be read.
+   */
+  public Object read(DataInput in) throws IOException;
+
+  /**
+   * Writes the specified element to the DataOutput, such that the element can be read back by the
+   * read method.
+   * @param out the DataOutput to which to write the element.
+   * @param element the element Object to write.
+   * @throws IOException if the element could not be written.
+   */
+  public void write(DataOutput out, Object element) throws IOException;
+
+}
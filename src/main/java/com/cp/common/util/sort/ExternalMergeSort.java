@@ -0,0 +1,672 @@
+/*
+ * ExternalMergeSort.java (c) 17 October 2026
+ *
+ * The ExternalMergeSort class sorts more elements than fit in memory.  The elements are read from an
+ * Iterator into runs of at most runSize elements, each of which is sorted in memory and spilled to a
+ * temporary file with the ElementSerializer.  The runs are then merged, mergeWidth runs at a time, and the
+ * final merge is returned as a streaming MergeIterator, which deletes the temporary files once it is
+ * exhausted or closed.  The last run is never spilled, but merged from memory, and elements that fit in
+ * a single run are sorted entirely in memory.
+ *
+ * The memory budget bounds the number of elements held in memory at once.  The memory used by an element
+ * is estimated from the size of it's serialized form, first in a sample of the elements of the first run
+ * and then in the runs already spilled, so that runs hold fewer elements than runSize when the elements
+ * are large.
+ *
+ * The runs of the JavaElementSerializer are written to a single ObjectOutputStream per run file, which is
+ * reset every 1024 elements so that it does not hold on to the elements already written.  Elements written
+ * between two resets that share an Object also share it when read back.
+ *
+ * The sort is stable.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.AbstractSorter
+ * @see com.cp.common.util.sort.ElementSerializer
+ * @see com.cp.common.util.sort.MergeSort
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.lang.Assert;
+import com.cp.common.lang.ObjectUtil;
+import com.cp.common.lang.Sortable;
+import com.cp.common.util.SortAscendingComparator;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.apache.log4j.Logger;
+
+public class ExternalMergeSort extends AbstractSorter {
+
+  private static final Logger logger = Logger.getLogger(ExternalMergeSort.class);
+
+  public static final int DEFAULT_MERGE_WIDTH = 64;
+  public static final int DEFAULT_RUN_SIZE = 100000;
+
+  public static final long DEFAULT_MEMORY_BUDGET = (64l * 1024l * 1024l);
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final int RESET_INTERVAL = 1024; // elements
+  private static final int SAMPLE_SIZE = 16; // elements
+
+  private static final String RUN_FILE_PREFIX = "cp-sort-";
+  private static final String RUN_FILE_SUFFIX = ".run";
+
+  private volatile ElementSerializer serializer;
+
+  private volatile File tempDirectory;
+
+  private volatile int mergeWidth = DEFAULT_MERGE_WIDTH;
+  private volatile int runSize = DEFAULT_RUN_SIZE;
+
+  private volatile long memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+  /**
+   * Creates an instance of the ExternalMergeSort class to sort elements in ascending order, spilling runs
+   * with Java Object Serialization.
+   */
+  public ExternalMergeSort() {
+    this(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Creates an instance of the ExternalMergeSort class to sort elements in the order determined by the
+   * Comparator, spilling runs with Java Object Serialization.
+   * @param orderBy the Comparator used to order the elements.
+   */
+  public ExternalMergeSort(final Comparator orderBy) {
+    this(orderBy, JavaElementSerializer.INSTANCE);
+  }
+
+  /**
+   * Creates an instance of the ExternalMergeSort class to sort elements in the order determined by the
+   * Comparator, spilling runs with the specified ElementSerializer.
+   * @param orderBy the Comparator used to order the elements.
+   * @param serializer the ElementSerializer used to write and read the elements of the runs.
+   * @throws NullPointerException if the Comparator or ElementSerializer is null.
+   */
+  public ExternalMergeSort(final Comparator orderBy, final ElementSerializer serializer) {
+    super(orderBy);
+    setSerializer(serializer);
+  }
+
+  /**
+   * Returns the maximum number of bytes of memory used by the elements held in memory at once.
+   * @return a long value specifying the memory budget in bytes.
+   */
+  public long getMemoryBudget() {
+    return memoryBudget;
+  }
+
+  /**
+   * Sets the maximum number of bytes of memory used by the elements held in memory at once.
+   * @param memoryBudget a long value specifying the memory budget in bytes.
+   * @throws IllegalArgumentException if the memory budget is less than 1.
+   */
+  public void setMemoryBudget(final long memoryBudget) {
+    Assert.isTrue(memoryBudget > 0, "The memory budget (" + memoryBudget + ") must be greater than 0!");
+    this.memoryBudget = memoryBudget;
+  }
+
+  /**
+   * Returns the maximum number of runs merged at once.
+   * @return an integer value specifying the maximum number of runs merged at once.
+   */
+  public int getMergeWidth() {
+    return mergeWidth;
+  }
+
+  /**
+   * Sets the maximum number of runs merged at once, which bounds the number of open files.
+   * @param mergeWidth an integer value specifying the maximum number of runs merged at once.
+   * @throws IllegalArgumentException if the merge width is less than 2.
+   */
+  public void setMergeWidth(final int mergeWidth) {
+    Assert.isTrue(mergeWidth > 1, "The merge width (" + mergeWidth + ") must be greater than 1!");
+    this.mergeWidth = mergeWidth;
+  }
+
+  /**
+   * Returns the maximum number of elements in a run.
+   * @return an integer value specifying the maximum number of elements in a run.
+   */
+  public int getRunSize() {
+    return runSize;
+  }
+
+  /**
+   * Sets the maximum number of elements in a run.
+   * @param runSize an integer value specifying the maximum number of elements in a run.
+   * @throws IllegalArgumentException if the run size is less than 1.
+   */
+  public void setRunSize(final int runSize) {
+    Assert.isTrue(runSize > 0, "The run size (" + runSize + ") must be greater than 0!");
+    this.runSize = runSize;
+  }
+
+  /**
+   * Returns the number of elements in the next run, limited by the memory budget given the average
+   * serialized size of the elements already spilled.
+   */
+  private int getRunSize(final long spilledBytes, final long spilledElements) {
+    final long averageElementSize = Math.max(1, spilledBytes / Math.max(1, spilledElements));
+    return (int) Math.max(1, Math.min(getRunSize(), getMemoryBudget() / averageElementSize));
+  }
+
+  /**
+   * Returns the serialized size of the specified elements of the first run, or 0 if they could not be
+   * serialized, in which case the sort only fails if the elements have to be spilled.
+   */
+  private long getSerializedSize(final List<Object> elements) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try {
+      final DataOutput out = newOutput(bytes);
+
+      for (final Object element : elements) {
+        getSerializer().write(out, element);
+      }
+
+      ((OutputStream) out).close();
+      return bytes.size();
+    }
+    catch (IOException e) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("failed to estimate the serialized size of the elements: " + e.getMessage());
+      }
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the ElementSerializer used to write and read the elements of the runs.
+   * @return the ElementSerializer used to write and read the elements of the runs.
+   */
+  public ElementSerializer getSerializer() {
+    return serializer;
+  }
+
+  /**
+   * Sets the ElementSerializer used to write and read the elements of the runs.
+   * @param serializer the ElementSerializer used to write and read the elements of the runs.
+   * @throws NullPointerException if the ElementSerializer is null.
+   */
+  public final void setSerializer(final ElementSerializer serializer) {
+    Assert.notNull(serializer, "The ElementSerializer cannot be null!");
+    this.serializer = serializer;
+  }
+
+  /**
+   * Returns the directory in which the temporary files of the runs are created.
+   * @return the File directory of the runs, or null if the default temporary directory is used.
+   */
+  public File getTempDirectory() {
+    return tempDirectory;
+  }
+
+  /**
+   * Sets the directory in which the temporary files of the runs are created.
+   * @param tempDirectory the File directory of the runs, or null to use the default temporary directory.
+   */
+  public void setTempDirectory(final File tempDirectory) {
+    this.tempDirectory = tempDirectory;
+  }
+
+  /**
+   * Deletes the temporary files of the specified runs.
+   */
+  private static void delete(final List<Run> runs) {
+    for (final Run run : runs) {
+      run.delete();
+    }
+  }
+
+  /**
+   * Returns the DataInput from which the ElementSerializer reads the elements of a run, which is an
+   * ObjectInputStream for the JavaElementSerializer.
+   */
+  private DataInput newInput(final InputStream in) throws IOException {
+    return (getSerializer() instanceof JavaElementSerializer ? new ObjectInputStream(in) : new DataInputStream(in));
+  }
+
+  /**
+   * Returns the DataOutput to which the ElementSerializer writes the elements of a run, which is an
+   * ObjectOutputStream for the JavaElementSerializer.
+   */
+  private DataOutput newOutput(final OutputStream out) throws IOException {
+    return (getSerializer() instanceof JavaElementSerializer ? new ObjectOutputStream(out) : new DataOutputStream(out));
+  }
+
+  /**
+   * Merges the runs mergeWidth runs at a time until no more than mergeWidth runs remain.
+   */
+  private List<Run> merge(List<Run> runs) throws IOException {
+    while (runs.size() > getMergeWidth()) {
+      final List<Run> mergedRuns = new ArrayList<Run>((runs.size() / getMergeWidth()) + 1);
+
+      try {
+        for (int index = 0; index < runs.size(); index += getMergeWidth()) {
+          final List<Run> group = runs.subList(index, Math.min(index + getMergeWidth(), runs.size()));
+          final MergeIterator it = new MergeIterator(new ArrayList<Run>(group), null);
+
+          try {
+            mergedRuns.add(spill(it));
+          }
+          finally {
+            it.close();
+          }
+        }
+      }
+      catch (IOException e) {
+        delete(mergedRuns);
+        throw e;
+      }
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("merged (" + runs.size() + ") runs into (" + mergedRuns.size() + ") runs");
+      }
+
+      runs = mergedRuns;
+    }
+
+    return runs;
+  }
+
+  /**
+   * Sorts the specified Sortable collection, spilling runs to temporary files if the Sortable collection has
+   * more elements than fit in a single run.
+   * @param collection the Sortable collection to sort.
+   * @throws com.cp.common.util.sort.SortException if the sort operation fails!
+   */
+  public void sort(final Sortable collection) throws SortException {
+    final Object[] elements = toArray(collection);
+    final MergeIterator it = sort(Arrays.asList(elements).iterator());
+
+    try {
+      for (int index = 0; it.hasNext(); index++) {
+        elements[index] = it.next();
+      }
+    }
+    catch (UncheckedIOException e) {
+      logger.error("Failed to merge the sorted runs of Sortable collection (" + collection.getClass().getName()
+        + ")!", e);
+      throw new SortException("Failed to merge the sorted runs of Sortable collection ("
+        + collection.getClass().getName() + ")!", e.getCause());
+    }
+    finally {
+      it.close();
+    }
+
+    setAll(collection, elements);
+  }
+
+  /**
+   * Sorts the elements returned by the Iterator, returning a MergeIterator over the elements in sorted order.
+   * The MergeIterator should be closed if it is not exhausted, to delete the temporary files of the runs.
+   * @param elements the Iterator over the elements to sort.
+   * @return a MergeIterator over the elements in sorted order.
+   * @throws com.cp.common.util.sort.SortException if the runs could not be written or merged.
+   */
+  public MergeIterator sort(final Iterator<?> elements) throws SortException {
+    List<Run> runs = new ArrayList<Run>();
+
+    try {
+      final List<Object> run = new ArrayList<Object>();
+
+      int maxRunSize = getRunSize();
+      long spilledBytes = 0;
+      long spilledElements = 0;
+
+      while (elements.hasNext()) {
+        run.add(elements.next());
+
+        // NOTE nothing has been spilled yet, so the first run is bounded by a sample of it's own elements.
+        if (runs.isEmpty() && run.size() == SAMPLE_SIZE) {
+          final long sampledBytes = getSerializedSize(run);
+
+          if (sampledBytes > 0) {
+            maxRunSize = getRunSize(sampledBytes, run.size());
+          }
+        }
+
+        if (run.size() >= maxRunSize) {
+          final Object[] sortedRun = run.toArray();
+          run.clear();
+          Arrays.sort(sortedRun, getElementOrderBy());
+
+          final Run spilledRun = spill(Arrays.asList(sortedRun).iterator());
+          runs.add(spilledRun);
+
+          spilledBytes += spilledRun.getFile().length();
+          spilledElements += spilledRun.getSize();
+          maxRunSize = getRunSize(spilledBytes, spilledElements);
+        }
+      }
+
+      final Object[] lastRun = run.toArray();
+      run.clear();
+      Arrays.sort(lastRun, getElementOrderBy());
+
+      runs = merge(runs);
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("merging (" + runs.size() + ") spilled runs and (" + lastRun.length + ") elements in memory");
+      }
+
+      return new MergeIterator(runs, lastRun);
+    }
+    catch (IOException e) {
+      delete(runs);
+      logger.error("Failed to sort the elements with the External Merge Sort algorithm!", e);
+      throw new SortException("Failed to sort the elements with the External Merge Sort algorithm!", e);
+    }
+    catch (RuntimeException e) {
+      delete(runs);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the elements returned by the Iterator, which are in sorted order, to a new temporary file.
+   */
+  private Run spill(final Iterator<?> elements) throws IOException {
+    final File file = File.createTempFile(RUN_FILE_PREFIX, RUN_FILE_SUFFIX, getTempDirectory());
+    final Run run = new Run(file);
+
+    try {
+      final OutputStream fileOut = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE);
+      final DataOutput out;
+
+      try {
+        out = newOutput(fileOut);
+      }
+      catch (IOException e) {
+        fileOut.close();
+        throw e;
+      }
+
+      try {
+        while (elements.hasNext()) {
+          getSerializer().write(out, elements.next());
+          run.size++;
+
+          if (out instanceof ObjectOutputStream && run.size % RESET_INTERVAL == 0) {
+            ((ObjectOutputStream) out).reset();
+          }
+        }
+      }
+      finally {
+        ((OutputStream) out).close();
+      }
+    }
+    catch (IOException e) {
+      run.delete();
+      throw e;
+    }
+    catch (UncheckedIOException e) {
+      run.delete();
+      throw e.getCause();
+    }
+    catch (RuntimeException e) {
+      run.delete();
+      throw e;
+    }
+
+    return run;
+  }
+
+  /**
+   * Returns a String representation of this Sorter.
+   * @return a String representation of this Sorter.
+   */
+  public String toString() {
+    final StringBuffer buffer = new StringBuffer("{orderBy = ");
+    buffer.append(getOrderBy());
+    buffer.append(", serializer = ").append(getSerializer());
+    buffer.append(", tempDirectory = ").append(getTempDirectory());
+    buffer.append(", memoryBudget = ").append(getMemoryBudget());
+    buffer.append(", mergeWidth = ").append(getMergeWidth());
+    buffer.append(", runSize = ").append(getRunSize());
+    buffer.append("}:").append(getClass().getName());
+    return buffer.toString();
+  }
+
+  /**
+   * The Run class is a temporary file of elements in sorted order.
+   */
+  private static final class Run {
+
+    private final File file;
+
+    private int size = 0;
+
+    private Run(final File file) {
+      this.file = file;
+    }
+
+    public File getFile() {
+      return file;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    public void delete() {
+      if (!file.delete() && file.exists()) {
+        logger.warn("Failed to delete the temporary file (" + file + ") of a sorted run!");
+      }
+    }
+  }
+
+  /**
+   * The RunReader class reads the elements of a sorted run, in memory or in a temporary file, one at a time.
+   */
+  private final class RunReader {
+
+    private final int runIndex;
+
+    private int position = 0;
+
+    private final int size;
+
+    private final DataInput in;
+
+    private Object element;
+
+    private final Object[] elements;
+
+    private RunReader(final int runIndex, final Run run) throws IOException {
+      this.runIndex = runIndex;
+      this.size = run.getSize();
+      final InputStream fileIn = new BufferedInputStream(new FileInputStream(run.getFile()), BUFFER_SIZE);
+
+      try {
+        this.in = newInput(fileIn);
+      }
+      catch (IOException e) {
+        fileIn.close();
+        throw e;
+      }
+      this.elements = null;
+    }
+
+    private RunReader(final int runIndex, final Object[] elements) {
+      this.runIndex = runIndex;
+      this.size = elements.length;
+      this.in = null;
+      this.elements = elements;
+    }
+
+    /**
+     * Reads the next element of the run, returning false if the run has no more elements.
+     */
+    public boolean advance() throws IOException {
+      if (position < size) {
+        element = (ObjectUtil.isNull(in) ? elements[position] : getSerializer().read(in));
+        position++;
+        return true;
+      }
+
+      return false;
+    }
+
+    public void close() {
+      if (ObjectUtil.isNotNull(in)) {
+        try {
+          ((InputStream) in).close();
+        }
+        catch (IOException ignore) {
+        }
+      }
+    }
+
+    public Object getElement() {
+      return element;
+    }
+  }
+
+  /**
+   * The MergeIterator class merges the sorted runs into a single sequence of elements in sorted order.  Equal
+   * elements are returned in the order of their runs, which keeps the sort stable.  The MergeIterator closes
+   * itself, deleting the temporary files of the runs, once the last element has been returned.  Failures to
+   * read a run are thrown as UncheckedIOExceptions.
+   */
+  public final class MergeIterator implements Iterator<Object>, Closeable {
+
+    private boolean closed = false;
+
+    private final List<Run> runs;
+
+    private final PriorityQueue<RunReader> readers;
+
+    private MergeIterator(final List<Run> runs, final Object[] elements) throws IOException {
+      this.runs = runs;
+      this.readers = new PriorityQueue<RunReader>(runs.size() + 1, new Comparator<RunReader>() {
+        public int compare(final RunReader reader1, final RunReader reader2) {
+          final int compareValue = getElementOrderBy().compare(reader1.getElement(), reader2.getElement());
+          return (compareValue != 0 ? compareValue : (reader1.runIndex - reader2.runIndex));
+        }
+      });
+
+      try {
+        for (int index = 0; index < runs.size(); index++) {
+          add(new RunReader(index, runs.get(index)));
+        }
+
+        if (ObjectUtil.isNotNull(elements)) {
+          add(new RunReader(runs.size(), elements));
+        }
+      }
+      catch (IOException e) {
+        close();
+        throw e;
+      }
+    }
+
+    /**
+     * Adds the RunReader to the merge if it's run has another element, otherwise closes the RunReader.
+     */
+    private void add(final RunReader reader) throws IOException {
+      boolean added = false;
+
+      try {
+        if (reader.advance()) {
+          readers.add(reader);
+          added = true;
+        }
+      }
+      finally {
+        if (!added) {
+          reader.close();
+        }
+      }
+    }
+
+    /**
+     * Closes the runs being merged and deletes their temporary files.
+     */
+    public void close() {
+      if (!closed) {
+        closed = true;
+
+        for (final RunReader reader : readers) {
+          reader.close();
+        }
+
+        readers.clear();
+        delete(runs);
+      }
+    }
+
+    /**
+     * Determines whether there are more elements in the merge.
+     * @return a boolean value indicating whether there are more elements in the merge.
+     */
+    public boolean hasNext() {
+      return !readers.isEmpty();
+    }
+
+    /**
+     * Returns the next element in sorted order.
+     * @return the next element in sorted order.
+     * @throws java.util.NoSuchElementException if there are no more elements in the merge.
+     * @throws java.io.UncheckedIOException if the next element of a run could not be read.
+     */
+    public Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("There are no more elements in the merge!");
+      }
+
+      final RunReader reader = readers.poll();
+      final Object element = reader.getElement();
+
+      try {
+        add(reader);
+      }
+      catch (IOException e) {
+        close();
+        throw new UncheckedIOException("Failed to read the next element of a sorted run!", e);
+      }
+
+      if (!hasNext()) {
+        close();
+      }
+
+      return element;
+    }
+
+    /**
+     * The remove operation is not supported by the MergeIterator.
+     * @throws java.lang.UnsupportedOperationException
+     */
+    public void remove() {
+      throw new UnsupportedOperationException("Elements cannot be removed from a merge!");
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * HeapSelectSort.java (c) 17 October 2026
+ *
+ * The HeapSelectSort class orders the first k elements of a Sortable collection by keeping the k smallest
+ * elements seen so far in a bounded max-heap, then sorting the heap in place.  Selecting k of n elements
+ * takes O(n log k) comparisons and no memory beyond the array of elements, and the running time does not
+ * depend on the order of the elements.  The sort is not stable.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.AbstractPartialSorter
+ * @see com.cp.common.util.sort.QuickSelectSort
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.util.SortAscendingComparator;
+import java.util.Comparator;
+
+public class HeapSelectSort extends AbstractPartialSorter {
+
+  /**
+   * Creates an instance of the HeapSelectSort class to order elements in ascending order.
+   */
+  public HeapSelectSort() {
+    this(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Creates an instance of the HeapSelectSort class to order elements as determined by the Comparator.
+   * @param orderBy the Comparator used to order the elements of the Sortable collection.
+   */
+  public HeapSelectSort(final Comparator orderBy) {
+    super(orderBy);
+  }
+
+  /**
+   * Places the smallest (toIndex - fromIndex) elements of the array from fromIndex to the end of the array in
+   * order from fromIndex to toIndex exclusive.
+   * @param elements the array of elements to partially sort.
+   * @param fromIndex the index of the first element to order.
+   * @param toIndex the index after the last element to order.
+   */
+  protected void partialSort(final Object[] elements, final int fromIndex, final int toIndex) {
+    final int heapSize = (toIndex - fromIndex);
+
+    if (heapSize < 1) {
+      return;
+    }
+
+    for (int index = (heapSize / 2) - 1; index >= 0; index--) {
+      siftDown(elements, fromIndex, index, heapSize);
+    }
+
+    // The root of the max-heap is the largest of the smallest elements, replaced by any smaller element.
+    for (int index = toIndex; index < elements.length; index++) {
+      if (getElementOrderBy().compare(elements[index], elements[fromIndex]) < 0) {
+        swap(elements, index, fromIndex);
+        siftDown(elements, fromIndex, 0, heapSize);
+      }
+    }
+
+    for (int size = heapSize - 1; size > 0; size--) {
+      swap(elements, fromIndex, fromIndex + size);
+      siftDown(elements, fromIndex, 0, size);
+    }
+  }
+
+  /**
+   * Moves the element at the index of the max-heap, stored in the array from the offset, down the max-heap
+   * until it is no smaller than it's children.
+   */
+  private void siftDown(final Object[] elements, final int offset, int index, final int heapSize) {
+    final Comparator<Object> orderBy = getElementOrderBy();
+
+    for (int child = (2 * index) + 1; child < heapSize; child = (2 * index) + 1) {
+      if (child + 1 < heapSize && orderBy.compare(elements[offset + child], elements[offset + child + 1]) < 0) {
+        child++;
+      }
+
+      if (orderBy.compare(elements[offset + index], elements[offset + child]) >= 0) {
+        break;
+      }
+
+      swap(elements, offset + index, offset + child);
+      index = child;
+    }
+  }
+
+  private static void swap(final Object[] elements, final int index1, final int index2) {
+    final Object element = elements[index1];
+    elements[index1] = elements[index2];
+    elements[index2] = element;
+  }
+
+}
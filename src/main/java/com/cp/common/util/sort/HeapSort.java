@@ -48,6 +48,10 @@ public class HeapSort extends com.cp.common.util.sort.AbstractSorter {
    * @throws com.cp.common.util.sort.SortException if the sort operation fails.
    */
   public void sort(final Sortable collection) throws SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     for (int index = (collection.size() / 2); index >= 0; index--) {
       shiftDown(collection, index, (collection.size() - 1));
     }
@@ -94,6 +94,10 @@ public class InsertionSort extends com.cp.common.util.sort.AbstractSorter {
    * @see java.util.Collections#sort
    */
   public void sort(final Sortable collection) throws com.cp.common.util.sort.SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     logger.debug("Soring entire Sortable Collection...");
     if (logger.isDebugEnabled()) {
       logger.debug("collection: " + collection);
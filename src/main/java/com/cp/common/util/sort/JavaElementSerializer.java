@@ -0,0 +1,97 @@
+/*
+ * JavaElementSerializer.java (c) 17 October 2026
+ *
+ * The JavaElementSerializer class is the default ElementSerializer, which writes each element with
+ * Java Object Serialization, and therefore requires that the elements implement java.io.Serializable.
+ * Given an ObjectOutput, such as the ObjectOutputStream opened by the ExternalMergeSort for each run,
+ * the element is written to it directly, so that the stream header and class descriptors are written
+ * once per stream (or per reset of the stream) rather than once per element.  Given any other DataOutput,
+ * the element is written in a stream of it's own, prefixed by the length of it's serialized form.
+ * ElementSerializers writing the fields of the elements directly are considerably faster and more compact.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.ElementSerializer
+ * @see java.io.Serializable
+ */
+
+package com.cp.common.util.sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+public final class JavaElementSerializer implements ElementSerializer {
+
+  public static final JavaElementSerializer INSTANCE = new JavaElementSerializer();
+
+  /**
+   * Reads the element from the ObjectInput, or reads the length of the serialized element followed by the
+   * element itself from any other DataInput.
+   * @param in the DataInput from which to read the element.
+   * @return the element Object read from the DataInput.
+   * @throws IOException if the element could not be read or it's class could not be found.
+   */
+  public Object read(final DataInput in) throws IOException {
+    if (in instanceof ObjectInput) {
+      return readObject((ObjectInput) in);
+    }
+
+    final byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+
+    final ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+    try {
+      return readObject(objectIn);
+    }
+    finally {
+      objectIn.close();
+    }
+  }
+
+  private static Object readObject(final ObjectInput in) throws IOException {
+    try {
+      return in.readObject();
+    }
+    catch (ClassNotFoundException e) {
+      throw new IOException("Failed to read the element; the class of the element could not be found!", e);
+    }
+  }
+
+  /**
+   * Writes the element to the ObjectOutput, or writes the length of the serialized element followed by the
+   * element itself to any other DataOutput.
+   * @param out the DataOutput to which to write the element.
+   * @param element the Serializable element Object to write.
+   * @throws IOException if the element is not Serializable or could not be written.
+   */
+  public void write(final DataOutput out, final Object element) throws IOException {
+    if (out instanceof ObjectOutput) {
+      ((ObjectOutput) out).writeObject(element);
+      return;
+    }
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final ObjectOutputStream objectOut = new ObjectOutputStream(bytes);
+
+    try {
+      objectOut.writeObject(element);
+    }
+    finally {
+      objectOut.close();
+    }
+
+    out.writeInt(bytes.size());
+    out.write(bytes.toByteArray());
+  }
+
+}
@@ -0,0 +1,23 @@
+/*
+ * LongKeyExtractor.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.LongKeySort
+ */
+
+package com.cp.common.util.sort;
+
+public interface LongKeyExtractor {
+
+  /**
+   * Returns the long sort key of the specified element, which determines the order of the element
+   * in the Sortable collection sorted by the LongKeySort.
+   * @param element the element of the Sortable collection from which to extract the sort key.
+   * @return the long sort key of the element.
+   */
+  public long getLongKey(Object element);
+
+}
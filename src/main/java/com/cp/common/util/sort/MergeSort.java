@@ -122,6 +122,10 @@ public class MergeSort extends com.cp.common.util.sort.AbstractSorter {
    * @throws SortException if the sort operation fails.
    */
   public void sort(final Sortable collection) throws SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     if (logger.isDebugEnabled()) {
       logger.debug("Sorting a Sortable Collection of type (" + collection.getClass().getName()
         + ") using the Merge Sort algorithm!");
@@ -0,0 +1,125 @@
+/*
+ * QuickSelectSort.java (c) 17 October 2026
+ *
+ * The QuickSelectSort class orders the first k elements of a Sortable collection by partitioning the elements
+ * around median-of-three pivots until the k smallest elements precede all others, then sorting only those k
+ * elements.  Selecting k of n elements takes O(n + k log k) comparisons on average.  Equal elements are
+ * partitioned three ways so that duplicates do not degrade the selection, and should the partitioning still
+ * make too little progress the selection falls back to the HeapSelectSort.  The sort is not stable.
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.sort.AbstractPartialSorter
+ * @see com.cp.common.util.sort.HeapSelectSort
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.util.SortAscendingComparator;
+import java.util.Arrays;
+import java.util.Comparator;
+
+public class QuickSelectSort extends AbstractPartialSorter {
+
+  /**
+   * Creates an instance of the QuickSelectSort class to order elements in ascending order.
+   */
+  public QuickSelectSort() {
+    this(SortAscendingComparator.getInstance());
+  }
+
+  /**
+   * Creates an instance of the QuickSelectSort class to order elements as determined by the Comparator.
+   * @param orderBy the Comparator used to order the elements of the Sortable collection.
+   */
+  public QuickSelectSort(final Comparator orderBy) {
+    super(orderBy);
+  }
+
+  /**
+   * Returns the median of the first, middle and last elements between the left and right indices.
+   */
+  private Object getPivot(final Object[] elements, final int left, final int right) {
+    final Comparator<Object> orderBy = getElementOrderBy();
+
+    final Object first = elements[left];
+    final Object middle = elements[left + ((right - left) >>> 1)];
+    final Object last = elements[right];
+
+    if (orderBy.compare(first, middle) < 0) {
+      return (orderBy.compare(middle, last) <= 0 ? middle : (orderBy.compare(first, last) < 0 ? last : first));
+    }
+    else {
+      return (orderBy.compare(first, last) <= 0 ? first : (orderBy.compare(middle, last) < 0 ? last : middle));
+    }
+  }
+
+  /**
+   * Places the smallest (toIndex - fromIndex) elements of the array from fromIndex to the end of the array in
+   * order from fromIndex to toIndex exclusive.
+   * @param elements the array of elements to partially sort.
+   * @param fromIndex the index of the first element to order.
+   * @param toIndex the index after the last element to order.
+   */
+  protected void partialSort(final Object[] elements, final int fromIndex, final int toIndex) {
+    if (toIndex <= fromIndex) {
+      return;
+    }
+
+    final Comparator<Object> orderBy = getElementOrderBy();
+    final int target = toIndex - 1;
+
+    int left = fromIndex;
+    int right = elements.length - 1;
+    int partitionsRemaining = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(elements.length - fromIndex));
+
+    while (left < right) {
+      if (partitionsRemaining-- == 0) {
+        new HeapSelectSort(orderBy).partialSort(elements, fromIndex, toIndex);
+        return;
+      }
+
+      final Object pivot = getPivot(elements, left, right);
+
+      // Partition the elements into those less than, equal to and greater than the pivot.
+      int less = left;
+      int greater = right;
+      int index = left;
+
+      while (index <= greater) {
+        final int compareValue = orderBy.compare(elements[index], pivot);
+
+        if (compareValue < 0) {
+          swap(elements, less++, index++);
+        }
+        else if (compareValue > 0) {
+          swap(elements, index, greater--);
+        }
+        else {
+          index++;
+        }
+      }
+
+      if (target < less) {
+        right = less - 1;
+      }
+      else if (target > greater) {
+        left = greater + 1;
+      }
+      else {
+        break;
+      }
+    }
+
+    Arrays.sort(elements, fromIndex, toIndex, orderBy);
+  }
+
+  private static void swap(final Object[] elements, final int index1, final int index2) {
+    final Object element = elements[index1];
+    elements[index1] = elements[index2];
+    elements[index2] = element;
+  }
+
+}
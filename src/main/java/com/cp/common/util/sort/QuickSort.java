@@ -181,6 +181,10 @@ public class QuickSort extends com.cp.common.util.sort.AbstractSorter {
    * @see java.util.Collections#sort
    */
   public void sort(final Sortable collection) throws SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     logger.debug("Sorting entire Sortable collection...");
     quickSort(collection, 0, collection.size()-1);
   }
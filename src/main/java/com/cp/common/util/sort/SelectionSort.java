@@ -48,6 +48,10 @@ public class SelectionSort extends com.cp.common.util.sort.AbstractSorter {
    * @throws com.cp.common.util.sort.SortException if the sort operation fails.
    */
   public void sort(final Sortable collection) throws SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     try {
       for (int i = 0, size = collection.size(); i < (size - 1); i++) {
         int min = i;
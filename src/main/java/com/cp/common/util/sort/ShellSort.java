@@ -86,6 +86,10 @@ public class ShellSort extends com.cp.common.util.sort.AbstractSorter {
    * @throws com.cp.common.util.sort.SortException if the sort operation fails.
    */
   public void sort(final Sortable collection) throws SortException {
+    if (sortBulk(collection)) {
+      return;
+    }
+
     try {
       for (int increment = getIncrement(collection); increment > 0; increment /= 2) {
         for (int i = 0, collectionSize = collection.size(); i < collectionSize; i++) {
@@ -19,21 +19,27 @@ public final class SortType {
 
   private static final Logger logger = Logger.getLogger(SortType.class);
 
+  public static final String ADAPTIVE_SORT_DESCRIPTION = "Adaptive Sort";
   public static final String BUBBLE_SORT_DESCRIPTION = "Bubble Sort";
+  public static final String EXTERNAL_MERGE_SORT_DESCRIPTION = "External Merge Sort";
   public static final String HEAP_SORT_DESCRIPTION = "Heap Sort";
   public static final String INSERTION_SORT_DESCRIPTION = "Insertion Sort";
   public static final String MERGE_SORT_DESCRIPTION = "Merge Sort";
   public static final String MULTITHREADED_QUICK_SORT_DESCRIPTION = "Multithreaded Quick Sort";
+  public static final String PARALLEL_SORT_DESCRIPTION = "Parallel Sort";
   public static final String QUICK_SORT_DESCRIPTION = "Quick Sort";
   public static final String SELECTION_SORT_DESCRIPTION = "Selection Sort";
   public static final String SHELL_SORT_DESCRIPTION = "Shell Sort";
   public static final String TREE_SORT_DESCRIPTION = "Tree Sort";
 
+  public static final SortType ADAPTIVE_SORT = new SortType(11, ADAPTIVE_SORT_DESCRIPTION);
   public static final SortType BUBBLE_SORT = new SortType(0, BUBBLE_SORT_DESCRIPTION);
+  public static final SortType EXTERNAL_MERGE_SORT = new SortType(12, EXTERNAL_MERGE_SORT_DESCRIPTION);
   public static final SortType HEAP_SORT = new SortType(2, HEAP_SORT_DESCRIPTION);
   public static final SortType INSERTION_SORT = new SortType(3, INSERTION_SORT_DESCRIPTION);
   public static final SortType MERGE_SORT = new SortType(4, MERGE_SORT_DESCRIPTION);
   public static final SortType MULTITHREADED_QUICK_SORT = new SortType(5, MULTITHREADED_QUICK_SORT_DESCRIPTION);
+  public static final SortType PARALLEL_SORT = new SortType(10, PARALLEL_SORT_DESCRIPTION);
   public static final SortType QUICK_SORT = new SortType(6, QUICK_SORT_DESCRIPTION);
   public static final SortType SELECTION_SORT = new SortType(7, SELECTION_SORT_DESCRIPTION);
   public static final SortType SHELL_SORT = new SortType(8, SHELL_SORT_DESCRIPTION);
@@ -42,11 +48,14 @@ public final class SortType {
   private static final Set<SortType> SORT_TYPE_SET = new HashSet<SortType>();
 
   static {
+    SORT_TYPE_SET.add(ADAPTIVE_SORT);
     SORT_TYPE_SET.add(BUBBLE_SORT);
+    SORT_TYPE_SET.add(EXTERNAL_MERGE_SORT);
     SORT_TYPE_SET.add(HEAP_SORT);
     SORT_TYPE_SET.add(INSERTION_SORT);
     SORT_TYPE_SET.add(MERGE_SORT);
     SORT_TYPE_SET.add(MULTITHREADED_QUICK_SORT);
+    SORT_TYPE_SET.add(PARALLEL_SORT);
     SORT_TYPE_SET.add(QUICK_SORT);
     SORT_TYPE_SET.add(SELECTION_SORT);
     SORT_TYPE_SET.add(SHELL_SORT);
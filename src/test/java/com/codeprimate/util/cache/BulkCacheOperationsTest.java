@@ -0,0 +1,122 @@
+/*
+ * BulkCacheOperationsTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.util.cache.AbstractCache;
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.CacheLoader;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class BulkCacheOperationsTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  public BulkCacheOperationsTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(BulkCacheOperationsTest.class);
+    //suite.addTest(new BulkCacheOperationsTest("testName"));
+    return suite;
+  }
+
+  private void assertBulkOperations(final AbstractCache cache) throws Exception {
+    final Map<String, Object> data = new LinkedHashMap<String, Object>();
+
+    for (int index = 0; index < 10; index++) {
+      data.put(String.valueOf(index), "value" + index);
+    }
+
+    assertNull(cache.writeAll(data).get(5, TimeUnit.SECONDS));
+    assertEquals(10, cache.getSize());
+
+    for (int index = 0; index < 10; index++) {
+      assertTrue(cache.containsKey(String.valueOf(index)));
+    }
+
+    final Map<String, Object> values = cache.readAll(Arrays.asList("9", "0", "5", "42")).get(5, TimeUnit.SECONDS);
+
+    assertEquals(3, values.size());
+    assertEquals(Arrays.asList("9", "0", "5"), Arrays.asList(values.keySet().toArray()));
+    assertEquals("value9", values.get("9"));
+    assertEquals("value0", values.get("0"));
+    assertEquals("value5", values.get("5"));
+    assertFalse(values.containsKey("42"));
+
+    assertNull(cache.invalidateAll(Arrays.asList("0", "1", "42")).get(5, TimeUnit.SECONDS));
+
+    final AtomicInteger loadCount = new AtomicInteger(0);
+
+    cache.setCacheLoader(new CacheLoader() {
+      public Object load(final String key) {
+        loadCount.incrementAndGet();
+        return "reloaded" + key;
+      }
+    });
+
+    // Invalidated and missing keys are loaded by the CacheLoader.
+    final Map<String, Object> reloadedValues = cache.readAll(Arrays.asList("0", "1", "2", "42")).get(5, TimeUnit.SECONDS);
+
+    assertEquals(4, reloadedValues.size());
+    assertEquals("reloaded0", reloadedValues.get("0"));
+    assertEquals("reloaded1", reloadedValues.get("1"));
+    assertEquals("value2", reloadedValues.get("2"));
+    assertEquals("reloaded42", reloadedValues.get("42"));
+    assertEquals(3, loadCount.get());
+
+    cache.terminate();
+  }
+
+  public void testConcurrentLRUCache() throws Exception {
+    assertBulkOperations(new ConcurrentLRUCache());
+  }
+
+  public void testLFUCache() throws Exception {
+    assertBulkOperations(new LFUCache());
+  }
+
+  public void testLRUCache() throws Exception {
+    assertBulkOperations(new LRUCache());
+  }
+
+  public void testTinyLFUCache() throws Exception {
+    assertBulkOperations(new TinyLFUCache());
+  }
+
+  public void testWriteAllFailure() throws Exception {
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+    final Map<String, Object> data = new LinkedHashMap<String, Object>();
+    final User expiredUser = new User(new Integer(101), "Jon", "Doe");
+    final Calendar expirationDate = Calendar.getInstance();
+
+    expirationDate.add(Calendar.MINUTE, -1);
+    expiredUser.setExpirationDate(expirationDate);
+    data.put(expiredUser.getKey(), expiredUser);
+
+    try {
+      cache.writeAll(data).get(5, TimeUnit.SECONDS);
+      fail("Writing an invalid Cacheable object should have failed!");
+    }
+    catch (ExecutionException expected) {
+      assertTrue(expected.getCause() instanceof CacheException);
+    }
+
+    cache.terminate();
+  }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * CacheStatsTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.CacheLoader;
+import com.cp.common.util.cache.CacheManagement;
+import com.cp.common.util.cache.CacheStats;
+import com.cp.common.util.cache.EvictionCause;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class CacheStatsTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  public CacheStatsTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(CacheStatsTest.class);
+    //suite.addTest(new CacheStatsTest("testName"));
+    return suite;
+  }
+
+  public void testStatisticsDisabled() throws Exception {
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    assertFalse(cache.isStatisticsEnabled());
+
+    cache.writeObject("a", "A");
+    cache.readObject("a");
+    cache.readObject("b");
+
+    assertSame(CacheStats.EMPTY, cache.getStats());
+
+    cache.terminate();
+  }
+
+  public void testHitsMissesAndLoads() throws Exception {
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    cache.setStatisticsEnabled(true);
+    assertTrue(cache.isStatisticsEnabled());
+    assertEquals(CacheStats.EMPTY, cache.getStats());
+
+    cache.writeObject("a", "A");
+
+    assertEquals("A", cache.readObject("a"));
+    assertEquals("A", cache.readObject("a"));
+    assertNull(cache.readObject("b"));
+
+    CacheStats stats = cache.getStats();
+
+    assertEquals(2, stats.getHitCount());
+    assertEquals(1, stats.getMissCount());
+    assertEquals(3, stats.getRequestCount());
+    assertEquals(2.0d / 3.0d, stats.getHitRate(), 0.0001d);
+    assertEquals(0, stats.getLoadCount());
+
+    cache.setCacheLoader(new CacheLoader() {
+      public Object load(final String key) {
+        if ("fail".equals(key)) {
+          throw new IllegalStateException("data source is unavailable");
+        }
+        return ("404".equals(key) ? null : key.toUpperCase());
+      }
+    });
+
+    assertEquals("C", cache.readObject("c"));
+    assertNull(cache.readObject("404"));
+
+    try {
+      cache.readObject("fail");
+      fail("Reading a key that failed to load should have thrown a CacheException!");
+    }
+    catch (CacheException expected) {
+    }
+
+    cache.readAll(Arrays.asList("a", "c", "d")).get(5, TimeUnit.SECONDS);
+
+    final CacheStats previousStats = stats;
+
+    stats = cache.getStats();
+
+    assertEquals(4, stats.getHitCount());
+    assertEquals(5, stats.getMissCount());
+    assertEquals(2, stats.getLoadSuccessCount());
+    assertEquals(2, stats.getLoadFailureCount());
+    assertEquals(4, stats.getLoadCount());
+    assertTrue(stats.getTotalLoadTime() > 0);
+    assertTrue(stats.getAverageLoadPenalty() > 0.0d);
+
+    final CacheStats intervalStats = stats.minus(previousStats);
+
+    assertEquals(2, intervalStats.getHitCount());
+    assertEquals(4, intervalStats.getMissCount());
+    assertEquals(4, intervalStats.getLoadCount());
+
+    // Re-enabling statistics resets them.
+    cache.setStatisticsEnabled(true);
+
+    assertEquals(CacheStats.EMPTY, cache.getStats());
+
+    cache.setStatisticsEnabled(false);
+
+    assertFalse(cache.isStatisticsEnabled());
+
+    cache.terminate();
+  }
+
+  public void testEvictionsByCause() throws Exception {
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    cache.setStatisticsEnabled(true);
+    cache.setMaxSize(2);
+
+    cache.writeObject("a", "A");
+    cache.writeObject("b", "B");
+    cache.writeObject("c", "C");
+
+    final Calendar expirationDate = Calendar.getInstance();
+    expirationDate.add(Calendar.MILLISECOND, 100);
+
+    cache.writeObject("d", "D", expirationDate);
+    Thread.sleep(2100); // the timer wheel expires Cacheable objects with a resolution of about a second
+    cache.purgeCache();
+
+    final CacheStats stats = cache.getStats();
+
+    assertEquals(2, stats.getEvictionCount(EvictionCause.SIZE));
+    assertEquals(1, stats.getEvictionCount(EvictionCause.EXPIRED));
+    assertEquals(0, stats.getEvictionCount(EvictionCause.WEIGHT));
+    assertEquals(3, stats.getEvictionCount());
+
+    final OffHeapCache offHeapCache = new OffHeapCache(1024, 256);
+
+    offHeapCache.setStatisticsEnabled(true);
+
+    for (int index = 0; index < 5; index++) {
+      offHeapCache.writeObject(String.valueOf(index), "value" + index);
+    }
+
+    offHeapCache.invalidateAll(Arrays.asList("4")).get(5, TimeUnit.SECONDS);
+
+    assertEquals(1, offHeapCache.getStats().getEvictionCount(EvictionCause.SIZE));
+    assertEquals(1, offHeapCache.getStats().getEvictionCount(EvictionCause.INVALIDATED));
+
+    offHeapCache.terminate();
+    cache.terminate();
+  }
+
+  public void testMBean() throws Exception {
+    final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    final LRUCache cache = new LRUCache();
+
+    cache.setStatisticsEnabled(true);
+    cache.writeObject("a", "A");
+    cache.readObject("a");
+    cache.readObject("b");
+
+    final ObjectName objectName = CacheManagement.registerMBean("CacheStatsTest", cache);
+
+    try {
+      assertTrue(mbeanServer.isRegistered(objectName));
+      assertEquals(cache.getDescription(), mbeanServer.getAttribute(objectName, "Description"));
+      assertEquals(new Integer(1), mbeanServer.getAttribute(objectName, "Size"));
+      assertEquals(new Long(1), mbeanServer.getAttribute(objectName, "HitCount"));
+      assertEquals(new Long(1), mbeanServer.getAttribute(objectName, "MissCount"));
+      assertEquals(new Long(0), mbeanServer.getAttribute(objectName, "SizeEvictionCount"));
+      assertEquals(Boolean.TRUE, mbeanServer.getAttribute(objectName, "StatisticsEnabled"));
+
+      try {
+        CacheManagement.registerMBean("CacheStatsTest", cache);
+        fail("Registering a second MBean with the same name should have thrown a CacheException!");
+      }
+      catch (CacheException expected) {
+      }
+    }
+    finally {
+      CacheManagement.unregisterMBean("CacheStatsTest");
+    }
+
+    assertFalse(mbeanServer.isRegistered(objectName));
+
+    cache.terminate();
+  }
+
+}
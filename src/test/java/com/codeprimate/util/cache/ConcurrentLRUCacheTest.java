@@ -0,0 +1,161 @@
+/*
+ * ConcurrentLRUCacheTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class ConcurrentLRUCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  public ConcurrentLRUCacheTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ConcurrentLRUCacheTest.class);
+    //suite.addTest(new ConcurrentLRUCacheTest("testName"));
+    return suite;
+  }
+
+  public void testConcurrentLRUCache() throws Exception {
+    final User jonDoe = new User(new Integer(101), "Jon", "Doe");
+    final User janeDoe = new User(new Integer(202), "Jane", "Doe");
+    final User jackHandy = new User(new Integer(303), "Jack", "Handy");
+    final User sandyHandy = new User(new Integer(404), "Sandy", "Handy");
+    final User jakeSimpson = new User(new Integer(505), "Jake", "Simpson");
+
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+    cache.setMaxSize(3);
+
+    assertEquals(3, cache.getMaxSize());
+    assertEquals(0, cache.getSize());
+
+    cache.writeCacheable(jonDoe);
+    cache.writeCacheable(janeDoe);
+    cache.writeCacheable(jackHandy);
+
+    assertEquals(3, cache.getSize());
+    assertTrue(cache.containsKey(jonDoe.getKey()));
+    assertTrue(cache.containsKey(janeDoe.getKey()));
+    assertTrue(cache.containsKey(jackHandy.getKey()));
+
+    // Jon Doe becomes the most recently used, leaving Jane Doe as the least recently used.
+    readCacheable(cache, jonDoe, 1);
+    cache.writeCacheable(sandyHandy);
+
+    // The cache never grows beyond it's maximum size; eviction occurs on write.
+    assertEquals(3, cache.getSize());
+    assertTrue(cache.containsKey(jonDoe.getKey()));
+    assertFalse(cache.containsKey(janeDoe.getKey()));
+    assertTrue(cache.containsKey(jackHandy.getKey()));
+    assertTrue(cache.containsKey(sandyHandy.getKey()));
+
+    // Re-writing an existing key replaces the Cacheable object and makes it the most recently used.
+    cache.writeCacheable(jackHandy);
+    cache.writeCacheable(jakeSimpson);
+
+    assertEquals(3, cache.getSize());
+    assertFalse(cache.containsKey(jonDoe.getKey()));
+    assertTrue(cache.containsKey(jackHandy.getKey()));
+    assertTrue(cache.containsKey(sandyHandy.getKey()));
+    assertTrue(cache.containsKey(jakeSimpson.getKey()));
+
+    cache.setMaxSize(1); // shrink the size
+    cache.purgeCache();
+
+    assertEquals(1, cache.getSize());
+    assertTrue(cache.containsKey(jakeSimpson.getKey()));
+    assertNull(cache.readCacheable(jonDoe.getKey()));
+    assertSame(jakeSimpson, cache.readObject(jakeSimpson.getKey()));
+  }
+
+  public void testExpiration() throws Exception {
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    final Calendar expirationDate = Calendar.getInstance();
+    expirationDate.add(Calendar.MILLISECOND, 500);
+
+    cache.writeObject("expiring", "expiring", expirationDate);
+    cache.writeObject("permanent", "permanent");
+
+    assertEquals(2, cache.getSize());
+    assertEquals("expiring", cache.readObject("expiring"));
+
+    Thread.sleep(1600);
+
+    // Reads never return expired Cacheable objects, and the purge removes only the due Cacheable objects.
+    assertNull(cache.readObject("expiring"));
+
+    cache.purgeCache();
+
+    assertEquals(1, cache.getSize());
+    assertFalse(cache.containsKey("expiring"));
+    assertEquals("permanent", cache.readObject("permanent"));
+    cache.terminate();
+  }
+
+  public void testConcurrentReadsAndWrites() throws Exception {
+    final int maxSize = 64;
+    final int numberOfThreads = 8;
+    final int numberOfOperations = 5000;
+
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+    cache.setMaxSize(maxSize);
+
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Throwable> failures = new ArrayList<Throwable>();
+    final List<Thread> threads = new ArrayList<Thread>(numberOfThreads);
+
+    for (int threadIndex = 0; threadIndex < numberOfThreads; threadIndex++) {
+      final int seed = threadIndex;
+      final Thread thread = new Thread(new Runnable() {
+        public void run() {
+          try {
+            startLatch.await();
+            for (int count = 0; count < numberOfOperations; count++) {
+              final String key = String.valueOf((seed * 31 + count) % (maxSize * 2));
+              if (count % 3 == 0) {
+                cache.writeObject(key, key);
+              }
+              else {
+                final Object value = cache.readObject(key);
+                if (value != null && !key.equals(value)) {
+                  throw new AssertionError("Expected (" + key + ") but was (" + value + ")!");
+                }
+              }
+            }
+          }
+          catch (Throwable t) {
+            synchronized (failures) {
+              failures.add(t);
+            }
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+
+    startLatch.countDown();
+
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(String.valueOf(failures), failures.isEmpty());
+    assertTrue(cache.getSize() <= maxSize);
+  }
+
+}
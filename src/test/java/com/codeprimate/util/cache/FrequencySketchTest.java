@@ -0,0 +1,65 @@
+/*
+ * FrequencySketchTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class FrequencySketchTest extends TestCase {
+
+  public FrequencySketchTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(FrequencySketchTest.class);
+    //suite.addTest(new FrequencySketchTest("testName"));
+    return suite;
+  }
+
+  public void testIncrementAndFrequency() throws Exception {
+    final FrequencySketch sketch = new FrequencySketch(512);
+
+    assertEquals(0, sketch.frequency("key"));
+
+    for (int count = 1; count <= 10; count++) {
+      sketch.increment("key");
+      assertEquals(count, sketch.frequency("key"));
+    }
+
+    // Counters saturate at 15.
+    for (int count = 0; count < 20; count++) {
+      sketch.increment("key");
+    }
+
+    assertEquals(15, sketch.frequency("key"));
+  }
+
+  public void testAging() throws Exception {
+    final int maximumSize = 64;
+    final FrequencySketch sketch = new FrequencySketch(maximumSize);
+
+    for (int count = 0; count < 8; count++) {
+      sketch.increment("hot");
+    }
+
+    assertEquals(8, sketch.frequency("hot"));
+
+    // Reaching the sample size (10 * maximumSize increments) halves every counter.
+    for (int key = 0; key < maximumSize * 10; key++) {
+      sketch.increment(new Integer(key));
+    }
+
+    assertTrue(sketch.frequency("hot") < 8);
+  }
+
+}
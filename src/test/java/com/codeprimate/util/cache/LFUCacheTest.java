@@ -12,6 +12,11 @@ package com.codeprimate.util.cache;
 import com.cp.common.util.cache.AbstractCacheFactory;
 import com.codeprimate.util.cache.*;
 import com.codeprimate.util.cache.LFUCache;
+import com.cp.common.util.cache.EvictionCause;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
 import junit.framework.Test;
 import junit.framework.TestSuite;
 import org.apache.log4j.Logger;
@@ -31,6 +36,61 @@ public class LFUCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
     return suite;
   }
 
+  public void testEvictionOrder() throws Exception {
+    final LFUCache cache = new LFUCache();
+    cache.setMaxSize(3);
+
+    cache.writeObject("a", "A");
+    cache.writeObject("b", "B");
+    cache.writeObject("c", "C");
+    cache.readObject("a");
+    cache.readObject("a");
+    cache.readObject("c");
+    cache.writeObject("d", "D");
+    cache.purgeCache();
+
+    assertEquals(3, cache.getSize());
+    assertFalse(cache.containsKey("b"));
+    assertTrue(cache.containsKey("a"));
+    assertTrue(cache.containsKey("c"));
+    assertTrue(cache.containsKey("d"));
+
+    cache.setMaxSize(2);
+    cache.purgeCache();
+
+    assertFalse(cache.containsKey("d"));
+    assertTrue(cache.containsKey("a"));
+    assertTrue(cache.containsKey("c"));
+  }
+
+  public void testIterateKeysReturnsSnapshot() throws Exception {
+    final LFUCache cache = new LFUCache();
+
+    cache.writeObject("a", "A");
+    cache.writeObject("b", "B");
+
+    final Iterator keys = cache.iterateKeys();
+    final Iterator cacheables = cache.iterateCacheables();
+
+    cache.writeObject("c", "C");
+    cache.evictKey("a", EvictionCause.INVALIDATED);
+
+    final Set<Object> keySnapshot = new HashSet<Object>();
+
+    while (keys.hasNext()) {
+      keySnapshot.add(keys.next());
+    }
+
+    int cacheableCount = 0;
+
+    for (; cacheables.hasNext(); cacheables.next()) {
+      cacheableCount++;
+    }
+
+    assertEquals(new HashSet<Object>(Arrays.asList("a", "b")), keySnapshot);
+    assertEquals(2, cacheableCount);
+  }
+
   public void testLFUCache() throws Exception {
     final User jonDoe = new User(new Integer(101), "Jon", "Doe");
     final User janeDoe = new User(new Integer(202), "Jane", "Doe");
@@ -0,0 +1,252 @@
+/*
+ * NearCacheTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.util.cache.AbstractInvalidationTransport;
+import com.cp.common.util.cache.InvalidationEvent;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class NearCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  // Long enough that invalidations are only published when the test flushes them.
+  private static final long BATCH_INTERVAL = 60000l;
+
+  public NearCacheTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(NearCacheTest.class);
+    //suite.addTest(new NearCacheTest("testName"));
+    return suite;
+  }
+
+  private static void waitFor(final NearCache cache, final String key, final boolean present) throws Exception {
+    final long timeout = (System.currentTimeMillis() + 5000l);
+
+    while (cache.containsKey(key) != present && System.currentTimeMillis() < timeout) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static void waitForSize(final NearCache cache, final int size) throws Exception {
+    final long timeout = (System.currentTimeMillis() + 5000l);
+
+    while (cache.getSize() != size && System.currentTimeMillis() < timeout) {
+      Thread.sleep(10);
+    }
+  }
+
+  public void testLoopbackInvalidation() throws Exception {
+    final LoopbackInvalidationTransport transport1 = new LoopbackInvalidationTransport("NearCacheTest");
+    final LoopbackInvalidationTransport transport2 = new LoopbackInvalidationTransport("NearCacheTest");
+    final NearCache cache1 = new NearCache("users", new LRUCache(), transport1, BATCH_INTERVAL);
+    final NearCache cache2 = new NearCache("users", new ConcurrentLRUCache(), transport2, BATCH_INTERVAL);
+    final NearCache otherCache2 = new NearCache("accounts", new LRUCache(), transport2, BATCH_INTERVAL);
+
+    try {
+      cache1.writeObject("a", "A");
+      cache2.writeObject("b", "B");
+      cache2.writeObject("c", "C");
+      otherCache2.writeObject("a", "A");
+      cache1.flush();
+      cache2.flush();
+      cache2.writeObject("a", "A");
+
+      // The writes of a node do not invalidate the keys of the node itself.
+      assertEquals("A", cache1.readObject("a"));
+      assertEquals("B", cache2.readObject("b"));
+
+      cache1.writeObject("a", "AA");
+
+      assertTrue(cache2.containsKey("a"));
+
+      cache1.flush();
+
+      assertEquals("AA", cache1.readObject("a"));
+      assertFalse(cache2.containsKey("a"));
+      assertNull(cache2.readObject("a"));
+      assertTrue(otherCache2.containsKey("a"));
+
+      cache1.invalidateAll(Arrays.asList("b")).get(5, TimeUnit.SECONDS);
+      cache1.flush();
+
+      assertFalse(cache2.containsKey("b"));
+      assertTrue(cache2.containsKey("c"));
+
+      cache1.invalidateCache();
+      cache1.flush();
+
+      assertEquals(0, cache2.getSize());
+      assertEquals(1, otherCache2.getSize());
+    }
+    finally {
+      cache1.terminate();
+      cache2.terminate();
+      otherCache2.terminate();
+      transport1.close();
+      transport2.close();
+    }
+  }
+
+  public void testBatching() throws Exception {
+    final RecordingInvalidationTransport transport = new RecordingInvalidationTransport();
+    final NearCache cache = new NearCache("batched", new LRUCache(), transport, BATCH_INTERVAL);
+
+    try {
+      for (int index = 0; index < 100; index++) {
+        cache.writeObject(String.valueOf(index % 50), "value" + index);
+      }
+
+      cache.flush();
+
+      // The 100 writes of 50 distinct keys are published as one invalidation.
+      assertEquals(1, transport.publications.size());
+      assertEquals(50, transport.publications.get(0).size());
+
+      cache.setMaxBatchSize(20);
+
+      for (int index = 0; index < 50; index++) {
+        cache.writeObject(String.valueOf(index), "value" + index);
+      }
+
+      cache.flush();
+      cache.flush();
+
+      assertEquals(4, transport.publications.size());
+      assertEquals(20, transport.publications.get(1).size());
+      assertEquals(20, transport.publications.get(2).size());
+      assertEquals(10, transport.publications.get(3).size());
+    }
+    finally {
+      cache.terminate();
+    }
+  }
+
+  public void testDatagramInvalidation() throws Exception {
+    final InetAddress localhost = InetAddress.getLoopbackAddress();
+    final DatagramInvalidationTransport transport1 = new DatagramInvalidationTransport(new InetSocketAddress(localhost, 0));
+    final DatagramInvalidationTransport transport2 = new DatagramInvalidationTransport(new InetSocketAddress(localhost, 0));
+
+    transport1.addPeer(transport2.getLocalAddress());
+    transport2.addPeer(transport1.getLocalAddress());
+
+    final NearCache cache1 = new NearCache("users", new LRUCache(), transport1, BATCH_INTERVAL);
+    final NearCache cache2 = new NearCache("users", new LRUCache(), transport2, BATCH_INTERVAL);
+
+    try {
+      cache1.writeObject("a", "A0");
+      cache2.writeObject("a", "A");
+
+      for (int index = 0; index < 2000; index++) {
+        cache2.writeObject("key" + index, "value" + index);
+      }
+
+      cache2.flush();
+
+      // Wait for the invalidation of "a" to be delivered, otherwise it would race the write below.
+      waitFor(cache1, "a", false);
+
+      assertFalse(cache1.containsKey("a"));
+
+      cache1.writeObject("a", "AA");
+      cache1.flush();
+      waitFor(cache2, "a", false);
+
+      assertFalse(cache2.containsKey("a"));
+      assertEquals("AA", cache1.readObject("a"));
+
+      // A batch too large for a single datagram is split across several datagrams, which may
+      // arrive in any order.
+      final List<String> keys = new ArrayList<String>();
+
+      for (int index = 0; index < 2000; index++) {
+        keys.add("key" + index);
+      }
+
+      cache1.invalidateAll(keys).get(5, TimeUnit.SECONDS);
+      cache1.flush();
+      waitForSize(cache2, 0);
+
+      assertEquals(0, cache2.getSize());
+    }
+    finally {
+      cache1.terminate();
+      cache2.terminate();
+      transport1.close();
+      transport2.close();
+    }
+  }
+
+  public void testStaleInvalidation() throws Exception {
+    final RecordingInvalidationTransport transport = new RecordingInvalidationTransport();
+    final NearCache cache = new NearCache("stale", new LRUCache(), transport, BATCH_INTERVAL);
+
+    try {
+      // The clock of the publishing node may lag behind the clock of this node, so an invalidation
+      // that appears to be published before the write of a key still removes it.
+      final long beforeWrite = (System.currentTimeMillis() - 60000l);
+
+      cache.writeObject("a", "A");
+      cache.writeObject("b", "B");
+      cache.writeObject("c", "C");
+
+      transport.deliver("stale", Arrays.asList("a"), beforeWrite);
+
+      assertFalse(cache.containsKey("a"));
+      assertTrue(cache.containsKey("b"));
+
+      transport.deliver("stale", Arrays.asList("b"), System.currentTimeMillis() + 60000l);
+
+      assertFalse(cache.containsKey("b"));
+      assertTrue(cache.containsKey("c"));
+
+      cache.writeObject("a", "A");
+      transport.deliver("stale", null, beforeWrite);
+
+      assertEquals(0, cache.getSize());
+    }
+    finally {
+      cache.terminate();
+    }
+  }
+
+  private static final class RecordingInvalidationTransport extends AbstractInvalidationTransport {
+
+    private final List<Collection<String>> publications = new ArrayList<Collection<String>>();
+
+    public void close() {
+    }
+
+    // Delivers an invalidation of the specified keys, or of all keys if null, published at the given time.
+    void deliver(final String cacheName, final Collection<String> keys, final long timestamp) {
+      fireInvalidationEvent(new InvalidationEvent(this, cacheName,
+        (keys == null ? new ArrayList<String>() : keys), (keys == null), timestamp));
+    }
+
+    public void publish(final String cacheName, final Collection<String> keys) {
+      publications.add(new ArrayList<String>(keys));
+    }
+
+    public void publishAll(final String cacheName) {
+      publications.add(null);
+    }
+  }
+
+}
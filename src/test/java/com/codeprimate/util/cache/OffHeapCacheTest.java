@@ -0,0 +1,166 @@
+/*
+ * OffHeapCacheTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.EvictionCause;
+import com.cp.common.util.cache.EvictionEvent;
+import com.cp.common.util.cache.EvictionListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class OffHeapCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  public OffHeapCacheTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(OffHeapCacheTest.class);
+    //suite.addTest(new OffHeapCacheTest("testName"));
+    return suite;
+  }
+
+  private static byte[] createBytes(final int length, final byte value) {
+    final byte[] bytes = new byte[length];
+    Arrays.fill(bytes, value);
+    return bytes;
+  }
+
+  public void testReadWrite() throws Exception {
+    final OffHeapCache cache = new OffHeapCache(4096, 64);
+
+    assertEquals(4096, cache.getCapacity());
+    assertEquals(0, cache.getUsedCapacity());
+
+    cache.writeObject("greeting", "Hello World");
+    cache.writeObject("bytes", createBytes(500, (byte) 7)); // spans several blocks
+
+    assertEquals(2, cache.getSize());
+    assertTrue(cache.containsKey("greeting"));
+    assertTrue(cache.getUsedCapacity() > 500);
+    assertEquals("Hello World", cache.readObject("greeting"));
+    assertTrue(Arrays.equals(createBytes(500, (byte) 7), (byte[]) cache.readObject("bytes")));
+    assertNull(cache.readObject("unknown"));
+
+    // Replacing a Cacheable object releases the blocks of the previous Cacheable object.
+    final long usedCapacity = cache.getUsedCapacity();
+
+    cache.writeObject("bytes", createBytes(10, (byte) 1));
+
+    assertTrue(cache.getUsedCapacity() < usedCapacity);
+    assertTrue(Arrays.equals(createBytes(10, (byte) 1), (byte[]) cache.readObject("bytes")));
+    assertEquals("Hello World", cache.remove("greeting").getData());
+    assertFalse(cache.containsKey("greeting"));
+    assertEquals(1, cache.getSize());
+
+    cache.terminate();
+  }
+
+  public void testTerminate() throws Exception {
+    final OffHeapCache cache = new OffHeapCache(4096, 64);
+
+    cache.writeObject("a", createBytes(500, (byte) 7));
+    cache.writeObject("b", "B");
+    cache.remove("b");
+    cache.terminate();
+
+    assertEquals(0, cache.getSize());
+    assertEquals(0, cache.getUsedCapacity());
+    assertEquals(0, cache.getWeight());
+
+    // Off-heap memory is allocated again on the next write.
+    cache.writeObject("c", "C");
+
+    assertEquals("C", cache.readObject("c"));
+    assertEquals(64, cache.getUsedCapacity());
+
+    cache.terminate();
+  }
+
+  public void testWriteNonSerializable() throws Exception {
+    final OffHeapCache cache = new OffHeapCache(4096, 64);
+
+    try {
+      cache.writeObject("key", new Object());
+      fail("Writing a non-Serializable data Object should have thrown a CacheException!");
+    }
+    catch (CacheException expected) {
+    }
+
+    try {
+      cache.writeObject("key", createBytes(8192, (byte) 0));
+      fail("Writing a data Object larger than the capacity should have thrown a CacheException!");
+    }
+    catch (CacheException expected) {
+    }
+
+    assertEquals(0, cache.getSize());
+    assertEquals(0, cache.getUsedCapacity());
+
+    cache.terminate();
+  }
+
+  public void testEviction() throws Exception {
+    final List<EvictionEvent> events = new ArrayList<EvictionEvent>();
+
+    final OffHeapCache cache = new OffHeapCache(2048, 256);
+
+    cache.addEvictionListener(new EvictionListener() {
+      public void cacheableEvicted(final EvictionEvent evt) {
+        events.add(evt);
+      }
+    });
+
+    // Each data Object occupies 3 of the 8 blocks, so only 2 fit at once.
+    cache.writeObject("a", createBytes(600, (byte) 'a'));
+    cache.writeObject("b", createBytes(600, (byte) 'b'));
+    assertNotNull(cache.readObject("a")); // "b" becomes the least recently used
+    cache.writeObject("c", createBytes(600, (byte) 'c'));
+
+    assertEquals(2, cache.getSize());
+    assertTrue(cache.containsKey("a"));
+    assertFalse(cache.containsKey("b"));
+    assertTrue(cache.containsKey("c"));
+    assertEquals(1, events.size());
+    assertEquals(EvictionCause.SIZE, events.get(0).getCause());
+    assertEquals("b", events.get(0).getCacheable().getKey());
+    assertTrue(Arrays.equals(createBytes(600, (byte) 'b'), (byte[]) events.get(0).getCacheable().getData()));
+
+    cache.invalidateAll(Arrays.asList("a")).get(5, TimeUnit.SECONDS);
+
+    assertFalse(cache.containsKey("a"));
+    assertEquals(2, events.size());
+    assertEquals(EvictionCause.INVALIDATED, events.get(1).getCause());
+
+    final Calendar expirationDate = Calendar.getInstance();
+    expirationDate.add(Calendar.MILLISECOND, 200);
+
+    cache.writeObject("d", "expiring", expirationDate);
+    Thread.sleep(300);
+
+    assertNull(cache.readObject("d"));
+
+    cache.purgeCache();
+
+    assertFalse(cache.containsKey("d"));
+    assertEquals(3, events.size());
+    assertEquals(EvictionCause.EXPIRED, events.get(2).getCause());
+
+    cache.terminate();
+  }
+
+}
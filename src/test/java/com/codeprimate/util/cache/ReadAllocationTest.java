@@ -0,0 +1,121 @@
+/*
+ * ReadAllocationTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.util.cache.AbstractCache;
+import java.lang.management.ManagementFactory;
+import java.util.Calendar;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class ReadAllocationTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  private static final int NUMBER_OF_KEYS = 64;
+  private static final int NUMBER_OF_READS = 200000;
+
+  // Allows for allocations made by the measurement itself.
+  private static final long ALLOCATION_TOLERANCE = 4096l;
+
+  private static final String[] KEYS = new String[NUMBER_OF_KEYS];
+
+  static {
+    for (int index = 0; index < NUMBER_OF_KEYS; index++) {
+      KEYS[index] = ("key" + index);
+    }
+  }
+
+  public ReadAllocationTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ReadAllocationTest.class);
+    //suite.addTest(new ReadAllocationTest("testName"));
+    return suite;
+  }
+
+  private static com.sun.management.ThreadMXBean getThreadMXBean() {
+    final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+      ((com.sun.management.ThreadMXBean) threadMXBean).setThreadAllocatedMemoryEnabled(true);
+      return (com.sun.management.ThreadMXBean) threadMXBean;
+    }
+
+    return null;
+  }
+
+  private static int readAll(final AbstractCache cache, final int numberOfReads) throws Exception {
+    int hitCount = 0;
+
+    for (int index = 0; index < numberOfReads; index++) {
+      final String key = KEYS[index & (NUMBER_OF_KEYS - 1)];
+
+      if (cache.containsKey(key) && cache.readObject(key) != null) {
+        hitCount++;
+      }
+    }
+
+    return hitCount;
+  }
+
+  private void assertAllocationFreeReads(final AbstractCache cache) throws Exception {
+    final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+
+    if (threadMXBean == null) {
+      return; // the JVM does not measure the memory allocated by a Thread
+    }
+
+    final Calendar expirationDate = Calendar.getInstance();
+    expirationDate.add(Calendar.HOUR, 1);
+
+    for (int index = 0; index < NUMBER_OF_KEYS; index++) {
+      if (index % 2 == 0) {
+        cache.writeObject(KEYS[index], "value" + index);
+      }
+      else {
+        cache.writeObject(KEYS[index], "value" + index, expirationDate);
+      }
+    }
+
+    // Warm up the read path so that any lazy initialization is not measured.
+    assertEquals(NUMBER_OF_READS, readAll(cache, NUMBER_OF_READS));
+
+    final long threadId = Thread.currentThread().getId();
+    final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    final int hitCount = readAll(cache, NUMBER_OF_READS);
+    final long allocatedBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore);
+
+    assertEquals(NUMBER_OF_READS, hitCount);
+    assertTrue("(" + allocatedBytes + ") bytes were allocated by " + NUMBER_OF_READS + " reads of "
+      + cache.getDescription(), allocatedBytes <= ALLOCATION_TOLERANCE);
+
+    cache.terminate();
+  }
+
+  public void testConcurrentLRUCache() throws Exception {
+    assertAllocationFreeReads(new ConcurrentLRUCache());
+  }
+
+  public void testLFUCache() throws Exception {
+    assertAllocationFreeReads(new LFUCache());
+  }
+
+  public void testLRUCache() throws Exception {
+    assertAllocationFreeReads(new LRUCache());
+  }
+
+  public void testTinyLFUCache() throws Exception {
+    assertAllocationFreeReads(new TinyLFUCache());
+  }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * ReadThroughCacheTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.util.cache.CacheException;
+import com.cp.common.util.cache.CacheLoader;
+import java.util.Calendar;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class ReadThroughCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  public ReadThroughCacheTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ReadThroughCacheTest.class);
+    //suite.addTest(new ReadThroughCacheTest("testName"));
+    return suite;
+  }
+
+  public void testReadThrough() throws Exception {
+    final AtomicInteger loadCount = new AtomicInteger(0);
+
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    assertNull(cache.readObject("101"));
+
+    cache.setCacheLoader(new CacheLoader() {
+      public Object load(final String key) {
+        loadCount.incrementAndGet();
+        return ("404".equals(key) ? null : new User(new Integer(key), "Jon", "Doe"));
+      }
+    });
+
+    final User jonDoe = (User) cache.readObject("101");
+
+    assertNotNull(jonDoe);
+    assertEquals(new Integer(101), jonDoe.getId());
+    assertTrue(cache.containsKey("101"));
+    assertSame(jonDoe, cache.readObject("101"));
+    assertEquals(1, loadCount.get());
+
+    // A key unknown to the data source is not cached and is loaded again on the next read.
+    assertNull(cache.readObject("404"));
+    assertNull(cache.readObject("404"));
+    assertFalse(cache.containsKey("404"));
+    assertEquals(3, loadCount.get());
+
+    cache.terminate();
+  }
+
+  public void testLoadFailure() throws Exception {
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    cache.setCacheLoader(new CacheLoader() {
+      public Object load(final String key) throws Exception {
+        throw new IllegalStateException("data source is unavailable");
+      }
+    });
+
+    try {
+      cache.readObject("101");
+      fail("Reading a key that failed to load should have thrown a CacheException!");
+    }
+    catch (CacheException expected) {
+      assertTrue(expected.getCause() instanceof IllegalStateException);
+    }
+
+    assertFalse(cache.containsKey("101"));
+
+    cache.terminate();
+  }
+
+  public void testCoalescedLoad() throws Exception {
+    final int numberOfThreads = 16;
+
+    final AtomicInteger loadCount = new AtomicInteger(0);
+
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch releaseLoad = new CountDownLatch(1);
+    final CountDownLatch readsComplete = new CountDownLatch(numberOfThreads);
+
+    final Object[] values = new Object[numberOfThreads];
+
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    cache.setCacheLoader(new CacheLoader() {
+      public Object load(final String key) throws Exception {
+        loadCount.incrementAndGet();
+        loadStarted.countDown();
+        releaseLoad.await();
+        return new User(new Integer(key), "Jane", "Doe");
+      }
+    });
+
+    for (int index = 0; index < numberOfThreads; index++) {
+      final int threadIndex = index;
+      new Thread(new Runnable() {
+        public void run() {
+          try {
+            values[threadIndex] = cache.readObject("202");
+          }
+          catch (CacheException e) {
+            values[threadIndex] = e;
+          }
+          finally {
+            readsComplete.countDown();
+          }
+        }
+      }, "ReadThroughCacheTest-" + index).start();
+    }
+
+    assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+    Thread.sleep(100); // allow the remaining readers to miss and wait on the load in progress
+    releaseLoad.countDown();
+    assertTrue(readsComplete.await(5, TimeUnit.SECONDS));
+
+    assertEquals(1, loadCount.get());
+    assertTrue(values[0] instanceof User);
+
+    for (int index = 0; index < numberOfThreads; index++) {
+      assertSame(values[0], values[index]);
+    }
+
+    cache.terminate();
+  }
+
+  public void testRefreshAhead() throws Exception {
+    final AtomicInteger loadCount = new AtomicInteger(0);
+
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    cache.setCacheLoader(new CacheLoader() {
+      public Object load(final String key) {
+        loadCount.incrementAndGet();
+        return "refreshed";
+      }
+    });
+
+    cache.setRefreshAheadTime(60000l);
+    cache.setExecutor(new Executor() {
+      public void execute(final Runnable command) {
+        command.run();
+      }
+    });
+
+    final Calendar expirationDate = Calendar.getInstance();
+    expirationDate.add(Calendar.SECOND, 30);
+
+    cache.writeObject("303", "stale", expirationDate);
+
+    // The read returns the current value and reloads it since it expires within the refresh-ahead time.
+    assertEquals("stale", cache.readObject("303"));
+    assertEquals(1, loadCount.get());
+    assertEquals("refreshed", cache.readObject("303"));
+
+    // The refreshed value does not expire, and therefore is not refreshed again.
+    assertEquals("refreshed", cache.readObject("303"));
+    assertEquals(1, loadCount.get());
+
+    cache.terminate();
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * TieredCacheTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class TieredCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  public TieredCacheTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(TieredCacheTest.class);
+    //suite.addTest(new TieredCacheTest("testName"));
+    return suite;
+  }
+
+  public void testPromotionAndDemotion() throws Exception {
+    final ConcurrentLRUCache heapCache = new ConcurrentLRUCache();
+    final OffHeapCache offHeapCache = new OffHeapCache(1 << 16, 256);
+    final TieredCache cache = new TieredCache(heapCache, offHeapCache);
+
+    heapCache.setMaxSize(2);
+
+    cache.writeObject("a", "A");
+    cache.writeObject("b", "B");
+    cache.writeObject("c", "C");
+
+    // "a" was evicted from the on-heap tier and demoted to the off-heap tier.
+    assertEquals(3, cache.getSize());
+    assertFalse(heapCache.containsKey("a"));
+    assertTrue(offHeapCache.containsKey("a"));
+    assertTrue(cache.containsKey("a"));
+
+    // Reading "a" promotes it, demoting the least recently used "b".
+    assertEquals("A", cache.readObject("a"));
+    assertTrue(heapCache.containsKey("a"));
+    assertFalse(offHeapCache.containsKey("a"));
+    assertFalse(heapCache.containsKey("b"));
+    assertTrue(offHeapCache.containsKey("b"));
+    assertEquals(3, cache.getSize());
+
+    // Writing "b" replaces the demoted copy, which is discarded from the off-heap tier.
+    cache.writeObject("b", "BB");
+
+    assertFalse(offHeapCache.containsKey("b"));
+    assertEquals("BB", cache.readObject("b"));
+    assertEquals(3, cache.getSize());
+
+    cache.terminate();
+  }
+
+  public void testDemotionOnPurge() throws Exception {
+    final LRUCache heapCache = new LRUCache();
+    final OffHeapCache offHeapCache = new OffHeapCache(1 << 16, 256);
+    final TieredCache cache = new TieredCache(heapCache, offHeapCache);
+
+    heapCache.setMaxSize(1);
+
+    cache.writeObject("a", "A");
+    cache.writeObject("b", "B");
+
+    // The LRUCache evicts during it's purge operation, and the eviction is demoted by the next operation on the
+    // TieredCache, or it's purge operation.
+    heapCache.purgeCache();
+
+    assertEquals(1, heapCache.getSize());
+    assertEquals(0, offHeapCache.getSize());
+
+    cache.purgeCache();
+
+    assertEquals(1, heapCache.getSize());
+    assertEquals(1, offHeapCache.getSize());
+    assertEquals("A", cache.readObject("a"));
+    assertEquals("B", cache.readObject("b"));
+
+    cache.terminate();
+  }
+
+  public void testDemotionSkippedForMoreRecentWrite() throws Exception {
+    final LRUCache heapCache = new LRUCache();
+    final OffHeapCache offHeapCache = new OffHeapCache(1 << 16, 256);
+    final TieredCache cache = new TieredCache(heapCache, offHeapCache);
+
+    heapCache.setMaxSize(1);
+
+    cache.writeObject("a", "A");
+    cache.writeObject("b", "B");
+    heapCache.purgeCache();
+
+    // The eviction of "a" is still queued when "a" is written again, so the stale "A" is never demoted.
+    cache.writeObject("a", "AA");
+
+    assertFalse(offHeapCache.containsKey("a"));
+    assertEquals("AA", cache.readObject("a"));
+
+    cache.purgeCache();
+
+    assertFalse(offHeapCache.containsKey("a"));
+    assertEquals("AA", cache.readObject("a"));
+
+    cache.terminate();
+  }
+
+}
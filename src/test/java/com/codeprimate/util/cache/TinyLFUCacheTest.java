@@ -0,0 +1,95 @@
+/*
+ * TinyLFUCacheTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class TinyLFUCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  public TinyLFUCacheTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(TinyLFUCacheTest.class);
+    //suite.addTest(new TinyLFUCacheTest("testName"));
+    return suite;
+  }
+
+  public void testTinyLFUCache() throws Exception {
+    final User jonDoe = new User(new Integer(101), "Jon", "Doe");
+    final User janeDoe = new User(new Integer(202), "Jane", "Doe");
+    final User jackHandy = new User(new Integer(303), "Jack", "Handy");
+    final User sandyHandy = new User(new Integer(404), "Sandy", "Handy");
+    final User tonyPark = new User(new Integer(707), "Tony", "Park");
+
+    final TinyLFUCache cache = new TinyLFUCache();
+    cache.setMaxSize(3);
+
+    assertEquals(3, cache.getMaxSize());
+    assertEquals(0, cache.getSize());
+
+    cache.writeCacheable(jonDoe);
+    cache.writeCacheable(janeDoe);
+    cache.writeCacheable(jackHandy);
+
+    readCacheable(cache, jonDoe, 10);
+    readCacheable(cache, janeDoe, 10);
+
+    // Sandy Handy enters the admission window.
+    cache.writeCacheable(sandyHandy);
+
+    assertEquals(3, cache.getSize());
+    assertTrue(cache.containsKey(jonDoe.getKey()));
+    assertTrue(cache.containsKey(janeDoe.getKey()));
+    assertTrue(cache.containsKey(sandyHandy.getKey()));
+    assertFalse(cache.containsKey(jackHandy.getKey()));
+
+    // Sandy Handy has only been seen once and is not admitted over the frequently read Cacheable objects.
+    cache.writeCacheable(tonyPark);
+
+    assertEquals(3, cache.getSize());
+    assertTrue(cache.containsKey(jonDoe.getKey()));
+    assertTrue(cache.containsKey(janeDoe.getKey()));
+    assertTrue(cache.containsKey(tonyPark.getKey()));
+    assertFalse(cache.containsKey(sandyHandy.getKey()));
+  }
+
+  public void testScanResistance() throws Exception {
+    final int maxSize = 100;
+    final int numberOfHotKeys = 50;
+
+    final TinyLFUCache cache = new TinyLFUCache();
+    cache.setMaxSize(maxSize);
+
+    for (int key = 0; key < numberOfHotKeys; key++) {
+      cache.writeObject("hot" + key, new Integer(key));
+    }
+
+    for (int count = 0; count < 5; count++) {
+      for (int key = 0; key < numberOfHotKeys; key++) {
+        assertNotNull(cache.readObject("hot" + key));
+      }
+    }
+
+    // Scan through one-hit wonders, which would flush the hot keys from a LRU cache.
+    for (int key = 0; key < maxSize * 10; key++) {
+      cache.writeObject("scan" + key, new Integer(key));
+      assertTrue(cache.getSize() <= maxSize);
+    }
+
+    for (int key = 0; key < numberOfHotKeys; key++) {
+      assertEquals(new Integer(key), cache.readObject("hot" + key));
+    }
+  }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * WeightedCacheTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.cache;
+
+import com.cp.common.util.cache.Weigher;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class WeightedCacheTest extends com.codeprimate.util.cache.AbstractCacheTest {
+
+  private static final Weigher STRING_LENGTH_WEIGHER = new Weigher() {
+    public long weigh(final String key, final Object data) {
+      return data.toString().length();
+    }
+  };
+
+  public WeightedCacheTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(WeightedCacheTest.class);
+    //suite.addTest(new WeightedCacheTest("testName"));
+    return suite;
+  }
+
+  public void testConcurrentLRUCacheWeight() throws Exception {
+    final ConcurrentLRUCache cache = new ConcurrentLRUCache();
+
+    assertEquals(0, cache.getMaxWeight());
+    assertEquals(0, cache.getWeight());
+
+    // Without a Weigher, every Cacheable object weighs 1.
+    cache.writeObject("a", "aaaa");
+    cache.writeObject("b", "bbbb");
+
+    assertEquals(2, cache.getWeight());
+
+    cache.terminate();
+
+    final ConcurrentLRUCache weightedCache = new ConcurrentLRUCache();
+
+    weightedCache.setWeigher(STRING_LENGTH_WEIGHER);
+    weightedCache.setMaxWeight(10);
+
+    weightedCache.writeObject("a", "aaaa");
+    weightedCache.writeObject("b", "bbbb");
+
+    assertEquals(2, weightedCache.getSize());
+    assertEquals(8, weightedCache.getWeight());
+
+    // "a" becomes the most recently used, leaving "b" as the least recently used.
+    assertEquals("aaaa", weightedCache.readObject("a"));
+    weightedCache.writeObject("c", "cccc");
+
+    assertEquals(2, weightedCache.getSize());
+    assertEquals(8, weightedCache.getWeight());
+    assertTrue(weightedCache.containsKey("a"));
+    assertFalse(weightedCache.containsKey("b"));
+    assertTrue(weightedCache.containsKey("c"));
+
+    // Replacing a Cacheable object replaces it's weight.
+    weightedCache.writeObject("c", "cc");
+
+    assertEquals(6, weightedCache.getWeight());
+
+    // A Cacheable object heavier than the maximum weight is not retained.
+    weightedCache.writeObject("d", "ddddddddddddddd");
+
+    assertFalse(weightedCache.containsKey("d"));
+    assertTrue(weightedCache.getWeight() <= 10);
+
+    weightedCache.terminate();
+  }
+
+  public void testLRUCacheWeight() throws Exception {
+    final LRUCache cache = new LRUCache();
+
+    cache.setWeigher(STRING_LENGTH_WEIGHER);
+    cache.setMaxWeight(10);
+
+    cache.writeObject("a", "aaaa");
+    cache.writeObject("b", "bbbb");
+    cache.readObject("a");
+    cache.writeObject("c", "cccc");
+
+    // The maximum weight is enforced on write, evicting the least recently used Cacheable object.
+    assertEquals(2, cache.getSize());
+    assertEquals(8, cache.getWeight());
+    assertTrue(cache.containsKey("a"));
+    assertFalse(cache.containsKey("b"));
+    assertTrue(cache.containsKey("c"));
+
+    cache.writeObject("a", "aa");
+
+    assertEquals(6, cache.getWeight());
+
+    cache.terminate();
+  }
+
+  public void testLFUCacheWeight() throws Exception {
+    final LFUCache cache = new LFUCache();
+
+    cache.setWeigher(STRING_LENGTH_WEIGHER);
+    cache.setMaxWeight(10);
+
+    cache.writeObject("a", "aaaa");
+    cache.writeObject("b", "bbbb");
+    cache.readObject("b");
+    cache.readObject("b");
+    cache.readObject("a");
+
+    // The Cacheable object just written is evicted last, even though it has not been read.
+    cache.writeObject("c", "cccc");
+
+    assertEquals(2, cache.getSize());
+    assertEquals(8, cache.getWeight());
+    assertFalse(cache.containsKey("a"));
+    assertTrue(cache.containsKey("b"));
+    assertTrue(cache.containsKey("c"));
+
+    // A Cacheable object heavier than the maximum weight leaves the cache empty.
+    cache.writeObject("d", "ddddddddddd");
+
+    assertEquals(0, cache.getSize());
+    assertEquals(0, cache.getWeight());
+
+    cache.terminate();
+  }
+
+  public void testInvalidWeight() throws Exception {
+    final TinyLFUCache cache = new TinyLFUCache();
+
+    try {
+      cache.setMaxWeight(-1);
+      fail("Setting a negative max weight should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    cache.setWeigher(new Weigher() {
+      public long weigh(final String key, final Object data) {
+        return -1;
+      }
+    });
+
+    try {
+      cache.writeObject("a", "aaaa");
+      fail("Writing a Cacheable object with a negative weight should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    assertFalse(cache.containsKey("a"));
+    assertEquals(0, cache.getWeight());
+
+    cache.terminate();
+  }
+
+}
@@ -0,0 +1,458 @@
+/*
+ * ColumnarRecordTableTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.codeprimate.util.record.ColumnarRecordTable
+ */
+
+package com.codeprimate.util.record;
+
+import com.cp.common.util.record.Column;
+import com.cp.common.util.record.ColumnImpl;
+import com.cp.common.util.record.IncompatibleRecordException;
+import com.cp.common.util.record.NonUniqueColumnValueException;
+import com.cp.common.util.record.NullColumnValueException;
+import com.cp.common.util.record.Record;
+import com.cp.common.util.record.RecordComparator;
+import com.cp.common.util.record.RecordTable;
+import com.cp.common.util.sort.AbstractSortFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class ColumnarRecordTableTest extends TestCase {
+
+  public ColumnarRecordTableTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ColumnarRecordTableTest.class);
+    //suite.addTest(new ColumnarRecordTableTest("testName"));
+    return suite;
+  }
+
+  private Column getColumnInstance(final String name, final Class type, final boolean nullable, final boolean unique) {
+    final Column column = new ColumnImpl(name, type);
+    column.setNullable(nullable);
+    column.setUnique(unique);
+    return column;
+  }
+
+  private Column[] getColumns() {
+    return new Column[] {
+      getColumnInstance("personId", Integer.class, false, true),
+      getColumnInstance("name", String.class, false, false),
+      getColumnInstance("salary", Double.class, true, false),
+      getColumnInstance("visits", Long.class, true, false)
+    };
+  }
+
+  private Record getRecordInstance(final Integer personId, final String name, final Double salary, final Long visits) {
+    final Record<String> record = new DefaultRecord();
+    record.addField("personId", personId);
+    record.addField("name", name);
+    record.addField("salary", salary);
+    record.addField("visits", visits);
+    return record;
+  }
+
+  private RecordTable getRecordTableInstance() {
+    final RecordTable recordTable = new ColumnarRecordTable(getColumns(), 2);
+    recordTable.addRow(getRecordInstance(3, "Jon Doe", 50000.0d, 7l));
+    recordTable.addRow(getRecordInstance(1, "Jane Doe", null, 12l));
+    recordTable.addRow(getRecordInstance(2, "Pie Doe", 42000.5d, null));
+    return recordTable;
+  }
+
+  public void testAddRow() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+
+    assertEquals(3, recordTable.rowCount());
+    assertEquals(4, recordTable.columnCount());
+    assertEquals(new Integer(3), recordTable.getCellValue(0, 0));
+    assertEquals("Jane Doe", recordTable.getCellValue(1, 1));
+    assertNull(recordTable.getCellValue(1, 2));
+    assertEquals(new Double(42000.5d), recordTable.getCellValue(2, 2));
+    assertNull(recordTable.getCellValue(2, 3));
+    assertEquals(new Long(12l), recordTable.getCellValue(1, 3));
+
+    final Record row = recordTable.getRow(1);
+
+    assertEquals(4, row.size());
+    assertEquals("personId", row.getField(0));
+    assertEquals(new Integer(1), row.getValue("personId"));
+    assertEquals(new Integer(1), row.getValue(0));
+    assertNull(row.getValue("salary"));
+    assertEquals(1, recordTable.getRowIndex(row));
+    assertTrue(recordTable.contains(row));
+  }
+
+  public void testAddRowExceptionalFlow() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+
+    try {
+      recordTable.addRow(getRecordInstance(1, "Joe Doe", null, null));
+      fail("Adding a row with a duplicate personId should have thrown a NonUniqueColumnValueException!");
+    }
+    catch (NonUniqueColumnValueException expected) {
+    }
+
+    try {
+      recordTable.addRow(getRecordInstance(4, null, null, null));
+      fail("Adding a row with a null name should have thrown a NullColumnValueException!");
+    }
+    catch (NullColumnValueException expected) {
+    }
+
+    final Record<String> record = new DefaultRecord();
+    record.addField("personId", 4);
+
+    try {
+      recordTable.addRow(record);
+      fail("Adding a row missing columns should have thrown an IncompatibleRecordException!");
+    }
+    catch (IncompatibleRecordException expected) {
+    }
+
+    assertEquals(3, recordTable.rowCount());
+  }
+
+  public void testContains() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+
+    assertTrue(recordTable.contains(recordTable.getRow(2)));
+    assertTrue(recordTable.contains(getRecordInstance(3, "Jon Doe", 50000.0d, 7l)));
+    assertFalse(recordTable.contains(getRecordInstance(3, "Jon Doe", 50000.0d, 8l)));
+    assertFalse(recordTable.contains(getRecordInstance(4, "Jon Doe", 50000.0d, 7l)));
+
+    recordTable.setCellValue(0, 0, 4);
+
+    assertFalse(recordTable.contains(getRecordInstance(3, "Jon Doe", 50000.0d, 7l)));
+    assertTrue(recordTable.contains(getRecordInstance(4, "Jon Doe", 50000.0d, 7l)));
+  }
+
+  public void testFactory() throws Exception {
+    final RecordTable recordTable = new CPRecordFactory().getColumnarRecordTableInstance(getColumns());
+
+    assertTrue(recordTable instanceof ColumnarRecordTable);
+    assertEquals(4, recordTable.columnCount());
+    assertTrue(recordTable.isEmpty());
+  }
+
+  public void testForEachParallel() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final AtomicLong visits = new AtomicLong();
+
+    recordTable.forEachParallel(new Consumer<Record>() {
+      public void accept(final Record row) {
+        final Long value = (Long) row.get("visits");
+        visits.addAndGet(value == null ? 0l : value);
+      }
+    });
+
+    assertEquals(19l, visits.get());
+    assertEquals(3l, recordTable.parallelStream().count());
+  }
+
+  public void testGetRows() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Column name = recordTable.getColumn(1);
+
+    recordTable.addRow(getRecordInstance(4, "Jon Doe", null, null));
+
+    List<Record> rows = recordTable.getRows(name, "Jon Doe");
+
+    assertEquals(2, rows.size());
+    assertEquals(new Integer(3), rows.get(0).getValue("personId"));
+    assertEquals(new Integer(4), rows.get(1).getValue("personId"));
+    assertEquals(1, recordTable.getRows(recordTable.getColumn(0), 2).size());
+    assertEquals(2, recordTable.getRowIndex(recordTable.getRows(recordTable.getColumn(0), 2).get(0)));
+    assertTrue(recordTable.getRows(name, "Joe Doe").isEmpty());
+
+    // the index is maintained as rows are changed and removed
+    recordTable.setCellValue(0, 1, "Joe Doe");
+    recordTable.removeRow(3);
+
+    assertTrue(recordTable.getRows(name, "Jon Doe").isEmpty());
+
+    rows = recordTable.getRows(name, "Joe Doe");
+
+    assertEquals(1, rows.size());
+    assertEquals(new Integer(3), rows.get(0).getValue("personId"));
+  }
+
+  public void testGetRowsInRange() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Column salary = recordTable.getColumn(2);
+
+    List<Record> rows = recordTable.getRows(salary, 40000.0d, true, null, false);
+
+    assertEquals(2, rows.size());
+    assertEquals("Pie Doe", rows.get(0).getValue("name"));
+    assertEquals("Jon Doe", rows.get(1).getValue("name"));
+
+    recordTable.setCellValue(1, 2, 45000.0d);
+    rows = recordTable.getRows(salary, 42000.5d, false, 50000.0d, false);
+
+    assertEquals(1, rows.size());
+    assertEquals("Jane Doe", rows.get(0).getValue("name"));
+
+    assertTrue(recordTable.getRows(salary, 50000.0d, true, 40000.0d, true).isEmpty());
+    assertTrue(recordTable.getRows(salary, 45000.0d, true, 45000.0d, false).isEmpty());
+  }
+
+  public void testInsertColumn() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Column column = new ColumnImpl("age", Integer.class);
+    column.setDefaultValue(21);
+
+    assertTrue(recordTable.addColumn(column));
+    assertEquals(5, recordTable.columnCount());
+    assertEquals(4, recordTable.getColumnIndex(column));
+
+    for (int rowIndex = 0; rowIndex < recordTable.rowCount(); rowIndex++) {
+      assertEquals(new Integer(21), recordTable.getCellValue(rowIndex, 4));
+    }
+
+    assertEquals(new Integer(21), recordTable.getRow(0).getValue("age"));
+  }
+
+  public void testInsertNullableColumn() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+
+    assertTrue(recordTable.addColumn(new ColumnImpl("score", Integer.class)));
+    assertTrue(recordTable.addColumn(new ColumnImpl("rank", Long.class)));
+    assertTrue(recordTable.addColumn(new ColumnImpl("rating", Double.class)));
+
+    for (int rowIndex = 0; rowIndex < recordTable.rowCount(); rowIndex++) {
+      for (int columnIndex = 4; columnIndex < 7; columnIndex++) {
+        assertNull(recordTable.getCellValue(rowIndex, columnIndex));
+      }
+    }
+
+    recordTable.setCellValue(1, 4, 0);
+
+    assertNull(recordTable.getCellValue(0, 4));
+    assertEquals(new Integer(0), recordTable.getCellValue(1, 4));
+  }
+
+  public void testRemoveAll() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+
+    assertTrue(recordTable.removeAll());
+    assertTrue(recordTable.isEmpty());
+    assertTrue(recordTable.addRow(getRecordInstance(3, "Jon Doe", null, null)));
+    assertEquals(1, recordTable.rowCount());
+    assertNull(recordTable.getCellValue(0, 2));
+  }
+
+  public void testRemoveRow() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Record pieDoe = recordTable.getRow(2);
+    final Record janeDoe = recordTable.removeRow(1);
+
+    assertEquals(2, recordTable.rowCount());
+    assertFalse(janeDoe.isMutable());
+    assertEquals("Jane Doe", janeDoe.getValue("name"));
+    assertEquals(new Long(12l), janeDoe.getValue("visits"));
+    assertEquals(-1, recordTable.getRowIndex(janeDoe));
+    assertEquals(1, recordTable.getRowIndex(pieDoe));
+    assertEquals("Pie Doe", pieDoe.getValue("name"));
+
+    // the free storage slot is reused
+    assertTrue(recordTable.addRow(getRecordInstance(1, "Joe Doe", null, 1l)));
+    assertEquals("Joe Doe", recordTable.getCellValue(2, 1));
+    assertNull(recordTable.getCellValue(2, 2));
+    assertEquals("Jane Doe", janeDoe.getValue("name"));
+  }
+
+  public void testRemoveRowWithStaleView() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Record janeDoe = recordTable.getRow(1);
+
+    recordTable.removeRow(1);
+
+    assertFalse(recordTable.contains(janeDoe));
+    assertEquals(-1, recordTable.getRowIndex(janeDoe));
+    assertFalse(janeDoe.isMutable());
+
+    try {
+      janeDoe.getValue("name");
+      fail("Reading a stale view of a removed row should have thrown an IllegalStateException!");
+    }
+    catch (IllegalStateException expected) {
+    }
+
+    // the view remains stale once the free storage slot is reused
+    assertTrue(recordTable.addRow(getRecordInstance(4, "Joe Doe", null, 1l)));
+    assertFalse(recordTable.contains(janeDoe));
+
+    try {
+      recordTable.set(janeDoe, 0);
+      fail("Setting a stale view of a removed row should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    final Record joeDoe = recordTable.getRow(2);
+
+    recordTable.removeAll();
+
+    assertFalse(recordTable.contains(joeDoe));
+  }
+
+  public void testRowIterator() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    int count = 0;
+
+    for (final Iterator<Record> it = recordTable.rowIterator(); it.hasNext(); count++) {
+      final Record row = it.next();
+
+      if ("Jon Doe".equals(row.getValue("name"))) {
+        it.remove();
+      }
+    }
+
+    assertEquals(3, count);
+    assertEquals(2, recordTable.rowCount());
+    assertEquals("Jane Doe", recordTable.getCellValue(0, 1));
+  }
+
+  public void testSetAll() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Record jonDoe = recordTable.getRow(0);
+
+    recordTable.setAll(new Object[] { recordTable.getRow(2), recordTable.getRow(1), jonDoe });
+
+    assertEquals(new Integer(2), recordTable.getCellValue(0, 0));
+    assertEquals(new Integer(3), recordTable.getCellValue(2, 0));
+    assertEquals(2, recordTable.getRowIndex(jonDoe));
+
+    try {
+      recordTable.setAll(new Object[] { jonDoe, jonDoe, recordTable.getRow(0) });
+      fail("Setting the same row twice should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      recordTable.setAll(new Object[] { getRecordInstance(7, "X", null, null), jonDoe, recordTable.getRow(0) });
+      fail("Setting a Record that is not a row of the record table should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    assertEquals(new Integer(3), recordTable.getCellValue(2, 0));
+  }
+
+  public void testSetCellValue() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Record row = recordTable.getRow(1);
+
+    recordTable.setCellValue(1, 2, 60000.0d);
+
+    assertEquals(new Double(60000.0d), row.getValue("salary"));
+
+    row.setValue("salary", null);
+
+    assertNull(recordTable.getCellValue(1, 2));
+
+    try {
+      row.setValue("personId", 3);
+      fail("Setting a duplicate personId should have thrown a NonUniqueColumnValueException!");
+    }
+    catch (NonUniqueColumnValueException expected) {
+    }
+
+    assertEquals(new Integer(1), recordTable.getCellValue(1, 0));
+
+    // a row may be set to it's current value of a unique column
+    recordTable.setCellValue(1, 0, 1);
+    row.setValue("personId", 5);
+    recordTable.setCellValue(0, 0, 1);
+
+    assertEquals(new Integer(1), recordTable.getCellValue(0, 0));
+  }
+
+  public void testSort() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+
+    AbstractSortFactory.getInstance().getMergeSort(new RecordComparator(
+      new Column[] { recordTable.getColumn(0) })).sort(recordTable);
+
+    assertEquals(new Integer(1), recordTable.getCellValue(0, 0));
+    assertEquals(new Integer(2), recordTable.getCellValue(1, 0));
+    assertEquals(new Integer(3), recordTable.getCellValue(2, 0));
+    assertEquals("Jon Doe", recordTable.getCellValue(2, 1));
+  }
+
+  public void testSpliterator() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Spliterator<Record> spliterator = recordTable.spliterator();
+
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    assertEquals(3l, spliterator.estimateSize());
+
+    final Spliterator<Record> prefix = spliterator.trySplit();
+
+    assertNotNull(prefix);
+    assertEquals(1l, prefix.estimateSize());
+    assertEquals(2l, spliterator.estimateSize());
+
+    final List<Object> personIds = new ArrayList<Object>();
+    final Consumer<Record> action = new Consumer<Record>() {
+      public void accept(final Record row) {
+        personIds.add(row.get("personId"));
+      }
+    };
+
+    prefix.forEachRemaining(action);
+    spliterator.forEachRemaining(action);
+
+    assertEquals(Arrays.asList(3, 1, 2), personIds);
+    assertEquals(Arrays.asList("Jon Doe", "Jane Doe", "Pie Doe"), recordTable.parallelStream().map(
+      new Function<Record, Object>() {
+        public Object apply(final Record row) {
+          return row.get("name");
+        }
+      }).collect(Collectors.toList()));
+  }
+
+  public void testSpliteratorIsFailFast() throws Exception {
+    final RecordTable recordTable = getRecordTableInstance();
+    final Spliterator<Record> spliterator = recordTable.spliterator();
+    final Consumer<Record> action = new Consumer<Record>() {
+      public void accept(final Record row) {
+      }
+    };
+
+    assertTrue(spliterator.tryAdvance(action));
+
+    recordTable.addRow(getRecordInstance(4, "Joe Doe", null, null));
+
+    try {
+      spliterator.tryAdvance(action);
+      fail("Advancing the Spliterator after adding a row should have thrown a ConcurrentModificationException!");
+    }
+    catch (ConcurrentModificationException expected) {
+    }
+  }
+
+}
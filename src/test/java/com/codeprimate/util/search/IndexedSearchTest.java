@@ -4,17 +4,38 @@
  * Copyright (c) 2003, Code Primate
  * All Rights Reserved
  * @author John J. Blum
- * @version 2005.8.25
+ * @version 2026.10.17
  */
 
 package com.codeprimate.util.search;
 
+import com.cp.common.util.search.AbstractSearchFactory;
+import com.cp.common.util.search.PropertyRangeSearchFilter;
+import com.cp.common.util.search.PropertySearchFilter;
+import com.cp.common.util.search.PropertySearchFilterTest.User;
+import com.cp.common.util.search.SearchFilter;
+import com.cp.common.util.search.SearchType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 public class IndexedSearchTest extends TestCase {
 
+  private final User jonDoe = new User(new Integer(1), "Jon", "Doe");
+  private final User janeDoe = new User(new Integer(2), "Jane", "Doe");
+  private final User jackHandy = new User(new Integer(3), "Jack", "Handy");
+  private final User randyHandy = new User(new Integer(4), "Randy", "Handy");
+  private final User jackBain = new User(new Integer(5), "Jack", "Bain");
+
+  private IndexedCollection users;
+
   public IndexedSearchTest(final String testName) {
     super(testName);
   }
@@ -26,8 +47,101 @@ public class IndexedSearchTest extends TestCase {
     return suite;
   }
 
-  public void test() throws Exception {
-    fail("Not Implemented!");
+  protected void setUp() throws Exception {
+    super.setUp();
+    users = new IndexedCollection(Arrays.asList(jonDoe, janeDoe, jackHandy, randyHandy, jackBain));
+    users.addIndex(new HashIndex("lastName"));
+    users.addIndex(new SortedIndex("id"));
+  }
+
+  private static PropertySearchFilter getPropertyFilter(final String property, final Object value) {
+    final Map propertyMap = new HashMap();
+    propertyMap.put(property, value);
+    return new PropertySearchFilter(propertyMap, property);
+  }
+
+  private static Collection search(final SearchFilter filter, final IndexedCollection collection) throws Exception {
+    return (Collection) AbstractSearchFactory.getInstance().getSearch(SearchType.INDEXED_SEARCH, filter).search(collection);
+  }
+
+  public void testAddUnindexableElement() throws Exception {
+    try {
+      users.add("Jack Doe");
+      fail("Adding an element without the indexed properties should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+      // expected
+    }
+
+    assertEquals(5, users.size());
+    assertEquals(Arrays.asList(jonDoe, janeDoe), new ArrayList(search(getPropertyFilter("lastName", "Doe"), users)));
+    assertEquals(5, search(new PropertyRangeSearchFilter("id", null, null), users).size());
+  }
+
+  public void testEqualitySearch() throws Exception {
+    final Collection results = search(getPropertyFilter("lastName", "Handy"), users);
+
+    assertEquals(Arrays.asList(jackHandy, randyHandy), new ArrayList(results));
+    assertTrue(search(getPropertyFilter("lastName", "Johnson"), users).isEmpty());
+  }
+
+  public void testFilterAppliedToIndexedElements() throws Exception {
+    final Map propertyMap = new HashMap();
+    propertyMap.put("lastName", "Doe");
+    propertyMap.put("firstName", "Jane");
+
+    final Collection results = search(new PropertySearchFilter(propertyMap, "lastName"), users);
+
+    assertEquals(Arrays.asList(janeDoe), new ArrayList(results));
+  }
+
+  public void testIndexMaintainedOnMutation() throws Exception {
+    final User ronHandy = new User(new Integer(6), "Ron", "Handy");
+
+    users.add(ronHandy);
+    assertEquals(3, search(getPropertyFilter("lastName", "Handy"), users).size());
+
+    users.set(new User(new Integer(4), "Randy", "Summers"), 3);
+    assertEquals(Arrays.asList(jackHandy, ronHandy), new ArrayList(search(getPropertyFilter("lastName", "Handy"), users)));
+
+    for (final Iterator it = users.iterator(); it.hasNext(); ) {
+      if ("Handy".equals(((User) it.next()).getLastName())) {
+        it.remove();
+      }
+    }
+
+    assertTrue(search(getPropertyFilter("lastName", "Handy"), users).isEmpty());
+    assertEquals(4, search(new PropertyRangeSearchFilter("id", null, null), users).size());
+
+    users.clear();
+    assertTrue(search(getPropertyFilter("lastName", "Doe"), users).isEmpty());
+  }
+
+  public void testLinearSearchWithoutIndex() throws Exception {
+    final Collection results = search(getPropertyFilter("firstName", "Jack"), users);
+
+    assertEquals(Arrays.asList(jackHandy, jackBain), new ArrayList(results));
+  }
+
+  public void testRangeSearch() throws Exception {
+    final Collection results = search(new PropertyRangeSearchFilter("id", new Integer(2), new Integer(4)), users);
+
+    assertEquals(Arrays.asList(janeDoe, jackHandy, randyHandy), new ArrayList(results));
+
+    final List range = new ArrayList(((SortedIndex) users.getIndex("id")).getRange(new Integer(2), false, null, false));
+
+    assertEquals(Arrays.asList(jackHandy, randyHandy, jackBain), range);
+  }
+
+  public void testRangeSearchWithEmptyRange() throws Exception {
+    final PropertyRangeSearchFilter filter = new PropertyRangeSearchFilter("id", new Integer(4), new Integer(2));
+
+    assertTrue(search(filter, users).isEmpty());
+    assertTrue(((Collection) AbstractSearchFactory.getInstance().getSearch(SearchType.LINEAR_SEARCH, filter)
+      .search(users)).isEmpty());
+    assertTrue(((SortedIndex) users.getIndex("id")).getRange(new Integer(3), false, new Integer(3), true).isEmpty());
+    assertEquals(Arrays.asList(jackHandy),
+      new ArrayList(((SortedIndex) users.getIndex("id")).getRange(new Integer(3), true, new Integer(3), true)));
   }
 
 }
@@ -0,0 +1,165 @@
+/*
+ * ParallelSearchTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.search;
+
+import com.cp.common.util.SearchableSortableCollection;
+import com.cp.common.util.search.AbstractSearchFactory;
+import com.cp.common.util.search.SearchException;
+import com.cp.common.util.search.SearchFilter;
+import com.cp.common.util.search.SearchType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class ParallelSearchTest extends TestCase {
+
+  private static final int SIZE = 10000;
+
+  private static final SearchFilter MULTIPLE_OF_SEVEN_FILTER = new SearchFilter() {
+    public boolean matches(final Object obj) throws SearchException {
+      return (((Integer) obj).intValue() % 7 == 0);
+    }
+  };
+
+  private SearchableSortableCollection numbers;
+
+  public ParallelSearchTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ParallelSearchTest.class);
+    //suite.addTest(new ParallelSearchTest("testName"));
+    return suite;
+  }
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    final List elements = new ArrayList(SIZE);
+
+    for (int index = 1; index <= SIZE; index++) {
+      elements.add(new Integer(index));
+    }
+
+    numbers = new SearchableSortableCollection(elements);
+  }
+
+  private static ParallelSearch getParallelSearch(final SearchFilter filter, final ParallelSearch.Mode mode,
+                                                  final boolean ordered) {
+    return new ParallelSearch(filter, mode, ordered, 16, ForkJoinPool.commonPool());
+  }
+
+  private static List getMultiplesOfSeven() {
+    final List multiples = new ArrayList();
+
+    for (int index = 7; index <= SIZE; index += 7) {
+      multiples.add(new Integer(index));
+    }
+
+    return multiples;
+  }
+
+  public void testFindAll() throws Exception {
+    final Collection results = (Collection) getParallelSearch(MULTIPLE_OF_SEVEN_FILTER,
+      ParallelSearch.Mode.FIND_ALL, true).search(numbers);
+
+    assertEquals(getMultiplesOfSeven(), new ArrayList(results));
+  }
+
+  public void testFindAllUnordered() throws Exception {
+    final List results = new ArrayList((Collection) getParallelSearch(MULTIPLE_OF_SEVEN_FILTER,
+      ParallelSearch.Mode.FIND_ALL, false).search(numbers));
+
+    Collections.sort(results);
+
+    assertEquals(getMultiplesOfSeven(), results);
+  }
+
+  public void testFindAny() throws Exception {
+    final Integer result = (Integer) getParallelSearch(MULTIPLE_OF_SEVEN_FILTER,
+      ParallelSearch.Mode.FIND_ANY, true).search(numbers);
+
+    assertNotNull(result);
+    assertEquals(0, result.intValue() % 7);
+  }
+
+  public void testFindFirst() throws Exception {
+    final SearchFilter filter = new SearchFilter() {
+      public boolean matches(final Object obj) throws SearchException {
+        return (((Integer) obj).intValue() > 4321);
+      }
+    };
+
+    for (int count = 0; count < 10; count++) {
+      assertEquals(new Integer(4322), getParallelSearch(filter, ParallelSearch.Mode.FIND_FIRST, true).search(numbers));
+    }
+  }
+
+  public void testNoMatch() throws Exception {
+    final SearchFilter filter = new SearchFilter() {
+      public boolean matches(final Object obj) throws SearchException {
+        return false;
+      }
+    };
+
+    assertTrue(((Collection) getParallelSearch(filter, ParallelSearch.Mode.FIND_ALL, true).search(numbers)).isEmpty());
+    assertTrue(((Collection) getParallelSearch(filter, ParallelSearch.Mode.FIND_ALL, false).search(numbers)).isEmpty());
+    assertNull(getParallelSearch(filter, ParallelSearch.Mode.FIND_ANY, true).search(numbers));
+    assertNull(getParallelSearch(filter, ParallelSearch.Mode.FIND_FIRST, true).search(numbers));
+  }
+
+  public void testSearchException() throws Exception {
+    final SearchFilter filter = new SearchFilter() {
+      public boolean matches(final Object obj) throws SearchException {
+        if (((Integer) obj).intValue() == 5000) {
+          throw new SearchException("test");
+        }
+        return false;
+      }
+    };
+
+    try {
+      getParallelSearch(filter, ParallelSearch.Mode.FIND_ALL, true).search(numbers);
+      fail("Calling search with a failing SearchFilter should have thrown a SearchException!");
+    }
+    catch (SearchException expected) {
+      assertEquals("test", expected.getMessage());
+    }
+  }
+
+  public void testSearchFactory() throws Exception {
+    final Collection results = (Collection) AbstractSearchFactory.getInstance()
+      .getSearch(SearchType.PARALLEL_SEARCH, MULTIPLE_OF_SEVEN_FILTER).search(numbers);
+
+    assertEquals(getMultiplesOfSeven(), new ArrayList(results));
+  }
+
+  public void testSetThreshold() throws Exception {
+    final ParallelSearch search = new ParallelSearch(MULTIPLE_OF_SEVEN_FILTER);
+
+    assertEquals(ParallelSearch.DEFAULT_THRESHOLD, search.getThreshold());
+    assertEquals(ParallelSearch.Mode.FIND_ALL, search.getMode());
+    assertTrue(search.isOrdered());
+
+    try {
+      search.setThreshold(0);
+      fail("Calling setThreshold with 0 should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+}
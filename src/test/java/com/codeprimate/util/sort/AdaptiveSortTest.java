@@ -0,0 +1,123 @@
+/*
+ * AdaptiveSortTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.sort;
+
+import com.cp.common.util.SearchableSortableCollection;
+import com.cp.common.util.SortAscendingComparator;
+import com.cp.common.util.sort.AbstractSortTest;
+import com.cp.common.util.sort.SortType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class AdaptiveSortTest extends AbstractSortTest {
+
+  private static final int NUMERIC_LIST_SIZE = 10000;
+
+  public AdaptiveSortTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(AdaptiveSortTest.class);
+    //suite.addTest(new AdaptiveSortTest("testNumberSort"));
+    return suite;
+  }
+
+  protected int getNumericListSize() {
+    return NUMERIC_LIST_SIZE;
+  }
+
+  protected com.cp.common.util.sort.Sorter getSorterImplementation(final Comparator orderBy) {
+    return new AdaptiveSort(orderBy);
+  }
+
+  private static Integer[] getRandomArray(final int size) {
+    final Random numberGenerator = new Random(size);
+    final Integer[] numbers = new Integer[size];
+
+    for (int index = 0; index < size; index++) {
+      numbers[index] = numberGenerator.nextInt(size);
+    }
+
+    return numbers;
+  }
+
+  private static void assertSorted(final Object[] elements) {
+    for (int index = 1; index < elements.length; index++) {
+      assertTrue(((Integer) elements[index - 1]).intValue() <= ((Integer) elements[index]).intValue());
+    }
+  }
+
+  public void testFactory() throws Exception {
+    assertSame(SortType.ADAPTIVE_SORT, SortType.getSortType(SortType.ADAPTIVE_SORT_DESCRIPTION));
+    assertTrue(new CPSortFactory().getSort(SortType.ADAPTIVE_SORT, SortAscendingComparator.getInstance()) instanceof AdaptiveSort);
+  }
+
+  public void testInsertionSortStrategy() throws Exception {
+    final AdaptiveSort sorter = new AdaptiveSort();
+    final Integer[] elements = getRandomArray(AdaptiveSort.DEFAULT_INSERTION_SORT_THRESHOLD);
+
+    assertEquals(AdaptiveSort.Strategy.INSERTION_SORT, sorter.sort(elements));
+    assertSorted(elements);
+  }
+
+  public void testParallelSortStrategy() throws Exception {
+    final AdaptiveSort sorter = new AdaptiveSort();
+    sorter.setParallelSortThreshold(1024);
+
+    final Integer[] elements = getRandomArray(NUMERIC_LIST_SIZE);
+    final long count = AdaptiveSort.getStrategyCount(AdaptiveSort.Strategy.PARALLEL_SORT);
+    final AdaptiveSort.Strategy expectedStrategy = (Runtime.getRuntime().availableProcessors() > 1
+      ? AdaptiveSort.Strategy.PARALLEL_SORT : AdaptiveSort.Strategy.RUN_MERGE_SORT);
+
+    assertEquals(expectedStrategy, sorter.sort(elements));
+    assertEquals(expectedStrategy, sorter.getLastStrategy());
+    assertSorted(elements);
+
+    if (AdaptiveSort.Strategy.PARALLEL_SORT.equals(expectedStrategy)) {
+      assertTrue(AdaptiveSort.getStrategyCount(AdaptiveSort.Strategy.PARALLEL_SORT) > count);
+    }
+  }
+
+  public void testPresortedStrategy() throws Exception {
+    final List<Integer> list = new ArrayList<Integer>(NUMERIC_LIST_SIZE);
+
+    for (int index = 0; index < NUMERIC_LIST_SIZE; index++) {
+      list.add(index);
+    }
+
+    final AdaptiveSort sorter = new AdaptiveSort();
+
+    sorter.sort(new SearchableSortableCollection(list));
+
+    assertEquals(AdaptiveSort.Strategy.PRESORTED, sorter.getLastStrategy());
+  }
+
+  public void testRunMergeSortStrategy() throws Exception {
+    final Integer[] elements = new Integer[NUMERIC_LIST_SIZE];
+
+    // Two runs, the first descending and the second ascending.
+    for (int index = 0; index < NUMERIC_LIST_SIZE; index++) {
+      elements[index] = (index < NUMERIC_LIST_SIZE / 2 ? NUMERIC_LIST_SIZE - index : index);
+    }
+
+    final AdaptiveSort sorter = new AdaptiveSort();
+    sorter.setParallelSortThreshold(1024);
+
+    assertEquals(AdaptiveSort.Strategy.RUN_MERGE_SORT, sorter.sort(elements));
+    assertSorted(elements);
+  }
+
+}
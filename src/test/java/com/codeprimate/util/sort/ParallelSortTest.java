@@ -0,0 +1,142 @@
+/*
+ * ParallelSortTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.codeprimate.util.sort;
+
+import com.cp.common.util.SearchableSortableCollection;
+import com.cp.common.util.SortAscendingComparator;
+import com.cp.common.util.sort.AbstractSortTest;
+import com.cp.common.util.sort.SortType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class ParallelSortTest extends AbstractSortTest {
+
+  private static final int NUMERIC_LIST_SIZE = 10000;
+
+  // A low threshold so that the test lists are sorted by more than one SortTask.
+  private static final int THRESHOLD = 64;
+
+  public ParallelSortTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ParallelSortTest.class);
+    //suite.addTest(new ParallelSortTest("testNumberSort"));
+    return suite;
+  }
+
+  protected int getNumericListSize() {
+    return NUMERIC_LIST_SIZE;
+  }
+
+  protected com.cp.common.util.sort.Sorter getSorterImplementation(final Comparator orderBy) {
+    return new ParallelSort(orderBy, THRESHOLD);
+  }
+
+  private static List<Integer> getRandomList(final long seed) {
+    final Random numberGenerator = new Random(seed);
+    final List<Integer> numberList = new ArrayList<Integer>(NUMERIC_LIST_SIZE);
+
+    for (int count = NUMERIC_LIST_SIZE; count-- > 0; ) {
+      numberList.add(numberGenerator.nextInt(NUMERIC_LIST_SIZE));
+    }
+
+    return numberList;
+  }
+
+  public void testConcurrentSorts() throws Exception {
+    final ParallelSort sorter = new ParallelSort(SortAscendingComparator.getInstance(), THRESHOLD);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<Future<SearchableSortableCollection>> futures = new ArrayList<Future<SearchableSortableCollection>>();
+
+    try {
+      for (int index = 0; index < 8; index++) {
+        final long seed = index;
+
+        futures.add(executor.submit(new Callable<SearchableSortableCollection>() {
+          public SearchableSortableCollection call() throws Exception {
+            final SearchableSortableCollection list = new SearchableSortableCollection(getRandomList(seed));
+            sorter.sort(list);
+            return list;
+          }
+        }));
+      }
+
+      for (final Future<SearchableSortableCollection> future : futures) {
+        final SearchableSortableCollection list = future.get();
+
+        assertEquals(NUMERIC_LIST_SIZE, list.size());
+
+        for (int index = 1; index < list.size(); index++) {
+          assertTrue(((Integer) list.get(index - 1)).intValue() <= ((Integer) list.get(index)).intValue());
+        }
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testFactory() throws Exception {
+    assertSame(SortType.PARALLEL_SORT, SortType.getSortType(SortType.PARALLEL_SORT_DESCRIPTION));
+    assertTrue(new CPSortFactory().getSort(SortType.PARALLEL_SORT, SortAscendingComparator.getInstance()) instanceof ParallelSort);
+  }
+
+  public void testInvalidThreshold() throws Exception {
+    try {
+      new ParallelSort(SortAscendingComparator.getInstance(), 1);
+      fail("Setting a threshold less than 2 should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testStableSort() throws Exception {
+    final List<String> list = new ArrayList<String>(NUMERIC_LIST_SIZE);
+
+    for (int index = 0; index < NUMERIC_LIST_SIZE; index++) {
+      list.add((index % 10) + ":" + index);
+    }
+
+    // Order by the first character only, so elements with equal keys must keep their relative order.
+    final Comparator orderBy = new Comparator() {
+      public int compare(final Object obj1, final Object obj2) {
+        return (obj1.toString().charAt(0) - obj2.toString().charAt(0));
+      }
+    };
+
+    final SearchableSortableCollection sortableList = new SearchableSortableCollection(list);
+
+    new ParallelSort(orderBy, THRESHOLD).sort(sortableList);
+
+    for (int index = 1; index < sortableList.size(); index++) {
+      final String previous = sortableList.get(index - 1).toString();
+      final String current = sortableList.get(index).toString();
+
+      if (previous.charAt(0) == current.charAt(0)) {
+        assertTrue(Integer.parseInt(previous.substring(2)) < Integer.parseInt(current.substring(2)));
+      }
+      else {
+        assertTrue(previous.charAt(0) < current.charAt(0));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * PropertyAccessorTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.beans.util.PropertyAccessor
+ */
+
+package com.cp.common.beans.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class PropertyAccessorTest extends TestCase {
+
+  public PropertyAccessorTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(PropertyAccessorTest.class);
+    //suite.addTest(new PropertyAccessorTest("testName"));
+    return suite;
+  }
+
+  public void testGetInstance() throws Exception {
+    final PropertyAccessor accessor = PropertyAccessor.getInstance(Person.class, "name");
+
+    assertNotNull(accessor);
+    assertSame(accessor, PropertyAccessor.getInstance(Person.class, "name"));
+    assertNotSame(accessor, PropertyAccessor.getInstance(Person.class, "age"));
+    assertEquals(Person.class, accessor.getBeanType());
+    assertEquals("name", accessor.getProperty());
+    assertTrue(accessor.isCompiled());
+  }
+
+  public void testGetInstanceWithInvalidProperty() throws Exception {
+    try {
+      PropertyAccessor.getInstance(Person.class, "nonExistingProperty");
+      fail("Calling getInstance with a non-existing property should have thrown a NoSuchPropertyException!");
+    }
+    catch (NoSuchPropertyException expected) {
+    }
+
+    try {
+      PropertyAccessor.getInstance(Person.class, "password");
+      fail("Calling getInstance with a write-only property should have thrown an UnreadablePropertyException!");
+    }
+    catch (UnreadablePropertyException expected) {
+    }
+
+    try {
+      PropertyAccessor.getInstance(Person.class, "");
+      fail("Calling getInstance with an empty property should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testGetPropertyValue() throws Exception {
+    final Person person = new Person("Jon Doe", 42);
+
+    assertEquals("Jon Doe", PropertyAccessor.getPropertyValue(person, "name"));
+    assertEquals(new Integer(42), PropertyAccessor.getPropertyValue(person, "age"));
+    assertEquals(Boolean.TRUE, PropertyAccessor.getPropertyValue(person, "adult"));
+
+    person.setName("Jane Doe");
+
+    assertEquals("Jane Doe", PropertyAccessor.getPropertyValue(person, "name"));
+  }
+
+  public void testGetPropertyValueOfNonPublicClass() throws Exception {
+    final PrivatePerson person = new PrivatePerson("Jack Handy");
+
+    assertEquals("Jack Handy", PropertyAccessor.getPropertyValue(person, "name"));
+    assertTrue(PropertyAccessor.getInstance(PrivatePerson.class, "name").isCompiled());
+  }
+
+  public void testGetPropertyValueOfMap() throws Exception {
+    final Map map = new HashMap();
+    map.put("name", "Randy Handy");
+
+    assertEquals("Randy Handy", PropertyAccessor.getPropertyValue(map, "name"));
+    assertFalse(PropertyAccessor.getInstance(HashMap.class, "name").isCompiled());
+  }
+
+  public void testGetPropertyValueOfNestedProperty() throws Exception {
+    final Person person = new Person("Jon Doe", 42);
+    person.setSpouse(new Person("Jane Doe", 40));
+
+    assertEquals("Jane Doe", PropertyAccessor.getPropertyValue(person, "spouse.name"));
+    assertFalse(PropertyAccessor.getInstance(Person.class, "spouse.name").isCompiled());
+  }
+
+  public void testGetPropertyValueThrowingException() throws Exception {
+    try {
+      PropertyAccessor.getPropertyValue(new Person("Jon Doe", 42), "failing");
+      fail("Reading a property whose read method throws an Exception should have thrown a FailedToReadPropertyException!");
+    }
+    catch (FailedToReadPropertyException expected) {
+      assertTrue(expected.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  public static class Person {
+
+    private int age;
+
+    private Person spouse;
+
+    private String name;
+
+    public Person(final String name, final int age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    public boolean isAdult() {
+      return (age >= 18);
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("test");
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(final String name) {
+      this.name = name;
+    }
+
+    public void setPassword(final String password) {
+    }
+
+    public Person getSpouse() {
+      return spouse;
+    }
+
+    public void setSpouse(final Person spouse) {
+      this.spouse = spouse;
+    }
+  }
+
+  private static class PrivatePerson {
+
+    private final String name;
+
+    private PrivatePerson(final String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * CacheSchedulerTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.cp.common.util.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class CacheSchedulerTest extends TestCase {
+
+  public CacheSchedulerTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(CacheSchedulerTest.class);
+    //suite.addTest(new CacheSchedulerTest("testName"));
+    return suite;
+  }
+
+  public void testScheduleWithFixedDelay() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(4);
+    final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+
+    final Runnable task = new Runnable() {
+      public void run() {
+        threads.add(Thread.currentThread());
+        latch.countDown();
+      }
+    };
+
+    final ScheduledFuture<?> future1 = CacheScheduler.scheduleWithFixedDelay(task, 10l);
+    final ScheduledFuture<?> future2 = CacheScheduler.scheduleWithFixedDelay(task, 10l);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+    future1.cancel(false);
+    future2.cancel(false);
+
+    // All tasks run on the single shared daemon thread.
+    assertEquals(1, threads.size());
+    assertTrue(threads.iterator().next().isDaemon());
+  }
+
+  public void testFailingTaskIsRescheduled() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(3);
+
+    final ScheduledFuture<?> future = CacheScheduler.scheduleWithFixedDelay(new Runnable() {
+      public void run() {
+        latch.countDown();
+        throw new IllegalStateException("test");
+      }
+    }, 10l);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertFalse(future.isDone());
+    future.cancel(false);
+  }
+
+  public void testShutdown() throws Exception {
+    final ScheduledFuture<?> future = CacheScheduler.scheduleWithFixedDelay(new Runnable() {
+      public void run() {
+      }
+    }, 60000l);
+
+    CacheScheduler.shutdown();
+
+    assertTrue(future.isCancelled());
+
+    // The shared thread is restarted by tasks scheduled after shutdown.
+    final CountDownLatch latch = new CountDownLatch(1);
+    final ScheduledFuture<?> restartedFuture = CacheScheduler.scheduleWithFixedDelay(new Runnable() {
+      public void run() {
+        latch.countDown();
+      }
+    }, 10l);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    restartedFuture.cancel(false);
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * TimerWheelTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.cp.common.util.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class TimerWheelTest extends TestCase {
+
+  private static final long START_TIME = 1000000000l;
+
+  public TimerWheelTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(TimerWheelTest.class);
+    //suite.addTest(new TimerWheelTest("testName"));
+    return suite;
+  }
+
+  public void testAdvance() throws Exception {
+    final TimerWheel<String> timerWheel = new TimerWheel<String>(START_TIME);
+    final ExpiredItems expiredItems = new ExpiredItems();
+
+    timerWheel.schedule("oneSecond", START_TIME + 1000l);
+    timerWheel.schedule("oneMinute", START_TIME + 60000l);
+    timerWheel.schedule("oneHour", START_TIME + 3600000l);
+    timerWheel.schedule("oneDay", START_TIME + 86400000l);
+    timerWheel.schedule("oneMonth", START_TIME + 30l * 86400000l);
+
+    assertEquals(0, timerWheel.advance(START_TIME + 500l, expiredItems));
+    assertTrue(expiredItems.isEmpty());
+
+    assertEquals(1, timerWheel.advance(START_TIME + 2500l, expiredItems));
+    assertEquals("oneSecond", expiredItems.remove(0));
+
+    assertEquals(0, timerWheel.advance(START_TIME + 59000l, expiredItems));
+    assertEquals(1, timerWheel.advance(START_TIME + 62000l, expiredItems));
+    assertEquals("oneMinute", expiredItems.remove(0));
+
+    // Advancing in small steps cascades timers from the coarse levels without expiring them early.
+    for (long time = START_TIME + 62000l; time < START_TIME + 3590000l; time += 30000l) {
+      assertEquals(0, timerWheel.advance(time, expiredItems));
+    }
+
+    assertEquals(1, timerWheel.advance(START_TIME + 3602000l, expiredItems));
+    assertEquals("oneHour", expiredItems.remove(0));
+
+    assertEquals(0, timerWheel.advance(START_TIME + 86000000l, expiredItems));
+    assertEquals(1, timerWheel.advance(START_TIME + 86402000l, expiredItems));
+    assertEquals("oneDay", expiredItems.remove(0));
+
+    assertEquals(1, timerWheel.advance(START_TIME + 31l * 86400000l, expiredItems));
+    assertEquals("oneMonth", expiredItems.remove(0));
+    assertTrue(expiredItems.isEmpty());
+  }
+
+  public void testCancel() throws Exception {
+    final TimerWheel<String> timerWheel = new TimerWheel<String>(START_TIME);
+    final ExpiredItems expiredItems = new ExpiredItems();
+
+    final TimerWheel.Timer<String> cancelledTimer = timerWheel.schedule("cancelled", START_TIME + 5000l);
+    final TimerWheel.Timer<String> timer = timerWheel.schedule("expired", START_TIME + 5000l);
+
+    assertTrue(cancelledTimer.isScheduled());
+    assertEquals(START_TIME + 5000l, timer.getDeadline());
+    assertEquals("expired", timer.getItem());
+
+    timerWheel.cancel(cancelledTimer);
+
+    assertFalse(cancelledTimer.isScheduled());
+    assertEquals(1, timerWheel.advance(START_TIME + 10000l, expiredItems));
+    assertEquals("expired", expiredItems.remove(0));
+    assertFalse(timer.isScheduled());
+  }
+
+  public void testScheduleInThePast() throws Exception {
+    final TimerWheel<String> timerWheel = new TimerWheel<String>(START_TIME);
+    final ExpiredItems expiredItems = new ExpiredItems();
+
+    timerWheel.schedule("past", START_TIME - 60000l);
+
+    assertEquals(1, timerWheel.advance(START_TIME + 1100l, expiredItems));
+    assertEquals("past", expiredItems.remove(0));
+  }
+
+  private static final class ExpiredItems extends ArrayList<String> implements TimerWheel.ExpirationHandler<String> {
+
+    public void expired(final String item) {
+      add(item);
+    }
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * ColumnIndexTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.record.ColumnIndex
+ */
+
+package com.cp.common.util.record;
+
+import java.util.Arrays;
+import java.util.Collections;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class ColumnIndexTest extends TestCase {
+
+  public ColumnIndexTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ColumnIndexTest.class);
+    //suite.addTest(new ColumnIndexTest("testName"));
+    return suite;
+  }
+
+  private ColumnIndex<String> getColumnIndex() {
+    final ColumnIndex<String> index = new ColumnIndex<String>(new ColumnImpl("age", Integer.class));
+    index.add(30, "Jon");
+    index.add(25, "Jane");
+    index.add(30, "Pie");
+    index.add(null, "Baby");
+    index.add(40, "Joe");
+    return index;
+  }
+
+  public void testAdd() throws Exception {
+    final ColumnIndex<String> index = getColumnIndex();
+
+    assertEquals(4, index.size());
+    assertFalse(index.isEmpty());
+    assertTrue(index.contains(30));
+    assertTrue(index.contains(null));
+    assertFalse(index.contains(35));
+    assertEquals(Arrays.asList("Jane"), index.get(25));
+    assertEquals(Arrays.asList("Jon", "Pie"), index.get(30));
+    assertEquals(Arrays.asList("Baby"), index.get(null));
+    assertTrue(index.get(35).isEmpty());
+  }
+
+  public void testClear() throws Exception {
+    final ColumnIndex<String> index = getColumnIndex();
+
+    assertEquals(4, index.getRange(null, true, null, true).size());
+
+    index.clear();
+
+    assertTrue(index.isEmpty());
+    assertFalse(index.contains(30));
+    assertTrue(index.getRange(null, true, null, true).isEmpty());
+  }
+
+  public void testConstructWithNullColumn() throws Exception {
+    try {
+      new ColumnIndex<String>(null);
+      fail("Constructing a ColumnIndex with a null Column should have thrown a NullPointerException!");
+    }
+    catch (NullPointerException expected) {
+    }
+  }
+
+  public void testContainsOther() throws Exception {
+    final ColumnIndex<String> index = getColumnIndex();
+
+    assertFalse(index.containsOther(25, "Jane"));
+    assertTrue(index.containsOther(25, "Jon"));
+    assertTrue(index.containsOther(25, null));
+    assertTrue(index.containsOther(30, "Jon"));
+    assertFalse(index.containsOther(35, null));
+  }
+
+  public void testGetRange() throws Exception {
+    final ColumnIndex<String> index = getColumnIndex();
+
+    assertEquals(Arrays.asList("Jane", "Jon", "Pie", "Joe"), index.getRange(null, true, null, true));
+    assertEquals(Arrays.asList("Jon", "Pie", "Joe"), index.getRange(30, true, null, true));
+    assertEquals(Arrays.asList("Joe"), index.getRange(30, false, null, true));
+    assertEquals(Arrays.asList("Jane", "Jon", "Pie"), index.getRange(null, true, 30, true));
+    assertEquals(Arrays.asList("Jane"), index.getRange(null, true, 30, false));
+    assertTrue(index.getRange(31, true, 39, true).isEmpty());
+
+    // the sorted index is maintained once built
+    index.add(35, "Bob");
+    index.remove(25, "Jane");
+
+    assertEquals(Arrays.asList("Jon", "Pie", "Bob", "Joe"), index.getRange(null, true, null, true));
+  }
+
+  public void testGetRangeWithEmptyRange() throws Exception {
+    final ColumnIndex<String> index = getColumnIndex();
+
+    assertTrue(index.getRange(40, true, 25, true).isEmpty());
+    assertTrue(index.getRange(30, false, 30, true).isEmpty());
+    assertTrue(index.getRange(30, true, 30, false).isEmpty());
+    assertEquals(Arrays.asList("Jon", "Pie"), index.getRange(30, true, 30, true));
+  }
+
+  public void testGetRangeWithColumnComparator() throws Exception {
+    final Column column = new ColumnImpl("age", Integer.class);
+    column.setComparator(Collections.reverseOrder());
+
+    final ColumnIndex<String> index = new ColumnIndex<String>(column);
+    index.add(25, "Jane");
+    index.add(40, "Joe");
+    index.add(30, "Jon");
+
+    assertEquals(Arrays.asList("Joe", "Jon", "Jane"), index.getRange(null, true, null, true));
+    assertEquals(Arrays.asList("Jon", "Jane"), index.getRange(30, true, null, true));
+    assertEquals(Arrays.asList("Joe", "Jon"), index.getRange(40, true, 30, true));
+    assertTrue(index.getRange(30, true, 40, true).isEmpty());
+  }
+
+  public void testRemove() throws Exception {
+    final ColumnIndex<String> index = getColumnIndex();
+
+    assertFalse(index.remove(30, "Jane"));
+    assertTrue(index.remove(30, "Jon"));
+    assertEquals(Arrays.asList("Pie"), index.get(30));
+    assertTrue(index.remove(30, "Pie"));
+    assertFalse(index.contains(30));
+    assertTrue(index.remove(null, "Baby"));
+    assertEquals(2, index.size());
+  }
+
+  public void testRemoveByIdentity() throws Exception {
+    final ColumnIndex<String> index = new ColumnIndex<String>(new ColumnImpl("name", String.class));
+    final String row = new String("row");
+
+    index.add("Jon", row);
+
+    assertFalse(index.remove("Jon", new String("row")));
+    assertTrue(index.remove("Jon", row));
+    assertTrue(index.isEmpty());
+  }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * RecordJoinTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.record.RecordJoin
+ */
+
+package com.cp.common.util.record;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class RecordJoinTest extends TestCase {
+
+  private static final Column DEPARTMENT_ID = new ColumnImpl("departmentId", Integer.class);
+  private static final Column LOCATION = new ColumnImpl("location", String.class);
+  private static final Column PERSON_ID = new ColumnImpl("personId", Integer.class);
+
+  public RecordJoinTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(RecordJoinTest.class);
+    //suite.addTest(new RecordJoinTest("testName"));
+    return suite;
+  }
+
+  private RecordTable getRecordTableInstance(final String[] names, final Class[] types, final Object[][] rows) {
+    final Column[] columns = new Column[names.length];
+
+    for (int index = 0; index < names.length; index++) {
+      columns[index] = new ColumnImpl(names[index], types[index]);
+    }
+
+    final RecordTable recordTable = AbstractRecordFactory.getInstance().getColumnarRecordTableInstance(columns);
+
+    for (final Object[] values : rows) {
+      final Record record = AbstractRecordFactory.getInstance().getRecordInstance();
+
+      for (int index = 0; index < names.length; index++) {
+        record.addField(names[index], values[index]);
+      }
+
+      recordTable.addRow(record);
+    }
+
+    return recordTable;
+  }
+
+  private RecordTable getDepartments() {
+    return getRecordTableInstance(new String[] { "departmentId", "name", "location" },
+      new Class[] { Integer.class, String.class, String.class }, new Object[][] {
+        { 10, "Sales", "Portland" },
+        { 20, "Engineering", "Portland" },
+        { 20, "Engineering", "Seattle" },
+        { 30, "Marketing", "Seattle" },
+        { null, "Legal", "Portland" }
+      });
+  }
+
+  private RecordTable getPeople() {
+    return getRecordTableInstance(new String[] { "personId", "name", "departmentId" },
+      new Class[] { Integer.class, String.class, Integer.class }, new Object[][] {
+        { 1, "Jon Doe", 20 },
+        { 2, "Jane Doe", 10 },
+        { 3, "Pie Doe", 40 },
+        { 4, "Cookie Doe", 20 },
+        { 5, "Baby Doe", null },
+        { 6, "Joe Doe", 30 }
+      });
+  }
+
+  private List<List<Object>> getRows(final RecordTable recordTable) throws Exception {
+    final List<List<Object>> rows = new ArrayList<List<Object>>();
+
+    for (final Iterator<Record> it = recordTable.rowIterator(); it.hasNext(); ) {
+      final Record row = it.next();
+      final List<Object> values = new ArrayList<Object>();
+
+      for (final Column column : recordTable.getColumns()) {
+        values.add(row.getValue(column.getName()));
+      }
+
+      rows.add(values);
+    }
+
+    return rows;
+  }
+
+  private List<Object> getValues(final RecordTable recordTable, final String columnName) throws Exception {
+    final List<Object> values = new ArrayList<Object>();
+
+    for (final Iterator<Record> it = recordTable.rowIterator(); it.hasNext(); ) {
+      values.add(it.next().getValue(columnName));
+    }
+
+    return values;
+  }
+
+  public void testConstructorExceptionalFlow() throws Exception {
+    try {
+      new RecordJoin(new Column[0]);
+      fail("Constructing a RecordJoin without join columns should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      new RecordJoin(new Column[] { PERSON_ID }, new Column[] { PERSON_ID, DEPARTMENT_ID });
+      fail("Constructing a RecordJoin with unpaired join columns should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      new RecordJoin(PERSON_ID, null);
+      fail("Constructing a RecordJoin with a null join column should have thrown a NullPointerException!");
+    }
+    catch (NullPointerException expected) {
+    }
+  }
+
+  public void testHashJoin() throws Exception {
+    final RecordJoin join = new RecordJoin(DEPARTMENT_ID);
+    final RecordTable results = join.hashJoin(getPeople(), getDepartments());
+    final List<Column> columns = results.getColumns();
+
+    assertEquals(5, columns.size());
+    assertEquals("personId", columns.get(0).getName());
+    assertEquals("name", columns.get(1).getName());
+    assertEquals("departmentId", columns.get(2).getName());
+    assertEquals("right.name", columns.get(3).getName());
+    assertEquals(String.class, columns.get(3).getType());
+    assertEquals("location", columns.get(4).getName());
+
+    assertEquals(Arrays.asList(
+      Arrays.<Object>asList(1, "Jon Doe", 20, "Engineering", "Portland"),
+      Arrays.<Object>asList(1, "Jon Doe", 20, "Engineering", "Seattle"),
+      Arrays.<Object>asList(2, "Jane Doe", 10, "Sales", "Portland"),
+      Arrays.<Object>asList(4, "Cookie Doe", 20, "Engineering", "Portland"),
+      Arrays.<Object>asList(4, "Cookie Doe", 20, "Engineering", "Seattle"),
+      Arrays.<Object>asList(6, "Joe Doe", 30, "Marketing", "Seattle")), getRows(results));
+  }
+
+  public void testHashJoinLeftOuter() throws Exception {
+    final RecordJoin join = new RecordJoin(DEPARTMENT_ID);
+    join.setJoinType(RecordJoin.JoinType.LEFT_OUTER);
+    join.setRightColumnPrefix("department.");
+
+    final RecordTable results = join.hashJoin(getPeople(), getDepartments());
+
+    assertEquals(8, results.rowCount());
+    assertEquals(Arrays.<Object>asList(1, 1, 2, 3, 4, 4, 5, 6), getValues(results, "personId"));
+    assertEquals(Arrays.<Object>asList("Engineering", "Engineering", "Sales", null, "Engineering", "Engineering",
+      null, "Marketing"), getValues(results, "department.name"));
+    assertEquals(Arrays.<Object>asList(3, "Pie Doe", 40, null, null), getRows(results).get(3));
+  }
+
+  public void testHashJoinWithBuildRowLimit() throws Exception {
+    final RecordJoin join = new RecordJoin(DEPARTMENT_ID);
+    join.setJoinType(RecordJoin.JoinType.LEFT_OUTER);
+
+    final List<List<Object>> expected = getRows(join.hashJoin(getPeople(), getDepartments()));
+
+    for (int buildRowLimit = 1; buildRowLimit <= 5; buildRowLimit++) {
+      join.setBuildRowLimit(buildRowLimit);
+      assertEquals(expected, getRows(join.hashJoin(getPeople(), getDepartments())));
+    }
+
+    try {
+      join.setBuildRowLimit(0);
+      fail("Setting a build row limit of 0 should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected0) {
+    }
+  }
+
+  public void testHashJoinOnMultipleColumns() throws Exception {
+    final RecordTable assignments = getRecordTableInstance(new String[] { "personId", "departmentId", "role" },
+      new Class[] { Integer.class, Integer.class, String.class }, new Object[][] {
+        { 4, 20, "Engineer" },
+        { 1, 20, "Manager" },
+        { 2, 20, "Consultant" },
+        { 6, null, "Intern" }
+      });
+
+    final RecordJoin join = new RecordJoin(PERSON_ID, DEPARTMENT_ID);
+    final RecordTable results = join.hashJoin(getPeople(), assignments);
+
+    assertEquals(4, results.columnCount());
+    assertEquals(Arrays.asList(
+      Arrays.<Object>asList(1, "Jon Doe", 20, "Manager"),
+      Arrays.<Object>asList(4, "Cookie Doe", 20, "Engineer")), getRows(results));
+  }
+
+  public void testJoinOnUnknownColumn() throws Exception {
+    try {
+      new RecordJoin(LOCATION).hashJoin(getPeople(), getDepartments());
+      fail("Joining on a column not in the left record table should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testMergeJoin() throws Exception {
+    final RecordTable people = getRecordTableInstance(new String[] { "personId", "departmentId" },
+      new Class[] { Integer.class, Integer.class }, new Object[][] {
+        { 2, 10 },
+        { 5, null },
+        { 1, 20 },
+        { 4, 20 },
+        { 6, 30 },
+        { 3, 40 }
+      });
+
+    final RecordJoin join = new RecordJoin(new Column[] { DEPARTMENT_ID },
+      new Column[] { new ColumnImpl("departmentId", Integer.class) });
+
+    final RecordTable departments = getDepartments();
+
+    assertEquals(getRows(join.hashJoin(people, departments)), getRows(join.mergeJoin(people, departments)));
+    assertEquals(Arrays.<Object>asList(2, 1, 1, 4, 4, 6), getValues(join.mergeJoin(people, departments), "personId"));
+
+    join.setJoinType(RecordJoin.JoinType.LEFT_OUTER);
+
+    assertEquals(getRows(join.hashJoin(people, departments)), getRows(join.mergeJoin(people, departments)));
+    assertEquals(Arrays.<Object>asList(2, 5, 1, 1, 4, 4, 6, 3),
+      getValues(join.mergeJoin(people, departments), "personId"));
+  }
+
+  public void testMergeJoinWithUnsortedRecordTable() throws Exception {
+    final RecordJoin join = new RecordJoin(DEPARTMENT_ID);
+
+    try {
+      join.mergeJoin(getPeople(), getDepartments());
+      fail("Merge joining an unsorted left record table should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    final RecordTable departments = getRecordTableInstance(new String[] { "departmentId", "location" },
+      new Class[] { Integer.class, String.class }, new Object[][] {
+        { 20, "Portland" },
+        { 10, "Seattle" }
+      });
+
+    try {
+      join.mergeJoin(getDepartments(), departments);
+      fail("Merge joining an unsorted right record table should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+}
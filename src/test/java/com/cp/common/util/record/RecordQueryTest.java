@@ -0,0 +1,296 @@
+/*
+ * RecordQueryTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ * @see com.cp.common.util.record.RecordQuery
+ */
+
+package com.cp.common.util.record;
+
+import com.cp.common.util.Filter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class RecordQueryTest extends TestCase {
+
+  private static final Column DEPARTMENT = new ColumnImpl("department", String.class);
+  private static final Column NAME = new ColumnImpl("name", String.class);
+  private static final Column PERSON_ID = new ColumnImpl("personId", Integer.class);
+  private static final Column SALARY = new ColumnImpl("salary", Double.class);
+
+  public RecordQueryTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(RecordQueryTest.class);
+    //suite.addTest(new RecordQueryTest("testName"));
+    return suite;
+  }
+
+  private Column[] getColumns() {
+    final Column personId = new ColumnImpl("personId", Integer.class);
+    personId.setNullable(false);
+    personId.setUnique(true);
+    return new Column[] { personId, new ColumnImpl("name", String.class), new ColumnImpl("department", String.class),
+      new ColumnImpl("salary", Double.class) };
+  }
+
+  private Record getRecordInstance(final Integer personId, final String name, final String department, final Double salary) {
+    final Record record = AbstractRecordFactory.getInstance().getRecordInstance();
+    record.addField("personId", personId);
+    record.addField("name", name);
+    record.addField("department", department);
+    record.addField("salary", salary);
+    return record;
+  }
+
+  private Record[] getRecords() {
+    return new Record[] {
+      getRecordInstance(1, "Jon Doe", "Sales", 50000.0d),
+      getRecordInstance(2, "Jane Doe", "Engineering", 90000.0d),
+      getRecordInstance(3, "Pie Doe", "Sales", 40000.0d),
+      getRecordInstance(4, "Cookie Doe", "Engineering", 70000.0d),
+      getRecordInstance(5, "Baby Doe", "Sales", null),
+      getRecordInstance(6, "Joe Doe", "Marketing", 50000.0d)
+    };
+  }
+
+  private RecordTable getRecordTableInstance() {
+    final RecordTable recordTable = AbstractRecordFactory.getInstance().getColumnarRecordTableInstance(getColumns());
+
+    for (final Record record : getRecords()) {
+      recordTable.addRow(record);
+    }
+
+    return recordTable;
+  }
+
+  private List<Object> getValues(final Iterable<Record> results, final String field) throws Exception {
+    final List<Object> values = new ArrayList<Object>();
+
+    for (final Record result : results) {
+      values.add(result.getValue(field));
+    }
+
+    return values;
+  }
+
+  public void testAggregateWithoutGroupBy() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance()).count().count(SALARY).sum(SALARY).max(NAME);
+    final Iterator<Record> results = query.iterator();
+    final Record result = results.next();
+
+    assertFalse(results.hasNext());
+    assertEquals(new Long(6), result.getValue("count"));
+    assertEquals(new Long(5), result.getValue("count(salary)"));
+    assertEquals(new Double(300000.0d), result.getValue("sum(salary)"));
+    assertEquals("Pie Doe", result.getValue("max(name)"));
+
+    final Record integralSum = RecordQuery.from(getRecordTableInstance()).sum(PERSON_ID).iterator().next();
+
+    assertEquals(new Long(21), integralSum.getValue("sum(personId)"));
+    assertEquals(Long.class, RecordQuery.from(getRecordTableInstance()).sum(PERSON_ID).getColumns().get(0).getType());
+
+    final Record empty = RecordQuery.from(getRecordTableInstance()).whereEquals(DEPARTMENT, "Legal").count().sum(SALARY)
+      .iterator().next();
+
+    assertEquals(new Long(0), empty.getValue("count"));
+    assertNull(empty.getValue("sum(salary)"));
+  }
+
+  public void testAggregateExceptionalFlow() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance());
+
+    try {
+      query.sum(NAME);
+      fail("Summing a non-numeric column should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      query.aggregate(RecordQuery.Aggregate.MIN, null);
+      fail("Computing the minimum without a column should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      query.avg(new ColumnImpl("age", Integer.class));
+      fail("Aggregating a column not in the record table should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testGroupBy() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance()).groupBy(DEPARTMENT)
+      .count().avg(SALARY).min(SALARY).max(SALARY);
+
+    final List<Column> columns = query.getColumns();
+
+    assertEquals(5, columns.size());
+    assertEquals("department", columns.get(0).getName());
+    assertEquals("count", columns.get(1).getName());
+    assertEquals(Long.class, columns.get(1).getType());
+    assertEquals("avg(salary)", columns.get(2).getName());
+    assertEquals(Double.class, columns.get(2).getType());
+    assertEquals("max(salary)", columns.get(4).getName());
+
+    final Iterator<Record> results = query.iterator();
+    Record result = results.next();
+
+    assertEquals("Sales", result.getValue("department"));
+    assertEquals(new Long(3), result.getValue("count"));
+    assertEquals(new Double(45000.0d), result.getValue("avg(salary)"));
+    assertEquals(new Double(40000.0d), result.getValue("min(salary)"));
+    assertEquals(new Double(50000.0d), result.getValue("max(salary)"));
+
+    result = results.next();
+
+    assertEquals("Engineering", result.getValue("department"));
+    assertEquals(new Long(2), result.getValue("count"));
+    assertEquals(new Double(80000.0d), result.getValue("avg(salary)"));
+
+    result = results.next();
+
+    assertEquals("Marketing", result.getValue("department"));
+    assertEquals(new Long(1), result.getValue("count"));
+    assertFalse(results.hasNext());
+  }
+
+  public void testGroupByOrderByAndSelect() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance()).groupBy(DEPARTMENT).sum(SALARY)
+      .orderBy(new ColumnImpl("sum(salary)", Double.class)).select(DEPARTMENT);
+
+    assertEquals(Arrays.asList("Marketing", "Sales", "Engineering"), getValues(query, "department"));
+    assertEquals(1, query.iterator().next().size());
+  }
+
+  public void testIteratorIsLazy() throws Exception {
+    final int[] count = new int[1];
+
+    final Iterator<Record> results = RecordQuery.from(getRecordTableInstance()).where(DEPARTMENT, new Filter() {
+      public boolean accept(final Object value) {
+        count[0]++;
+        return "Engineering".equals(value);
+      }
+    }).limit(1).iterator();
+
+    assertEquals(0, count[0]);
+    assertEquals("Jane Doe", results.next().getValue("name"));
+    assertEquals(2, count[0]);
+    assertFalse(results.hasNext());
+    assertEquals(2, count[0]);
+  }
+
+  public void testOrderBy() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance()).whereRange(SALARY, null, true, null, true)
+      .orderBy(SALARY);
+
+    assertEquals(Arrays.asList(3, 1, 6, 4, 2), getValues(query, "personId"));
+
+    query.orderBy(java.util.Collections.reverseOrder(new RecordComparator(new Column[] { SALARY })));
+
+    assertEquals(Arrays.asList(2, 4, 1, 6, 3), getValues(query, "personId"));
+  }
+
+  public void testOrderByWithLimit() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance()).whereRange(SALARY, null, true, null, true)
+      .orderBy(SALARY);
+
+    assertEquals(Arrays.asList(3, 1, 6), getValues(query.limit(3), "personId"));
+    assertEquals(Arrays.asList(3, 1), getValues(query.limit(2), "personId"));
+    assertTrue(getValues(query.limit(0), "personId").isEmpty());
+    assertEquals(Arrays.asList(3, 1, 6, 4, 2), getValues(query.limit(10), "personId"));
+  }
+
+  public void testSelect() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance()).select(NAME, PERSON_ID);
+    final List<Column> columns = query.getColumns();
+
+    assertEquals(2, columns.size());
+    assertEquals("name", columns.get(0).getName());
+    assertEquals("personId", columns.get(1).getName());
+
+    final Record result = query.iterator().next();
+
+    assertEquals(2, result.size());
+    assertEquals("name", result.getField(0));
+    assertEquals("Jon Doe", result.getValue("name"));
+    assertEquals(new Integer(1), result.getValue("personId"));
+
+    try {
+      query.select(new ColumnImpl("age", Integer.class)).iterator();
+      fail("Selecting a column not in the query results should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testToRecordTable() throws Exception {
+    final RecordTable results = RecordQuery.from(getRecordTableInstance()).whereEquals(DEPARTMENT, "Sales")
+      .select(PERSON_ID, SALARY).toRecordTable();
+
+    assertEquals(2, results.columnCount());
+    assertEquals(3, results.rowCount());
+    assertEquals(Double.class, results.getColumn("salary").getType());
+    assertEquals(new Integer(3), results.getCellValue(1, 0));
+    assertEquals(new Double(40000.0d), results.getCellValue(1, 1));
+    assertNull(results.getCellValue(2, 1));
+  }
+
+  public void testWhere() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance())
+      .whereRange(SALARY, 40000.0d, false, 90000.0d, false)
+      .whereEquals(DEPARTMENT, "Sales");
+
+    assertEquals(Arrays.asList("Jon Doe"), getValues(query, "name"));
+
+    query.where(NAME, new Filter() {
+      public boolean accept(final Object value) {
+        return !"Jon Doe".equals(value);
+      }
+    });
+
+    assertFalse(query.iterator().hasNext());
+  }
+
+  public void testWhereRangeWithEmptyRange() throws Exception {
+    assertTrue(getValues(RecordQuery.from(getRecordTableInstance()).whereRange(SALARY, 90000.0d, true, 40000.0d, true),
+      "name").isEmpty());
+    assertTrue(getValues(RecordQuery.from(getRecordTableInstance()).whereRange(SALARY, 40000.0d, false, 40000.0d, true),
+      "name").isEmpty());
+    assertEquals(Arrays.asList("Pie Doe"), getValues(RecordQuery.from(getRecordTableInstance())
+      .whereRange(SALARY, 40000.0d, true, 40000.0d, true), "name"));
+  }
+
+  public void testWhereEqualsOnUniqueColumn() throws Exception {
+    final RecordQuery query = RecordQuery.from(getRecordTableInstance()).whereEquals(DEPARTMENT, "Engineering")
+      .whereEquals(PERSON_ID, 4);
+
+    assertEquals(Arrays.asList("Cookie Doe"), getValues(query, "name"));
+    assertTrue(getValues(RecordQuery.from(getRecordTableInstance()).whereEquals(SALARY, null), "name")
+      .equals(Arrays.asList("Baby Doe")));
+  }
+
+  public void testWhereExceptionalFlow() throws Exception {
+    try {
+      RecordQuery.from(getRecordTableInstance()).whereEquals(new ColumnImpl("age", Integer.class), 21);
+      fail("A condition on a column not in the record table should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+}
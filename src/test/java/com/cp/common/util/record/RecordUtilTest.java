@@ -4,7 +4,7 @@
  * Copyright (c) 2003, Codeprimate LLC
  * All Rights Reserved
  * @author John J. Blum
- * @version 2010.5.23
+ * @version 2026.10.17
  * @see com.cp.common.util.record.RecordUtil
  * @see junit.framework.TestCase
  */
@@ -14,8 +14,14 @@ package com.cp.common.util.record;
 import com.cp.common.lang.Mutable;
 import com.cp.common.lang.ObjectImmutableException;
 import com.cp.common.util.DateUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -43,6 +49,14 @@ public class RecordUtilTest extends TestCase {
     return new ColumnImpl(name, type);
   }
 
+  protected RecordTable getColumnarRecordTableInstance(final Column[] columns, final Object[][] data) {
+    final RecordTable recordTable = AbstractRecordFactory.getInstance().getColumnarRecordTableInstance(columns);
+    for (Object[] row : data) {
+      recordTable.addRow(getRecordInstance(columns, row));
+    }
+    return recordTable;
+  }
+
   protected Record getRecordInstance() {
     return AbstractRecordFactory.getInstance().getRecordInstance();
   }
@@ -121,6 +135,122 @@ public class RecordUtilTest extends TestCase {
     };
   }
 
+  public void testConcurrentRecordTable() throws Exception {
+    final Column[] columns = {
+      getColumnInstance("personId", Integer.class),
+      getColumnInstance("name", String.class)
+    };
+
+    final Object[][] data = {
+      { 1, "Jon Doe" },
+      { 2, "Jane Doe" },
+      { 3, "Pie Doe" }
+    };
+
+    final RecordTable recordTable = RecordUtil.concurrentRecordTable(getColumnarRecordTableInstance(columns, data));
+
+    assertNotNull(recordTable);
+    assertEquals(2, recordTable.columnCount());
+    assertEquals(3, recordTable.rowCount());
+    assertEquals(3, recordTable.size());
+    assertFalse(recordTable.isEmpty());
+    assertEquals("Jane Doe", recordTable.getCellValue(1, 1));
+
+    final Iterator<Record> it = recordTable.iterator();
+
+    recordTable.addRow(getRecordInstance(columns, new Object[] { 4, "Joe Doe" }));
+
+    assertEquals(4, recordTable.rowCount());
+
+    int count = 0;
+
+    for (; it.hasNext(); count++) {
+      it.next();
+    }
+
+    assertEquals(3, count);
+
+    try {
+      recordTable.rowIterator().remove();
+      fail("Removing a row with the Iterator of a concurrent RecordTable should have thrown an UnsupportedOperationException!");
+    }
+    catch (UnsupportedOperationException expected) {
+    }
+
+    final AtomicInteger personIds = new AtomicInteger();
+
+    recordTable.forEachParallel(new Consumer<Record>() {
+      public void accept(final Record row) {
+        personIds.addAndGet((Integer) row.get("personId"));
+      }
+    });
+
+    assertEquals(10, personIds.get());
+    assertEquals(4l, recordTable.parallelStream().count());
+
+    try {
+      RecordUtil.concurrentRecordTable(null);
+      fail("Wrapping a null RecordTable should have thrown a NullPointerException!");
+    }
+    catch (NullPointerException expected) {
+    }
+  }
+
+  public void testConcurrentRecordTableWithConcurrentReaders() throws Exception {
+    final Column[] columns = {
+      getColumnInstance("personId", Integer.class),
+      getColumnInstance("name", String.class)
+    };
+
+    final RecordTable recordTable = RecordUtil.concurrentRecordTable(getColumnarRecordTableInstance(columns,
+      new Object[][] { { 0, "Doe 0" } }));
+
+    final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+    final List<Thread> threads = new ArrayList<Thread>();
+
+    threads.add(new Thread(new Runnable() {
+      public void run() {
+        for (int personId = 1; personId <= 200; personId++) {
+          recordTable.addRow(getRecordInstance(columns, new Object[] { personId, "Doe " + personId }));
+        }
+      }
+    }));
+
+    for (int reader = 0; reader < 3; reader++) {
+      threads.add(new Thread(new Runnable() {
+        public void run() {
+          try {
+            for (int count = 0; count < 200; count++) {
+              int rowCount = 0;
+
+              for (final Record row : recordTable) {
+                assertEquals("Doe " + row.get("personId"), row.get("name"));
+                rowCount++;
+              }
+
+              assertTrue(rowCount <= recordTable.rowCount());
+              assertEquals("Doe 0", recordTable.getCellValue(0, 1));
+            }
+          }
+          catch (Throwable t) {
+            failures.add(t);
+          }
+        }
+      }));
+    }
+
+    for (final Thread thread : threads) {
+      thread.start();
+    }
+
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue("Concurrent readers failed: " + failures, failures.isEmpty());
+    assertEquals(201, recordTable.rowCount());
+  }
+
   public void testSynchronizedRecord() throws Exception {
     Record record = getRecordInstance();
     record.addField("pin", new Integer(12345));
@@ -62,4 +62,81 @@ public class BinarySearchTest extends com.cp.common.util.search.AbstractSearchTe
     assertEquals(FIFTYONE, binarySearch.search(searchableNumberList));
   }
 
+  private static SearchableList getSortedList() {
+    // Each value v in 0, 2, 4, ..., 98 occurs (v % 3) + 1 times.
+    final List numberList = new ArrayList();
+
+    for (int value = 0; value < 100; value += 2) {
+      for (int count = (value % 3) + 1; count > 0; count--) {
+        numberList.add(new Integer(value));
+      }
+    }
+
+    return new SearchableList(numberList);
+  }
+
+  private void assertBounds(final SearchableList list, final boolean galloping) throws Exception {
+    for (int value = -1; value <= 100; value++) {
+      final Integer target = new Integer(value);
+      final BinarySearch binarySearch = new BinarySearch(new DefaultBinarySearchFilter(target), galloping);
+
+      int expectedLowerBound = 0;
+      while (expectedLowerBound < list.size() && ((Integer) list.get(expectedLowerBound)).intValue() < value) {
+        expectedLowerBound++;
+      }
+
+      int expectedUpperBound = expectedLowerBound;
+      while (expectedUpperBound < list.size() && ((Integer) list.get(expectedUpperBound)).intValue() == value) {
+        expectedUpperBound++;
+      }
+
+      assertEquals(expectedLowerBound, binarySearch.lowerBound(list));
+      assertEquals(expectedUpperBound, binarySearch.upperBound(list));
+
+      final int[] equalRange = binarySearch.equalRange(list);
+      assertEquals(expectedLowerBound, equalRange[0]);
+      assertEquals(expectedUpperBound, equalRange[1]);
+
+      final int index = binarySearch.indexOf(list);
+
+      if (expectedLowerBound < expectedUpperBound) {
+        assertTrue(index >= expectedLowerBound && index < expectedUpperBound);
+        assertEquals(target, binarySearch.search(list));
+      }
+      else {
+        assertEquals(-(expectedLowerBound + 1), index);
+        assertNull(binarySearch.search(list));
+      }
+    }
+  }
+
+  public void testBounds() throws Exception {
+    assertBounds(getSortedList(), false);
+  }
+
+  public void testGallopingBounds() throws Exception {
+    assertBounds(getSortedList(), true);
+    assertBounds(new SearchableList(new ArrayList()), true);
+  }
+
+  public void testRangeBounds() throws Exception {
+    final SearchableList list = getSortedList();
+
+    for (int value = -1; value <= 100; value++) {
+      final BinarySearchFilter filter = new DefaultBinarySearchFilter(new Integer(value));
+      final BinarySearch binarySearch = new BinarySearch(filter);
+      final BinarySearch gallopingSearch = new BinarySearch(filter, true);
+
+      // Searching a range returns the bounds over the whole List clamped to the range.
+      final int lowerBound = Math.max(10, Math.min(60, binarySearch.lowerBound(list)));
+      final int upperBound = Math.max(10, Math.min(60, binarySearch.upperBound(list)));
+
+      assertEquals(lowerBound, binarySearch.lowerBound(list, 10, 60));
+      assertEquals(lowerBound, gallopingSearch.lowerBound(list, 10, 60));
+      assertEquals(upperBound, binarySearch.upperBound(list, 10, 60));
+      assertEquals(upperBound, gallopingSearch.upperBound(list, 10, 60));
+    }
+  }
+
+
 }
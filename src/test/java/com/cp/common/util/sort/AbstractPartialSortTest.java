@@ -0,0 +1,133 @@
+/*
+ * AbstractPartialSortTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.util.SearchableSortableCollection;
+import com.cp.common.util.SortAscendingComparator;
+import com.cp.common.util.SortDescendingComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public abstract class AbstractPartialSortTest extends AbstractSortTest {
+
+  private static final int NUMERIC_LIST_SIZE = 10000;
+
+  public AbstractPartialSortTest(final String testName) {
+    super(testName);
+  }
+
+  protected int getNumericListSize() {
+    return NUMERIC_LIST_SIZE;
+  }
+
+  protected abstract AbstractPartialSorter getPartialSorterImplementation(Comparator orderBy);
+
+  protected Sorter getSorterImplementation(final Comparator orderBy) {
+    return getPartialSorterImplementation(orderBy);
+  }
+
+  private static List<Integer> getRandomList(final int size, final int bound) {
+    final Random numberGenerator = new Random(size);
+    final List<Integer> numberList = new ArrayList<Integer>(size);
+
+    for (int count = size; count-- > 0; ) {
+      numberList.add(numberGenerator.nextInt(bound));
+    }
+
+    return numberList;
+  }
+
+  public void testInvalidK() throws Exception {
+    final SearchableSortableCollection collection = new SearchableSortableCollection(getRandomList(10, 10));
+
+    try {
+      getPartialSorterImplementation(SortAscendingComparator.getInstance()).partialSort(collection, -1);
+      fail("Calling partialSort with a negative k should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      getPartialSorterImplementation(SortAscendingComparator.getInstance()).getPages(collection, 0);
+      fail("Calling getPages with a page size of 0 should have thrown an IllegalArgumentException!");
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testPages() throws Exception {
+    final List<Integer> numberList = getRandomList(NUMERIC_LIST_SIZE, NUMERIC_LIST_SIZE / 10);
+    final List<Integer> expected = new ArrayList<Integer>(numberList);
+    Collections.sort(expected);
+
+    final SearchableSortableCollection collection = new SearchableSortableCollection(numberList);
+    final Iterator<List> pages = getPartialSorterImplementation(SortAscendingComparator.getInstance())
+      .getPages(collection, 30);
+    final List actual = new ArrayList(NUMERIC_LIST_SIZE);
+
+    while (pages.hasNext()) {
+      final List page = pages.next();
+      assertTrue(page.size() == 30 || !pages.hasNext());
+      actual.addAll(page);
+    }
+
+    assertEquals(expected, actual);
+    // The Sortable collection is not modified.
+    assertEquals(numberList, Arrays.asList(collection.toArray()));
+
+    try {
+      pages.next();
+      fail("Calling next on a PageIterator with no more elements should have thrown a NoSuchElementException!");
+    }
+    catch (NoSuchElementException ignore) {
+    }
+  }
+
+  public void testPartialSort() throws Exception {
+    final List<Integer> numberList = getRandomList(NUMERIC_LIST_SIZE, NUMERIC_LIST_SIZE);
+    final List<Integer> expected = new ArrayList<Integer>(numberList);
+    Collections.sort(expected, Collections.reverseOrder());
+
+    final SearchableSortableCollection collection = new SearchableSortableCollection(numberList);
+
+    getPartialSorterImplementation(SortDescendingComparator.getInstance()).partialSort(collection, 25);
+
+    final List actual = Arrays.asList(collection.toArray());
+
+    assertEquals(expected.subList(0, 25), actual.subList(0, 25));
+
+    final List rest = new ArrayList(actual.subList(25, actual.size()));
+    Collections.sort(rest, Collections.reverseOrder());
+
+    assertEquals(expected.subList(25, expected.size()), rest);
+  }
+
+  public void testSelectTopK() throws Exception {
+    final List<Integer> numberList = getRandomList(NUMERIC_LIST_SIZE, 5);
+    final List<Integer> expected = new ArrayList<Integer>(numberList);
+    Collections.sort(expected);
+
+    final SearchableSortableCollection collection = new SearchableSortableCollection(numberList);
+    final AbstractPartialSorter sorter = getPartialSorterImplementation(SortAscendingComparator.getInstance());
+
+    assertEquals(expected.subList(0, 100), sorter.selectTopK(collection, 100));
+    assertEquals(expected, sorter.selectTopK(collection, NUMERIC_LIST_SIZE * 2));
+    assertTrue(sorter.selectTopK(collection, 0).isEmpty());
+    // The Sortable collection is not modified.
+    assertEquals(numberList, Arrays.asList(collection.toArray()));
+  }
+
+}
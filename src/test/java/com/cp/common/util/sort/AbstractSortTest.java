@@ -9,6 +9,7 @@
 
 package com.cp.common.util.sort;
 
+import com.cp.common.lang.BulkSortable;
 import com.cp.common.lang.Sortable;
 import com.cp.common.util.SearchableSortableCollection;
 import com.cp.common.util.SortAscendingComparator;
@@ -81,6 +82,29 @@ public abstract class AbstractSortTest extends TestCase {
     System.out.println("]");
   }
 
+  public void testBulkSort() throws Exception {
+    final BulkSortableList list = new BulkSortableList(getNumericListToSort());
+
+    getSorterImplementation(SortAscendingComparator.getInstance()).sort(list);
+
+    // The elements of a BulkSortable are sorted in an array and set once, without accessing each element.
+    assertEquals(1, list.setAllCount);
+
+    for (int index = 1; index < list.size(); index++) {
+      assertTrue(((Integer) list.get(index)).intValue() >= ((Integer) list.get(index - 1)).intValue());
+    }
+  }
+
+  public void testElementSort() throws Exception {
+    final SortableList list = new SortableList(getNumericListToSort());
+
+    getSorterImplementation(SortDescendingComparator.getInstance()).sort(list);
+
+    for (int index = 1; index < list.size(); index++) {
+      assertTrue(((Integer) list.get(index - 1)).intValue() >= ((Integer) list.get(index)).intValue());
+    }
+  }
+
   public void testNumberSort() throws Exception {
     SearchableSortableCollection list = new SearchableSortableCollection(getNumericListToSort());
     //printArray(list.toArray());
@@ -163,6 +187,41 @@ public abstract class AbstractSortTest extends TestCase {
     assertSorted(list, descAnimalArray);
   }
 
+  protected static final class BulkSortableList implements BulkSortable {
+    private final List theList;
+
+    private int setAllCount = 0;
+
+    public BulkSortableList(final List theList) {
+      this.theList = theList;
+    }
+
+    public Object get(final int index) {
+      return theList.get(index);
+    }
+
+    public void set(final Object object, final int index) throws Exception {
+      throw new UnsupportedOperationException("The elements of a BulkSortable should be set with setAll!");
+    }
+
+    public void setAll(final Object[] elements) throws Exception {
+      assertEquals(theList.size(), elements.length);
+      setAllCount++;
+
+      for (int index = 0; index < elements.length; index++) {
+        theList.set(index, elements[index]);
+      }
+    }
+
+    public int size() {
+      return theList.size();
+    }
+
+    public Object[] toArray() {
+      return theList.toArray();
+    }
+  }
+
   protected static final class SortableList extends AbstractList implements Sortable {
     private final List theList;
 
@@ -0,0 +1,246 @@
+/*
+ * ExternalMergeSortTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.util.SortAscendingComparator;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class ExternalMergeSortTest extends AbstractSortTest {
+
+  private static final int NUMERIC_LIST_SIZE = 10000;
+
+  // A small run size so that the test lists are spilled to many runs.
+  private static final int RUN_SIZE = 256;
+
+  private static final ElementSerializer STRING_SERIALIZER = new ElementSerializer() {
+    public Object read(final DataInput in) throws IOException {
+      return in.readUTF();
+    }
+
+    public void write(final DataOutput out, final Object element) throws IOException {
+      out.writeUTF(element.toString());
+    }
+  };
+
+  private File tempDirectory;
+
+  public ExternalMergeSortTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(ExternalMergeSortTest.class);
+    //suite.addTest(new ExternalMergeSortTest("testName"));
+    return suite;
+  }
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    tempDirectory = File.createTempFile("ExternalMergeSortTest", "");
+    assertTrue(tempDirectory.delete());
+    assertTrue(tempDirectory.mkdir());
+  }
+
+  protected void tearDown() throws Exception {
+    final File[] files = tempDirectory.listFiles();
+
+    for (int index = 0; files != null && index < files.length; index++) {
+      files[index].delete();
+    }
+
+    tempDirectory.delete();
+    super.tearDown();
+  }
+
+  protected int getNumericListSize() {
+    return NUMERIC_LIST_SIZE;
+  }
+
+  protected Sorter getSorterImplementation(final Comparator orderBy) {
+    final ExternalMergeSort sorter = new ExternalMergeSort(orderBy);
+    sorter.setRunSize(RUN_SIZE);
+    sorter.setTempDirectory(tempDirectory);
+    return sorter;
+  }
+
+  private static List<String> getRandomList(final int size) {
+    final Random numberGenerator = new Random(size);
+    final List<String> list = new ArrayList<String>(size);
+
+    for (int index = 0; index < size; index++) {
+      list.add(String.valueOf(numberGenerator.nextInt(size)));
+    }
+
+    return list;
+  }
+
+  private static List toList(final Iterator it) {
+    final List list = new ArrayList();
+
+    while (it.hasNext()) {
+      list.add(it.next());
+    }
+
+    return list;
+  }
+
+  public void testClose() throws Exception {
+    final ExternalMergeSort sorter = (ExternalMergeSort) getSorterImplementation(SortAscendingComparator.getInstance());
+    final ExternalMergeSort.MergeIterator it = sorter.sort(getRandomList(NUMERIC_LIST_SIZE).iterator());
+
+    assertTrue(tempDirectory.listFiles().length > 0);
+
+    it.next();
+    it.close();
+
+    assertEquals(0, tempDirectory.listFiles().length);
+  }
+
+  public void testFactory() throws Exception {
+    assertSame(SortType.EXTERNAL_MERGE_SORT, SortType.getSortType(SortType.EXTERNAL_MERGE_SORT_DESCRIPTION));
+    assertTrue(AbstractSortFactory.getInstance().getSort(SortType.EXTERNAL_MERGE_SORT,
+      SortAscendingComparator.getInstance()) instanceof ExternalMergeSort);
+  }
+
+  public void testFirstRunMemoryBudget() throws Exception {
+    final List<String> list = getRandomList(NUMERIC_LIST_SIZE);
+    final List<String> expected = new ArrayList<String>(list);
+    Collections.sort(expected);
+
+    final ExternalMergeSort sorter = (ExternalMergeSort) getSorterImplementation(SortAscendingComparator.getInstance());
+    sorter.setMemoryBudget(4096);
+    sorter.setRunSize(NUMERIC_LIST_SIZE);
+
+    final ExternalMergeSort.MergeIterator it = sorter.sort(list.iterator());
+
+    // The elements fit in a single run by number, but not by the memory budget estimated from the first run.
+    assertTrue(tempDirectory.listFiles().length > 1);
+    assertEquals(expected, toList(it));
+  }
+
+  public void testInMemorySort() throws Exception {
+    final List<String> list = getRandomList(RUN_SIZE - 1);
+    final List<String> expected = new ArrayList<String>(list);
+    Collections.sort(expected);
+
+    final ExternalMergeSort sorter = (ExternalMergeSort) getSorterImplementation(SortAscendingComparator.getInstance());
+
+    assertEquals(expected, toList(sorter.sort(list.iterator())));
+    // Elements that fit in a single run are never spilled.
+    assertEquals(0, tempDirectory.listFiles().length);
+  }
+
+  public void testIteratorSort() throws Exception {
+    final List<String> list = getRandomList(NUMERIC_LIST_SIZE);
+    final List<String> expected = new ArrayList<String>(list);
+    Collections.sort(expected);
+
+    final ExternalMergeSort sorter = new ExternalMergeSort(SortAscendingComparator.getInstance(), STRING_SERIALIZER);
+    sorter.setMergeWidth(2);
+    sorter.setRunSize(RUN_SIZE);
+    sorter.setTempDirectory(tempDirectory);
+
+    assertEquals(expected, toList(sorter.sort(list.iterator())));
+    // The exhausted MergeIterator deletes the temporary files of the runs.
+    assertEquals(0, tempDirectory.listFiles().length);
+  }
+
+  public void testMemoryBudget() throws Exception {
+    final List<String> list = getRandomList(NUMERIC_LIST_SIZE);
+    final List<String> expected = new ArrayList<String>(list);
+    Collections.sort(expected);
+
+    final ExternalMergeSort sorter = new ExternalMergeSort(SortAscendingComparator.getInstance(), STRING_SERIALIZER);
+    sorter.setMemoryBudget(1024);
+    sorter.setRunSize(RUN_SIZE);
+    sorter.setTempDirectory(tempDirectory);
+
+    final ExternalMergeSort.MergeIterator it = sorter.sort(list.iterator());
+
+    // Each element is at least 3 bytes when serialized, so the later runs hold fewer than RUN_SIZE elements.
+    assertTrue(tempDirectory.listFiles().length > (NUMERIC_LIST_SIZE / RUN_SIZE) + 1);
+    assertEquals(expected, toList(it));
+  }
+
+  public void testNonSerializableInMemorySort() throws Exception {
+    final List<Object> list = new ArrayList<Object>();
+
+    for (int index = 0; index < 100; index++) {
+      list.add(new Label(String.valueOf(index % 10)));
+    }
+
+    final Comparator orderBy = new Comparator() {
+      public int compare(final Object obj1, final Object obj2) {
+        return obj1.toString().compareTo(obj2.toString());
+      }
+    };
+
+    final ExternalMergeSort sorter = new ExternalMergeSort(orderBy);
+    sorter.setTempDirectory(tempDirectory);
+
+    final List sorted = toList(sorter.sort(list.iterator()));
+
+    // The elements are never spilled, so they need not be Serializable.
+    assertEquals(100, sorted.size());
+    assertEquals("0", sorted.get(0).toString());
+    assertEquals("9", sorted.get(99).toString());
+  }
+
+  public void testStableSort() throws Exception {
+    final List<String> list = new ArrayList<String>(NUMERIC_LIST_SIZE);
+
+    for (int index = 0; index < NUMERIC_LIST_SIZE; index++) {
+      list.add((index % 10) + ":" + index);
+    }
+
+    // Order by the first character only, so elements with equal keys must keep their relative order.
+    final Comparator orderBy = new Comparator() {
+      public int compare(final Object obj1, final Object obj2) {
+        return (obj1.toString().charAt(0) - obj2.toString().charAt(0));
+      }
+    };
+
+    final List<String> expected = new ArrayList<String>(list);
+    Collections.sort(expected, orderBy);
+
+    final ExternalMergeSort sorter = new ExternalMergeSort(orderBy, STRING_SERIALIZER);
+    sorter.setMergeWidth(3);
+    sorter.setRunSize(RUN_SIZE);
+    sorter.setTempDirectory(tempDirectory);
+
+    assertEquals(expected, toList(sorter.sort(list.iterator())));
+  }
+
+  private static final class Label {
+
+    private final String value;
+
+    private Label(final String value) {
+      this.value = value;
+    }
+
+    public String toString() {
+      return value;
+    }
+  }
+
+}
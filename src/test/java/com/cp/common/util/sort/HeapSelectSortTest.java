@@ -0,0 +1,33 @@
+/*
+ * HeapSelectSortTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.cp.common.util.sort;
+
+import java.util.Comparator;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+public class HeapSelectSortTest extends AbstractPartialSortTest {
+
+  public HeapSelectSortTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(HeapSelectSortTest.class);
+    //suite.addTest(new HeapSelectSortTest("testName"));
+    return suite;
+  }
+
+  protected AbstractPartialSorter getPartialSorterImplementation(final Comparator orderBy) {
+    return new HeapSelectSort(orderBy);
+  }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * KeySortTest.java (c) 17 October 2026
+ *
+ * Copyright (c) 2003, Codeprimate LLC
+ * All Rights Reserved
+ * @author John J. Blum
+ * @version 2026.10.17
+ */
+
+package com.cp.common.util.sort;
+
+import com.cp.common.util.SearchableSortableCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class KeySortTest extends TestCase {
+
+  private static final int LIST_SIZE = 10000;
+
+  private static final DoubleKeyExtractor DOUBLE_KEY = new DoubleKeyExtractor() {
+    public double getDoubleKey(final Object element) {
+      return ((Number) element).doubleValue();
+    }
+  };
+
+  private static final IntKeyExtractor INT_KEY = new IntKeyExtractor() {
+    public int getIntKey(final Object element) {
+      return ((Number) element).intValue();
+    }
+  };
+
+  private static final LongKeyExtractor LONG_KEY = new LongKeyExtractor() {
+    public long getLongKey(final Object element) {
+      return ((Number) element).longValue();
+    }
+  };
+
+  public KeySortTest(final String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    final TestSuite suite = new TestSuite();
+    suite.addTestSuite(KeySortTest.class);
+    //suite.addTest(new KeySortTest("testName"));
+    return suite;
+  }
+
+  private static void assertSorted(final List expected, final AbstractKeySorter sorter, final List values)
+      throws Exception {
+    final SearchableSortableCollection collection = new SearchableSortableCollection(values);
+
+    sorter.sort(collection);
+
+    assertEquals(expected, Arrays.asList(collection.toArray()));
+  }
+
+  public void testDoubleKeySort() throws Exception {
+    final Random random = new Random(42);
+    final List<Double> values = new ArrayList<Double>(LIST_SIZE);
+
+    for (int index = 0; index < LIST_SIZE; index++) {
+      values.add(random.nextGaussian() * 1000.0);
+    }
+
+    values.addAll(Arrays.asList(Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 0.0,
+      Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE));
+
+    // Double.compare defines the order of the keys, which is also the natural order of the Double values.
+    final List<Double> expected = new ArrayList<Double>(values);
+    Collections.sort(expected);
+
+    assertSorted(expected, new DoubleKeySort(DOUBLE_KEY), new ArrayList<Double>(values));
+
+    Collections.reverse(expected);
+
+    assertSorted(expected, new DoubleKeySort(DOUBLE_KEY, true), values);
+  }
+
+  public void testDoubleKeySortWithDuplicates() throws Exception {
+    final Random random = new Random(7);
+    final List<Double> values = new ArrayList<Double>(LIST_SIZE);
+
+    for (int index = 0; index < LIST_SIZE; index++) {
+      values.add((double) random.nextInt(5));
+    }
+
+    final List<Double> expected = new ArrayList<Double>(values);
+    Collections.sort(expected);
+
+    assertSorted(expected, new DoubleKeySort(DOUBLE_KEY), values);
+  }
+
+  public void testDoubleKeySortIsStable() throws Exception {
+    final List<String> values = new ArrayList<String>(LIST_SIZE);
+
+    for (int index = 0; index < LIST_SIZE; index++) {
+      values.add((index % 10) + ":" + index);
+    }
+
+    final DoubleKeyExtractor digitKey = new DoubleKeyExtractor() {
+      public double getDoubleKey(final Object element) {
+        return (element.toString().charAt(0) - '0') / 2.0;
+      }
+    };
+
+    final List<String> expected = new ArrayList<String>(values);
+    Collections.sort(expected, new DoubleKeySort(digitKey, true).getOrderBy());
+
+    assertSorted(expected, new DoubleKeySort(digitKey, true), values);
+  }
+
+  public void testDoubleKeySortWithFewDistinctKeys() throws Exception {
+    final int size = 1000000;
+    final Object[] elements = new Object[size];
+
+    for (int index = 0; index < size; index++) {
+      elements[index] = (double) (index % 2);
+    }
+
+    final int[] indices = new DoubleKeySort(DOUBLE_KEY).sortIndices(elements);
+
+    for (int index = 0; index < size; index++) {
+      // the elements with a key of 0.0 are at the even indices and come first, in order, followed by the odd indices
+      assertEquals((index < size / 2 ? index * 2 : (index - size / 2) * 2 + 1), indices[index]);
+    }
+  }
+
+  public void testIntKeySort() throws Exception {
+    final Random random = new Random(42);
+    final List<Integer> values = new ArrayList<Integer>(LIST_SIZE);
+
+    for (int index = 0; index < LIST_SIZE; index++) {
+      values.add(random.nextInt());
+    }
+
+    values.addAll(Arrays.asList(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, 1));
+
+    final List<Integer> expected = new ArrayList<Integer>(values);
+    Collections.sort(expected);
+
+    assertSorted(expected, new IntKeySort(INT_KEY), new ArrayList<Integer>(values));
+
+    Collections.reverse(expected);
+
+    assertSorted(expected, new IntKeySort(INT_KEY, true), values);
+  }
+
+  public void testIntKeySortIsStable() throws Exception {
+    final List<String> values = new ArrayList<String>(LIST_SIZE);
+
+    for (int index = 0; index < LIST_SIZE; index++) {
+      values.add((index % 10) + ":" + index);
+    }
+
+    final IntKeyExtractor digitKey = new IntKeyExtractor() {
+      public int getIntKey(final Object element) {
+        return (element.toString().charAt(0) - '0');
+      }
+    };
+
+    // Collections.sort is stable, so equal keys keep their relative order in the expected List.
+    final List<String> expected = new ArrayList<String>(values);
+    Collections.sort(expected, new IntKeySort(digitKey).getOrderBy());
+
+    assertSorted(expected, new IntKeySort(digitKey), values);
+  }
+
+  public void testLongKeySort() throws Exception {
+    final Random random = new Random(42);
+    final List<Long> values = new ArrayList<Long>(LIST_SIZE);
+
+    for (int index = 0; index < LIST_SIZE; index++) {
+      values.add(random.nextLong());
+    }
+
+    values.addAll(Arrays.asList(Long.MIN_VALUE, Long.MAX_VALUE, 0l, -1l, 1l));
+
+    final List<Long> expected = new ArrayList<Long>(values);
+    Collections.sort(expected);
+
+    assertSorted(expected, new LongKeySort(LONG_KEY), new ArrayList<Long>(values));
+
+    Collections.reverse(expected);
+
+    assertSorted(expected, new LongKeySort(LONG_KEY, true), values);
+  }
+
+  public void testSortIndices() throws Exception {
+    final Object[] elements = { 30, 10, 20, 10 };
+
+    final int[] indices = new IntKeySort(INT_KEY).sortIndices(elements);
+
+    assertTrue(Arrays.equals(new int[] { 1, 3, 2, 0 }, indices));
+    // The elements are not modified.
+    assertTrue(Arrays.equals(new Object[] { 30, 10, 20, 10 }, elements));
+  }
+
+}